@@ -0,0 +1,177 @@
+/*
+ * AddressSetBenchmark.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.net.ip.jackson.databind.benchmarks;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import com.github.robtimus.net.ip.IPAddress;
+import com.github.robtimus.net.ip.IPv4Address;
+import com.github.robtimus.net.ip.IPv6Address;
+import com.github.robtimus.net.ip.jackson.databind.IPModule;
+import com.github.robtimus.net.ip.jackson.databind.IPv4AddressSet;
+import com.github.robtimus.net.ip.jackson.databind.IPv6AddressSet;
+import tools.jackson.databind.ObjectReader;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Benchmarks for the {@code IPv4AddressSet} and {@code IPv6AddressSet} classes, with a {@code HashSet<IPAddress<?>>} as baseline.
+ * <p>
+ * Each lookup invocation checks one address. The addresses cycle through a fixed set of {@link TestData#VALUE_COUNT} addresses, created using
+ * {@link TestData#SEED}, of which half are contained in the set. Each deserialization invocation reads the entire set from JSON; its normalized
+ * allocation rate, as reported by the GC profiler, is an upper bound for the memory used by the set.
+ *
+ * @author Rob Spoor
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+@State(Scope.Thread)
+public class AddressSetBenchmark {
+
+    /** The IP version to use. */
+    @Param({ "IPv4", "IPv6" })
+    public IPVersion version;
+
+    /** The number of addresses in the set. */
+    @Param({ "1000", "100000", "1000000" })
+    public int setSize;
+
+    private Set<IPAddress<?>> hashSet;
+    private IPv4AddressSet ipv4Set;
+    private IPv6AddressSet ipv6Set;
+
+    private IPAddress<?>[] addresses;
+
+    private ObjectReader hashSetReader;
+    private ObjectReader packedSetReader;
+    private byte[] input;
+
+    private int index;
+
+    /**
+     * Sets up the sets and the test data.
+     */
+    @Setup
+    public void setup() {
+        Random random = new Random(TestData.SEED);
+        List<IPAddress<?>> values = Stream.<IPAddress<?>>generate(() -> version.randomAddress(random))
+                .limit(setSize)
+                .collect(Collectors.toList());
+
+        hashSet = new HashSet<>(values);
+        if (version == IPVersion.IPv4) {
+            ipv4Set = IPv4AddressSet.copyOf(values.stream().map(IPv4Address.class::cast).collect(Collectors.toList()));
+        } else {
+            ipv6Set = IPv6AddressSet.copyOf(values.stream().map(IPv6Address.class::cast).collect(Collectors.toList()));
+        }
+
+        addresses = new IPAddress<?>[TestData.VALUE_COUNT];
+        for (int i = 0; i < TestData.VALUE_COUNT; i++) {
+            addresses[i] = i % 2 == 0 ? values.get(random.nextInt(setSize)) : version.randomAddress(random);
+        }
+
+        JsonMapper mapper = JsonMapper.builder()
+                .addModule(IPModule.instance())
+                .build();
+        hashSetReader = mapper.readerFor(mapper.getTypeFactory().constructCollectionType(HashSet.class, version.addressType()));
+        packedSetReader = mapper.readerFor(version == IPVersion.IPv4 ? IPv4AddressSet.class : IPv6AddressSet.class);
+        input = mapper.writeValueAsBytes(values);
+    }
+
+    private IPAddress<?> nextAddress() {
+        IPAddress<?> result = addresses[index];
+        index = (index + 1) & (TestData.VALUE_COUNT - 1);
+        return result;
+    }
+
+    /**
+     * Looks up an address in a {@code HashSet}. This is the baseline.
+     *
+     * @return Whether or not the set contains the address.
+     */
+    @Benchmark
+    public boolean hashSetContains() {
+        return hashSet.contains(nextAddress());
+    }
+
+    /**
+     * Looks up an address in an {@code IPv4AddressSet} or {@code IPv6AddressSet}.
+     *
+     * @return Whether or not the set contains the address.
+     */
+    @Benchmark
+    public boolean packedSetContains() {
+        IPAddress<?> address = nextAddress();
+        return ipv4Set != null ? ipv4Set.contains(address) : ipv6Set.contains(address);
+    }
+
+    /**
+     * Looks up the raw bits of an address in an {@code IPv4AddressSet} or {@code IPv6AddressSet}.
+     *
+     * @return Whether or not the set contains the address.
+     */
+    @Benchmark
+    public boolean packedSetContainsBits() {
+        IPAddress<?> address = nextAddress();
+        if (ipv4Set != null) {
+            return ipv4Set.contains(((IPv4Address) address).toInt());
+        }
+        IPv6Address ipv6Address = (IPv6Address) address;
+        return ipv6Set.contains(ipv6Address.highAddress(), ipv6Address.lowAddress());
+    }
+
+    /**
+     * Deserializes a {@code HashSet}. This is the baseline.
+     *
+     * @return The deserialized set.
+     */
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public Object deserializeHashSet() {
+        return hashSetReader.readValue(input);
+    }
+
+    /**
+     * Deserializes an {@code IPv4AddressSet} or {@code IPv6AddressSet}.
+     *
+     * @return The deserialized set.
+     */
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public Object deserializePackedSet() {
+        return packedSetReader.readValue(input);
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * BulkLoaderBenchmark.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.net.ip.jackson.databind.benchmarks;
+
+import java.io.ByteArrayInputStream;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import com.github.robtimus.net.ip.jackson.databind.IPBulkLoader;
+import com.github.robtimus.net.ip.jackson.databind.IPModule;
+import com.github.robtimus.net.ip.jackson.databind.IPStreams;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Benchmarks for the {@code IPBulkLoader} class. Each invocation loads one large JSON array of subnets, created using {@link TestData#SEED}.
+ * Sequentially reading the array using {@code IPStreams} is measured as baseline.
+ *
+ * @author Rob Spoor
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(2)
+@State(Scope.Benchmark)
+public class BulkLoaderBenchmark {
+
+    /** The IP version to use. */
+    @Param
+    public IPVersion version;
+
+    /** The number of elements in the array. */
+    @Param({ "1000000" })
+    public int elementCount;
+
+    /** The parallelism of the pool that deserializes chunks. */
+    @Param({ "1", "2", "4", "8", "16", "32" })
+    public int parallelism;
+
+    /** The minimum size of chunks in bytes. */
+    @Param({ "65536", "1048576" })
+    public int chunkSize;
+
+    private JsonMapper mapper;
+    private ForkJoinPool pool;
+    private IPBulkLoader loader;
+
+    private Class<?> type;
+    private byte[] input;
+
+    /**
+     * Sets up the loader and the test data.
+     */
+    @Setup
+    public void setup() {
+        // The bulk loader only supports JSON
+        mapper = JsonMapper.builder()
+                .addModule(IPModule.instance())
+                .build();
+        pool = new ForkJoinPool(parallelism);
+        loader = new IPBulkLoader(mapper, pool, chunkSize);
+
+        type = version.subnetType();
+
+        Random random = new Random(TestData.SEED);
+        List<Object> values = Stream.generate(() -> version.randomSubnet(random))
+                .limit(elementCount)
+                .collect(Collectors.toList());
+        input = mapper.writerFor(mapper.getTypeFactory().constructCollectionType(List.class, type)).writeValueAsBytes(values);
+    }
+
+    /**
+     * Shuts down the pool.
+     */
+    @TearDown
+    public void tearDown() {
+        pool.shutdownNow();
+    }
+
+    /**
+     * Reads the array sequentially. This is the baseline, and does not depend on the parallelism or chunk size.
+     *
+     * @return The read values.
+     */
+    @Benchmark
+    public List<?> sequential() {
+        try (Stream<?> values = IPStreams.read(mapper, new ByteArrayInputStream(input), type)) {
+            return values.collect(Collectors.toList());
+        }
+    }
+
+    /**
+     * Loads the array in parallel, keeping the order of the elements.
+     *
+     * @return The loaded values.
+     */
+    @Benchmark
+    public List<?> ordered() {
+        return loader.load(new ByteArrayInputStream(input), type);
+    }
+
+    /**
+     * Loads the array in parallel, passing the elements to a sink that only counts them.
+     *
+     * @return The number of loaded values.
+     */
+    @Benchmark
+    public long unordered() {
+        LongAdder count = new LongAdder();
+        loader.load(new ByteArrayInputStream(input), type, value -> count.increment());
+        return count.sum();
+    }
+}
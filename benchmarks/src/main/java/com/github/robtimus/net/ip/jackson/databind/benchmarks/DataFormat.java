@@ -0,0 +1,69 @@
+/*
+ * DataFormat.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.net.ip.jackson.databind.benchmarks;
+
+import com.github.robtimus.net.ip.jackson.databind.IPModule;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.dataformat.cbor.CBORMapper;
+import tools.jackson.dataformat.smile.SmileMapper;
+
+/**
+ * The data formats to run benchmarks for.
+ *
+ * @author Rob Spoor
+ */
+public enum DataFormat {
+    /** JSON, using a {@link JsonMapper}. */
+    JSON {
+        @Override
+        public ObjectMapper createMapper() {
+            return JsonMapper.builder()
+                    .addModule(IPModule.instance())
+                    .build();
+        }
+    },
+
+    /** Smile, using a {@link SmileMapper}. */
+    SMILE {
+        @Override
+        public ObjectMapper createMapper() {
+            return SmileMapper.builder()
+                    .addModule(IPModule.instance())
+                    .build();
+        }
+    },
+
+    /** CBOR, using a {@link CBORMapper}. */
+    CBOR {
+        @Override
+        public ObjectMapper createMapper() {
+            return CBORMapper.builder()
+                    .addModule(IPModule.instance())
+                    .build();
+        }
+    },
+    ;
+
+    /**
+     * Creates a new mapper for this data format, with {@link IPModule} registered.
+     *
+     * @return The created mapper.
+     */
+    public abstract ObjectMapper createMapper();
+}
@@ -0,0 +1,44 @@
+/*
+ * IPAddressBenchmark.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.net.ip.jackson.databind.benchmarks;
+
+import java.util.Random;
+
+/**
+ * Benchmarks for the {@code IPAddressSerializer} and {@code IPAddressDeserializer} classes.
+ *
+ * @author Rob Spoor
+ */
+public class IPAddressBenchmark extends ValueSerializationBenchmark {
+
+    @Override
+    Class<?> type(IPVersion ipVersion) {
+        return ipVersion.addressType();
+    }
+
+    @Override
+    Object randomValue(IPVersion ipVersion, Random random) {
+        return ipVersion.randomAddress(random);
+    }
+
+    @Override
+    Object invalidValue(Random random) {
+        // an IPv4 address with an octet that is too large
+        return random.nextInt(256) + ".256." + random.nextInt(256) + "." + random.nextInt(256); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+    }
+}
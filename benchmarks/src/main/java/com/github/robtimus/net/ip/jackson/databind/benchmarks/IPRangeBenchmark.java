@@ -0,0 +1,67 @@
+/*
+ * IPRangeBenchmark.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.net.ip.jackson.databind.benchmarks;
+
+import java.util.Map;
+import java.util.Random;
+import org.openjdk.jmh.annotations.Param;
+
+/**
+ * Benchmarks for the {@code IPRangeSerializer} and {@code IPRangeDeserializer} classes.
+ * Ranges are either subnets, which are written as CIDR notation strings, or other ranges, which are written as objects.
+ *
+ * @author Rob Spoor
+ */
+public class IPRangeBenchmark extends ValueSerializationBenchmark {
+
+    /**
+     * The possible shapes of IP ranges.
+     *
+     * @author Rob Spoor
+     */
+    public enum Shape {
+        /** Subnets, written as CIDR notation strings. */
+        SUBNET,
+        /** Ranges that are not subnets, written as objects with {@code from} and {@code to} properties. */
+        OBJECT,
+    }
+
+    /** The shape of the ranges to use. */
+    @Param
+    public Shape shape;
+
+    @Override
+    Class<?> type(IPVersion ipVersion) {
+        return ipVersion.rangeType();
+    }
+
+    @Override
+    Object randomValue(IPVersion ipVersion, Random random) {
+        return shape == Shape.SUBNET
+                ? ipVersion.randomSubnet(random)
+                : ipVersion.randomRange(random);
+    }
+
+    @Override
+    Object invalidValue(Random random) {
+        // a subnet with a prefix length that is too large, or a range where from is after to
+        return shape == Shape.SUBNET
+                ? TestData.randomIPv4Address(random) + "/" + (129 + random.nextInt(100)) //$NON-NLS-1$
+                : Map.of("from", "10.0.0." + (128 + random.nextInt(128)), "to", "10.0.0.1"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * IPVersion.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.net.ip.jackson.databind.benchmarks;
+
+import java.util.Random;
+import com.github.robtimus.net.ip.IPAddress;
+import com.github.robtimus.net.ip.IPRange;
+import com.github.robtimus.net.ip.IPv4Address;
+import com.github.robtimus.net.ip.IPv4Range;
+import com.github.robtimus.net.ip.IPv4Subnet;
+import com.github.robtimus.net.ip.IPv6Address;
+import com.github.robtimus.net.ip.IPv6Range;
+import com.github.robtimus.net.ip.IPv6Subnet;
+import com.github.robtimus.net.ip.Subnet;
+
+/**
+ * The IP versions to run benchmarks for. Each version determines which of the module's serializers and deserializers is used.
+ *
+ * @author Rob Spoor
+ */
+public enum IPVersion {
+    /** IPv4 only; uses the {@code IPv4} serializers and deserializers. */
+    IPv4(IPv4Address.class, IPv4Subnet.class, IPv4Range.class) {
+        @Override
+        public IPAddress<?> randomAddress(Random random) {
+            return TestData.randomIPv4Address(random);
+        }
+
+        @Override
+        public Subnet<?> randomSubnet(Random random) {
+            return TestData.randomIPv4Subnet(random);
+        }
+
+        @Override
+        public IPRange<?> randomRange(Random random) {
+            return TestData.randomIPv4Range(random);
+        }
+    },
+
+    /** IPv6 only; uses the {@code IPv6} serializers and deserializers. */
+    IPv6(IPv6Address.class, IPv6Subnet.class, IPv6Range.class) {
+        @Override
+        public IPAddress<?> randomAddress(Random random) {
+            return TestData.randomIPv6Address(random);
+        }
+
+        @Override
+        public Subnet<?> randomSubnet(Random random) {
+            return TestData.randomIPv6Subnet(random);
+        }
+
+        @Override
+        public IPRange<?> randomRange(Random random) {
+            return TestData.randomIPv6Range(random);
+        }
+    },
+
+    /** A mix of IPv4 and IPv6; uses the {@code AnyVersion} serializers and deserializers. */
+    ANY_VERSION(IPAddress.class, Subnet.class, IPRange.class) {
+        @Override
+        public IPAddress<?> randomAddress(Random random) {
+            return random.nextBoolean() ? IPv4.randomAddress(random) : IPv6.randomAddress(random);
+        }
+
+        @Override
+        public Subnet<?> randomSubnet(Random random) {
+            return random.nextBoolean() ? IPv4.randomSubnet(random) : IPv6.randomSubnet(random);
+        }
+
+        @Override
+        public IPRange<?> randomRange(Random random) {
+            return random.nextBoolean() ? IPv4.randomRange(random) : IPv6.randomRange(random);
+        }
+    },
+    ;
+
+    private final Class<?> addressType;
+    private final Class<?> subnetType;
+    private final Class<?> rangeType;
+
+    IPVersion(Class<?> addressType, Class<?> subnetType, Class<?> rangeType) {
+        this.addressType = addressType;
+        this.subnetType = subnetType;
+        this.rangeType = rangeType;
+    }
+
+    /**
+     * Returns the IP address type to serialize and deserialize.
+     *
+     * @return The IP address type to serialize and deserialize.
+     */
+    public Class<?> addressType() {
+        return addressType;
+    }
+
+    /**
+     * Returns the subnet type to serialize and deserialize.
+     *
+     * @return The subnet type to serialize and deserialize.
+     */
+    public Class<?> subnetType() {
+        return subnetType;
+    }
+
+    /**
+     * Returns the IP range type to serialize and deserialize.
+     *
+     * @return The IP range type to serialize and deserialize.
+     */
+    public Class<?> rangeType() {
+        return rangeType;
+    }
+
+    /**
+     * Returns a random IP address for this IP version.
+     *
+     * @param random The source of randomness to use.
+     * @return A random IP address for this IP version.
+     */
+    public abstract IPAddress<?> randomAddress(Random random);
+
+    /**
+     * Returns a random subnet for this IP version.
+     *
+     * @param random The source of randomness to use.
+     * @return A random subnet for this IP version.
+     */
+    public abstract Subnet<?> randomSubnet(Random random);
+
+    /**
+     * Returns a random IP range for this IP version. The range is never a subnet.
+     *
+     * @param random The source of randomness to use.
+     * @return A random IP range for this IP version.
+     */
+    public abstract IPRange<?> randomRange(Random random);
+}
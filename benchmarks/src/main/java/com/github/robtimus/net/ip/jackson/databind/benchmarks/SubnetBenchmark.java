@@ -0,0 +1,44 @@
+/*
+ * SubnetBenchmark.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.net.ip.jackson.databind.benchmarks;
+
+import java.util.Random;
+
+/**
+ * Benchmarks for the {@code SubnetSerializer} and {@code SubnetDeserializer} classes.
+ *
+ * @author Rob Spoor
+ */
+public class SubnetBenchmark extends ValueSerializationBenchmark {
+
+    @Override
+    Class<?> type(IPVersion ipVersion) {
+        return ipVersion.subnetType();
+    }
+
+    @Override
+    Object randomValue(IPVersion ipVersion, Random random) {
+        return ipVersion.randomSubnet(random);
+    }
+
+    @Override
+    Object invalidValue(Random random) {
+        // a subnet with a prefix length that is too large for both IPv4 and IPv6
+        return TestData.randomIPv4Address(random) + "/" + (129 + random.nextInt(100)); //$NON-NLS-1$
+    }
+}
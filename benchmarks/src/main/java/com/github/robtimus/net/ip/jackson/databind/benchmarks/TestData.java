@@ -0,0 +1,129 @@
+/*
+ * TestData.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.net.ip.jackson.databind.benchmarks;
+
+import java.util.Random;
+import com.github.robtimus.net.ip.IPv4Address;
+import com.github.robtimus.net.ip.IPv4Range;
+import com.github.robtimus.net.ip.IPv4Subnet;
+import com.github.robtimus.net.ip.IPv6Address;
+import com.github.robtimus.net.ip.IPv6Range;
+import com.github.robtimus.net.ip.IPv6Subnet;
+
+/**
+ * Utility class for creating random test data. All methods are deterministic for a given {@link Random}.
+ *
+ * @author Rob Spoor
+ */
+public final class TestData {
+
+    /** The seed used by all benchmarks, so all runs use the same data. */
+    public static final long SEED = 20260101L;
+
+    /** The number of distinct values each benchmark cycles through. Must be a power of 2. */
+    public static final int VALUE_COUNT = 1024;
+
+    private TestData() {
+    }
+
+    /**
+     * Returns a random IPv4 address.
+     *
+     * @param random The source of randomness to use.
+     * @return A random IPv4 address.
+     */
+    public static IPv4Address randomIPv4Address(Random random) {
+        return IPv4Address.valueOf(random.nextInt());
+    }
+
+    /**
+     * Returns a random IPv6 address.
+     *
+     * @param random The source of randomness to use.
+     * @return A random IPv6 address.
+     */
+    public static IPv6Address randomIPv6Address(Random random) {
+        return IPv6Address.valueOf(random.nextLong(), random.nextLong());
+    }
+
+    /**
+     * Returns a random IPv4 subnet, with a prefix length between 8 and 32.
+     *
+     * @param random The source of randomness to use.
+     * @return A random IPv4 subnet.
+     */
+    public static IPv4Subnet randomIPv4Subnet(Random random) {
+        int prefixLength = 8 + random.nextInt(25);
+        int mask = prefixLength == 0 ? 0 : -1 << (32 - prefixLength);
+        IPv4Address routingPrefix = IPv4Address.valueOf(random.nextInt() & mask);
+        return IPv4Subnet.valueOf(routingPrefix + "/" + prefixLength); //$NON-NLS-1$
+    }
+
+    /**
+     * Returns a random IPv6 subnet, with a prefix length between 16 and 128.
+     *
+     * @param random The source of randomness to use.
+     * @return A random IPv6 subnet.
+     */
+    public static IPv6Subnet randomIPv6Subnet(Random random) {
+        int prefixLength = 16 + random.nextInt(113);
+        long highMask = highMask(prefixLength);
+        long lowMask = lowMask(prefixLength);
+        IPv6Address routingPrefix = IPv6Address.valueOf(random.nextLong() & highMask, random.nextLong() & lowMask);
+        return IPv6Subnet.valueOf(routingPrefix + "/" + prefixLength); //$NON-NLS-1$
+    }
+
+    private static long highMask(int prefixLength) {
+        if (prefixLength >= 64) {
+            return -1L;
+        }
+        return prefixLength == 0 ? 0L : -1L << (64 - prefixLength);
+    }
+
+    private static long lowMask(int prefixLength) {
+        if (prefixLength <= 64) {
+            return 0L;
+        }
+        return prefixLength == 128 ? -1L : -1L << (128 - prefixLength);
+    }
+
+    /**
+     * Returns a random IPv4 range. The range starts at an odd address so it is never a subnet.
+     *
+     * @param random The source of randomness to use.
+     * @return A random IPv4 range.
+     */
+    public static IPv4Range randomIPv4Range(Random random) {
+        int from = random.nextInt(Integer.MAX_VALUE) | 1;
+        int to = from + 1 + random.nextInt(1 << 16);
+        return IPv4Address.valueOf(from).to(IPv4Address.valueOf(to));
+    }
+
+    /**
+     * Returns a random IPv6 range. The range starts at an odd address so it is never a subnet.
+     *
+     * @param random The source of randomness to use.
+     * @return A random IPv6 range.
+     */
+    public static IPv6Range randomIPv6Range(Random random) {
+        long high = random.nextLong();
+        long from = (random.nextLong() >>> 1) | 1L;
+        long to = from + 1 + random.nextInt(1 << 16);
+        return IPv6Address.valueOf(high, from).to(IPv6Address.valueOf(high, to));
+    }
+}
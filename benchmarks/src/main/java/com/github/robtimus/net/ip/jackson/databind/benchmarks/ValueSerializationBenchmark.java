@@ -0,0 +1,140 @@
+/*
+ * ValueSerializationBenchmark.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.net.ip.jackson.databind.benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.ObjectReader;
+import tools.jackson.databind.ObjectWriter;
+
+/**
+ * Base class for benchmarks that serialize and deserialize single values.
+ * Sub classes determine which type is used, and therefore which of the serializers and deserializers registered by the module is measured.
+ * <p>
+ * Each invocation handles one value. The values cycle through a fixed set of {@link TestData#VALUE_COUNT} values, created using
+ * {@link TestData#SEED}, so branch prediction cannot learn a single value.
+ *
+ * @author Rob Spoor
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+@State(Scope.Thread)
+public abstract class ValueSerializationBenchmark {
+
+    /** The data format to use. */
+    @Param
+    public DataFormat format;
+
+    /** The IP version to use. */
+    @Param
+    public IPVersion version;
+
+    private ObjectWriter writer;
+    private ObjectReader reader;
+
+    private Object[] values;
+    private byte[][] validInput;
+    private byte[][] invalidInput;
+
+    private int index;
+
+    /**
+     * Sets up the mapper and the test data.
+     */
+    @Setup
+    public void setup() {
+        ObjectMapper mapper = format.createMapper();
+        Class<?> type = type(version);
+        writer = mapper.writerFor(type);
+        reader = mapper.readerFor(type);
+
+        Random random = new Random(TestData.SEED);
+        values = new Object[TestData.VALUE_COUNT];
+        validInput = new byte[TestData.VALUE_COUNT][];
+        invalidInput = new byte[TestData.VALUE_COUNT][];
+        for (int i = 0; i < TestData.VALUE_COUNT; i++) {
+            values[i] = randomValue(version, random);
+            validInput[i] = writer.writeValueAsBytes(values[i]);
+            invalidInput[i] = mapper.writeValueAsBytes(invalidValue(random));
+        }
+    }
+
+    abstract Class<?> type(IPVersion ipVersion);
+
+    abstract Object randomValue(IPVersion ipVersion, Random random);
+
+    abstract Object invalidValue(Random random);
+
+    private int nextIndex() {
+        int result = index;
+        index = (index + 1) & (TestData.VALUE_COUNT - 1);
+        return result;
+    }
+
+    /**
+     * Serializes a value.
+     *
+     * @return The serialized value.
+     */
+    @Benchmark
+    public byte[] serialize() {
+        return writer.writeValueAsBytes(values[nextIndex()]);
+    }
+
+    /**
+     * Deserializes valid input.
+     *
+     * @return The deserialized value.
+     */
+    @Benchmark
+    public Object deserializeValid() {
+        return reader.readValue(validInput[nextIndex()]);
+    }
+
+    /**
+     * Deserializes invalid input. This measures the cost of the failure path, including the creation of exceptions.
+     *
+     * @param blackhole The blackhole to consume the exception.
+     */
+    @Benchmark
+    public void deserializeInvalid(Blackhole blackhole) {
+        try {
+            blackhole.consume(reader.readValue(invalidInput[nextIndex()]));
+        } catch (JacksonException | IllegalArgumentException e) {
+            // Invalid IP addresses and ranges are not wrapped when they are deserialized as root-level values
+            blackhole.consume(e);
+        }
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Corpus.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.net.ip.jackson.databind.benchmarks.load;
+
+import java.util.List;
+import com.github.robtimus.net.ip.IPAddress;
+import com.github.robtimus.net.ip.IPRange;
+import com.github.robtimus.net.ip.Subnet;
+
+/**
+ * The document types of the load harness corpus. Their properties are declared using the generic IP types, like services commonly do,
+ * so the module's {@code AnyVersion} serializers and deserializers are used.
+ *
+ * @author Rob Spoor
+ */
+public final class Corpus {
+
+    private Corpus() {
+    }
+
+    /**
+     * A batch of flow log records.
+     *
+     * @author Rob Spoor
+     */
+    public static final class FlowLogBatch {
+
+        /** The records in the batch. */
+        public List<FlowLog> records;
+    }
+
+    /**
+     * A single flow log record.
+     *
+     * @author Rob Spoor
+     */
+    public static final class FlowLog {
+
+        /** The time the flow started, in epoch milliseconds. */
+        public long timestamp;
+        /** The source address. */
+        public IPAddress<?> source;
+        /** The source port. */
+        public int sourcePort;
+        /** The destination address. */
+        public IPAddress<?> destination;
+        /** The destination port. */
+        public int destinationPort;
+        /** The IP protocol number. */
+        public int protocol;
+        /** The number of bytes transferred. */
+        public long bytes;
+        /** The action taken. */
+        public String action;
+    }
+
+    /**
+     * A set of firewall rules.
+     *
+     * @author Rob Spoor
+     */
+    public static final class FirewallRuleSet {
+
+        /** The name of the rule set. */
+        public String name;
+        /** The rules in the set. */
+        public List<FirewallRule> rules;
+    }
+
+    /**
+     * A single firewall rule.
+     *
+     * @author Rob Spoor
+     */
+    public static final class FirewallRule {
+
+        /** The priority of the rule. */
+        public int priority;
+        /** The source range; either a subnet or a range written as object. */
+        public IPRange<?> source;
+        /** The destination subnet. */
+        public Subnet<?> destination;
+        /** The destination port. */
+        public int port;
+        /** The action of the rule. */
+        public String action;
+    }
+
+    /**
+     * An allow-list of individual hosts, subnets and ranges, mixing IPv4 and IPv6.
+     *
+     * @author Rob Spoor
+     */
+    public static final class AllowList {
+
+        /** The name of the allow-list. */
+        public String name;
+        /** The allowed hosts. */
+        public List<IPAddress<?>> hosts;
+        /** The allowed subnets. */
+        public List<Subnet<?>> subnets;
+        /** The allowed ranges; both subnets and ranges written as objects. */
+        public List<IPRange<?>> ranges;
+    }
+}
@@ -0,0 +1,181 @@
+/*
+ * CorpusGenerator.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.net.ip.jackson.databind.benchmarks.load;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import com.github.robtimus.net.ip.IPAddress;
+import com.github.robtimus.net.ip.IPRange;
+import com.github.robtimus.net.ip.Subnet;
+import com.github.robtimus.net.ip.jackson.databind.benchmarks.IPVersion;
+import com.github.robtimus.net.ip.jackson.databind.benchmarks.TestData;
+import com.github.robtimus.net.ip.jackson.databind.benchmarks.load.Corpus.AllowList;
+import com.github.robtimus.net.ip.jackson.databind.benchmarks.load.Corpus.FirewallRule;
+import com.github.robtimus.net.ip.jackson.databind.benchmarks.load.Corpus.FirewallRuleSet;
+import com.github.robtimus.net.ip.jackson.databind.benchmarks.load.Corpus.FlowLog;
+import com.github.robtimus.net.ip.jackson.databind.benchmarks.load.Corpus.FlowLogBatch;
+
+/**
+ * Generates a realistic corpus of documents containing IP addresses and ranges. The generator is seeded, so the same seed always results in the
+ * same corpus.
+ * <p>
+ * Like in real traffic, most flow log addresses come from a small set of hot hosts, and IPv4 is more common than IPv6.
+ *
+ * @author Rob Spoor
+ */
+public final class CorpusGenerator {
+
+    private static final String[] FLOW_ACTIONS = { "ACCEPT", "REJECT" }; //$NON-NLS-1$ //$NON-NLS-2$
+    private static final String[] RULE_ACTIONS = { "ALLOW", "DENY", "LOG" }; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+    private static final int[] PROTOCOLS = { 6, 17, 1, 58 };
+
+    private static final int HOT_HOST_COUNT = 64;
+    private static final double HOT_HOST_RATIO = 0.8;
+    private static final double IPV6_RATIO = 0.3;
+
+    private final Random random;
+    private final List<IPAddress<?>> hotHosts;
+
+    /**
+     * Creates a new corpus generator.
+     *
+     * @param seed The seed to use.
+     */
+    public CorpusGenerator(long seed) {
+        this.random = new Random(seed);
+        this.hotHosts = new ArrayList<>(HOT_HOST_COUNT);
+        for (int i = 0; i < HOT_HOST_COUNT; i++) {
+            hotHosts.add(randomAddress());
+        }
+    }
+
+    /**
+     * Generates a batch of flow log records.
+     *
+     * @param size The number of records in the batch.
+     * @return The generated batch.
+     */
+    public FlowLogBatch flowLogBatch(int size) {
+        FlowLogBatch batch = new FlowLogBatch();
+        batch.records = new ArrayList<>(size);
+        long timestamp = 1_700_000_000_000L + random.nextInt(1_000_000);
+        for (int i = 0; i < size; i++) {
+            FlowLog flowLog = new FlowLog();
+            flowLog.timestamp = timestamp + i * 10L;
+            flowLog.source = flowLogAddress();
+            flowLog.sourcePort = 1024 + random.nextInt(64_512);
+            flowLog.destination = flowLogAddress();
+            flowLog.destinationPort = random.nextBoolean() ? 443 : random.nextInt(1024);
+            flowLog.protocol = PROTOCOLS[random.nextInt(PROTOCOLS.length)];
+            flowLog.bytes = 40 + random.nextInt(1_500_000);
+            flowLog.action = FLOW_ACTIONS[random.nextInt(FLOW_ACTIONS.length)];
+            batch.records.add(flowLog);
+        }
+        return batch;
+    }
+
+    private IPAddress<?> flowLogAddress() {
+        return random.nextDouble() < HOT_HOST_RATIO
+                ? hotHosts.get(random.nextInt(hotHosts.size()))
+                : randomAddress();
+    }
+
+    /**
+     * Generates a set of firewall rules.
+     *
+     * @param size The number of rules in the set.
+     * @return The generated rule set.
+     */
+    public FirewallRuleSet firewallRuleSet(int size) {
+        FirewallRuleSet ruleSet = new FirewallRuleSet();
+        ruleSet.name = "rules-" + random.nextInt(1000); //$NON-NLS-1$
+        ruleSet.rules = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            IPVersion version = randomVersion();
+            FirewallRule rule = new FirewallRule();
+            rule.priority = i * 10;
+            rule.source = random.nextInt(4) == 0 ? version.randomRange(random) : version.randomSubnet(random);
+            rule.destination = version.randomSubnet(random);
+            rule.port = random.nextInt(65_536);
+            rule.action = RULE_ACTIONS[random.nextInt(RULE_ACTIONS.length)];
+            ruleSet.rules.add(rule);
+        }
+        return ruleSet;
+    }
+
+    /**
+     * Generates an allow-list.
+     *
+     * @param size The number of entries of each kind in the allow-list.
+     * @return The generated allow-list.
+     */
+    public AllowList allowList(int size) {
+        AllowList allowList = new AllowList();
+        allowList.name = "allow-" + random.nextInt(1000); //$NON-NLS-1$
+        allowList.hosts = new ArrayList<>(size);
+        allowList.subnets = new ArrayList<>(size);
+        allowList.ranges = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            allowList.hosts.add(randomAddress());
+            allowList.subnets.add(randomSubnet());
+            allowList.ranges.add(random.nextBoolean() ? randomSubnet() : randomRange());
+        }
+        return allowList;
+    }
+
+    /**
+     * Generates a mixed list of documents: flow log batches, firewall rule sets and allow-lists, in a ratio of 6 : 2 : 2.
+     *
+     * @param count The number of documents to generate.
+     * @param documentSize The number of entries in each document.
+     * @return The generated documents.
+     */
+    public List<Object> documents(int count, int documentSize) {
+        List<Object> documents = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int kind = random.nextInt(10);
+            if (kind < 6) {
+                documents.add(flowLogBatch(documentSize));
+            } else if (kind < 8) {
+                documents.add(firewallRuleSet(documentSize));
+            } else {
+                documents.add(allowList(documentSize));
+            }
+        }
+        return documents;
+    }
+
+    private IPVersion randomVersion() {
+        return random.nextDouble() < IPV6_RATIO ? IPVersion.IPv6 : IPVersion.IPv4;
+    }
+
+    private IPAddress<?> randomAddress() {
+        return randomVersion().randomAddress(random);
+    }
+
+    private Subnet<?> randomSubnet() {
+        return randomVersion().randomSubnet(random);
+    }
+
+    private IPRange<?> randomRange() {
+        return randomVersion() == IPVersion.IPv6
+                ? TestData.randomIPv6Range(random)
+                : TestData.randomIPv4Range(random);
+    }
+}
@@ -0,0 +1,234 @@
+/*
+ * LoadHarness.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.net.ip.jackson.databind.benchmarks.load;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import com.github.robtimus.net.ip.jackson.databind.benchmarks.DataFormat;
+import com.github.robtimus.net.ip.jackson.databind.benchmarks.TestData;
+import com.sun.management.ThreadMXBean;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.ObjectReader;
+import tools.jackson.databind.ObjectWriter;
+
+/**
+ * A load harness that measures how serialization and deserialization scale when many threads share a single {@link ObjectMapper}.
+ * It uses a corpus created by {@link CorpusGenerator}, and runs with 1 up to a maximum number of platform threads and virtual threads.
+ * For each run it reports the throughput, the scaling efficiency compared to a single thread, and the allocation rate.
+ * <p>
+ * All threads share the singleton serializer and deserializer instances that the module registers, so any contention in these or in caches
+ * used by them shows up as a drop in scaling efficiency.
+ * <p>
+ * Arguments are given as {@code name=value} pairs:
+ * <ul>
+ * <li>{@code format}: the data format; {@code JSON} (default), {@code SMILE} or {@code CBOR}.</li>
+ * <li>{@code maxThreads}: the maximum number of threads; defaults to 64. Thread counts are doubled from 1 until this value is reached.</li>
+ * <li>{@code warmup}: the warmup time per run, in seconds; defaults to 3.</li>
+ * <li>{@code duration}: the measurement time per run, in seconds; defaults to 5.</li>
+ * <li>{@code seed}: the corpus seed; defaults to {@link TestData#SEED}.</li>
+ * <li>{@code documents}: the number of documents in the corpus; defaults to 512.</li>
+ * <li>{@code documentSize}: the number of entries per document; defaults to 100.</li>
+ * </ul>
+ *
+ * @author Rob Spoor
+ */
+@SuppressWarnings("nls")
+public final class LoadHarness {
+
+    private enum ThreadKind {
+        PLATFORM,
+        VIRTUAL,
+    }
+
+    private enum Operation {
+        SERIALIZE,
+        DESERIALIZE,
+    }
+
+    private final Object[] documents;
+    private final byte[][] serializedDocuments;
+    private final ObjectWriter[] writers;
+    private final ObjectReader[] readers;
+
+    private final int maxThreads;
+    private final long warmupNanos;
+    private final long durationNanos;
+
+    private final ThreadMXBean threadMXBean;
+
+    private volatile boolean running;
+
+    private LoadHarness(Map<String, String> arguments) {
+        DataFormat format = DataFormat.valueOf(arguments.getOrDefault("format", DataFormat.JSON.name()));
+        long seed = Long.parseLong(arguments.getOrDefault("seed", Long.toString(TestData.SEED)));
+        int documentCount = Integer.parseInt(arguments.getOrDefault("documents", "512"));
+        int documentSize = Integer.parseInt(arguments.getOrDefault("documentSize", "100"));
+
+        maxThreads = Integer.parseInt(arguments.getOrDefault("maxThreads", "64"));
+        warmupNanos = TimeUnit.SECONDS.toNanos(Long.parseLong(arguments.getOrDefault("warmup", "3")));
+        durationNanos = TimeUnit.SECONDS.toNanos(Long.parseLong(arguments.getOrDefault("duration", "5")));
+
+        threadMXBean = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+        // one mapper, shared by all threads
+        ObjectMapper mapper = format.createMapper();
+        List<Object> corpus = new CorpusGenerator(seed).documents(documentCount, documentSize);
+
+        documents = corpus.toArray();
+        serializedDocuments = new byte[documents.length][];
+        writers = new ObjectWriter[documents.length];
+        readers = new ObjectReader[documents.length];
+
+        Map<Class<?>, ObjectWriter> writerCache = new HashMap<>();
+        Map<Class<?>, ObjectReader> readerCache = new HashMap<>();
+        for (int i = 0; i < documents.length; i++) {
+            Class<?> type = documents[i].getClass();
+            writers[i] = writerCache.computeIfAbsent(type, mapper::writerFor);
+            readers[i] = readerCache.computeIfAbsent(type, mapper::readerFor);
+            serializedDocuments[i] = writers[i].writeValueAsBytes(documents[i]);
+        }
+    }
+
+    private void run() throws InterruptedException {
+        System.out.printf("%-8s %-11s %7s %14s %10s %12s %14s%n",
+                "threads", "operation", "count", "documents/s", "scaling", "MB/s alloc", "bytes/document");
+
+        for (ThreadKind threadKind : ThreadKind.values()) {
+            for (Operation operation : Operation.values()) {
+                double singleThreadThroughput = 0;
+                for (int threadCount : threadCounts()) {
+                    Result result = run(threadKind, operation, threadCount);
+                    if (threadCount == 1) {
+                        singleThreadThroughput = result.throughput();
+                    }
+                    double scaling = result.throughput() / (threadCount * singleThreadThroughput);
+                    System.out.printf(Locale.ROOT, "%-8s %-11s %7d %14.0f %9.1f%% %12.1f %14.0f%n",
+                            threadKind, operation, threadCount, result.throughput(), scaling * 100,
+                            result.allocationRate() / (1024 * 1024), result.allocatedPerDocument());
+                }
+            }
+        }
+    }
+
+    private List<Integer> threadCounts() {
+        List<Integer> threadCounts = new ArrayList<>();
+        for (int threadCount = 1; threadCount < maxThreads; threadCount *= 2) {
+            threadCounts.add(threadCount);
+        }
+        threadCounts.add(maxThreads);
+        return threadCounts;
+    }
+
+    private Result run(ThreadKind threadKind, Operation operation, int threadCount) throws InterruptedException {
+        LongAdder completed = new LongAdder();
+        running = true;
+
+        List<Thread> threads = new ArrayList<>(threadCount);
+        for (int i = 0; i < threadCount; i++) {
+            // start each thread at a different document, so not all threads work on the same data at the same time
+            int offset = i * documents.length / threadCount;
+            Runnable task = operation == Operation.SERIALIZE
+                    ? () -> serialize(offset, completed)
+                    : () -> deserialize(offset, completed);
+            threads.add(threadKind == ThreadKind.PLATFORM
+                    ? Thread.ofPlatform().start(task)
+                    : Thread.ofVirtual().start(task));
+        }
+
+        TimeUnit.NANOSECONDS.sleep(warmupNanos);
+
+        long startCount = completed.sum();
+        long startAllocated = threadMXBean.getTotalThreadAllocatedBytes();
+        long startTime = System.nanoTime();
+
+        TimeUnit.NANOSECONDS.sleep(durationNanos);
+
+        long endCount = completed.sum();
+        long endAllocated = threadMXBean.getTotalThreadAllocatedBytes();
+        long endTime = System.nanoTime();
+
+        running = false;
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        return new Result(endCount - startCount, endAllocated - startAllocated, endTime - startTime);
+    }
+
+    private void serialize(int offset, LongAdder completed) {
+        int index = offset;
+        while (running) {
+            writers[index].writeValueAsBytes(documents[index]);
+            completed.increment();
+            index = next(index);
+        }
+    }
+
+    private void deserialize(int offset, LongAdder completed) {
+        int index = offset;
+        while (running) {
+            readers[index].readValue(serializedDocuments[index]);
+            completed.increment();
+            index = next(index);
+        }
+    }
+
+    private int next(int index) {
+        int next = index + 1;
+        return next == documents.length ? 0 : next;
+    }
+
+    private record Result(long documents, long allocatedBytes, long nanos) {
+
+        double throughput() {
+            return documents * 1_000_000_000D / nanos;
+        }
+
+        double allocationRate() {
+            return allocatedBytes * 1_000_000_000D / nanos;
+        }
+
+        double allocatedPerDocument() {
+            return documents == 0 ? 0 : (double) allocatedBytes / documents;
+        }
+    }
+
+    /**
+     * Runs the load harness.
+     *
+     * @param args The arguments, as {@code name=value} pairs.
+     * @throws InterruptedException If the current thread is interrupted while waiting for a run to finish.
+     */
+    public static void main(String[] args) throws InterruptedException {
+        Map<String, String> arguments = new HashMap<>();
+        for (String arg : args) {
+            int index = arg.indexOf('=');
+            if (index == -1) {
+                throw new IllegalArgumentException("Invalid argument: " + arg);
+            }
+            arguments.put(arg.substring(0, index), arg.substring(index + 1));
+        }
+        new LoadHarness(arguments).run();
+    }
+}
@@ -0,0 +1,285 @@
+/*
+ * BloomFilter.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.net.ip.jackson.databind;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * An immutable scalable Bloom filter of 64 bit hashes, used by {@link IPv4AddressFilter} and {@link IPv6AddressFilter}.
+ * <p>
+ * The filter consists of one or more layers, each of which is a standard Bloom filter with a fixed capacity. When the number of elements is not
+ * known in advance, a new layer is added whenever the last layer is full. Each layer has 4 times the capacity of the previous layer, and 0.9 times
+ * its false positive probability, so the total false positive probability stays below the configured value, and the number of bits per element
+ * stays bounded regardless of the number of elements. Each layer uses double hashing: probe {@code i} uses bit {@code (h1 + i * h2) mod m}, where
+ * {@code h1} is the element's hash and {@code h2} is derived from it.
+ *
+ * @author Rob Spoor
+ */
+final class BloomFilter {
+
+    static final double DEFAULT_FALSE_POSITIVE_PROBABILITY = 0.01;
+
+    // The capacity of the first layer if the number of elements is not known in advance
+    static final long INITIAL_CAPACITY = 1 << 12;
+
+    private static final int GROWTH_FACTOR = 4;
+    private static final double TIGHTENING_RATIO = 0.9;
+
+    private static final double LN2 = Math.log(2);
+    private static final double LN2_SQUARED = LN2 * LN2;
+
+    // Each lookup computes this many bits at most. 64 hashes are optimal for a false positive probability of about 2^-64, so this only limits
+    // layers for impractically small false positive probabilities. It prevents deserialized layers from making lookups arbitrarily slow.
+    private static final int MAX_HASH_COUNT = 64;
+
+    // Bit arrays are stored as byte arrays; stay a little below the maximum array length of most VMs
+    private static final int MAX_BYTE_COUNT = Integer.MAX_VALUE - 8;
+
+    private static final long SEED = 0x9E37_79B9_7F4A_7C15L;
+
+    private final double falsePositiveProbability;
+    private final long count;
+    private final Layer[] layers;
+
+    BloomFilter(double falsePositiveProbability, long count, Layer[] layers) {
+        this.falsePositiveProbability = falsePositiveProbability;
+        this.count = count;
+        this.layers = layers;
+    }
+
+    double falsePositiveProbability() {
+        return falsePositiveProbability;
+    }
+
+    long count() {
+        return count;
+    }
+
+    Layer[] layers() {
+        return layers;
+    }
+
+    long bitCount() {
+        long bitCount = 0;
+        for (Layer layer : layers) {
+            bitCount += layer.bitCount;
+        }
+        return bitCount;
+    }
+
+    boolean mightContain(long hash) {
+        long hash2 = hash2(hash);
+        // Later layers are larger, so they are more likely to contain the element
+        for (int i = layers.length - 1; i >= 0; i--) {
+            if (layers[i].mightContain(hash, hash2)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    static long hash(int address) {
+        return mix(Integer.toUnsignedLong(address) + SEED);
+    }
+
+    static long hash(long highAddress, long lowAddress) {
+        return mix(mix(highAddress + SEED) ^ lowAddress);
+    }
+
+    private static long hash2(long hash) {
+        // Never 0, otherwise all probes would use the same bit
+        return mix(hash + SEED) | 1L;
+    }
+
+    /**
+     * The finalizer of MurmurHash3's 64 bit variant.
+     */
+    private static long mix(long value) {
+        long h = value;
+        h ^= h >>> 33;
+        h *= 0xFF51_AFD7_ED55_8CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CE_B9FE_1A85_EC53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    static double checkFalsePositiveProbability(double falsePositiveProbability) {
+        if (!(falsePositiveProbability > 0 && falsePositiveProbability < 1)) {
+            throw new IllegalArgumentException(Messages.IPAddressFilter.invalidFalsePositiveProbability(falsePositiveProbability));
+        }
+        return falsePositiveProbability;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || o.getClass() != getClass()) {
+            return false;
+        }
+        BloomFilter other = (BloomFilter) o;
+        if (Double.compare(falsePositiveProbability, other.falsePositiveProbability) != 0
+                || count != other.count
+                || layers.length != other.layers.length) {
+            return false;
+        }
+        for (int i = 0; i < layers.length; i++) {
+            if (layers[i].hashCount != other.layers[i].hashCount || !Arrays.equals(layers[i].bits, other.layers[i].bits)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = Double.hashCode(falsePositiveProbability);
+        hash = 31 * hash + Long.hashCode(count);
+        for (Layer layer : layers) {
+            hash = 31 * hash + layer.hashCount;
+            hash = 31 * hash + Arrays.hashCode(layer.bits);
+        }
+        return hash;
+    }
+
+    /**
+     * A single Bloom filter layer.
+     *
+     * @author Rob Spoor
+     */
+    static final class Layer {
+
+        private final int hashCount;
+        private final byte[] bits;
+        private final long bitCount;
+
+        Layer(int hashCount, byte[] bits) {
+            if (hashCount <= 0 || hashCount > MAX_HASH_COUNT || bits.length == 0) {
+                throw new IllegalArgumentException(Messages.IPAddressFilter.invalidLayer(hashCount, bits.length));
+            }
+            this.hashCount = hashCount;
+            this.bits = bits;
+            this.bitCount = (long) bits.length * Byte.SIZE;
+        }
+
+        int hashCount() {
+            return hashCount;
+        }
+
+        byte[] bits() {
+            return bits;
+        }
+
+        private void add(long hash, long hash2) {
+            long combined = hash;
+            for (int i = 0; i < hashCount; i++) {
+                long index = (combined & Long.MAX_VALUE) % bitCount;
+                bits[(int) (index >>> 3)] |= (byte) (1 << (index & 7));
+                combined += hash2;
+            }
+        }
+
+        private boolean mightContain(long hash, long hash2) {
+            long combined = hash;
+            for (int i = 0; i < hashCount; i++) {
+                long index = (combined & Long.MAX_VALUE) % bitCount;
+                if ((bits[(int) (index >>> 3)] & (1 << (index & 7))) == 0) {
+                    return false;
+                }
+                combined += hash2;
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Accumulates hashes for a {@link BloomFilter}. Hashes are added to the last layer directly, so the memory usage is only determined by the
+     * capacity of the layers, not by the number of hashes.
+     *
+     * @author Rob Spoor
+     */
+    static final class Accumulator {
+
+        private final double falsePositiveProbability;
+        private final List<Layer> layers = new ArrayList<>();
+
+        private long count;
+
+        private Layer layer;
+        private long layerCapacity;
+        private long layerCount;
+
+        private long nextCapacity;
+        private double nextFalsePositiveProbability;
+
+        /**
+         * Creates an accumulator for an unknown number of hashes.
+         */
+        Accumulator(double falsePositiveProbability) {
+            this.falsePositiveProbability = checkFalsePositiveProbability(falsePositiveProbability);
+            this.nextCapacity = INITIAL_CAPACITY;
+            // The false positive probabilities of the layers form a geometric series with this sum
+            this.nextFalsePositiveProbability = falsePositiveProbability * (1 - TIGHTENING_RATIO);
+        }
+
+        /**
+         * Creates an accumulator for a known number of hashes. All hashes will be added to a single layer, unless more than the expected number of
+         * hashes is added.
+         */
+        Accumulator(long expectedCount, double falsePositiveProbability) {
+            this.falsePositiveProbability = checkFalsePositiveProbability(falsePositiveProbability);
+            this.nextCapacity = Math.max(expectedCount, 1);
+            this.nextFalsePositiveProbability = falsePositiveProbability;
+        }
+
+        void add(long hash) {
+            if (layerCount == layerCapacity) {
+                addLayer();
+            }
+            layer.add(hash, hash2(hash));
+            layerCount++;
+            count++;
+        }
+
+        private void addLayer() {
+            double logFalsePositiveProbability = Math.log(nextFalsePositiveProbability);
+            long bitCount = (long) Math.ceil(-nextCapacity * logFalsePositiveProbability / LN2_SQUARED);
+            long byteCount = Math.min((bitCount + Byte.SIZE - 1) / Byte.SIZE, MAX_BYTE_COUNT);
+            bitCount = byteCount * Byte.SIZE;
+            // If the layer was capped, it can hold fewer elements with the same false positive probability
+            long capacity = Math.min(nextCapacity, (long) (bitCount * LN2_SQUARED / -logFalsePositiveProbability));
+            int hashCount = (int) Math.min(Math.max(1, Math.round((double) bitCount / capacity * LN2)), MAX_HASH_COUNT);
+
+            layer = new Layer(hashCount, new byte[(int) byteCount]);
+            layers.add(layer);
+            layerCapacity = capacity;
+            layerCount = 0;
+
+            nextCapacity = capacity * GROWTH_FACTOR;
+            nextFalsePositiveProbability *= TIGHTENING_RATIO;
+        }
+
+        BloomFilter finish() {
+            return new BloomFilter(falsePositiveProbability, count, layers.toArray(Layer[]::new));
+        }
+    }
+}
@@ -0,0 +1,291 @@
+/*
+ * CIDRBlocks.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.net.ip.jackson.databind;
+
+import com.github.robtimus.net.ip.IPAddress;
+import com.github.robtimus.net.ip.IPAddressFormatter;
+import com.github.robtimus.net.ip.IPRange;
+import com.github.robtimus.net.ip.IPv4Address;
+import com.github.robtimus.net.ip.IPv6Address;
+import tools.jackson.core.JsonGenerator;
+
+/**
+ * Support for writing IP ranges as the minimal list of CIDR blocks, and for reading such lists back as a single IP range.
+ * <p>
+ * Each block is the largest block that starts at the first address that is not yet covered. Its size is limited both by the alignment of that
+ * address, which is the number of trailing zero bits, and by the number of addresses that are left. Both are computed with bit arithmetic on the
+ * primitive values of the addresses.
+ *
+ * @author Rob Spoor
+ */
+final class CIDRBlocks {
+
+    private static final int IPV4_BITS = Integer.SIZE;
+    private static final int IPV6_BITS = 2 * Long.SIZE;
+
+    private CIDRBlocks() {
+    }
+
+    /**
+     * Writes the CIDR blocks of an IPv4 range as strings.
+     *
+     * @param formatter The formatter to use for the addresses. If {@code null}, addresses are formatted from their primitive values.
+     * @return The total number of characters written.
+     */
+    static int writeIPv4(int from, int to, IPAddressFormatter<? super IPv4Address> formatter, JsonGenerator gen) {
+        char[] buffer = new char[IPAddressText.MAX_CIDR_LENGTH];
+        int length = 0;
+        // Use unsigned values; the end of the range + 1 does not fit in an int for the last address
+        long start = Integer.toUnsignedLong(from);
+        long end = Integer.toUnsignedLong(to);
+        while (start <= end) {
+            int alignmentBits = Long.numberOfTrailingZeros(start);
+            int sizeBits = Long.SIZE - 1 - Long.numberOfLeadingZeros(end - start + 1);
+            int bits = Math.min(alignmentBits, sizeBits);
+            int address = (int) start;
+            int prefixLength = IPV4_BITS - bits;
+            length += formatter != null
+                    ? write(formatter.format(IPv4Address.valueOf(address)), prefixLength, gen)
+                    : write(buffer, IPAddressText.formatIPv4(address, buffer), prefixLength, gen);
+            start += 1L << bits;
+        }
+        return length;
+    }
+
+    /**
+     * Writes the CIDR blocks of an IPv6 range as strings.
+     *
+     * @param formatter The formatter to use for the addresses. If {@code null}, addresses are formatted from their primitive values.
+     * @return The total number of characters written.
+     */
+    static int writeIPv6(long fromHigh, long fromLow, long toHigh, long toLow, IPAddressFormatter<? super IPv6Address> formatter, JsonGenerator gen) {
+        char[] buffer = new char[IPAddressText.MAX_CIDR_LENGTH];
+        int length = 0;
+        long startHigh = fromHigh;
+        long startLow = fromLow;
+        while (true) {
+            // The number of remaining addresses - 1; the number itself overflows for the entire IPv6 address space
+            long borrow = Long.compareUnsigned(toLow, startLow) < 0 ? 1 : 0;
+            long remainingHigh = toHigh - startHigh - borrow;
+            long remainingLow = toLow - startLow;
+
+            int bits = Math.min(ipv6AlignmentBits(startHigh, startLow), ipv6SizeBits(remainingHigh, remainingLow));
+            int prefixLength = IPV6_BITS - bits;
+            length += formatter != null
+                    ? write(formatter.format(IPv6Address.valueOf(startHigh, startLow)), prefixLength, gen)
+                    : write(buffer, IPAddressText.formatIPv6(startHigh, startLow, buffer), prefixLength, gen);
+
+            if (isHostMask(remainingHigh, remainingLow, bits)) {
+                // The block ends at the end of the range
+                return length;
+            }
+            if (bits >= Long.SIZE) {
+                startHigh += 1L << (bits - Long.SIZE);
+            } else {
+                startLow += 1L << bits;
+                // The start is aligned, so the low address overflows to exactly 0
+                if (startLow == 0) {
+                    startHigh++;
+                }
+            }
+        }
+    }
+
+    private static int ipv6AlignmentBits(long high, long low) {
+        if (low != 0) {
+            return Long.numberOfTrailingZeros(low);
+        }
+        return high != 0 ? Long.SIZE + Long.numberOfTrailingZeros(high) : IPV6_BITS;
+    }
+
+    /**
+     * Returns the number of bits of the largest block that fits in a number of addresses, given as that number - 1.
+     */
+    private static int ipv6SizeBits(long remainingHigh, long remainingLow) {
+        long countLow = remainingLow + 1;
+        long countHigh = countLow == 0 ? remainingHigh + 1 : remainingHigh;
+        if (countHigh != 0) {
+            return IPV6_BITS - 1 - Long.numberOfLeadingZeros(countHigh);
+        }
+        // A count of 0 means the count overflowed; it is the entire IPv6 address space
+        return countLow != 0 ? Long.SIZE - 1 - Long.numberOfLeadingZeros(countLow) : IPV6_BITS;
+    }
+
+    private static boolean isHostMask(long high, long low, int bits) {
+        if (bits >= Long.SIZE) {
+            return low == -1L && high == hostMask(bits - Long.SIZE);
+        }
+        return high == 0 && low == hostMask(bits);
+    }
+
+    private static long hostMask(int bits) {
+        return bits >= Long.SIZE ? -1L : (1L << bits) - 1;
+    }
+
+    private static int write(String address, int prefixLength, JsonGenerator gen) {
+        String text = address + "/" + prefixLength; //$NON-NLS-1$
+        gen.writeString(text);
+        return text.length();
+    }
+
+    private static int write(char[] buffer, int addressLength, int prefixLength, JsonGenerator gen) {
+        int length = IPAddressText.formatCIDR(buffer, addressLength, prefixLength);
+        gen.writeString(buffer, 0, length);
+        return length;
+    }
+
+    /**
+     * Reads CIDR blocks into a single range. Each block must start directly after the previous block.
+     *
+     * @author Rob Spoor
+     */
+    static final class Reader {
+
+        private final Class<?> addressType;
+
+        private int count = 0;
+        private boolean ipv6;
+
+        private long fromHigh;
+        private long fromLow;
+        private long toHigh;
+        private long toLow;
+
+        private final long[] address = new long[2];
+
+        /**
+         * Creates a new reader.
+         *
+         * @param addressType {@link IPv4Address}, {@link IPv6Address}, or {@link IPAddress} to allow both IP versions.
+         */
+        Reader(Class<?> addressType) {
+            this.addressType = addressType;
+        }
+
+        /**
+         * Adds a CIDR block.
+         *
+         * @throws IllegalArgumentException If the text is not a valid CIDR notation, or if the block does not start directly after the previous
+         *                                      block.
+         */
+        void add(char[] text, int start, int end) {
+            int slashIndex = indexOfSlash(text, start, end);
+            boolean isIPv6 = addressType == IPAddress.class
+                    ? IPAddressText.isIPv6(text, start, slashIndex)
+                    : addressType == IPv6Address.class;
+
+            int bits = isIPv6 ? IPV6_BITS : IPV4_BITS;
+            int prefixLength = parsePrefixLength(text, slashIndex + 1, end, bits);
+            if (slashIndex == end || prefixLength == -1) {
+                throw invalidCIDR(text, start, end);
+            }
+
+            long blockHigh;
+            long blockLow;
+            long hostMaskHigh;
+            long hostMaskLow;
+            if (isIPv6) {
+                IPAddressText.parseIPv6(text, start, slashIndex, address, 0);
+                blockHigh = address[0];
+                blockLow = address[1];
+                int hostBits = bits - prefixLength;
+                hostMaskHigh = hostBits > Long.SIZE ? hostMask(hostBits - Long.SIZE) : 0;
+                hostMaskLow = hostMask(hostBits);
+            } else {
+                blockHigh = 0;
+                blockLow = Integer.toUnsignedLong(IPAddressText.parseIPv4(text, start, slashIndex));
+                hostMaskHigh = 0;
+                hostMaskLow = hostMask(bits - prefixLength) & 0xFFFF_FFFFL;
+            }
+            if ((blockHigh & hostMaskHigh) != 0 || (blockLow & hostMaskLow) != 0) {
+                // The address has bits set outside the routing prefix
+                throw invalidCIDR(text, start, end);
+            }
+
+            if (count == 0) {
+                ipv6 = isIPv6;
+                fromHigh = blockHigh;
+                fromLow = blockLow;
+            } else if (!isNextAddress(isIPv6, blockHigh, blockLow)) {
+                throw new IllegalArgumentException(Messages.CIDRBlocks.notContiguous(new String(text, start, end - start)));
+            }
+            toHigh = blockHigh | hostMaskHigh;
+            toLow = blockLow | hostMaskLow;
+            count++;
+        }
+
+        private static int indexOfSlash(char[] text, int start, int end) {
+            for (int i = start; i < end; i++) {
+                if (text[i] == '/') {
+                    return i;
+                }
+            }
+            return end;
+        }
+
+        /**
+         * Parses a prefix length.
+         *
+         * @return The prefix length, or {@code -1} if the text is not a valid prefix length.
+         */
+        private static int parsePrefixLength(char[] text, int start, int end, int maxPrefixLength) {
+            // Allow at most 3 digits, to prevent overflow
+            if (start >= end || end - start > 3) {
+                return -1;
+            }
+            int prefixLength = 0;
+            for (int i = start; i < end; i++) {
+                int digit = text[i] - '0';
+                if (digit < 0 || digit > 9) {
+                    return -1;
+                }
+                prefixLength = prefixLength * 10 + digit;
+            }
+            return prefixLength <= maxPrefixLength ? prefixLength : -1;
+        }
+
+        private boolean isNextAddress(boolean isIPv6, long high, long low) {
+            if (isIPv6 != ipv6 || ipv6 && toHigh == -1L && toLow == -1L) {
+                // A different IP version, or the previous block ends at the last IPv6 address, which would overflow to the first address
+                return false;
+            }
+            // IPv4 addresses are unsigned values, so after the last IPv4 address this is 2^32, which does not match any IPv4 address
+            long nextLow = toLow + 1;
+            long nextHigh = nextLow == 0 ? toHigh + 1 : toHigh;
+            return high == nextHigh && low == nextLow;
+        }
+
+        private static IllegalArgumentException invalidCIDR(char[] text, int start, int end) {
+            return new IllegalArgumentException(Messages.CIDRBlocks.invalidCIDR(new String(text, start, end - start)));
+        }
+
+        /**
+         * Returns the range covered by all blocks. If the range is a subnet, a {@link com.github.robtimus.net.ip.Subnet Subnet} is returned.
+         *
+         * @throws IllegalArgumentException If no blocks were added.
+         */
+        IPRange<?> result() {
+            if (count == 0) {
+                throw new IllegalArgumentException(Messages.CIDRBlocks.empty());
+            }
+            return ipv6
+                    ? IPRangeSet.ipv6Range(fromHigh, fromLow, toHigh, toLow)
+                    : IPRangeSet.ipv4Range((int) fromLow, (int) toLow);
+        }
+    }
+}
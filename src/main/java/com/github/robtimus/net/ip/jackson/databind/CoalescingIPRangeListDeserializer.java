@@ -0,0 +1,222 @@
+/*
+ * CoalescingIPRangeListDeserializer.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.net.ip.jackson.databind;
+
+import java.util.ArrayList;
+import java.util.List;
+import com.github.robtimus.net.ip.IPRange;
+import com.github.robtimus.net.ip.IPv4Address;
+import com.github.robtimus.net.ip.IPv4Range;
+import com.github.robtimus.net.ip.IPv6Address;
+import com.github.robtimus.net.ip.IPv6Range;
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonParser;
+import tools.jackson.databind.DeserializationContext;
+import tools.jackson.databind.ValueDeserializer;
+
+/**
+ * Base class for all deserializers that read arrays of IP addresses as lists of IP ranges. Consecutive addresses are merged into a single range
+ * while the array is read, without creating an {@link IPv4Address} or {@link IPv6Address} per element. Elements can be strings or numbers.
+ * <p>
+ * The array should be sorted. Addresses that are already part of the current range are ignored, so sorted arrays with duplicates result in
+ * disjoint ranges in ascending order. Unsorted arrays result in more ranges, which may overlap.
+ * Ranges that are subnets are returned as {@link com.github.robtimus.net.ip.Subnet Subnet}.
+ * <p>
+ * These deserializers are not registered by {@link IPModule}, because lists of IP ranges are normally written as lists of ranges. Instead, use
+ * them for specific properties:
+ * <pre><code>
+ * &#64;JsonDeserialize(using = CoalescingIPRangeListDeserializer.IPv4.class)
+ * private List&lt;IPv4Range&gt; ranges;
+ * </code></pre>
+ *
+ * @author Rob Spoor
+ * @param <R> The type of IP range to deserialize.
+ */
+public abstract class CoalescingIPRangeListDeserializer<R extends IPRange<?>> extends ValueDeserializer<List<R>> {
+
+    private CoalescingIPRangeListDeserializer() {
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<R> deserialize(JsonParser p, DeserializationContext ctxt) throws JacksonException {
+        if (!p.isExpectedStartArrayToken()) {
+            return (List<R>) ctxt.handleUnexpectedToken(handledType(), p);
+        }
+        IPDeserializationEvent event = IPDeserializationEvent.start();
+        IPAddressCollector<List<R>> collector = collector();
+        try {
+            collector.readElements(p, ctxt);
+            List<R> result = collector.result();
+            event.commit(handledType(), collector.inputLength(), ctxt);
+            return result;
+        } catch (RuntimeException e) {
+            IPDeserializationFailedEvent.record(handledType(), collector.inputLength(), ctxt, e);
+            throw e;
+        }
+    }
+
+    abstract IPAddressCollector<List<R>> collector();
+
+    @Override
+    public Class<?> handledType() {
+        return List.class;
+    }
+
+    /**
+     * A deserializer for lists of {@link IPv4Range}. Numbers must be between {@code 0} and {@code 4294967295}, inclusive.
+     *
+     * @author Rob Spoor
+     */
+    public static class IPv4 extends CoalescingIPRangeListDeserializer<IPv4Range> {
+
+        /**
+         * Creates a new deserializer for lists of {@link IPv4Range}.
+         */
+        public IPv4() {
+            super();
+        }
+
+        @Override
+        IPAddressCollector<List<IPv4Range>> collector() {
+            return new IPAddressCollector.IPv4<>(new IPv4Coalescer());
+        }
+    }
+
+    /**
+     * A deserializer for lists of {@link IPv6Range}. Numbers must be between {@code 0} and {@code 2}<sup>{@code 128}</sup>{@code - 1}, inclusive.
+     *
+     * @author Rob Spoor
+     */
+    public static class IPv6 extends CoalescingIPRangeListDeserializer<IPv6Range> {
+
+        /**
+         * Creates a new deserializer for lists of {@link IPv6Range}.
+         */
+        public IPv6() {
+            super();
+        }
+
+        @Override
+        IPAddressCollector<List<IPv6Range>> collector() {
+            return new IPAddressCollector.IPv6<>(new IPv6Coalescer());
+        }
+    }
+
+    /**
+     * Merges consecutive IPv4 addresses into ranges. Only the boundaries of the current range are kept as primitives.
+     *
+     * @author Rob Spoor
+     */
+    static final class IPv4Coalescer implements IPAddressCollector.IPv4.Sink<List<IPv4Range>> {
+
+        private final List<IPv4Range> ranges = new ArrayList<>();
+
+        private boolean inRange = false;
+        private int from;
+        private int to;
+
+        @Override
+        public void add(int address) {
+            if (inRange) {
+                if (Integer.compareUnsigned(address, from) >= 0 && Integer.compareUnsigned(address, to) <= 0) {
+                    return;
+                }
+                // to + 1 overflows to 0 for the maximum address, which has no next address
+                if (address == to + 1 && address != 0) {
+                    to = address;
+                    return;
+                }
+                addRange();
+            }
+            from = address;
+            to = address;
+            inRange = true;
+        }
+
+        private void addRange() {
+            ranges.add(IPRangeSet.ipv4Range(from, to));
+        }
+
+        @Override
+        public List<IPv4Range> finish() {
+            if (inRange) {
+                addRange();
+                inRange = false;
+            }
+            return ranges;
+        }
+    }
+
+    /**
+     * Merges consecutive IPv6 addresses into ranges. Only the boundaries of the current range are kept as primitives.
+     *
+     * @author Rob Spoor
+     */
+    static final class IPv6Coalescer implements IPAddressCollector.IPv6.Sink<List<IPv6Range>> {
+
+        private final List<IPv6Range> ranges = new ArrayList<>();
+
+        private boolean inRange = false;
+        private long fromHigh;
+        private long fromLow;
+        private long toHigh;
+        private long toLow;
+
+        @Override
+        public void add(long highAddress, long lowAddress) {
+            if (inRange) {
+                if (IPAddressText.compareIPv6(highAddress, lowAddress, fromHigh, fromLow) >= 0
+                        && IPAddressText.compareIPv6(highAddress, lowAddress, toHigh, toLow) <= 0) {
+                    return;
+                }
+                if (isNext(highAddress, lowAddress)) {
+                    toHigh = highAddress;
+                    toLow = lowAddress;
+                    return;
+                }
+                addRange();
+            }
+            fromHigh = highAddress;
+            fromLow = lowAddress;
+            toHigh = highAddress;
+            toLow = lowAddress;
+            inRange = true;
+        }
+
+        private boolean isNext(long highAddress, long lowAddress) {
+            // The low address carries over into the high address; the maximum address has no next address
+            return toLow == -1L
+                    ? lowAddress == 0 && highAddress == toHigh + 1 && highAddress != 0
+                    : lowAddress == toLow + 1 && highAddress == toHigh;
+        }
+
+        private void addRange() {
+            ranges.add(IPRangeSet.ipv6Range(fromHigh, fromLow, toHigh, toLow));
+        }
+
+        @Override
+        public List<IPv6Range> finish() {
+            if (inRange) {
+                addRange();
+                inRange = false;
+            }
+            return ranges;
+        }
+    }
+}
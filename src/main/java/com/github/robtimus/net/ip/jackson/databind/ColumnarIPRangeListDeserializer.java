@@ -0,0 +1,218 @@
+/*
+ * ColumnarIPRangeListDeserializer.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.net.ip.jackson.databind;
+
+import static com.github.robtimus.net.ip.jackson.databind.IPRangeSerializer.FROM_FIELD_NAME;
+import static com.github.robtimus.net.ip.jackson.databind.IPRangeSerializer.TO_FIELD_NAME;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import com.github.robtimus.net.ip.IPAddress;
+import com.github.robtimus.net.ip.IPRange;
+import com.github.robtimus.net.ip.IPv4Address;
+import com.github.robtimus.net.ip.IPv6Address;
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.databind.DeserializationContext;
+import tools.jackson.databind.ValueDeserializer;
+import tools.jackson.databind.exc.UnrecognizedPropertyException;
+
+/**
+ * A deserializer for lists of IP ranges that are written as columns, as written by {@link ColumnarIPRangeListSerializer}. It reads an object with
+ * two arrays of strings of the same length, {@code from} and {@code to}, in any order. IPv4 and IPv6 ranges can be mixed.
+ * <p>
+ * The arrays are read in two sequential passes. The addresses of the first array are parsed into primitive values. While the second array is read,
+ * each address is combined with the address at the same index of the first array into a range. No {@link IPAddress} instances are created other
+ * than the boundaries of the resulting ranges. Ranges that are subnets are returned as {@link com.github.robtimus.net.ip.Subnet Subnet}.
+ * <p>
+ * This deserializer is not registered by {@link IPModule}. Instead, use it for specific properties, together with
+ * {@link ColumnarIPRangeListSerializer}.
+ *
+ * @author Rob Spoor
+ */
+public class ColumnarIPRangeListDeserializer extends ValueDeserializer<List<IPRange<?>>> {
+
+    /**
+     * Creates a new deserializer for lists of IP ranges.
+     */
+    public ColumnarIPRangeListDeserializer() {
+        super();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<IPRange<?>> deserialize(JsonParser p, DeserializationContext ctxt) throws JacksonException {
+        // When a type id is included as property, the parser is positioned after it, at the next property or the end of the object
+        if (!p.hasToken(JsonToken.START_OBJECT) && !p.hasToken(JsonToken.PROPERTY_NAME) && !p.hasToken(JsonToken.END_OBJECT)) {
+            return (List<IPRange<?>>) ctxt.handleUnexpectedToken(handledType(), p);
+        }
+
+        IPDeserializationEvent event = IPDeserializationEvent.start();
+        Columns columns = new Columns();
+        try {
+            JsonToken token = p.hasToken(JsonToken.START_OBJECT) ? p.nextToken() : p.currentToken();
+            while (token == JsonToken.PROPERTY_NAME) {
+                String fieldName = p.currentName();
+                if (!FROM_FIELD_NAME.equals(fieldName) && !TO_FIELD_NAME.equals(fieldName)) {
+                    throw UnrecognizedPropertyException.from(p, handledType(), fieldName, Arrays.asList(FROM_FIELD_NAME, TO_FIELD_NAME));
+                }
+                p.nextToken();
+                if (!p.isExpectedStartArrayToken()) {
+                    throw ctxt.wrongTokenException(p, handledType(), JsonToken.START_ARRAY, null);
+                }
+                columns.readColumn(fieldName, p, ctxt);
+                token = p.nextToken();
+            }
+            List<IPRange<?>> result = columns.result();
+            event.commit(handledType(), columns.inputLength(), ctxt);
+            return result;
+        } catch (RuntimeException e) {
+            IPDeserializationFailedEvent.record(handledType(), columns.inputLength(), ctxt, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public Class<?> handledType() {
+        return List.class;
+    }
+
+    /**
+     * The state of a single deserialization.
+     *
+     * @author Rob Spoor
+     */
+    private static final class Columns {
+
+        private static final int INITIAL_CAPACITY = 16;
+
+        // The addresses of the first column as high and low values, interleaved; IPv4 addresses are stored as low value only
+        private long[] addresses = new long[2 * INITIAL_CAPACITY];
+        private final BitSet ipv6 = new BitSet();
+        private int size = 0;
+        private String firstFieldName;
+
+        private List<IPRange<?>> ranges;
+
+        // The address that was last parsed, as high and low values
+        private final long[] address = new long[2];
+
+        private long inputLength = 0;
+
+        private void readColumn(String fieldName, JsonParser p, DeserializationContext ctxt) {
+            if (fieldName.equals(firstFieldName) || ranges != null) {
+                throw new IllegalStateException(Messages.ColumnarIPRangeList.duplicateProperty(fieldName));
+            }
+            if (firstFieldName == null) {
+                readFirstColumn(p, ctxt);
+                firstFieldName = fieldName;
+            } else {
+                readSecondColumn(p, ctxt, FROM_FIELD_NAME.equals(firstFieldName));
+            }
+        }
+
+        private void readFirstColumn(JsonParser p, DeserializationContext ctxt) {
+            while (p.nextToken() != JsonToken.END_ARRAY) {
+                boolean isIPv6 = parseAddress(p, ctxt);
+                if (2 * size == addresses.length) {
+                    addresses = Arrays.copyOf(addresses, 4 * size);
+                }
+                addresses[2 * size] = address[0];
+                addresses[2 * size + 1] = address[1];
+                ipv6.set(size, isIPv6);
+                size++;
+            }
+        }
+
+        private void readSecondColumn(JsonParser p, DeserializationContext ctxt, boolean firstIsFrom) {
+            ranges = new ArrayList<>(size);
+            int count = 0;
+            while (p.nextToken() != JsonToken.END_ARRAY) {
+                boolean isIPv6 = parseAddress(p, ctxt);
+                // Continue reading if the second column is longer, so the actual length can be reported
+                if (count < size) {
+                    ranges.add(firstIsFrom
+                            ? range(ipv6.get(count), addresses[2 * count], addresses[2 * count + 1], isIPv6, address[0], address[1])
+                            : range(isIPv6, address[0], address[1], ipv6.get(count), addresses[2 * count], addresses[2 * count + 1]));
+                }
+                count++;
+            }
+            if (count != size) {
+                throw new IllegalArgumentException(firstIsFrom
+                        ? Messages.ColumnarIPRangeList.lengthMismatch(size, count)
+                        : Messages.ColumnarIPRangeList.lengthMismatch(count, size));
+            }
+        }
+
+        /**
+         * Parses the current string into {@link #address}.
+         *
+         * @return {@code true} if the address is an IPv6 address, or {@code false} if it is an IPv4 address.
+         */
+        private boolean parseAddress(JsonParser p, DeserializationContext ctxt) {
+            if (!p.hasToken(JsonToken.VALUE_STRING)) {
+                throw ctxt.wrongTokenException(p, IPAddress.class, JsonToken.VALUE_STRING, null);
+            }
+            char[] text = p.getStringCharacters();
+            int start = p.getStringOffset();
+            int end = start + p.getStringLength();
+            inputLength += end - start;
+            if (IPAddressText.isIPv6(text, start, end)) {
+                IPAddressText.parseIPv6(text, start, end, address, 0);
+                return true;
+            }
+            address[0] = 0;
+            address[1] = IPAddressText.parseIPv4(text, start, end);
+            return false;
+        }
+
+        private static IPRange<?> range(boolean fromIPv6, long fromHigh, long fromLow, boolean toIPv6, long toHigh, long toLow) {
+            if (fromIPv6 != toIPv6) {
+                throw new IllegalArgumentException(Messages.IPRange.incompatibleToAndFrom(
+                        address(fromIPv6, fromHigh, fromLow), address(toIPv6, toHigh, toLow)));
+            }
+            return fromIPv6
+                    ? IPRangeSet.ipv6Range(fromHigh, fromLow, toHigh, toLow)
+                    : IPRangeSet.ipv4Range((int) fromLow, (int) toLow);
+        }
+
+        private static IPAddress<?> address(boolean isIPv6, long high, long low) {
+            return isIPv6
+                    ? IPv6Address.valueOf(high, low)
+                    : IPv4Address.valueOf((int) low);
+        }
+
+        private List<IPRange<?>> result() {
+            if (firstFieldName == null) {
+                throw new IllegalStateException(Messages.IPRange.missingProperty(FROM_FIELD_NAME));
+            }
+            if (ranges == null) {
+                throw new IllegalStateException(Messages.IPRange.missingProperty(FROM_FIELD_NAME.equals(firstFieldName)
+                        ? TO_FIELD_NAME
+                        : FROM_FIELD_NAME));
+            }
+            return ranges;
+        }
+
+        private int inputLength() {
+            return (int) Math.min(inputLength, Integer.MAX_VALUE);
+        }
+    }
+}
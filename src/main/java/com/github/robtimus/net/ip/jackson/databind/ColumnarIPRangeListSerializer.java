@@ -0,0 +1,127 @@
+/*
+ * ColumnarIPRangeListSerializer.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.net.ip.jackson.databind;
+
+import static com.github.robtimus.net.ip.jackson.databind.IPRangeSerializer.FROM_FIELD_NAME;
+import static com.github.robtimus.net.ip.jackson.databind.IPRangeSerializer.TO_FIELD_NAME;
+import java.util.Collection;
+import com.github.robtimus.net.ip.IPAddress;
+import com.github.robtimus.net.ip.IPRange;
+import com.github.robtimus.net.ip.IPv4Address;
+import com.github.robtimus.net.ip.IPv6Address;
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.JsonToken;
+import tools.jackson.core.type.WritableTypeId;
+import tools.jackson.databind.SerializationContext;
+import tools.jackson.databind.ValueSerializer;
+import tools.jackson.databind.jsontype.TypeSerializer;
+
+/**
+ * A serializer for collections of IP ranges that writes the ranges as columns. It writes an object with two arrays of the same length:
+ * {@code from} with the from addresses of all ranges, and {@code to} with the to addresses of all ranges, in the order of the collection.
+ * The property names are therefore written only once, instead of once per range, and each column contains only similar values, which compresses
+ * well. The addresses are formatted directly from their primitive values. IPv4 and IPv6 ranges can be mixed.
+ * <p>
+ * This serializer is not registered by {@link IPModule}, because it changes the format of collections of IP ranges. Instead, use it for specific
+ * properties, together with {@link ColumnarIPRangeListDeserializer}:
+ * <pre><code>
+ * &#64;JsonSerialize(using = ColumnarIPRangeListSerializer.class)
+ * &#64;JsonDeserialize(using = ColumnarIPRangeListDeserializer.class)
+ * private List&lt;IPRange&lt;?&gt;&gt; ranges;
+ * </code></pre>
+ *
+ * @author Rob Spoor
+ */
+public class ColumnarIPRangeListSerializer extends ValueSerializer<Collection<? extends IPRange<?>>> {
+
+    /**
+     * Creates a new serializer for collections of IP ranges.
+     */
+    public ColumnarIPRangeListSerializer() {
+        super();
+    }
+
+    @Override
+    public void serialize(Collection<? extends IPRange<?>> value, JsonGenerator gen, SerializationContext ctxt) throws JacksonException {
+        IPSerializationEvent event = IPSerializationEvent.start();
+        gen.writeStartObject(value);
+        int length = writeColumns(value, gen);
+        gen.writeEndObject();
+        event.commit(handledType(), length, ctxt);
+    }
+
+    @Override
+    public void serializeWithType(Collection<? extends IPRange<?>> value, JsonGenerator gen, SerializationContext ctxt, TypeSerializer typeSer)
+            throws JacksonException {
+
+        IPSerializationEvent event = IPSerializationEvent.start();
+        WritableTypeId typeIdDef = typeSer.writeTypePrefix(gen, ctxt, typeSer.typeId(value, JsonToken.START_OBJECT));
+        int length = writeColumns(value, gen);
+        typeSer.writeTypeSuffix(gen, ctxt, typeIdDef);
+        event.commit(handledType(), length, ctxt);
+    }
+
+    /**
+     * Writes the from and to columns.
+     *
+     * @return The total number of characters written for all addresses, capped at {@link Integer#MAX_VALUE} for very large collections.
+     */
+    private int writeColumns(Collection<? extends IPRange<?>> value, JsonGenerator gen) {
+        char[] buffer = new char[IPAddressText.MAX_IPV6_LENGTH];
+        long length = 0;
+
+        gen.writeName(FROM_FIELD_NAME);
+        gen.writeStartArray(value, value.size());
+        for (IPRange<?> range : value) {
+            length += writeAddress(range.from(), buffer, gen);
+        }
+        gen.writeEndArray();
+
+        gen.writeName(TO_FIELD_NAME);
+        gen.writeStartArray(value, value.size());
+        for (IPRange<?> range : value) {
+            length += writeAddress(range.to(), buffer, gen);
+        }
+        gen.writeEndArray();
+
+        return (int) Math.min(length, Integer.MAX_VALUE);
+    }
+
+    private int writeAddress(IPAddress<?> address, char[] buffer, JsonGenerator gen) {
+        int count;
+        if (address instanceof IPv4Address ipv4Address) {
+            count = IPAddressText.formatIPv4(ipv4Address.toInt(), buffer);
+        } else {
+            IPv6Address ipv6Address = (IPv6Address) address;
+            count = IPAddressText.formatIPv6(ipv6Address.highAddress(), ipv6Address.lowAddress(), buffer);
+        }
+        gen.writeString(buffer, 0, count);
+        return count;
+    }
+
+    @Override
+    public boolean isEmpty(SerializationContext ctxt, Collection<? extends IPRange<?>> value) {
+        return value.isEmpty();
+    }
+
+    @Override
+    public Class<?> handledType() {
+        return Collection.class;
+    }
+}
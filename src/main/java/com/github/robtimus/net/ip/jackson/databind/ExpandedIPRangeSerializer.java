@@ -0,0 +1,173 @@
+/*
+ * ExpandedIPRangeSerializer.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.net.ip.jackson.databind;
+
+import com.github.robtimus.net.ip.IPRange;
+import com.github.robtimus.net.ip.IPv4Address;
+import com.github.robtimus.net.ip.IPv6Address;
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.JsonToken;
+import tools.jackson.core.type.WritableTypeId;
+import tools.jackson.databind.SerializationContext;
+import tools.jackson.databind.ValueSerializer;
+import tools.jackson.databind.jsontype.TypeSerializer;
+
+/**
+ * A serializer for IP ranges and subnets that writes all addresses in the range as an array. The addresses are formatted one at a time directly
+ * from their primitive values and written to the generator, so no collection of addresses is created, and no {@link IPv4Address} or
+ * {@link IPv6Address} per address.
+ * <p>
+ * Because a single range can contain billions of addresses, the number of addresses is limited. Ranges that contain more addresses cause an
+ * {@link IllegalArgumentException} before anything is written. The default maximum is {@value #DEFAULT_MAX_SIZE}, the size of an IPv4 /16 subnet.
+ * <p>
+ * This serializer is not registered by {@link IPModule}, because it changes the format of IP ranges. Instead, use it for specific properties:
+ * <pre><code>
+ * &#64;JsonSerialize(using = ExpandedIPRangeSerializer.class)
+ * private IPv4Subnet subnet;
+ * </code></pre>
+ * To use a different maximum, create a sub class with a public no-argument constructor that calls {@link #ExpandedIPRangeSerializer(long)}, and use
+ * that sub class instead.
+ *
+ * @author Rob Spoor
+ */
+public class ExpandedIPRangeSerializer extends ValueSerializer<IPRange<?>> {
+
+    /** The default maximum number of addresses that a range can contain. */
+    public static final long DEFAULT_MAX_SIZE = 65_536;
+
+    private final long maxSize;
+
+    /**
+     * Creates a new serializer for IP ranges with the {@link #DEFAULT_MAX_SIZE default maximum size}.
+     */
+    public ExpandedIPRangeSerializer() {
+        this(DEFAULT_MAX_SIZE);
+    }
+
+    /**
+     * Creates a new serializer for IP ranges.
+     *
+     * @param maxSize The maximum number of addresses that a range can contain.
+     * @throws IllegalArgumentException If the given maximum size is not positive.
+     */
+    public ExpandedIPRangeSerializer(long maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException(Messages.ExpandedIPRange.invalidMaxSize(maxSize));
+        }
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Returns the maximum number of addresses that a range can contain.
+     *
+     * @return The maximum number of addresses that a range can contain.
+     */
+    public long maxSize() {
+        return maxSize;
+    }
+
+    @Override
+    public void serialize(IPRange<?> value, JsonGenerator gen, SerializationContext ctxt) throws JacksonException {
+        IPSerializationEvent event = IPSerializationEvent.start();
+        long size = checkSize(value);
+        gen.writeStartArray(value, (int) Math.min(size, Integer.MAX_VALUE));
+        int length = writeAddresses(value, size, gen);
+        gen.writeEndArray();
+        event.commit(handledType(), length, ctxt);
+    }
+
+    @Override
+    public void serializeWithType(IPRange<?> value, JsonGenerator gen, SerializationContext ctxt, TypeSerializer typeSer) throws JacksonException {
+        IPSerializationEvent event = IPSerializationEvent.start();
+        long size = checkSize(value);
+        WritableTypeId typeIdDef = typeSer.writeTypePrefix(gen, ctxt, typeSer.typeId(value, JsonToken.START_ARRAY));
+        int length = writeAddresses(value, size, gen);
+        typeSer.writeTypeSuffix(gen, ctxt, typeIdDef);
+        event.commit(handledType(), length, ctxt);
+    }
+
+    /**
+     * Returns the number of addresses in a range.
+     *
+     * @throws IllegalArgumentException If the range contains more than {@link #maxSize} addresses.
+     */
+    private long checkSize(IPRange<?> value) {
+        if (value.from() instanceof IPv4Address from) {
+            long size = Integer.toUnsignedLong(((IPv4Address) value.to()).toInt()) - Integer.toUnsignedLong(from.toInt()) + 1;
+            if (size > maxSize) {
+                throw tooLarge(value);
+            }
+            return size;
+        }
+        IPv6Address from = (IPv6Address) value.from();
+        IPv6Address to = (IPv6Address) value.to();
+        // The borrow is 1 if the low to address is smaller than the low from address
+        long borrow = Long.compareUnsigned(to.lowAddress(), from.lowAddress()) < 0 ? 1 : 0;
+        long highDifference = to.highAddress() - from.highAddress() - borrow;
+        long lowDifference = to.lowAddress() - from.lowAddress();
+        // The size is the difference plus 1, so it is too large if the difference is at least the maximum size
+        if (highDifference != 0 || Long.compareUnsigned(lowDifference, maxSize) >= 0) {
+            throw tooLarge(value);
+        }
+        return lowDifference + 1;
+    }
+
+    private IllegalArgumentException tooLarge(IPRange<?> value) {
+        return new IllegalArgumentException(Messages.ExpandedIPRange.tooLarge(value, maxSize));
+    }
+
+    /**
+     * Writes all addresses of a range.
+     *
+     * @return The total number of characters written for all addresses, capped at {@link Integer#MAX_VALUE} for very large ranges.
+     */
+    private int writeAddresses(IPRange<?> value, long size, JsonGenerator gen) {
+        char[] buffer = new char[IPAddressText.MAX_IPV6_LENGTH];
+        long length = 0;
+
+        if (value.from() instanceof IPv4Address from) {
+            int address = from.toInt();
+            for (long i = 0; i < size; i++, address++) {
+                int count = IPAddressText.formatIPv4(address, buffer);
+                gen.writeString(buffer, 0, count);
+                length += count;
+            }
+        } else {
+            IPv6Address from = (IPv6Address) value.from();
+            long highAddress = from.highAddress();
+            long lowAddress = from.lowAddress();
+            for (long i = 0; i < size; i++) {
+                int count = IPAddressText.formatIPv6(highAddress, lowAddress, buffer);
+                gen.writeString(buffer, 0, count);
+                length += count;
+                lowAddress++;
+                if (lowAddress == 0) {
+                    highAddress++;
+                }
+            }
+        }
+
+        return (int) Math.min(length, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public Class<?> handledType() {
+        return IPRange.class;
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * IPAddressArrayDeserializer.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.net.ip.jackson.databind;
+
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonParser;
+import tools.jackson.databind.DeserializationContext;
+import tools.jackson.databind.ValueDeserializer;
+
+/**
+ * Base class for all deserializers for packed arrays of IP addresses. These deserializers read arrays of strings or numbers, parsing the addresses
+ * directly into their primitive values.
+ *
+ * @author Rob Spoor
+ * @param <A> The type of array to deserialize.
+ */
+public abstract class IPAddressArrayDeserializer<A> extends ValueDeserializer<A> {
+
+    private IPAddressArrayDeserializer() {
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public A deserialize(JsonParser p, DeserializationContext ctxt) throws JacksonException {
+        if (!p.isExpectedStartArrayToken()) {
+            return (A) ctxt.handleUnexpectedToken(handledType(), p);
+        }
+
+        IPDeserializationEvent event = IPDeserializationEvent.start();
+        IPAddressCollector<A> collector = collector();
+        try {
+            collector.readElements(p, ctxt);
+            A result = collector.result();
+            event.commit(handledType(), collector.inputLength(), ctxt);
+            return result;
+        } catch (RuntimeException e) {
+            IPDeserializationFailedEvent.record(handledType(), collector.inputLength(), ctxt, e);
+            throw e;
+        }
+    }
+
+    abstract IPAddressCollector<A> collector();
+
+    @Override
+    public abstract Class<?> handledType();
+
+    /**
+     * A deserializer for {@link IPv4AddressArray}. Numbers must be between {@code 0} and {@code 4294967295}, inclusive.
+     *
+     * @author Rob Spoor
+     */
+    public static class IPv4 extends IPAddressArrayDeserializer<IPv4AddressArray> {
+
+        static final IPv4 INSTANCE = new IPv4();
+
+        /**
+         * Creates a new {@link IPv4AddressArray} deserializer.
+         */
+        public IPv4() {
+            super();
+        }
+
+        @Override
+        IPAddressCollector<IPv4AddressArray> collector() {
+            return new IPAddressCollector.IPv4<>(IPv4AddressArray::wrap);
+        }
+
+        @Override
+        public Class<?> handledType() {
+            return IPv4AddressArray.class;
+        }
+    }
+
+    /**
+     * A deserializer for {@link IPv6AddressArray}. Numbers must be between {@code 0} and {@code 2}<sup>{@code 128}</sup>{@code - 1}, inclusive.
+     *
+     * @author Rob Spoor
+     */
+    public static class IPv6 extends IPAddressArrayDeserializer<IPv6AddressArray> {
+
+        static final IPv6 INSTANCE = new IPv6();
+
+        /**
+         * Creates a new {@link IPv6AddressArray} deserializer.
+         */
+        public IPv6() {
+            super();
+        }
+
+        @Override
+        IPAddressCollector<IPv6AddressArray> collector() {
+            return new IPAddressCollector.IPv6<>(IPv6AddressArray::wrap);
+        }
+
+        @Override
+        public Class<?> handledType() {
+            return IPv6AddressArray.class;
+        }
+    }
+}
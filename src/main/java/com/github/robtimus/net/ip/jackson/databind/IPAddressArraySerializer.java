@@ -0,0 +1,154 @@
+/*
+ * IPAddressArraySerializer.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.net.ip.jackson.databind;
+
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.JsonToken;
+import tools.jackson.core.type.WritableTypeId;
+import tools.jackson.databind.SerializationContext;
+import tools.jackson.databind.ValueSerializer;
+import tools.jackson.databind.jsontype.TypeSerializer;
+
+/**
+ * Base class for all serializers for packed arrays of IP addresses. These serializers write arrays of strings, formatting the addresses directly
+ * from their primitive values.
+ *
+ * @author Rob Spoor
+ * @param <A> The type of array to serialize.
+ */
+public abstract class IPAddressArraySerializer<A> extends ValueSerializer<A> {
+
+    private IPAddressArraySerializer() {
+    }
+
+    @Override
+    @SuppressWarnings("resource")
+    public void serialize(A value, JsonGenerator gen, SerializationContext ctxt) throws JacksonException {
+        IPSerializationEvent event = IPSerializationEvent.start();
+        gen.writeStartArray(value, size(value));
+        int length = writeElements(value, gen);
+        gen.writeEndArray();
+        event.commit(handledType(), length, ctxt);
+    }
+
+    @Override
+    public void serializeWithType(A value, JsonGenerator gen, SerializationContext ctxt, TypeSerializer typeSer) throws JacksonException {
+        IPSerializationEvent event = IPSerializationEvent.start();
+        WritableTypeId typeIdDef = typeSer.writeTypePrefix(gen, ctxt, typeSer.typeId(value, JsonToken.START_ARRAY));
+        int length = writeElements(value, gen);
+        typeSer.writeTypeSuffix(gen, ctxt, typeIdDef);
+        event.commit(handledType(), length, ctxt);
+    }
+
+    @Override
+    public boolean isEmpty(SerializationContext ctxt, A value) {
+        return size(value) == 0;
+    }
+
+    abstract int size(A value);
+
+    /**
+     * Writes the elements of an array.
+     *
+     * @return The total number of characters written for all elements.
+     */
+    abstract int writeElements(A value, JsonGenerator gen);
+
+    @Override
+    public abstract Class<A> handledType();
+
+    /**
+     * A serializer for {@link IPv4AddressArray}.
+     *
+     * @author Rob Spoor
+     */
+    public static class IPv4 extends IPAddressArraySerializer<IPv4AddressArray> {
+
+        static final IPv4 INSTANCE = new IPv4();
+
+        /**
+         * Creates a new {@link IPv4AddressArray} serializer.
+         */
+        public IPv4() {
+            super();
+        }
+
+        @Override
+        int size(IPv4AddressArray value) {
+            return value.size();
+        }
+
+        @Override
+        int writeElements(IPv4AddressArray value, JsonGenerator gen) {
+            char[] buffer = new char[IPAddressText.MAX_IPV4_LENGTH];
+            int length = 0;
+            for (int address : value.addresses()) {
+                int count = IPAddressText.formatIPv4(address, buffer);
+                gen.writeString(buffer, 0, count);
+                length += count;
+            }
+            return length;
+        }
+
+        @Override
+        public Class<IPv4AddressArray> handledType() {
+            return IPv4AddressArray.class;
+        }
+    }
+
+    /**
+     * A serializer for {@link IPv6AddressArray}. Addresses are written in the short form defined by RFC 5952.
+     *
+     * @author Rob Spoor
+     */
+    public static class IPv6 extends IPAddressArraySerializer<IPv6AddressArray> {
+
+        static final IPv6 INSTANCE = new IPv6();
+
+        /**
+         * Creates a new {@link IPv6AddressArray} serializer.
+         */
+        public IPv6() {
+            super();
+        }
+
+        @Override
+        int size(IPv6AddressArray value) {
+            return value.size();
+        }
+
+        @Override
+        int writeElements(IPv6AddressArray value, JsonGenerator gen) {
+            char[] buffer = new char[IPAddressText.MAX_IPV6_LENGTH];
+            long[] addresses = value.addresses();
+            int length = 0;
+            for (int i = 0; i < addresses.length; i += 2) {
+                int count = IPAddressText.formatIPv6(addresses[i], addresses[i + 1], buffer);
+                gen.writeString(buffer, 0, count);
+                length += count;
+            }
+            return length;
+        }
+
+        @Override
+        public Class<IPv6AddressArray> handledType() {
+            return IPv6AddressArray.class;
+        }
+    }
+}
@@ -0,0 +1,310 @@
+/*
+ * IPAddressCollector.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.net.ip.jackson.databind;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import com.github.robtimus.net.ip.IPv4Address;
+import com.github.robtimus.net.ip.IPv6Address;
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonParser.NumberType;
+import tools.jackson.core.JsonToken;
+import tools.jackson.databind.DeserializationContext;
+
+/**
+ * Collects the elements of an array of IP addresses as primitives, without creating {@link IPv4Address} or {@link IPv6Address} instances.
+ * Elements can be strings or numbers.
+ *
+ * @author Rob Spoor
+ * @param <R> The type of result.
+ */
+abstract class IPAddressCollector<R> {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private long inputLength = 0;
+
+    /**
+     * Reads all elements of an array. The parser must be positioned at the start of the array; afterwards it is positioned at the end.
+     */
+    final void readElements(JsonParser p, DeserializationContext ctxt) throws JacksonException {
+        JsonToken token;
+        while ((token = p.nextToken()) != JsonToken.END_ARRAY) {
+            if (token == JsonToken.VALUE_STRING) {
+                int offset = p.getStringOffset();
+                int length = p.getStringLength();
+                add(p.getStringCharacters(), offset, offset + length);
+                inputLength += length;
+            } else if (token == JsonToken.VALUE_NUMBER_INT) {
+                add(p);
+                inputLength += p.getStringLength();
+            } else {
+                throw ctxt.wrongTokenException(p, elementType(), JsonToken.VALUE_STRING, null);
+            }
+        }
+    }
+
+    /**
+     * Returns the number of characters of the elements read so far, capped at {@link Integer#MAX_VALUE} for very large arrays.
+     */
+    final int inputLength() {
+        return (int) Math.min(inputLength, Integer.MAX_VALUE);
+    }
+
+    abstract void add(char[] text, int start, int end);
+
+    abstract void add(JsonParser p);
+
+    abstract Class<?> elementType();
+
+    abstract R result();
+
+    private static IllegalArgumentException numberOutOfRange(Class<?> elementType, JsonParser p) {
+        return new IllegalArgumentException(Messages.IPAddressArray.numberOutOfRange(elementType.getSimpleName(), p.getString()));
+    }
+
+    /**
+     * A collector for IPv4 addresses. Numbers must be between {@code 0} and {@code 4294967295}, inclusive.
+     *
+     * @author Rob Spoor
+     * @param <R> The type of result.
+     */
+    static final class IPv4<R> extends IPAddressCollector<R> {
+
+        private static final long MAX_VALUE = 0xFFFF_FFFFL;
+
+        private final Sink<R> sink;
+
+        IPv4(Finisher<R> finisher) {
+            this(new ArraySink<>(finisher));
+        }
+
+        IPv4(Sink<R> sink) {
+            this.sink = sink;
+        }
+
+        @Override
+        void add(char[] text, int start, int end) {
+            sink.add(IPAddressText.parseIPv4(text, start, end));
+        }
+
+        @Override
+        void add(JsonParser p) {
+            long value = p.getNumberType() == NumberType.BIG_INTEGER ? -1 : p.getLongValue();
+            if (value < 0 || value > MAX_VALUE) {
+                throw numberOutOfRange(IPv4Address.class, p);
+            }
+            sink.add((int) value);
+        }
+
+        @Override
+        Class<?> elementType() {
+            return IPv4Address.class;
+        }
+
+        @Override
+        R result() {
+            return sink.finish();
+        }
+
+        /**
+         * Stores the addresses of an {@link IPv4} collector, and creates its result.
+         *
+         * @author Rob Spoor
+         * @param <R> The type of result.
+         */
+        interface Sink<R> {
+
+            /**
+             * Stores an address.
+             *
+             * @param address The address to store, as returned by {@link IPv4Address#toInt()}.
+             */
+            void add(int address);
+
+            /**
+             * Creates a result from the stored addresses.
+             *
+             * @return The created result.
+             */
+            R finish();
+        }
+
+        /**
+         * Creates the result of an {@link IPv4} collector that stores its addresses in an array.
+         *
+         * @author Rob Spoor
+         * @param <R> The type of result.
+         */
+        interface Finisher<R> {
+
+            /**
+             * Creates a result.
+             *
+             * @param addresses The collected addresses. Only the first {@code size} elements are used; the array may be reused.
+             * @param size The number of collected addresses.
+             * @return The created result.
+             */
+            R finish(int[] addresses, int size);
+        }
+
+        private static final class ArraySink<R> implements Sink<R> {
+
+            private final Finisher<R> finisher;
+
+            private int[] addresses = new int[INITIAL_CAPACITY];
+            private int size = 0;
+
+            private ArraySink(Finisher<R> finisher) {
+                this.finisher = finisher;
+            }
+
+            @Override
+            public void add(int address) {
+                if (size == addresses.length) {
+                    addresses = Arrays.copyOf(addresses, size * 2);
+                }
+                addresses[size++] = address;
+            }
+
+            @Override
+            public R finish() {
+                return finisher.finish(addresses, size);
+            }
+        }
+    }
+
+    /**
+     * A collector for IPv6 addresses. Numbers must be between {@code 0} and {@code 2}<sup>{@code 128}</sup>{@code - 1}, inclusive.
+     *
+     * @author Rob Spoor
+     * @param <R> The type of result.
+     */
+    static final class IPv6<R> extends IPAddressCollector<R> {
+
+        private static final int MAX_BIT_LENGTH = 128;
+
+        private final Sink<R> sink;
+
+        private final long[] address = new long[2];
+
+        IPv6(Finisher<R> finisher) {
+            this(new ArraySink<>(finisher));
+        }
+
+        IPv6(Sink<R> sink) {
+            this.sink = sink;
+        }
+
+        @Override
+        void add(char[] text, int start, int end) {
+            IPAddressText.parseIPv6(text, start, end, address, 0);
+            sink.add(address[0], address[1]);
+        }
+
+        @Override
+        void add(JsonParser p) {
+            BigInteger value = p.getBigIntegerValue();
+            if (value.signum() < 0 || value.bitLength() > MAX_BIT_LENGTH) {
+                throw numberOutOfRange(IPv6Address.class, p);
+            }
+            sink.add(value.shiftRight(Long.SIZE).longValue(), value.longValue());
+        }
+
+        @Override
+        Class<?> elementType() {
+            return IPv6Address.class;
+        }
+
+        @Override
+        R result() {
+            return sink.finish();
+        }
+
+        /**
+         * Stores the addresses of an {@link IPv6} collector, and creates its result.
+         *
+         * @author Rob Spoor
+         * @param <R> The type of result.
+         */
+        interface Sink<R> {
+
+            /**
+             * Stores an address.
+             *
+             * @param highAddress The high 64 bits of the address to store, as returned by {@link IPv6Address#highAddress()}.
+             * @param lowAddress The low 64 bits of the address to store, as returned by {@link IPv6Address#lowAddress()}.
+             */
+            void add(long highAddress, long lowAddress);
+
+            /**
+             * Creates a result from the stored addresses.
+             *
+             * @return The created result.
+             */
+            R finish();
+        }
+
+        /**
+         * Creates the result of an {@link IPv6} collector that stores its addresses in an array.
+         *
+         * @author Rob Spoor
+         * @param <R> The type of result.
+         */
+        interface Finisher<R> {
+
+            /**
+             * Creates a result.
+             *
+             * @param addresses The collected high and low addresses, interleaved. Only the first {@code 2 * size} elements are used; the array may
+             *                      be reused.
+             * @param size The number of collected addresses.
+             * @return The created result.
+             */
+            R finish(long[] addresses, int size);
+        }
+
+        private static final class ArraySink<R> implements Sink<R> {
+
+            private final Finisher<R> finisher;
+
+            // high and low addresses, interleaved
+            private long[] addresses = new long[2 * INITIAL_CAPACITY];
+            private int length = 0;
+
+            private ArraySink(Finisher<R> finisher) {
+                this.finisher = finisher;
+            }
+
+            @Override
+            public void add(long highAddress, long lowAddress) {
+                if (length == addresses.length) {
+                    addresses = Arrays.copyOf(addresses, length * 2);
+                }
+                addresses[length++] = highAddress;
+                addresses[length++] = lowAddress;
+            }
+
+            @Override
+            public R finish() {
+                return finisher.finish(addresses, length / 2);
+            }
+        }
+    }
+}
@@ -22,10 +22,12 @@ import com.github.robtimus.net.ip.IPv4Address;
 import com.github.robtimus.net.ip.IPv6Address;
 import tools.jackson.core.JacksonException;
 import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
 import tools.jackson.databind.BeanProperty;
 import tools.jackson.databind.DeserializationContext;
 import tools.jackson.databind.JavaType;
 import tools.jackson.databind.ValueDeserializer;
+import tools.jackson.databind.jsontype.TypeDeserializer;
 
 /**
  * Base class for all deserializers for {@link IPAddress} and sub classes.
@@ -40,7 +42,24 @@ public abstract class IPAddressDeserializer<I extends IPAddress<?>> extends Valu
 
     @Override
     public I deserialize(JsonParser p, DeserializationContext ctxt) throws JacksonException {
-        return deserialize(p.getString());
+        String value = p.getString();
+        IPDeserializationEvent event = IPDeserializationEvent.start();
+        try {
+            I result = deserialize(value);
+            event.commit(handledType(), value.length(), ctxt);
+            return result;
+        } catch (RuntimeException e) {
+            IPDeserializationFailedEvent.record(handledType(), value.length(), ctxt, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public Object deserializeWithType(JsonParser p, DeserializationContext ctxt, TypeDeserializer typeDeserializer) throws JacksonException {
+        // The IP version is implied by the text, so strings without type id are accepted as well
+        return p.hasToken(JsonToken.VALUE_STRING)
+                ? deserialize(p, ctxt)
+                : typeDeserializer.deserializeTypedFromAny(p, ctxt);
     }
 
     abstract I deserialize(String value);
@@ -0,0 +1,237 @@
+/*
+ * IPAddressFilterDeserializer.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.net.ip.jackson.databind;
+
+import static com.github.robtimus.net.ip.jackson.databind.IPAddressFilterSerializer.ADDRESS_COUNT_FIELD_NAME;
+import static com.github.robtimus.net.ip.jackson.databind.IPAddressFilterSerializer.BITS_FIELD_NAME;
+import static com.github.robtimus.net.ip.jackson.databind.IPAddressFilterSerializer.FALSE_POSITIVE_PROBABILITY_FIELD_NAME;
+import static com.github.robtimus.net.ip.jackson.databind.IPAddressFilterSerializer.HASH_COUNT_FIELD_NAME;
+import static com.github.robtimus.net.ip.jackson.databind.IPAddressFilterSerializer.LAYERS_FIELD_NAME;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.databind.DeserializationContext;
+import tools.jackson.databind.ValueDeserializer;
+import tools.jackson.databind.exc.UnrecognizedPropertyException;
+
+/**
+ * Base class for all deserializers for filters of IP addresses. These deserializers read either arrays of strings or numbers, adding each address
+ * to the filter as it is read, or objects as written by {@link IPAddressFilterSerializer}.
+ *
+ * @author Rob Spoor
+ * @param <T> The type of filter to deserialize.
+ */
+public abstract class IPAddressFilterDeserializer<T> extends ValueDeserializer<T> {
+
+    private IPAddressFilterDeserializer() {
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T deserialize(JsonParser p, DeserializationContext ctxt) throws JacksonException {
+        if (p.isExpectedStartArrayToken()) {
+            return deserializeAddresses(p, ctxt);
+        }
+        // When a type id is included as property, the parser is positioned after it, at the next property or the end of the object
+        if (p.hasToken(JsonToken.START_OBJECT) || p.hasToken(JsonToken.PROPERTY_NAME) || p.hasToken(JsonToken.END_OBJECT)) {
+            return deserializeFilter(p, ctxt);
+        }
+        return (T) ctxt.handleUnexpectedToken(handledType(), p);
+    }
+
+    private T deserializeAddresses(JsonParser p, DeserializationContext ctxt) {
+        IPDeserializationEvent event = IPDeserializationEvent.start();
+        IPAddressCollector<T> collector = collector();
+        try {
+            collector.readElements(p, ctxt);
+            T result = collector.result();
+            event.commit(handledType(), collector.inputLength(), ctxt);
+            return result;
+        } catch (RuntimeException e) {
+            IPDeserializationFailedEvent.record(handledType(), collector.inputLength(), ctxt, e);
+            throw e;
+        }
+    }
+
+    private T deserializeFilter(JsonParser p, DeserializationContext ctxt) {
+        IPDeserializationEvent event = IPDeserializationEvent.start();
+        double falsePositiveProbability = Double.NaN;
+        long addressCount = -1;
+        List<BloomFilter.Layer> layers = null;
+        long length = 0;
+        try {
+            JsonToken token = p.hasToken(JsonToken.START_OBJECT) ? p.nextToken() : p.currentToken();
+            while (token == JsonToken.PROPERTY_NAME) {
+                String fieldName = p.currentName();
+                token = p.nextToken();
+                if (FALSE_POSITIVE_PROBABILITY_FIELD_NAME.equals(fieldName)) {
+                    if (token != JsonToken.VALUE_NUMBER_FLOAT && token != JsonToken.VALUE_NUMBER_INT) {
+                        throw ctxt.wrongTokenException(p, double.class, JsonToken.VALUE_NUMBER_FLOAT, null);
+                    }
+                    falsePositiveProbability = BloomFilter.checkFalsePositiveProbability(p.getDoubleValue());
+                } else if (ADDRESS_COUNT_FIELD_NAME.equals(fieldName)) {
+                    if (token != JsonToken.VALUE_NUMBER_INT) {
+                        throw ctxt.wrongTokenException(p, long.class, JsonToken.VALUE_NUMBER_INT, null);
+                    }
+                    addressCount = p.getLongValue();
+                } else if (LAYERS_FIELD_NAME.equals(fieldName)) {
+                    layers = readLayers(p, ctxt);
+                } else {
+                    throw UnrecognizedPropertyException.from(p, handledType(), fieldName,
+                            Arrays.asList(FALSE_POSITIVE_PROBABILITY_FIELD_NAME, ADDRESS_COUNT_FIELD_NAME, LAYERS_FIELD_NAME));
+                }
+                token = p.nextToken();
+            }
+            checkPresent(!Double.isNaN(falsePositiveProbability), FALSE_POSITIVE_PROBABILITY_FIELD_NAME);
+            checkPresent(addressCount != -1, ADDRESS_COUNT_FIELD_NAME);
+            checkPresent(layers != null, LAYERS_FIELD_NAME);
+
+            for (BloomFilter.Layer layer : layers) {
+                length += layer.bits().length;
+            }
+            T result = create(new BloomFilter(falsePositiveProbability, addressCount, layers.toArray(BloomFilter.Layer[]::new)));
+            event.commit(handledType(), (int) Math.min(length, Integer.MAX_VALUE), ctxt);
+            return result;
+        } catch (RuntimeException e) {
+            IPDeserializationFailedEvent.record(handledType(), (int) Math.min(length, Integer.MAX_VALUE), ctxt, e);
+            throw e;
+        }
+    }
+
+    private List<BloomFilter.Layer> readLayers(JsonParser p, DeserializationContext ctxt) {
+        if (!p.isExpectedStartArrayToken()) {
+            throw ctxt.wrongTokenException(p, handledType(), JsonToken.START_ARRAY, null);
+        }
+        List<BloomFilter.Layer> layers = new ArrayList<>();
+        while (p.nextToken() != JsonToken.END_ARRAY) {
+            if (!p.hasToken(JsonToken.START_OBJECT)) {
+                throw ctxt.wrongTokenException(p, handledType(), JsonToken.START_OBJECT, null);
+            }
+            layers.add(readLayer(p, ctxt));
+        }
+        return layers;
+    }
+
+    private BloomFilter.Layer readLayer(JsonParser p, DeserializationContext ctxt) {
+        int hashCount = -1;
+        byte[] bits = null;
+        JsonToken token = p.nextToken();
+        while (token == JsonToken.PROPERTY_NAME) {
+            String fieldName = p.currentName();
+            token = p.nextToken();
+            if (HASH_COUNT_FIELD_NAME.equals(fieldName)) {
+                if (token != JsonToken.VALUE_NUMBER_INT) {
+                    throw ctxt.wrongTokenException(p, int.class, JsonToken.VALUE_NUMBER_INT, null);
+                }
+                hashCount = p.getIntValue();
+            } else if (BITS_FIELD_NAME.equals(fieldName)) {
+                // Binary formats have embedded binary values, JSON has base64 strings
+                if (token != JsonToken.VALUE_STRING && token != JsonToken.VALUE_EMBEDDED_OBJECT) {
+                    throw ctxt.wrongTokenException(p, byte[].class, JsonToken.VALUE_STRING, null);
+                }
+                bits = p.getBinaryValue(ctxt.getBase64Variant());
+            } else {
+                throw UnrecognizedPropertyException.from(p, handledType(), fieldName, Arrays.asList(HASH_COUNT_FIELD_NAME, BITS_FIELD_NAME));
+            }
+            token = p.nextToken();
+        }
+        checkPresent(hashCount != -1, HASH_COUNT_FIELD_NAME);
+        checkPresent(bits != null, BITS_FIELD_NAME);
+        return new BloomFilter.Layer(hashCount, bits);
+    }
+
+    private static void checkPresent(boolean present, String fieldName) {
+        if (!present) {
+            throw new IllegalStateException(Messages.IPAddressFilter.missingProperty(fieldName));
+        }
+    }
+
+    abstract IPAddressCollector<T> collector();
+
+    abstract T create(BloomFilter filter);
+
+    @Override
+    public abstract Class<?> handledType();
+
+    /**
+     * A deserializer for {@link IPv4AddressFilter}. Numbers must be between {@code 0} and {@code 4294967295}, inclusive.
+     *
+     * @author Rob Spoor
+     */
+    public static class IPv4 extends IPAddressFilterDeserializer<IPv4AddressFilter> {
+
+        static final IPv4 INSTANCE = new IPv4();
+
+        /**
+         * Creates a new {@link IPv4AddressFilter} deserializer.
+         */
+        public IPv4() {
+            super();
+        }
+
+        @Override
+        IPAddressCollector<IPv4AddressFilter> collector() {
+            return new IPAddressCollector.IPv4<>(new IPv4AddressFilter.Accumulator());
+        }
+
+        @Override
+        IPv4AddressFilter create(BloomFilter filter) {
+            return new IPv4AddressFilter(filter);
+        }
+
+        @Override
+        public Class<?> handledType() {
+            return IPv4AddressFilter.class;
+        }
+    }
+
+    /**
+     * A deserializer for {@link IPv6AddressFilter}. Numbers must be between {@code 0} and {@code 2}<sup>{@code 128}</sup>{@code - 1}, inclusive.
+     *
+     * @author Rob Spoor
+     */
+    public static class IPv6 extends IPAddressFilterDeserializer<IPv6AddressFilter> {
+
+        static final IPv6 INSTANCE = new IPv6();
+
+        /**
+         * Creates a new {@link IPv6AddressFilter} deserializer.
+         */
+        public IPv6() {
+            super();
+        }
+
+        @Override
+        IPAddressCollector<IPv6AddressFilter> collector() {
+            return new IPAddressCollector.IPv6<>(new IPv6AddressFilter.Accumulator());
+        }
+
+        @Override
+        IPv6AddressFilter create(BloomFilter filter) {
+            return new IPv6AddressFilter(filter);
+        }
+
+        @Override
+        public Class<?> handledType() {
+            return IPv6AddressFilter.class;
+        }
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * IPAddressFilterSerializer.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.net.ip.jackson.databind;
+
+import tools.jackson.core.Base64Variant;
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.JsonToken;
+import tools.jackson.core.type.WritableTypeId;
+import tools.jackson.databind.SerializationContext;
+import tools.jackson.databind.ValueSerializer;
+import tools.jackson.databind.jsontype.TypeSerializer;
+
+/**
+ * Base class for all serializers for filters of IP addresses. These serializers write objects with the following properties:
+ * <ul>
+ *   <li>{@code falsePositiveProbability}: the configured false positive probability of the filter.</li>
+ *   <li>{@code addressCount}: the number of addresses that were added to the filter.</li>
+ *   <li>{@code layers}: an array of objects with properties {@code hashCount} and {@code bits}, the latter of which is written as binary value.
+ *       For JSON, binary values are written as base64 strings, using the mapper's configured base64 variant.</li>
+ * </ul>
+ *
+ * @author Rob Spoor
+ * @param <T> The type of filter to serialize.
+ */
+public abstract class IPAddressFilterSerializer<T> extends ValueSerializer<T> {
+
+    static final String FALSE_POSITIVE_PROBABILITY_FIELD_NAME = "falsePositiveProbability"; //$NON-NLS-1$
+    static final String ADDRESS_COUNT_FIELD_NAME = "addressCount"; //$NON-NLS-1$
+    static final String LAYERS_FIELD_NAME = "layers"; //$NON-NLS-1$
+    static final String HASH_COUNT_FIELD_NAME = "hashCount"; //$NON-NLS-1$
+    static final String BITS_FIELD_NAME = "bits"; //$NON-NLS-1$
+
+    private IPAddressFilterSerializer() {
+    }
+
+    @Override
+    public void serialize(T value, JsonGenerator gen, SerializationContext ctxt) throws JacksonException {
+        IPSerializationEvent event = IPSerializationEvent.start();
+        gen.writeStartObject(value);
+        int length = writeProperties(filter(value), gen, ctxt);
+        gen.writeEndObject();
+        event.commit(handledType(), length, ctxt);
+    }
+
+    @Override
+    public void serializeWithType(T value, JsonGenerator gen, SerializationContext ctxt, TypeSerializer typeSer) throws JacksonException {
+        IPSerializationEvent event = IPSerializationEvent.start();
+        WritableTypeId typeIdDef = typeSer.writeTypePrefix(gen, ctxt, typeSer.typeId(value, JsonToken.START_OBJECT));
+        int length = writeProperties(filter(value), gen, ctxt);
+        typeSer.writeTypeSuffix(gen, ctxt, typeIdDef);
+        event.commit(handledType(), length, ctxt);
+    }
+
+    @Override
+    public boolean isEmpty(SerializationContext ctxt, T value) {
+        return filter(value).count() == 0;
+    }
+
+    /**
+     * Writes the properties of a filter.
+     *
+     * @return The total number of bytes of the filter's bit arrays, capped at {@link Integer#MAX_VALUE} for very large filters.
+     */
+    private int writeProperties(BloomFilter filter, JsonGenerator gen, SerializationContext ctxt) {
+        Base64Variant base64Variant = ctxt.getConfig().getBase64Variant();
+
+        gen.writeNumberProperty(FALSE_POSITIVE_PROBABILITY_FIELD_NAME, filter.falsePositiveProbability());
+        gen.writeNumberProperty(ADDRESS_COUNT_FIELD_NAME, filter.count());
+        gen.writeName(LAYERS_FIELD_NAME);
+        BloomFilter.Layer[] layers = filter.layers();
+        gen.writeStartArray(layers, layers.length);
+        long length = 0;
+        for (BloomFilter.Layer layer : layers) {
+            byte[] bits = layer.bits();
+            gen.writeStartObject();
+            gen.writeNumberProperty(HASH_COUNT_FIELD_NAME, layer.hashCount());
+            gen.writeName(BITS_FIELD_NAME);
+            gen.writeBinary(base64Variant, bits, 0, bits.length);
+            gen.writeEndObject();
+            length += bits.length;
+        }
+        gen.writeEndArray();
+        return (int) Math.min(length, Integer.MAX_VALUE);
+    }
+
+    abstract BloomFilter filter(T value);
+
+    @Override
+    public abstract Class<T> handledType();
+
+    /**
+     * A serializer for {@link IPv4AddressFilter}.
+     *
+     * @author Rob Spoor
+     */
+    public static class IPv4 extends IPAddressFilterSerializer<IPv4AddressFilter> {
+
+        static final IPv4 INSTANCE = new IPv4();
+
+        /**
+         * Creates a new {@link IPv4AddressFilter} serializer.
+         */
+        public IPv4() {
+            super();
+        }
+
+        @Override
+        BloomFilter filter(IPv4AddressFilter value) {
+            return value.filter();
+        }
+
+        @Override
+        public Class<IPv4AddressFilter> handledType() {
+            return IPv4AddressFilter.class;
+        }
+    }
+
+    /**
+     * A serializer for {@link IPv6AddressFilter}.
+     *
+     * @author Rob Spoor
+     */
+    public static class IPv6 extends IPAddressFilterSerializer<IPv6AddressFilter> {
+
+        static final IPv6 INSTANCE = new IPv6();
+
+        /**
+         * Creates a new {@link IPv6AddressFilter} serializer.
+         */
+        public IPv6() {
+            super();
+        }
+
+        @Override
+        BloomFilter filter(IPv6AddressFilter value) {
+            return value.filter();
+        }
+
+        @Override
+        public Class<IPv6AddressFilter> handledType() {
+            return IPv6AddressFilter.class;
+        }
+    }
+}
@@ -25,6 +25,7 @@ import tools.jackson.core.JacksonException;
 import tools.jackson.core.JsonGenerator;
 import tools.jackson.databind.SerializationContext;
 import tools.jackson.databind.ValueSerializer;
+import tools.jackson.databind.jsontype.TypeSerializer;
 
 /**
  * Base class for all serializers for {@link IPAddress} and sub classes.
@@ -43,7 +44,18 @@ public abstract class IPAddressSerializer<I extends IPAddress<?>> extends ValueS
     @Override
     @SuppressWarnings("resource")
     public void serialize(I value, JsonGenerator gen, SerializationContext ctxt) throws JacksonException {
-        gen.writeString(format(value));
+        IPSerializationEvent event = IPSerializationEvent.start();
+        String text = format(value);
+        gen.writeString(text);
+        event.commit(handledType(), text.length(), ctxt);
+    }
+
+    @Override
+    public void serializeWithType(I value, JsonGenerator gen, SerializationContext ctxt, TypeSerializer typeSer) throws JacksonException {
+        IPSerializationEvent event = IPSerializationEvent.start();
+        String text = format(value);
+        TypeIds.writeString(text, value, gen, ctxt, typeSer, TypeIds.ADDRESS_BASE_TYPES);
+        event.commit(handledType(), text.length(), ctxt);
     }
 
     private String format(I value) {
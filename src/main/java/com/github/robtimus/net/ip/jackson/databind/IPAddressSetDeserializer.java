@@ -0,0 +1,115 @@
+/*
+ * IPAddressSetDeserializer.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.net.ip.jackson.databind;
+
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonParser;
+import tools.jackson.databind.DeserializationContext;
+import tools.jackson.databind.ValueDeserializer;
+
+/**
+ * Base class for all deserializers for sets of IP addresses. These deserializers read arrays of strings or numbers, parsing the addresses directly
+ * into their primitive values. Duplicate elements are ignored.
+ *
+ * @author Rob Spoor
+ * @param <S> The type of set to deserialize.
+ */
+public abstract class IPAddressSetDeserializer<S> extends ValueDeserializer<S> {
+
+    private IPAddressSetDeserializer() {
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public S deserialize(JsonParser p, DeserializationContext ctxt) throws JacksonException {
+        if (!p.isExpectedStartArrayToken()) {
+            return (S) ctxt.handleUnexpectedToken(handledType(), p);
+        }
+
+        IPDeserializationEvent event = IPDeserializationEvent.start();
+        IPAddressCollector<S> collector = collector();
+        try {
+            collector.readElements(p, ctxt);
+            S result = collector.result();
+            event.commit(handledType(), collector.inputLength(), ctxt);
+            return result;
+        } catch (RuntimeException e) {
+            IPDeserializationFailedEvent.record(handledType(), collector.inputLength(), ctxt, e);
+            throw e;
+        }
+    }
+
+    abstract IPAddressCollector<S> collector();
+
+    @Override
+    public abstract Class<?> handledType();
+
+    /**
+     * A deserializer for {@link IPv4AddressSet}. Numbers must be between {@code 0} and {@code 4294967295}, inclusive.
+     *
+     * @author Rob Spoor
+     */
+    public static class IPv4 extends IPAddressSetDeserializer<IPv4AddressSet> {
+
+        static final IPv4 INSTANCE = new IPv4();
+
+        /**
+         * Creates a new {@link IPv4AddressSet} deserializer.
+         */
+        public IPv4() {
+            super();
+        }
+
+        @Override
+        IPAddressCollector<IPv4AddressSet> collector() {
+            return new IPAddressCollector.IPv4<>(IPv4AddressSet::build);
+        }
+
+        @Override
+        public Class<?> handledType() {
+            return IPv4AddressSet.class;
+        }
+    }
+
+    /**
+     * A deserializer for {@link IPv6AddressSet}. Numbers must be between {@code 0} and {@code 2}<sup>{@code 128}</sup>{@code - 1}, inclusive.
+     *
+     * @author Rob Spoor
+     */
+    public static class IPv6 extends IPAddressSetDeserializer<IPv6AddressSet> {
+
+        static final IPv6 INSTANCE = new IPv6();
+
+        /**
+         * Creates a new {@link IPv6AddressSet} deserializer.
+         */
+        public IPv6() {
+            super();
+        }
+
+        @Override
+        IPAddressCollector<IPv6AddressSet> collector() {
+            return new IPAddressCollector.IPv6<>(IPv6AddressSet::build);
+        }
+
+        @Override
+        public Class<?> handledType() {
+            return IPv6AddressSet.class;
+        }
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ * IPAddressSetSerializer.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.net.ip.jackson.databind;
+
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.JsonToken;
+import tools.jackson.core.type.WritableTypeId;
+import tools.jackson.databind.SerializationContext;
+import tools.jackson.databind.ValueSerializer;
+import tools.jackson.databind.jsontype.TypeSerializer;
+
+/**
+ * Base class for all serializers for sets of IP addresses. These serializers write arrays of strings, formatting the addresses directly
+ * from their primitive values.
+ *
+ * @author Rob Spoor
+ * @param <S> The type of set to serialize.
+ */
+public abstract class IPAddressSetSerializer<S> extends ValueSerializer<S> {
+
+    private IPAddressSetSerializer() {
+    }
+
+    @Override
+    @SuppressWarnings("resource")
+    public void serialize(S value, JsonGenerator gen, SerializationContext ctxt) throws JacksonException {
+        IPSerializationEvent event = IPSerializationEvent.start();
+        gen.writeStartArray(value, size(value));
+        int length = writeElements(value, gen);
+        gen.writeEndArray();
+        event.commit(handledType(), length, ctxt);
+    }
+
+    @Override
+    public void serializeWithType(S value, JsonGenerator gen, SerializationContext ctxt, TypeSerializer typeSer) throws JacksonException {
+        IPSerializationEvent event = IPSerializationEvent.start();
+        WritableTypeId typeIdDef = typeSer.writeTypePrefix(gen, ctxt, typeSer.typeId(value, JsonToken.START_ARRAY));
+        int length = writeElements(value, gen);
+        typeSer.writeTypeSuffix(gen, ctxt, typeIdDef);
+        event.commit(handledType(), length, ctxt);
+    }
+
+    @Override
+    public boolean isEmpty(SerializationContext ctxt, S value) {
+        return size(value) == 0;
+    }
+
+    abstract int size(S value);
+
+    /**
+     * Writes the elements of a set.
+     *
+     * @return The total number of characters written for all elements.
+     */
+    abstract int writeElements(S value, JsonGenerator gen);
+
+    @Override
+    public abstract Class<S> handledType();
+
+    /**
+     * A serializer for {@link IPv4AddressSet}.
+     *
+     * @author Rob Spoor
+     */
+    public static class IPv4 extends IPAddressSetSerializer<IPv4AddressSet> {
+
+        static final IPv4 INSTANCE = new IPv4();
+
+        /**
+         * Creates a new {@link IPv4AddressSet} serializer.
+         */
+        public IPv4() {
+            super();
+        }
+
+        @Override
+        int size(IPv4AddressSet value) {
+            return value.size();
+        }
+
+        @Override
+        int writeElements(IPv4AddressSet value, JsonGenerator gen) {
+            char[] buffer = new char[IPAddressText.MAX_IPV4_LENGTH];
+            int length = 0;
+            if (value.containsZero()) {
+                length += writeElement(0, buffer, gen);
+            }
+            for (int address : value.table()) {
+                if (address != 0) {
+                    length += writeElement(address, buffer, gen);
+                }
+            }
+            return length;
+        }
+
+        private int writeElement(int address, char[] buffer, JsonGenerator gen) {
+            int count = IPAddressText.formatIPv4(address, buffer);
+            gen.writeString(buffer, 0, count);
+            return count;
+        }
+
+        @Override
+        public Class<IPv4AddressSet> handledType() {
+            return IPv4AddressSet.class;
+        }
+    }
+
+    /**
+     * A serializer for {@link IPv6AddressSet}. Addresses are written in the short form defined by RFC 5952.
+     *
+     * @author Rob Spoor
+     */
+    public static class IPv6 extends IPAddressSetSerializer<IPv6AddressSet> {
+
+        static final IPv6 INSTANCE = new IPv6();
+
+        /**
+         * Creates a new {@link IPv6AddressSet} serializer.
+         */
+        public IPv6() {
+            super();
+        }
+
+        @Override
+        int size(IPv6AddressSet value) {
+            return value.size();
+        }
+
+        @Override
+        int writeElements(IPv6AddressSet value, JsonGenerator gen) {
+            char[] buffer = new char[IPAddressText.MAX_IPV6_LENGTH];
+            long[] table = value.table();
+            int length = 0;
+            if (value.containsZero()) {
+                length += writeElement(0, 0, buffer, gen);
+            }
+            for (int i = 0; i < table.length; i += 2) {
+                if (table[i] != 0 || table[i + 1] != 0) {
+                    length += writeElement(table[i], table[i + 1], buffer, gen);
+                }
+            }
+            return length;
+        }
+
+        private int writeElement(long highAddress, long lowAddress, char[] buffer, JsonGenerator gen) {
+            int count = IPAddressText.formatIPv6(highAddress, lowAddress, buffer);
+            gen.writeString(buffer, 0, count);
+            return count;
+        }
+
+        @Override
+        public Class<IPv6AddressSet> handledType() {
+            return IPv6AddressSet.class;
+        }
+    }
+}
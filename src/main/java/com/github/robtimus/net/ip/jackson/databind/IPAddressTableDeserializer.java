@@ -0,0 +1,148 @@
+/*
+ * IPAddressTableDeserializer.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.net.ip.jackson.databind;
+
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonParser;
+import tools.jackson.databind.DeserializationContext;
+import tools.jackson.databind.ValueDeserializer;
+
+/**
+ * Base class for all deserializers for tables of IP addresses. These deserializers read arrays of strings or numbers, parsing the addresses directly
+ * into the table's direct buffers. Duplicate elements are ignored.
+ * <p>
+ * These deserializers also read binary values with the differences between consecutive addresses, as written by {@link IPAddressTableSerializer}
+ * for the {@link com.fasterxml.jackson.annotation.JsonFormat.Shape#BINARY BINARY} shape. For JSON these are base64 strings. The differences
+ * are decoded while the binary value is read.
+ *
+ * @author Rob Spoor
+ * @param <T> The type of table to deserialize.
+ */
+public abstract class IPAddressTableDeserializer<T> extends ValueDeserializer<T> {
+
+    private IPAddressTableDeserializer() {
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T deserialize(JsonParser p, DeserializationContext ctxt) throws JacksonException {
+        if (IPDeltaEncoding.isDeltaEncoded(p)) {
+            return deserializeDeltas(p, ctxt);
+        }
+        if (!p.isExpectedStartArrayToken()) {
+            return (T) ctxt.handleUnexpectedToken(handledType(), p);
+        }
+
+        IPDeserializationEvent event = IPDeserializationEvent.start();
+        IPAddressCollector<T> collector = collector();
+        try {
+            collector.readElements(p, ctxt);
+            T result = collector.result();
+            event.commit(handledType(), collector.inputLength(), ctxt);
+            return result;
+        } catch (RuntimeException e) {
+            IPDeserializationFailedEvent.record(handledType(), collector.inputLength(), ctxt, e);
+            throw e;
+        }
+    }
+
+    private T deserializeDeltas(JsonParser p, DeserializationContext ctxt) {
+        IPDeserializationEvent event = IPDeserializationEvent.start();
+        try {
+            IPDeltaEncoding.Decoder<T> decoder = deltaDecoder();
+            int length = IPDeltaEncoding.read(p, ctxt, decoder);
+            T result = decoder.result();
+            event.commit(handledType(), length, ctxt);
+            return result;
+        } catch (RuntimeException e) {
+            IPDeserializationFailedEvent.record(handledType(), 0, ctxt, e);
+            throw e;
+        }
+    }
+
+    abstract IPAddressCollector<T> collector();
+
+    abstract IPDeltaEncoding.Decoder<T> deltaDecoder();
+
+    @Override
+    public abstract Class<?> handledType();
+
+    /**
+     * A deserializer for {@link IPv4AddressTable}. Numbers must be between {@code 0} and {@code 4294967295}, inclusive.
+     *
+     * @author Rob Spoor
+     */
+    public static class IPv4 extends IPAddressTableDeserializer<IPv4AddressTable> {
+
+        static final IPv4 INSTANCE = new IPv4();
+
+        /**
+         * Creates a new {@link IPv4AddressTable} deserializer.
+         */
+        public IPv4() {
+            super();
+        }
+
+        @Override
+        IPAddressCollector<IPv4AddressTable> collector() {
+            return new IPAddressCollector.IPv4<>(new IPv4AddressTable.Accumulator());
+        }
+
+        @Override
+        IPDeltaEncoding.Decoder<IPv4AddressTable> deltaDecoder() {
+            return new IPDeltaEncoding.IPv4Addresses<>(new IPv4AddressTable.Accumulator());
+        }
+
+        @Override
+        public Class<?> handledType() {
+            return IPv4AddressTable.class;
+        }
+    }
+
+    /**
+     * A deserializer for {@link IPv6AddressTable}. Numbers must be between {@code 0} and {@code 2}<sup>{@code 128}</sup>{@code - 1}, inclusive.
+     *
+     * @author Rob Spoor
+     */
+    public static class IPv6 extends IPAddressTableDeserializer<IPv6AddressTable> {
+
+        static final IPv6 INSTANCE = new IPv6();
+
+        /**
+         * Creates a new {@link IPv6AddressTable} deserializer.
+         */
+        public IPv6() {
+            super();
+        }
+
+        @Override
+        IPAddressCollector<IPv6AddressTable> collector() {
+            return new IPAddressCollector.IPv6<>(new IPv6AddressTable.Accumulator());
+        }
+
+        @Override
+        IPDeltaEncoding.Decoder<IPv6AddressTable> deltaDecoder() {
+            return new IPDeltaEncoding.IPv6Addresses<>(new IPv6AddressTable.Accumulator());
+        }
+
+        @Override
+        public Class<?> handledType() {
+            return IPv6AddressTable.class;
+        }
+    }
+}
@@ -0,0 +1,258 @@
+/*
+ * IPAddressTableSerializer.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.net.ip.jackson.databind;
+
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.JsonToken;
+import tools.jackson.core.type.WritableTypeId;
+import tools.jackson.databind.BeanProperty;
+import tools.jackson.databind.SerializationContext;
+import tools.jackson.databind.ValueSerializer;
+import tools.jackson.databind.jsontype.TypeSerializer;
+
+/**
+ * Base class for all serializers for tables of IP addresses. These serializers write arrays of strings, formatting the addresses directly
+ * from their primitive values. The addresses are read from the
+ * table's direct buffers one at a time, so no intermediate copy of the table is created.
+ * <p>
+ * If the shape is {@link com.fasterxml.jackson.annotation.JsonFormat.Shape#BINARY BINARY}, for instance by annotating a property with
+ * {@code @JsonFormat(shape = JsonFormat.Shape.BINARY)}, these serializers instead write a single binary value with the differences between
+ * consecutive addresses, as unsigned variable length integers. For JSON this is a base64 string. Because tables are sorted, this is usually much
+ * smaller than an array of strings; {@link IPAddressTableDeserializer} reads both forms.
+ *
+ * @author Rob Spoor
+ * @param <T> The type of table to serialize.
+ */
+public abstract class IPAddressTableSerializer<T> extends ValueSerializer<T> {
+
+    private final boolean deltaEncoded;
+
+    private IPAddressTableSerializer(boolean deltaEncoded) {
+        this.deltaEncoded = deltaEncoded;
+    }
+
+    @Override
+    public ValueSerializer<?> createContextual(SerializationContext ctxt, BeanProperty property) {
+        boolean enabled = IPDeltaEncoding.isEnabled(ctxt, property, handledType());
+        return enabled == deltaEncoded
+                ? this
+                : withDeltaEncoding(enabled);
+    }
+
+    @Override
+    @SuppressWarnings("resource")
+    public void serialize(T value, JsonGenerator gen, SerializationContext ctxt) throws JacksonException {
+        IPSerializationEvent event = IPSerializationEvent.start();
+        int length;
+        if (deltaEncoded) {
+            length = writeDeltas(value, gen, ctxt);
+        } else {
+            gen.writeStartArray(value, size(value));
+            length = writeElements(value, gen);
+            gen.writeEndArray();
+        }
+        event.commit(handledType(), length, ctxt);
+    }
+
+    @Override
+    public void serializeWithType(T value, JsonGenerator gen, SerializationContext ctxt, TypeSerializer typeSer) throws JacksonException {
+        IPSerializationEvent event = IPSerializationEvent.start();
+        int length;
+        if (deltaEncoded) {
+            WritableTypeId typeIdDef = typeSer.writeTypePrefix(gen, ctxt, typeSer.typeId(value, JsonToken.VALUE_STRING));
+            length = writeDeltas(value, gen, ctxt);
+            typeSer.writeTypeSuffix(gen, ctxt, typeIdDef);
+        } else {
+            WritableTypeId typeIdDef = typeSer.writeTypePrefix(gen, ctxt, typeSer.typeId(value, JsonToken.START_ARRAY));
+            length = writeElements(value, gen);
+            typeSer.writeTypeSuffix(gen, ctxt, typeIdDef);
+        }
+        event.commit(handledType(), length, ctxt);
+    }
+
+    @Override
+    public boolean isEmpty(SerializationContext ctxt, T value) {
+        return size(value) == 0;
+    }
+
+    abstract int size(T value);
+
+    /**
+     * Writes the elements of a table.
+     *
+     * @return The total number of characters written for all elements, capped at {@link Integer#MAX_VALUE} for very large tables.
+     */
+    abstract int writeElements(T value, JsonGenerator gen);
+
+    /**
+     * Writes the differences between consecutive elements of a table as a single binary value.
+     *
+     * @return The number of bytes written, before any base64 encoding.
+     */
+    abstract int writeDeltas(T value, JsonGenerator gen, SerializationContext ctxt);
+
+    abstract IPAddressTableSerializer<T> withDeltaEncoding(boolean deltaEncoded);
+
+    @Override
+    public abstract Class<T> handledType();
+
+    /**
+     * A serializer for {@link IPv4AddressTable}.
+     *
+     * @author Rob Spoor
+     */
+    public static class IPv4 extends IPAddressTableSerializer<IPv4AddressTable> {
+
+        static final IPv4 INSTANCE = new IPv4();
+
+        /**
+         * Creates a new {@link IPv4AddressTable} serializer.
+         */
+        public IPv4() {
+            super(false);
+        }
+
+        private IPv4(boolean deltaEncoded) {
+            super(deltaEncoded);
+        }
+
+        @Override
+        int size(IPv4AddressTable value) {
+            return value.size();
+        }
+
+        @Override
+        int writeElements(IPv4AddressTable value, JsonGenerator gen) {
+            char[] buffer = new char[IPAddressText.MAX_IPV4_LENGTH];
+            long length = 0;
+            for (int i = 0, size = value.size(); i < size; i++) {
+                int count = IPAddressText.formatIPv4(value.address(i), buffer);
+                gen.writeString(buffer, 0, count);
+                length += count;
+            }
+            return (int) Math.min(length, Integer.MAX_VALUE);
+        }
+
+        @Override
+        int writeDeltas(IPv4AddressTable value, JsonGenerator gen, SerializationContext ctxt) {
+            IPDeltaEncoding.Encoder encoder = new IPDeltaEncoding.Encoder() {
+
+                private final int size = value.size();
+                private int index = 0;
+                private long previous = 0;
+
+                @Override
+                boolean encodeNext() {
+                    if (index == size) {
+                        return false;
+                    }
+                    long address = Integer.toUnsignedLong(value.address(index++));
+                    write(address - previous);
+                    previous = address;
+                    return true;
+                }
+            };
+            return encoder.writeTo(gen, ctxt);
+        }
+
+        @Override
+        IPv4 withDeltaEncoding(boolean deltaEncoded) {
+            return new IPv4(deltaEncoded);
+        }
+
+        @Override
+        public Class<IPv4AddressTable> handledType() {
+            return IPv4AddressTable.class;
+        }
+    }
+
+    /**
+     * A serializer for {@link IPv6AddressTable}. Addresses are written in the short form defined by RFC 5952.
+     *
+     * @author Rob Spoor
+     */
+    public static class IPv6 extends IPAddressTableSerializer<IPv6AddressTable> {
+
+        static final IPv6 INSTANCE = new IPv6();
+
+        /**
+         * Creates a new {@link IPv6AddressTable} serializer.
+         */
+        public IPv6() {
+            super(false);
+        }
+
+        private IPv6(boolean deltaEncoded) {
+            super(deltaEncoded);
+        }
+
+        @Override
+        int size(IPv6AddressTable value) {
+            return value.size();
+        }
+
+        @Override
+        int writeElements(IPv6AddressTable value, JsonGenerator gen) {
+            char[] buffer = new char[IPAddressText.MAX_IPV6_LENGTH];
+            long length = 0;
+            for (int i = 0, size = value.size(); i < size; i++) {
+                int count = IPAddressText.formatIPv6(value.highAddress(i), value.lowAddress(i), buffer);
+                gen.writeString(buffer, 0, count);
+                length += count;
+            }
+            return (int) Math.min(length, Integer.MAX_VALUE);
+        }
+
+        @Override
+        int writeDeltas(IPv6AddressTable value, JsonGenerator gen, SerializationContext ctxt) {
+            IPDeltaEncoding.Encoder encoder = new IPDeltaEncoding.Encoder() {
+
+                private final int size = value.size();
+                private int index = 0;
+                private long previousHigh = 0;
+                private long previousLow = 0;
+
+                @Override
+                boolean encodeNext() {
+                    if (index == size) {
+                        return false;
+                    }
+                    long high = value.highAddress(index);
+                    long low = value.lowAddress(index);
+                    index++;
+                    writeDifference(high, low, previousHigh, previousLow);
+                    previousHigh = high;
+                    previousLow = low;
+                    return true;
+                }
+            };
+            return encoder.writeTo(gen, ctxt);
+        }
+
+        @Override
+        IPv6 withDeltaEncoding(boolean deltaEncoded) {
+            return new IPv6(deltaEncoded);
+        }
+
+        @Override
+        public Class<IPv6AddressTable> handledType() {
+            return IPv6AddressTable.class;
+        }
+    }
+}
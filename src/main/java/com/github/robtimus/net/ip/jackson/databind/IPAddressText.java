@@ -0,0 +1,356 @@
+/*
+ * IPAddressText.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.net.ip.jackson.databind;
+
+import com.github.robtimus.net.ip.IPv4Address;
+import com.github.robtimus.net.ip.IPv6Address;
+
+/**
+ * Parsing and formatting of IP addresses as primitives, without creating {@link IPv4Address} or {@link IPv6Address} instances.
+ * <p>
+ * Parsing only accepts the common formats: dotted decimal without leading zeros for IPv4, and hexadecimal groups with optional {@code ::} and an
+ * optional trailing IPv4 address for IPv6. Any other text is parsed using {@link IPv4Address#valueOf(CharSequence)} or
+ * {@link IPv6Address#valueOf(CharSequence)}, so the accepted formats and error messages are the same as for the other deserializers.
+ *
+ * @author Rob Spoor
+ */
+final class IPAddressText {
+
+    static final int MAX_IPV4_LENGTH = 15;
+    static final int MAX_IPV6_LENGTH = 39;
+
+    // Room for the longest address, a slash and a prefix length of up to 3 digits
+    static final int MAX_CIDR_LENGTH = MAX_IPV6_LENGTH + 4;
+
+    // The maximum initial capacity for string builders for lists of addresses; larger lists let the string builder grow
+    private static final int MAX_LIST_CAPACITY = 1024 * 1024;
+
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray(); //$NON-NLS-1$
+
+    private IPAddressText() {
+    }
+
+    // parsing
+
+    static int parseIPv4(char[] text, int start, int end) {
+        long address = tryParseIPv4(text, start, end);
+        return address != -1
+                ? (int) address
+                : IPv4Address.valueOf(new String(text, start, end - start)).toInt();
+    }
+
+    /**
+     * Parses IPv4 text.
+     *
+     * @return The parsed address as unsigned value, or {@code -1} if the text is not in the common format.
+     */
+    private static long tryParseIPv4(char[] text, int start, int end) {
+        if (end - start > MAX_IPV4_LENGTH) {
+            return -1;
+        }
+        int address = 0;
+        int index = start;
+        for (int octet = 0; octet < 4; octet++) {
+            if (octet > 0) {
+                if (index == end || text[index] != '.') {
+                    return -1;
+                }
+                index++;
+            }
+            int octetStart = index;
+            int value = 0;
+            while (index < end && index - octetStart < 3 && isDigit(text[index])) {
+                value = value * 10 + text[index] - '0';
+                index++;
+            }
+            int length = index - octetStart;
+            if (length == 0 || value > 255 || length > 1 && text[octetStart] == '0') {
+                return -1;
+            }
+            address = address << 8 | value;
+        }
+        return index == end ? address & 0xFFFF_FFFFL : -1;
+    }
+
+    /**
+     * Returns whether or not text is IPv6 text. IPv6 text always contains a colon, IPv4 text never does.
+     */
+    static boolean isIPv6(char[] text, int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (text[i] == ':') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Parses IPv6 text into two consecutive elements of a target array; the high 64 bits at the given index, the low 64 bits at the next index.
+     */
+    static void parseIPv6(char[] text, int start, int end, long[] target, int targetIndex) {
+        if (!tryParseIPv6(text, start, end, target, targetIndex)) {
+            IPv6Address address = IPv6Address.valueOf(new String(text, start, end - start));
+            target[targetIndex] = address.highAddress();
+            target[targetIndex + 1] = address.lowAddress();
+        }
+    }
+
+    private static boolean tryParseIPv6(char[] text, int start, int end, long[] target, int targetIndex) {
+        if (end - start > MAX_IPV6_LENGTH + 6 || end - start < 2) {
+            return false;
+        }
+
+        // The groups before and after :: are collected separately, each as a 128-bit value of high and low bits
+        long headHigh = 0;
+        long headLow = 0;
+        long tailHigh = 0;
+        long tailLow = 0;
+        int headCount = 0;
+        int tailCount = 0;
+        boolean compressed = false;
+
+        int index = start;
+        if (text[index] == ':') {
+            if (text[index + 1] != ':') {
+                return false;
+            }
+            compressed = true;
+            index += 2;
+        }
+        while (index < end) {
+            if (headCount + tailCount == 8) {
+                return false;
+            }
+            int groupStart = index;
+            int value = 0;
+            while (index < end && index - groupStart < 4) {
+                int digit = hexDigit(text[index]);
+                if (digit == -1) {
+                    break;
+                }
+                value = value << 4 | digit;
+                index++;
+            }
+            int groups = 1;
+            if (index < end && text[index] == '.') {
+                // A trailing IPv4 address, which counts as two groups
+                long ipv4 = headCount + tailCount <= 6 ? tryParseIPv4(text, groupStart, end) : -1;
+                if (ipv4 == -1) {
+                    return false;
+                }
+                value = (int) ipv4;
+                groups = 2;
+                index = end;
+            } else if (index == groupStart) {
+                return false;
+            }
+
+            int bits = 16 * groups;
+            long mask = (1L << bits) - 1;
+            if (compressed) {
+                tailHigh = tailHigh << bits | tailLow >>> (64 - bits);
+                tailLow = tailLow << bits | value & mask;
+                tailCount += groups;
+            } else {
+                headHigh = headHigh << bits | headLow >>> (64 - bits);
+                headLow = headLow << bits | value & mask;
+                headCount += groups;
+            }
+
+            if (index < end) {
+                if (text[index] != ':') {
+                    return false;
+                }
+                index++;
+                if (index < end && text[index] == ':') {
+                    if (compressed) {
+                        return false;
+                    }
+                    compressed = true;
+                    index++;
+                } else if (index == end) {
+                    // A trailing single :
+                    return false;
+                }
+            }
+        }
+
+        if (compressed ? headCount + tailCount > 7 : headCount != 8) {
+            return false;
+        }
+
+        // Move the head groups to the top, leaving room for the compressed and tail groups
+        int shift = 16 * (8 - headCount);
+        if (shift >= 128) {
+            headHigh = 0;
+            headLow = 0;
+        } else if (shift >= 64) {
+            headHigh = headLow << (shift - 64);
+            headLow = 0;
+        } else if (shift > 0) {
+            headHigh = headHigh << shift | headLow >>> (64 - shift);
+            headLow = headLow << shift;
+        }
+
+        target[targetIndex] = headHigh | tailHigh;
+        target[targetIndex + 1] = headLow | tailLow;
+        return true;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static int hexDigit(char c) {
+        // Don't use Character.digit, as that also accepts non-ASCII digits
+        if (isDigit(c)) {
+            return c - '0';
+        }
+        if (c >= 'a' && c <= 'f') {
+            return c - 'a' + 10;
+        }
+        if (c >= 'A' && c <= 'F') {
+            return c - 'A' + 10;
+        }
+        return -1;
+    }
+
+    // comparing
+
+    /**
+     * Compares two IPv6 addresses, given as their high and low 64 bits. Both halves are compared as unsigned values.
+     *
+     * @return A negative value, zero, or a positive value if the first address is smaller than, equal to, or larger than the second address.
+     */
+    static int compareIPv6(long highAddress1, long lowAddress1, long highAddress2, long lowAddress2) {
+        int result = Long.compareUnsigned(highAddress1, highAddress2);
+        return result != 0 ? result : Long.compareUnsigned(lowAddress1, lowAddress2);
+    }
+
+    // formatting
+
+    /**
+     * Formats an IPv4 address in dotted decimal format.
+     *
+     * @return The number of characters written; at most {@link #MAX_IPV4_LENGTH}.
+     */
+    static int formatIPv4(int address, char[] target) {
+        int index = 0;
+        for (int shift = 24; shift >= 0; shift -= 8) {
+            if (shift != 24) {
+                target[index++] = '.';
+            }
+            int octet = address >>> shift & 0xFF;
+            if (octet >= 100) {
+                target[index++] = (char) ('0' + octet / 100);
+            }
+            if (octet >= 10) {
+                target[index++] = (char) ('0' + octet / 10 % 10);
+            }
+            target[index++] = (char) ('0' + octet % 10);
+        }
+        return index;
+    }
+
+    /**
+     * Formats an IPv6 address in the short form defined by RFC 5952.
+     *
+     * @return The number of characters written; at most {@link #MAX_IPV6_LENGTH}.
+     */
+    static int formatIPv6(long high, long low, char[] target) {
+        // Find the longest run of at least two zero groups; the first one wins if there are several
+        int bestStart = -1;
+        int bestLength = 1;
+        int runStart = -1;
+        for (int i = 0; i < 8; i++) {
+            if (group(high, low, i) == 0) {
+                if (runStart == -1) {
+                    runStart = i;
+                }
+                int runLength = i - runStart + 1;
+                if (runLength > bestLength) {
+                    bestStart = runStart;
+                    bestLength = runLength;
+                }
+            } else {
+                runStart = -1;
+            }
+        }
+
+        int index = 0;
+        for (int i = 0; i < 8; i++) {
+            if (i == bestStart) {
+                target[index++] = ':';
+                target[index++] = ':';
+                i += bestLength - 1;
+                continue;
+            }
+            if (i > 0 && i != bestStart + bestLength) {
+                target[index++] = ':';
+            }
+            index = formatGroup(group(high, low, i), target, index);
+        }
+        return index;
+    }
+
+    /**
+     * Formats a subnet in CIDR notation, by appending a slash and a prefix length to an address that has already been formatted.
+     *
+     * @param target The target that contains the formatted address.
+     * @param addressLength The number of characters of the formatted address.
+     * @return The total number of characters written, including the address; at most {@link #MAX_CIDR_LENGTH}.
+     */
+    static int formatCIDR(char[] target, int addressLength, int prefixLength) {
+        int index = addressLength;
+        target[index++] = '/';
+        if (prefixLength >= 100) {
+            target[index++] = (char) ('0' + prefixLength / 100);
+        }
+        if (prefixLength >= 10) {
+            target[index++] = (char) ('0' + prefixLength / 10 % 10);
+        }
+        target[index++] = (char) ('0' + prefixLength % 10);
+        return index;
+    }
+
+    /**
+     * Returns the initial capacity of a string builder for a list of addresses, like {@code [a, b, c]}.
+     * The capacity is computed without integer overflow, and is capped to a maximum.
+     */
+    static int listCapacity(int count, int maxAddressLength) {
+        return (int) Math.min(count * (maxAddressLength + 2L) + 2, MAX_LIST_CAPACITY);
+    }
+
+    private static int group(long high, long low, int index) {
+        long value = index < 4 ? high : low;
+        return (int) (value >>> (48 - (index & 3) * 16)) & 0xFFFF;
+    }
+
+    private static int formatGroup(int group, char[] target, int index) {
+        int result = index;
+        boolean started = false;
+        for (int shift = 12; shift >= 0; shift -= 4) {
+            int digit = group >>> shift & 0xF;
+            if (started || digit != 0 || shift == 0) {
+                target[result++] = HEX_DIGITS[digit];
+                started = true;
+            }
+        }
+        return result;
+    }
+}
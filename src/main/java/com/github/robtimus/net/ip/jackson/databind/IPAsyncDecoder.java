@@ -0,0 +1,280 @@
+/*
+ * IPAsyncDecoder.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.net.ip.jackson.databind;
+
+import java.nio.ByteBuffer;
+import java.util.Objects;
+import java.util.function.Consumer;
+import com.github.robtimus.net.ip.IPAddress;
+import com.github.robtimus.net.ip.IPRange;
+import com.github.robtimus.net.ip.Subnet;
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.core.async.ByteArrayFeeder;
+import tools.jackson.databind.DeserializationFeature;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.ObjectReader;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.databind.util.TokenBuffer;
+
+/**
+ * An incremental decoder for IP addresses and ranges, for use with non-blocking I/O.
+ * <p>
+ * Input is fed to the decoder as it arrives, in chunks of any size. Each chunk is parsed using a non-blocking parser, and each value that has been
+ * completed is deserialized using the deserializers of the {@link IPModule} and passed to a callback, before the call that fed the chunk returns.
+ * Feeding input never blocks, so it is safe to call from an event loop.
+ * <p>
+ * Like {@link IPStreams}, the input can either be an array of values, or a sequence of root-level values, like newline-delimited JSON.
+ * Values that are strings are deserialized directly from the non-blocking parser. Other values, like ranges that are written as objects, are
+ * buffered until they are complete.
+ * <p>
+ * To publish values to {@link java.util.concurrent.Flow.Subscriber Flow.Subscribers}, use a non-blocking callback like
+ * {@link java.util.concurrent.SubmissionPublisher#offer(Object, java.util.function.BiPredicate) SubmissionPublisher.offer}.
+ * <p>
+ * Instances of this class are not thread-safe. Each source of input, for instance each connection, should use its own decoder.
+ *
+ * @author Rob Spoor
+ * @param <T> The type of values to decode.
+ */
+public final class IPAsyncDecoder<T> implements AutoCloseable {
+
+    private static final ObjectMapper DEFAULT_MAPPER = JsonMapper.builder()
+            .addModule(IPModule.instance())
+            .build();
+
+    private final ObjectReader reader;
+    private final Consumer<? super T> callback;
+
+    private final JsonParser parser;
+    private final ByteArrayFeeder feeder;
+
+    // Used for direct byte buffers
+    private byte[] scratch;
+
+    // Used for values that are not complete after a single token
+    private TokenBuffer buffer;
+
+    private int depth;
+    // The depth at which values appear: 1 for arrays, 0 for root-level values, or -1 if not yet known
+    private int valueDepth;
+
+    private boolean closed;
+
+    private IPAsyncDecoder(ObjectMapper mapper, Class<?> type, Consumer<? super T> callback) {
+        // The non-blocking parser may not have any more input available, so trailing tokens cannot be checked
+        this.reader = mapper.readerFor(type).without(DeserializationFeature.FAIL_ON_TRAILING_TOKENS);
+        this.callback = Objects.requireNonNull(callback);
+
+        this.parser = mapper.createNonBlockingByteArrayParser();
+        this.feeder = (ByteArrayFeeder) parser.nonBlockingInputFeeder();
+
+        this.depth = 0;
+        this.valueDepth = -1;
+        this.closed = false;
+    }
+
+    /**
+     * Creates a new decoder for JSON.
+     *
+     * @param <T> The type of values to decode.
+     * @param type The type of values to decode. This should be {@link IPAddress}, {@link Subnet}, {@link IPRange} or one of their sub types.
+     * @param callback The callback to pass decoded values to.
+     * @return The created decoder.
+     * @throws NullPointerException If the given type or callback is {@code null}.
+     */
+    public static <T> IPAsyncDecoder<T> create(Class<? super T> type, Consumer<? super T> callback) {
+        return create(DEFAULT_MAPPER, type, callback);
+    }
+
+    /**
+     * Creates a new decoder.
+     *
+     * @param <T> The type of values to decode.
+     * @param mapper The mapper to use. It determines the data format, and must have an {@link IPModule} registered.
+     *                   The data format must support non-blocking parsing from byte arrays, like JSON and Smile.
+     * @param type The type of values to decode. This should be {@link IPAddress}, {@link Subnet}, {@link IPRange} or one of their sub types.
+     * @param callback The callback to pass decoded values to.
+     * @return The created decoder.
+     * @throws NullPointerException If the given mapper, type or callback is {@code null}.
+     * @throws UnsupportedOperationException If the mapper's data format does not support non-blocking parsing from byte arrays.
+     */
+    public static <T> IPAsyncDecoder<T> create(ObjectMapper mapper, Class<? super T> type, Consumer<? super T> callback) {
+        Objects.requireNonNull(type);
+        return new IPAsyncDecoder<>(mapper, type, callback);
+    }
+
+    /**
+     * Feeds input to this decoder. All values that are completed by the input are passed to the callback before this method returns.
+     * The input is no longer used after this method returns.
+     * <p>
+     * If an exception is thrown, this decoder is closed.
+     *
+     * @param input The input to feed.
+     * @throws NullPointerException If the given input is {@code null}.
+     * @throws IllegalStateException If this decoder is closed, or if {@link #endOfInput()} has been called.
+     * @throws JacksonException If the input could not be parsed.
+     * @throws IllegalArgumentException If a value is not a valid IP address or range.
+     */
+    public void feed(byte[] input) {
+        feed(input, 0, input.length);
+    }
+
+    /**
+     * Feeds input to this decoder. All values that are completed by the input are passed to the callback before this method returns.
+     * The input is no longer used after this method returns.
+     * <p>
+     * If an exception is thrown, this decoder is closed.
+     *
+     * @param input The array containing the input to feed.
+     * @param offset The offset in the array where the input starts.
+     * @param length The length of the input.
+     * @throws NullPointerException If the given array is {@code null}.
+     * @throws IndexOutOfBoundsException If the given offset or length is negative, or if their sum exceeds the array's length.
+     * @throws IllegalStateException If this decoder is closed, or if {@link #endOfInput()} has been called.
+     * @throws JacksonException If the input could not be parsed.
+     * @throws IllegalArgumentException If a value is not a valid IP address or range.
+     */
+    public void feed(byte[] input, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, input.length);
+        ensureOpen();
+
+        try {
+            feeder.feedInput(input, offset, offset + length);
+            processAvailableTokens();
+        } catch (RuntimeException e) {
+            close();
+            throw e;
+        }
+    }
+
+    /**
+     * Feeds the remaining content of a byte buffer to this decoder. All values that are completed by the input are passed to the callback before
+     * this method returns. Afterwards, the buffer's position will be equal to its limit, and the buffer can be reused.
+     * <p>
+     * If an exception is thrown, this decoder is closed.
+     *
+     * @param input The buffer containing the input to feed.
+     * @throws NullPointerException If the given buffer is {@code null}.
+     * @throws IllegalStateException If this decoder is closed, or if {@link #endOfInput()} has been called.
+     * @throws JacksonException If the input could not be parsed.
+     * @throws IllegalArgumentException If a value is not a valid IP address or range.
+     */
+    public void feed(ByteBuffer input) {
+        int length = input.remaining();
+        if (input.hasArray()) {
+            feed(input.array(), input.arrayOffset() + input.position(), length);
+        } else {
+            if (scratch == null || scratch.length < length) {
+                scratch = new byte[length];
+            }
+            input.get(input.position(), scratch, 0, length);
+            feed(scratch, 0, length);
+        }
+        input.position(input.limit());
+    }
+
+    /**
+     * Signals that no more input will be fed to this decoder. All remaining values are passed to the callback before this method returns.
+     * Afterwards, this decoder is closed.
+     *
+     * @throws IllegalStateException If this decoder is closed.
+     * @throws JacksonException If the input that was fed is incomplete.
+     * @throws IllegalArgumentException If a value is not a valid IP address or range.
+     */
+    public void endOfInput() {
+        ensureOpen();
+
+        try {
+            feeder.endOfInput();
+            processAvailableTokens();
+        } finally {
+            close();
+        }
+    }
+
+    /**
+     * Closes this decoder. Any value that has not been completed is discarded.
+     */
+    @Override
+    public void close() {
+        if (!closed) {
+            closed = true;
+            buffer = null;
+            parser.close();
+        }
+    }
+
+    private void ensureOpen() {
+        if (closed) {
+            throw new IllegalStateException(Messages.AsyncDecoder.closed());
+        }
+    }
+
+    private void processAvailableTokens() {
+        JsonToken token;
+        while ((token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+            processToken(token);
+        }
+    }
+
+    private void processToken(JsonToken token) {
+        if (valueDepth == -1) {
+            if (token == JsonToken.START_ARRAY) {
+                // An array of values
+                valueDepth = 1;
+                depth = 1;
+                return;
+            }
+            // A root-level value
+            valueDepth = 0;
+        }
+
+        if (buffer != null) {
+            buffer.copyCurrentEvent(parser);
+            if (token.isStructStart()) {
+                depth++;
+            } else if (token.isStructEnd()) {
+                depth--;
+                if (depth == valueDepth) {
+                    processBufferedValue();
+                }
+            }
+        } else if (token.isStructStart()) {
+            buffer = TokenBuffer.forBuffering(parser, parser.objectReadContext());
+            buffer.copyCurrentEvent(parser);
+            depth++;
+        } else if (token.isStructEnd()) {
+            // The end of an array of values; it can be followed by another array or a root-level value
+            depth--;
+            valueDepth = -1;
+        } else {
+            // A scalar value is always complete
+            T value = reader.readValue(parser);
+            callback.accept(value);
+        }
+    }
+
+    private void processBufferedValue() {
+        try (JsonParser bufferParser = buffer.asParser(parser.objectReadContext())) {
+            buffer = null;
+            T value = reader.readValue(bufferParser);
+            callback.accept(value);
+        }
+    }
+}
@@ -0,0 +1,485 @@
+/*
+ * IPBulkLoader.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.net.ip.jackson.databind;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.Semaphore;
+import java.util.function.Consumer;
+import com.github.robtimus.net.ip.IPAddress;
+import com.github.robtimus.net.ip.IPRange;
+import com.github.robtimus.net.ip.Subnet;
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.exc.JacksonIOException;
+import tools.jackson.core.exc.StreamReadException;
+import tools.jackson.core.type.TypeReference;
+import tools.jackson.databind.MappingIterator;
+import tools.jackson.databind.ObjectReader;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * A loader for large JSON arrays of IP addresses and ranges that deserializes the array elements in parallel.
+ * <p>
+ * The input is scanned sequentially for element boundaries, and split into chunks of approximately the configured chunk size. Each chunk is then
+ * deserialized on a {@link ForkJoinPool} using the deserializers of the {@link IPModule}. Scanning only tracks string literals and nesting, so it is
+ * a lot cheaper than deserializing. The number of chunks that are scanned but not yet deserialized is limited to twice the pool's parallelism, and
+ * chunks are released as soon as they have been deserialized, so memory usage is bounded if the results are passed to a sink. Waiting for chunks to
+ * be deserialized is done using {@link ForkJoinPool#managedBlock(ForkJoinPool.ManagedBlocker)}, so loading can be started from a task running on
+ * the same pool.
+ * <p>
+ * Because each chunk is deserialized separately, the locations of {@link JacksonException JacksonExceptions} thrown while deserializing are relative
+ * to the start of the chunk, not the start of the input.
+ * <p>
+ * Instances of this class are thread-safe.
+ *
+ * @author Rob Spoor
+ */
+public final class IPBulkLoader {
+
+    private static final int DEFAULT_CHUNK_SIZE = 1024 * 1024;
+
+    private static final int BLOCK_SIZE = 64 * 1024;
+
+    private final JsonMapper mapper;
+    private final ForkJoinPool pool;
+    private final int chunkSize;
+
+    /**
+     * Creates a new bulk loader. It will use a {@link JsonMapper} with only an {@link IPModule} registered,
+     * the {@link ForkJoinPool#commonPool() common pool}, and a chunk size of 1 MiB.
+     */
+    public IPBulkLoader() {
+        this(JsonMapper.builder().addModule(IPModule.instance()).build(), ForkJoinPool.commonPool(), DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Creates a new bulk loader.
+     *
+     * @param mapper The mapper to use. It must have an {@link IPModule} registered.
+     * @param pool The pool to deserialize chunks on.
+     * @param chunkSize The minimum size of chunks in bytes. Chunks are only split between array elements, so they can be larger.
+     * @throws NullPointerException If the given mapper or pool is {@code null}.
+     * @throws IllegalArgumentException If the given chunk size is not positive.
+     */
+    public IPBulkLoader(JsonMapper mapper, ForkJoinPool pool, int chunkSize) {
+        this.mapper = Objects.requireNonNull(mapper);
+        this.pool = Objects.requireNonNull(pool);
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException(Messages.BulkLoader.invalidChunkSize(chunkSize));
+        }
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Loads all elements of a JSON array from an input stream. The input stream will be closed afterwards.
+     *
+     * @param <T> The type of values to load.
+     * @param input The input stream to load from.
+     * @param type The type of values to load. This should be {@link IPAddress}, {@link Subnet}, {@link IPRange} or one of their sub types.
+     * @return A list with the array elements, in the order in which they appear in the input.
+     * @throws NullPointerException If the given input stream or type is {@code null}.
+     * @throws JacksonException If the input is not an array, or if it could not be read.
+     * @throws IllegalArgumentException If an array element is not a valid IP address or range.
+     */
+    public <T> List<T> load(InputStream input, Class<T> type) {
+        return load(input, reader(type));
+    }
+
+    /**
+     * Loads all elements of a JSON array from an input stream. The input stream will be closed afterwards.
+     *
+     * @param <T> The type of values to load.
+     * @param input The input stream to load from.
+     * @param type A reference to the type of values to load, for instance {@code IPAddress<?>} or {@code IPRange<?>}.
+     * @return A list with the array elements, in the order in which they appear in the input.
+     * @throws NullPointerException If the given input stream or type is {@code null}.
+     * @throws JacksonException If the input is not an array, or if it could not be read.
+     * @throws IllegalArgumentException If an array element is not a valid IP address or range.
+     */
+    public <T> List<T> load(InputStream input, TypeReference<T> type) {
+        return load(input, reader(type));
+    }
+
+    /**
+     * Loads all elements of a JSON array from a file.
+     *
+     * @param <T> The type of values to load.
+     * @param path The path to the file to load from.
+     * @param type The type of values to load. This should be {@link IPAddress}, {@link Subnet}, {@link IPRange} or one of their sub types.
+     * @return A list with the array elements, in the order in which they appear in the file.
+     * @throws NullPointerException If the given path or type is {@code null}.
+     * @throws JacksonException If the file could not be opened, if it does not contain an array, or if it could not be read.
+     * @throws IllegalArgumentException If an array element is not a valid IP address or range.
+     */
+    public <T> List<T> load(Path path, Class<T> type) {
+        ObjectReader reader = reader(type);
+        return load(open(path), reader);
+    }
+
+    /**
+     * Loads all elements of a JSON array from a file.
+     *
+     * @param <T> The type of values to load.
+     * @param path The path to the file to load from.
+     * @param type A reference to the type of values to load, for instance {@code IPAddress<?>} or {@code IPRange<?>}.
+     * @return A list with the array elements, in the order in which they appear in the file.
+     * @throws NullPointerException If the given path or type is {@code null}.
+     * @throws JacksonException If the file could not be opened, if it does not contain an array, or if it could not be read.
+     * @throws IllegalArgumentException If an array element is not a valid IP address or range.
+     */
+    public <T> List<T> load(Path path, TypeReference<T> type) {
+        ObjectReader reader = reader(type);
+        return load(open(path), reader);
+    }
+
+    /**
+     * Loads all elements of a JSON array from an input stream, and passes them to a sink. The input stream will be closed afterwards.
+     * <p>
+     * Elements are passed to the sink as soon as they have been deserialized, from multiple threads and in no particular order.
+     * The sink must therefore be thread-safe. When this method returns normally, all elements have been passed to the sink.
+     *
+     * @param <T> The type of values to load.
+     * @param input The input stream to load from.
+     * @param type The type of values to load. This should be {@link IPAddress}, {@link Subnet}, {@link IPRange} or one of their sub types.
+     * @param sink The sink to pass the array elements to.
+     * @throws NullPointerException If the given input stream, type or sink is {@code null}.
+     * @throws JacksonException If the input is not an array, or if it could not be read.
+     * @throws IllegalArgumentException If an array element is not a valid IP address or range.
+     */
+    public <T> void load(InputStream input, Class<T> type, Consumer<? super T> sink) {
+        load(input, reader(type), sink);
+    }
+
+    /**
+     * Loads all elements of a JSON array from an input stream, and passes them to a sink. The input stream will be closed afterwards.
+     * <p>
+     * Elements are passed to the sink as soon as they have been deserialized, from multiple threads and in no particular order.
+     * The sink must therefore be thread-safe. When this method returns normally, all elements have been passed to the sink.
+     *
+     * @param <T> The type of values to load.
+     * @param input The input stream to load from.
+     * @param type A reference to the type of values to load, for instance {@code IPAddress<?>} or {@code IPRange<?>}.
+     * @param sink The sink to pass the array elements to.
+     * @throws NullPointerException If the given input stream, type or sink is {@code null}.
+     * @throws JacksonException If the input is not an array, or if it could not be read.
+     * @throws IllegalArgumentException If an array element is not a valid IP address or range.
+     */
+    public <T> void load(InputStream input, TypeReference<T> type, Consumer<? super T> sink) {
+        load(input, reader(type), sink);
+    }
+
+    /**
+     * Loads all elements of a JSON array from a file, and passes them to a sink.
+     * <p>
+     * Elements are passed to the sink as soon as they have been deserialized, from multiple threads and in no particular order.
+     * The sink must therefore be thread-safe. When this method returns normally, all elements have been passed to the sink.
+     *
+     * @param <T> The type of values to load.
+     * @param path The path to the file to load from.
+     * @param type The type of values to load. This should be {@link IPAddress}, {@link Subnet}, {@link IPRange} or one of their sub types.
+     * @param sink The sink to pass the array elements to.
+     * @throws NullPointerException If the given path, type or sink is {@code null}.
+     * @throws JacksonException If the file could not be opened, if it does not contain an array, or if it could not be read.
+     * @throws IllegalArgumentException If an array element is not a valid IP address or range.
+     */
+    public <T> void load(Path path, Class<T> type, Consumer<? super T> sink) {
+        ObjectReader reader = reader(type);
+        load(open(path), reader, sink);
+    }
+
+    /**
+     * Loads all elements of a JSON array from a file, and passes them to a sink.
+     * <p>
+     * Elements are passed to the sink as soon as they have been deserialized, from multiple threads and in no particular order.
+     * The sink must therefore be thread-safe. When this method returns normally, all elements have been passed to the sink.
+     *
+     * @param <T> The type of values to load.
+     * @param path The path to the file to load from.
+     * @param type A reference to the type of values to load, for instance {@code IPAddress<?>} or {@code IPRange<?>}.
+     * @param sink The sink to pass the array elements to.
+     * @throws NullPointerException If the given path, type or sink is {@code null}.
+     * @throws JacksonException If the file could not be opened, if it does not contain an array, or if it could not be read.
+     * @throws IllegalArgumentException If an array element is not a valid IP address or range.
+     */
+    public <T> void load(Path path, TypeReference<T> type, Consumer<? super T> sink) {
+        ObjectReader reader = reader(type);
+        load(open(path), reader, sink);
+    }
+
+    private ObjectReader reader(Class<?> type) {
+        Objects.requireNonNull(type);
+        return mapper.readerFor(type);
+    }
+
+    private ObjectReader reader(TypeReference<?> type) {
+        Objects.requireNonNull(type);
+        return mapper.readerFor(type);
+    }
+
+    private <T> List<T> load(InputStream input, ObjectReader reader) {
+        Objects.requireNonNull(input);
+
+        Load<List<T>> load = new Load<>(bytes -> readAll(reader, bytes));
+        load.scan(input);
+
+        List<T> result = new ArrayList<>();
+        for (ForkJoinTask<List<T>> task : load.tasks) {
+            result.addAll(task.join());
+        }
+        return result;
+    }
+
+    private <T> void load(InputStream input, ObjectReader reader, Consumer<? super T> sink) {
+        Objects.requireNonNull(input);
+        Objects.requireNonNull(sink);
+
+        Load<Void> load = new Load<>(bytes -> {
+            try (MappingIterator<T> iterator = reader.readValues(bytes)) {
+                while (iterator.hasNextValue()) {
+                    sink.accept(iterator.nextValue());
+                }
+            }
+            return null;
+        });
+        load.scan(input);
+
+        for (ForkJoinTask<Void> task : load.tasks) {
+            task.join();
+        }
+    }
+
+    private static InputStream open(Path path) {
+        try {
+            return Files.newInputStream(path);
+        } catch (IOException e) {
+            throw JacksonIOException.construct(e);
+        }
+    }
+
+    private static <T> List<T> readAll(ObjectReader reader, byte[] bytes) {
+        try (MappingIterator<T> iterator = reader.readValues(bytes)) {
+            List<T> values = new ArrayList<>();
+            while (iterator.hasNextValue()) {
+                values.add(iterator.nextValue());
+            }
+            return values;
+        }
+    }
+
+    interface ChunkReader<R> {
+
+        R read(byte[] chunk);
+    }
+
+    /**
+     * A task that deserializes a single chunk. The chunk is released when the task starts reading it, so tasks that are kept until all chunks have
+     * been deserialized do not keep their chunks in memory.
+     *
+     * @author Rob Spoor
+     * @param <R> The result type.
+     */
+    static final class ChunkTask<R> extends RecursiveTask<R> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final transient ChunkReader<R> chunkReader;
+
+        private transient byte[] chunk;
+
+        ChunkTask(ChunkReader<R> chunkReader, byte[] chunk) {
+            this.chunkReader = chunkReader;
+            this.chunk = chunk;
+        }
+
+        @Override
+        protected R compute() {
+            byte[] bytes = chunk;
+            chunk = null;
+            return chunkReader.read(bytes);
+        }
+    }
+
+    private final class Load<R> {
+
+        private final ChunkReader<R> chunkReader;
+        private final Semaphore inFlight;
+        private final List<ChunkTask<R>> tasks;
+
+        private volatile boolean failed;
+
+        // A chunk is stored wrapped in [ and ], so it can be deserialized as an array
+        private byte[] chunk;
+        private int chunkLength;
+
+        private Load(ChunkReader<R> chunkReader) {
+            this.chunkReader = chunkReader;
+            this.inFlight = new Semaphore(2 * pool.getParallelism());
+            this.tasks = new ArrayList<>();
+
+            this.chunk = new byte[Math.min(chunkSize, BLOCK_SIZE) + 2];
+            this.chunkLength = 0;
+        }
+
+        @SuppressWarnings("resource")
+        private void scan(InputStream input) {
+            try (InputStream in = input) {
+                scanArray(in);
+            } catch (IOException e) {
+                cancel();
+                throw JacksonIOException.construct(e);
+            } catch (RuntimeException e) {
+                cancel();
+                throw e;
+            }
+        }
+
+        private void scanArray(InputStream input) throws IOException {
+            byte[] block = new byte[BLOCK_SIZE];
+
+            boolean started = false;
+            int depth = 0;
+            boolean inString = false;
+            boolean escape = false;
+
+            int n;
+            while ((n = input.read(block)) != -1) {
+                for (int i = 0; i < n; i++) {
+                    byte b = block[i];
+                    if (!started) {
+                        if (!isWhitespace(b)) {
+                            if (b != '[') {
+                                throw new StreamReadException(null, Messages.BulkLoader.notAnArray((char) (b & 0xFF)));
+                            }
+                            started = true;
+                            depth = 1;
+                            startChunk();
+                        }
+                    } else if (inString) {
+                        if (escape) {
+                            escape = false;
+                        } else if (b == '\\') {
+                            escape = true;
+                        } else if (b == '"') {
+                            inString = false;
+                        }
+                        append(b);
+                    } else if (b == '"') {
+                        inString = true;
+                        append(b);
+                    } else if (b == '[' || b == '{') {
+                        depth++;
+                        append(b);
+                    } else if (b == ']' || b == '}') {
+                        depth--;
+                        if (depth == 0) {
+                            // The end of the array has been reached; any trailing content is ignored, like the mapper does by default
+                            submitChunk();
+                            return;
+                        }
+                        append(b);
+                    } else if (b == ',' && depth == 1 && chunkLength - 1 >= chunkSize) {
+                        submitChunk();
+                        if (failed) {
+                            // One of the previous chunks could not be deserialized; the join will throw its exception
+                            return;
+                        }
+                        startChunk();
+                    } else {
+                        append(b);
+                    }
+                }
+            }
+            throw new StreamReadException(null, Messages.BulkLoader.unexpectedEndOfInput());
+        }
+
+        private boolean isWhitespace(byte b) {
+            return b == ' ' || b == '\t' || b == '\n' || b == '\r';
+        }
+
+        private void startChunk() {
+            chunk[0] = '[';
+            chunkLength = 1;
+        }
+
+        private void append(byte b) {
+            if (chunkLength == chunk.length - 1) {
+                // Keep room for the closing ]
+                chunk = Arrays.copyOf(chunk, chunk.length * 2);
+            }
+            chunk[chunkLength++] = b;
+        }
+
+        private void submitChunk() {
+            chunk[chunkLength++] = ']';
+            byte[] bytes = Arrays.copyOf(chunk, chunkLength);
+
+            acquireInFlight();
+            ChunkTask<R> task = new ChunkTask<>(this::read, bytes);
+            tasks.add(task);
+            pool.execute(task);
+        }
+
+        private void acquireInFlight() {
+            try {
+                // If the current thread is a worker of the pool, the pool can compensate for it while it's blocked
+                ForkJoinPool.managedBlock(new ForkJoinPool.ManagedBlocker() {
+
+                    @Override
+                    public boolean block() {
+                        inFlight.acquireUninterruptibly();
+                        return true;
+                    }
+
+                    @Override
+                    public boolean isReleasable() {
+                        return inFlight.tryAcquire();
+                    }
+                });
+            } catch (InterruptedException e) {
+                // block() does not throw InterruptedException, but restore the interrupted status just in case
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        private R read(byte[] bytes) {
+            try {
+                return chunkReader.read(bytes);
+            } catch (RuntimeException e) {
+                failed = true;
+                throw e;
+            } finally {
+                inFlight.release();
+            }
+        }
+
+        private void cancel() {
+            for (ChunkTask<R> task : tasks) {
+                task.cancel(false);
+            }
+        }
+    }
+}
@@ -0,0 +1,364 @@
+/*
+ * IPDeltaEncoding.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.net.ip.jackson.databind;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.github.robtimus.net.ip.IPv4Address;
+import com.github.robtimus.net.ip.IPv6Address;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.databind.BeanProperty;
+import tools.jackson.databind.DeserializationContext;
+import tools.jackson.databind.SerializationContext;
+
+/**
+ * Support for writing sorted IP addresses and ranges as deltas. Each value is written as the difference with the previous value, as an unsigned
+ * variable length integer: 7 bits per byte, least significant bits first, with the most significant bit of each byte set if more bytes follow.
+ * The bytes are written as a single binary value, which is a base64 string for JSON.
+ * <p>
+ * Sorted addresses are often close together, so most deltas take only one or two bytes instead of up to 15 characters for IPv4 addresses.
+ * Reading deltas only takes some arithmetic per address, instead of parsing text.
+ *
+ * @author Rob Spoor
+ */
+final class IPDeltaEncoding {
+
+    private static final int VALUE_BITS = 7;
+    private static final int VALUE_MASK = 0x7F;
+    private static final int CONTINUATION_BIT = 0x80;
+
+    private static final int MAX_BITS = 2 * Long.SIZE;
+
+    private IPDeltaEncoding() {
+    }
+
+    /**
+     * Returns whether or not values should be written as deltas, which is the case if the shape is {@link JsonFormat.Shape#BINARY}.
+     */
+    static boolean isEnabled(SerializationContext ctxt, BeanProperty property, Class<?> type) {
+        JsonFormat.Value format = property != null
+                ? property.findPropertyFormat(ctxt.getConfig(), type)
+                : ctxt.getDefaultPropertyFormat(type);
+        return format.getShape() == JsonFormat.Shape.BINARY;
+    }
+
+    /**
+     * Returns whether or not the current token of a parser is a binary value with deltas. For JSON this is a string.
+     */
+    static boolean isDeltaEncoded(JsonParser p) {
+        return p.hasToken(JsonToken.VALUE_STRING) || p.hasToken(JsonToken.VALUE_EMBEDDED_OBJECT);
+    }
+
+    /**
+     * Reads the deltas of the current token of a parser.
+     *
+     * @return The number of bytes read.
+     */
+    static int read(JsonParser p, DeserializationContext ctxt, Decoder<?> decoder) {
+        int length = p.readBinaryValue(ctxt.getBase64Variant(), decoder);
+        decoder.finish();
+        return length;
+    }
+
+    /**
+     * Writes unsigned variable length integers as an input stream. Values are only encoded when the stream is read, into a small buffer,
+     * so the bytes of all values are never stored at the same time, and the size of the output is not limited by the size of an array.
+     *
+     * @author Rob Spoor
+     */
+    abstract static class Encoder extends InputStream {
+
+        private static final int BUFFER_SIZE = 8 * 1024;
+
+        // Room for the longest variable length integer, for 128 bits
+        private static final int MAX_VALUE_LENGTH = (MAX_BITS + VALUE_BITS - 1) / VALUE_BITS;
+
+        // Room for two values, the most that encodeNext may write
+        private static final int MAX_ENCODE_LENGTH = 2 * MAX_VALUE_LENGTH;
+
+        private final byte[] buffer = new byte[BUFFER_SIZE];
+        private int position = 0;
+        private int limit = 0;
+        private boolean exhausted = false;
+
+        /**
+         * Encodes the next one or two values, using {@link #write(long)}, {@link #write(long, long)}
+         * or {@link #writeDifference(long, long, long, long)}.
+         *
+         * @return {@code true} if values were encoded, or {@code false} if there are no more values.
+         */
+        abstract boolean encodeNext();
+
+        /**
+         * Writes an unsigned value of up to 64 bits.
+         */
+        void write(long value) {
+            write(0, value);
+        }
+
+        /**
+         * Writes an unsigned value of up to 128 bits.
+         */
+        void write(long highValue, long lowValue) {
+            long high = highValue;
+            long low = lowValue;
+            while (high != 0 || (low & ~VALUE_MASK) != 0) {
+                buffer[limit++] = (byte) (low & VALUE_MASK | CONTINUATION_BIT);
+                low = low >>> VALUE_BITS | high << (Long.SIZE - VALUE_BITS);
+                high >>>= VALUE_BITS;
+            }
+            buffer[limit++] = (byte) low;
+        }
+
+        /**
+         * Writes the difference between two IPv6 addresses, which must be sorted.
+         */
+        void writeDifference(long highAddress, long lowAddress, long previousHighAddress, long previousLowAddress) {
+            // The borrow is 1 if the low address is smaller than the previous low address
+            long borrow = Long.compareUnsigned(lowAddress, previousLowAddress) < 0 ? 1 : 0;
+            write(highAddress - previousHighAddress - borrow, lowAddress - previousLowAddress);
+        }
+
+        /**
+         * Refills the buffer if all of its bytes have been read.
+         *
+         * @return {@code true} if there are bytes left to read, or {@code false} if all values have been read.
+         */
+        private boolean fill() {
+            if (position < limit) {
+                return true;
+            }
+            position = 0;
+            limit = 0;
+            while (!exhausted && limit <= BUFFER_SIZE - MAX_ENCODE_LENGTH) {
+                exhausted = !encodeNext();
+            }
+            return limit > 0;
+        }
+
+        @Override
+        public int read() {
+            return fill() ? buffer[position++] & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (len == 0) {
+                return 0;
+            }
+            if (!fill()) {
+                return -1;
+            }
+            int count = Math.min(len, limit - position);
+            System.arraycopy(buffer, position, b, off, count);
+            position += count;
+            return count;
+        }
+
+        /**
+         * Writes all values as a single binary value. The values are encoded while they are written.
+         *
+         * @return The number of bytes written, before any base64 encoding.
+         */
+        int writeTo(JsonGenerator gen, SerializationContext ctxt) {
+            return gen.writeBinary(ctxt.getConfig().getBase64Variant(), this, -1);
+        }
+    }
+
+    /**
+     * Reads unsigned variable length integers of up to 128 bits as they are written to it.
+     * This allows deltas to be decoded while the binary value is read, without storing all bytes first.
+     *
+     * @author Rob Spoor
+     * @param <R> The type of result.
+     */
+    abstract static class Decoder<R> extends OutputStream {
+
+        private static final long MAX_IPV4_VALUE = 0xFFFF_FFFFL;
+
+        private final Class<?> type;
+
+        private long high = 0;
+        private long low = 0;
+        private int shift = 0;
+
+        // The result of the last call to addIPv6
+        long sumHigh;
+        long sumLow;
+
+        Decoder(Class<?> type) {
+            this.type = type;
+        }
+
+        @Override
+        public void write(int b) {
+            long bits = b & VALUE_MASK;
+            if (shift >= MAX_BITS || shift > MAX_BITS - VALUE_BITS && bits >>> (MAX_BITS - shift) != 0) {
+                throw valueOutOfRange();
+            }
+            if (shift < Long.SIZE) {
+                low |= bits << shift;
+                if (shift > Long.SIZE - VALUE_BITS) {
+                    high |= bits >>> (Long.SIZE - shift);
+                }
+            } else {
+                high |= bits << (shift - Long.SIZE);
+            }
+            if ((b & CONTINUATION_BIT) != 0) {
+                shift += VALUE_BITS;
+            } else {
+                value(high, low);
+                high = 0;
+                low = 0;
+                shift = 0;
+            }
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            for (int i = off, end = off + len; i < end; i++) {
+                write(b[i]);
+            }
+        }
+
+        private void finish() {
+            if (shift != 0) {
+                throw incompleteValue();
+            }
+        }
+
+        /**
+         * Adds a decoded value to an IPv4 address.
+         *
+         * @return The resulting IPv4 address, as an unsigned value.
+         * @throws IllegalArgumentException If the result is not a valid IPv4 address.
+         */
+        final long addIPv4(long address, long highValue, long lowValue) {
+            long result = address + lowValue;
+            if (highValue != 0 || lowValue < 0 || result > MAX_IPV4_VALUE) {
+                throw valueOutOfRange();
+            }
+            return result;
+        }
+
+        /**
+         * Adds a decoded value to an IPv6 address. The result is stored in {@link #sumHigh} and {@link #sumLow}.
+         *
+         * @throws IllegalArgumentException If the result is not a valid IPv6 address.
+         */
+        final void addIPv6(long highAddress, long lowAddress, long highValue, long lowValue) {
+            long resultLow = lowAddress + lowValue;
+            long carry = Long.compareUnsigned(resultLow, lowAddress) < 0 ? 1 : 0;
+            long resultHigh = highAddress + highValue + carry;
+            // The sum overflows if and only if it is smaller than the address
+            if (IPAddressText.compareIPv6(resultHigh, resultLow, highAddress, lowAddress) < 0) {
+                throw valueOutOfRange();
+            }
+            sumHigh = resultHigh;
+            sumLow = resultLow;
+        }
+
+        final IllegalArgumentException valueOutOfRange() {
+            return new IllegalArgumentException(Messages.IPDeltaEncoding.valueOutOfRange(type.getSimpleName()));
+        }
+
+        final IllegalArgumentException incompleteValue() {
+            return new IllegalArgumentException(Messages.IPDeltaEncoding.incompleteValue(type.getSimpleName()));
+        }
+
+        /**
+         * Called for each decoded value.
+         *
+         * @param highValue The high 64 bits of the value.
+         * @param lowValue The low 64 bits of the value.
+         */
+        abstract void value(long highValue, long lowValue);
+
+        /**
+         * Creates a result from the decoded values.
+         *
+         * @return The created result.
+         */
+        abstract R result();
+    }
+
+    /**
+     * Decodes deltas between sorted IPv4 addresses.
+     *
+     * @author Rob Spoor
+     * @param <R> The type of result.
+     */
+    static final class IPv4Addresses<R> extends Decoder<R> {
+
+        private final IPAddressCollector.IPv4.Sink<R> sink;
+
+        private long previous = 0;
+
+        IPv4Addresses(IPAddressCollector.IPv4.Sink<R> sink) {
+            super(IPv4Address.class);
+            this.sink = sink;
+        }
+
+        @Override
+        void value(long highValue, long lowValue) {
+            long address = addIPv4(previous, highValue, lowValue);
+            sink.add((int) address);
+            previous = address;
+        }
+
+        @Override
+        R result() {
+            return sink.finish();
+        }
+    }
+
+    /**
+     * Decodes deltas between sorted IPv6 addresses.
+     *
+     * @author Rob Spoor
+     * @param <R> The type of result.
+     */
+    static final class IPv6Addresses<R> extends Decoder<R> {
+
+        private final IPAddressCollector.IPv6.Sink<R> sink;
+
+        private long previousHigh = 0;
+        private long previousLow = 0;
+
+        IPv6Addresses(IPAddressCollector.IPv6.Sink<R> sink) {
+            super(IPv6Address.class);
+            this.sink = sink;
+        }
+
+        @Override
+        void value(long highValue, long lowValue) {
+            addIPv6(previousHigh, previousLow, highValue, lowValue);
+            sink.add(sumHigh, sumLow);
+            previousHigh = sumHigh;
+            previousLow = sumLow;
+        }
+
+        @Override
+        R result() {
+            return sink.finish();
+        }
+    }
+}
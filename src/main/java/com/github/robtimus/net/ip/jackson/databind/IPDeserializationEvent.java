@@ -0,0 +1,91 @@
+/*
+ * IPDeserializationEvent.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.net.ip.jackson.databind;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.SettingDefinition;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+import tools.jackson.core.TokenStreamFactory;
+import tools.jackson.databind.DeserializationContext;
+
+/**
+ * A JFR event for successfully deserializing an IP address or range.
+ * <p>
+ * Events are recorded if deserializing takes at least the configured threshold, and if they are sampled. By default, the threshold is 1 ms and all
+ * events are sampled. For instance, to record one in every 1000 values regardless of their duration, use threshold {@code 0 ms} and sample
+ * interval {@code 1000}.
+ *
+ * @author Rob Spoor
+ */
+@Name(IPDeserializationEvent.NAME)
+@Label("IP Deserialization")
+@Description("Deserializing an IP address or range")
+@Category({ "Jackson", "IP" })
+@Threshold("1 ms")
+@StackTrace(false)
+final class IPDeserializationEvent extends Event {
+
+    static final String NAME = "com.github.robtimus.ip.jackson.databind.Deserialization"; //$NON-NLS-1$
+
+    @Label("Type")
+    @Description("The type handled by the deserializer")
+    Class<?> type;
+
+    @Label("Input Length")
+    @Description("The number of characters of the deserialized text")
+    int inputLength;
+
+    @Label("Format")
+    @Description("The name of the data format")
+    String format;
+
+    @Label("Mapper")
+    @Description("The identity hash code of the token stream factory of the mapper")
+    int mapper;
+
+    static IPDeserializationEvent start() {
+        IPDeserializationEvent event = new IPDeserializationEvent();
+        event.begin();
+        return event;
+    }
+
+    void commit(Class<?> handledType, int length, DeserializationContext ctxt) {
+        // Don't use shouldCommit, as that would sample the event twice
+        if (isEnabled()) {
+            TokenStreamFactory streamFactory = ctxt.tokenStreamFactory();
+            type = handledType;
+            inputLength = length;
+            format = streamFactory.getFormatName();
+            mapper = System.identityHashCode(streamFactory);
+            commit();
+        }
+    }
+
+    @Name(SampleIntervalControl.NAME)
+    @Label("Sample Interval")
+    @Description("Record one in every n events")
+    @SettingDefinition
+    protected boolean sampleInterval(SampleIntervalControl control) {
+        return control.sample();
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * IPDeserializationFailedEvent.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.net.ip.jackson.databind;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import tools.jackson.core.TokenStreamFactory;
+import tools.jackson.databind.DeserializationContext;
+
+/**
+ * A JFR event for failing to deserialize an IP address or range. Unlike {@link IPDeserializationEvent}, these events are not filtered by default.
+ *
+ * @author Rob Spoor
+ */
+@Name(IPDeserializationFailedEvent.NAME)
+@Label("IP Deserialization Failed")
+@Description("Failing to deserialize an IP address or range")
+@Category({ "Jackson", "IP" })
+final class IPDeserializationFailedEvent extends Event {
+
+    static final String NAME = "com.github.robtimus.ip.jackson.databind.DeserializationFailed"; //$NON-NLS-1$
+
+    @Label("Type")
+    @Description("The type handled by the deserializer")
+    Class<?> type;
+
+    @Label("Input Length")
+    @Description("The number of characters of the text that could not be deserialized")
+    int inputLength;
+
+    @Label("Format")
+    @Description("The name of the data format")
+    String format;
+
+    @Label("Mapper")
+    @Description("The identity hash code of the token stream factory of the mapper")
+    int mapper;
+
+    @Label("Exception")
+    @Description("The type of exception that was thrown")
+    Class<?> exception;
+
+    @Label("Message")
+    @Description("The message of the exception that was thrown")
+    String message;
+
+    static void record(Class<?> handledType, int length, DeserializationContext ctxt, Throwable cause) {
+        IPDeserializationFailedEvent event = new IPDeserializationFailedEvent();
+        if (event.isEnabled()) {
+            TokenStreamFactory streamFactory = ctxt.tokenStreamFactory();
+            event.type = handledType;
+            event.inputLength = length;
+            event.format = streamFactory.getFormatName();
+            event.mapper = System.identityHashCode(streamFactory);
+            event.exception = cause.getClass();
+            event.message = cause.getMessage();
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * IPInstrumentation.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.net.ip.jackson.databind;
+
+/**
+ * Instrumentation for the serializers and deserializers of {@link IPModule}.
+ * <p>
+ * Instrumentation is only used by modules that are created using {@link IPModule#withInstrumentation(IPInstrumentation)}. Other modules do not
+ * use any instrumentation, and therefore do not have any overhead.
+ * <p>
+ * {@link IPMetrics} is an implementation that collects counters that can be exported to any metrics system.
+ *
+ * @author Rob Spoor
+ */
+public interface IPInstrumentation {
+
+    /**
+     * Returns a recorder for a specific type.
+     * <p>
+     * This method is called when serializers and deserializers are created, not for each value. Implementations should return recorders that can
+     * record values without any additional lookups.
+     *
+     * @param type The type handled by the serializer or deserializer that will use the recorder.
+     * @return A recorder for the given type.
+     */
+    Recorder recorder(Class<?> type);
+
+    /**
+     * The operations that can be instrumented.
+     *
+     * @author Rob Spoor
+     */
+    enum Operation {
+        /** Serializing a value. */
+        SERIALIZATION,
+        /** Deserializing a value. */
+        DESERIALIZATION,
+    }
+
+    /**
+     * An object that records serialization and deserialization events for a single type.
+     * <p>
+     * Recorders can be called from several threads concurrently, and are called for each value. Implementations should therefore be thread-safe
+     * and cheap.
+     *
+     * @author Rob Spoor
+     */
+    interface Recorder {
+
+        /**
+         * Returns whether or not the latency of the next value should be measured. If this method returns {@code true}, the latency of the next
+         * value is reported using {@link #latency(Operation, long)}.
+         *
+         * @return {@code true} to measure the latency of the next value, or {@code false} otherwise.
+         */
+        boolean sampleLatency();
+
+        /**
+         * Records that a value was serialized.
+         *
+         * @param bytesWritten The number of bytes written for the value, or {@code -1} if that could not be determined.
+         *                         That happens if the generator does not buffer its output, or if it flushed its buffer while the value was being
+         *                         written.
+         */
+        void serialized(int bytesWritten);
+
+        /**
+         * Records that a value was deserialized.
+         */
+        void deserialized();
+
+        /**
+         * Records that serializing or deserializing a value failed.
+         *
+         * @param operation The operation that failed.
+         * @param cause The cause of the failure.
+         */
+        void failed(Operation operation, Throwable cause);
+
+        /**
+         * Records the latency of serializing or deserializing a value.
+         * This method is only called if {@link #sampleLatency()} returned {@code true} for the value, and the operation did not fail.
+         *
+         * @param operation The operation that was measured.
+         * @param nanos The latency in nanoseconds.
+         */
+        void latency(Operation operation, long nanos);
+    }
+}
@@ -0,0 +1,217 @@
+/*
+ * IPMetrics.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.net.ip.jackson.databind;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * An {@link IPInstrumentation} that collects counters per handled type.
+ * <p>
+ * All counters are striped, so recording values from several threads concurrently does not cause contention.
+ * Use {@link #snapshot()} or {@link #snapshot(Class)} to export the counters to a metrics system.
+ * <p>
+ * Example usage:
+ * <pre><code>
+ * IPMetrics metrics = new IPMetrics(100);
+ * JsonMapper mapper = JsonMapper.builder()
+ *         .addModule(IPModule.withInstrumentation(metrics))
+ *         .build();
+ * ...
+ * IPMetrics.Snapshot snapshot = metrics.snapshot(IPv4Address.class);
+ * </code></pre>
+ *
+ * @author Rob Spoor
+ */
+public final class IPMetrics implements IPInstrumentation {
+
+    private final int latencySampleInterval;
+
+    private final ConcurrentMap<Class<?>, TypeCounters> countersPerType = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a new metrics object that does not measure latency.
+     */
+    public IPMetrics() {
+        this(0);
+    }
+
+    /**
+     * Creates a new metrics object.
+     *
+     * @param latencySampleInterval The interval for measuring latency. On average, the latency of one in every {@code latencySampleInterval}
+     *                                  values is measured. Use {@code 1} to measure the latency of all values, or {@code 0} to not measure
+     *                                  latency at all.
+     * @throws IllegalArgumentException If the given interval is negative.
+     */
+    public IPMetrics(int latencySampleInterval) {
+        if (latencySampleInterval < 0) {
+            throw new IllegalArgumentException(Messages.IPMetrics.invalidLatencySampleInterval(latencySampleInterval));
+        }
+        this.latencySampleInterval = latencySampleInterval;
+    }
+
+    @Override
+    public Recorder recorder(Class<?> type) {
+        return countersPerType.computeIfAbsent(type, t -> new TypeCounters());
+    }
+
+    /**
+     * Returns a snapshot of the current counters for all types that have been handled.
+     *
+     * @return An unmodifiable map with a snapshot of the current counters per type.
+     */
+    public Map<Class<?>, Snapshot> snapshot() {
+        Map<Class<?>, Snapshot> snapshots = new HashMap<>();
+        countersPerType.forEach((type, counters) -> snapshots.put(type, counters.snapshot()));
+        return Collections.unmodifiableMap(snapshots);
+    }
+
+    /**
+     * Returns a snapshot of the current counters for a specific type.
+     *
+     * @param type The type to return a snapshot for. This should be the type that is handled by a serializer or deserializer,
+     *                 e.g. {@code IPAddress.class} for values declared as {@code IPAddress}, and {@code IPv4Address.class} for values declared as
+     *                 {@code IPv4Address}.
+     * @return A snapshot of the current counters for the given type. All counters will be {@code 0} if the type has not been handled.
+     */
+    public Snapshot snapshot(Class<?> type) {
+        TypeCounters counters = countersPerType.get(type);
+        return counters != null ? counters.snapshot() : Snapshot.EMPTY;
+    }
+
+    private final class TypeCounters implements Recorder {
+
+        private final OperationCounters serialization = new OperationCounters();
+        private final OperationCounters deserialization = new OperationCounters();
+        private final LongAdder bytesWritten = new LongAdder();
+
+        @Override
+        public boolean sampleLatency() {
+            return latencySampleInterval > 0 && (latencySampleInterval == 1 || ThreadLocalRandom.current().nextInt(latencySampleInterval) == 0);
+        }
+
+        @Override
+        public void serialized(int bytes) {
+            serialization.count.increment();
+            if (bytes >= 0) {
+                bytesWritten.add(bytes);
+            }
+        }
+
+        @Override
+        public void deserialized() {
+            deserialization.count.increment();
+        }
+
+        @Override
+        public void failed(Operation operation, Throwable cause) {
+            counters(operation).failures.computeIfAbsent(cause.getClass(), c -> new LongAdder()).increment();
+        }
+
+        @Override
+        public void latency(Operation operation, long nanos) {
+            OperationCounters counters = counters(operation);
+            counters.latencySamples.increment();
+            counters.totalLatencyNanos.add(nanos);
+            counters.maxLatencyNanos.accumulate(nanos);
+        }
+
+        private OperationCounters counters(Operation operation) {
+            return operation == Operation.SERIALIZATION ? serialization : deserialization;
+        }
+
+        private Snapshot snapshot() {
+            return new Snapshot(serialization.snapshot(), deserialization.snapshot(), bytesWritten.sum());
+        }
+    }
+
+    private static final class OperationCounters {
+
+        private final LongAdder count = new LongAdder();
+        private final ConcurrentMap<Class<? extends Throwable>, LongAdder> failures = new ConcurrentHashMap<>();
+        private final LongAdder latencySamples = new LongAdder();
+        private final LongAdder totalLatencyNanos = new LongAdder();
+        private final LongAccumulator maxLatencyNanos = new LongAccumulator(Math::max, 0);
+
+        private OperationSnapshot snapshot() {
+            Map<Class<? extends Throwable>, Long> failureCounts = new HashMap<>();
+            failures.forEach((cause, failureCount) -> failureCounts.put(cause, failureCount.sum()));
+            return new OperationSnapshot(count.sum(), Collections.unmodifiableMap(failureCounts),
+                    latencySamples.sum(), totalLatencyNanos.sum(), maxLatencyNanos.get());
+        }
+    }
+
+    /**
+     * A snapshot of the counters for a single type.
+     * <p>
+     * Because counters are updated concurrently, values in a snapshot may not be completely consistent with each other.
+     *
+     * @author Rob Spoor
+     * @param serialization The counters for serializing values.
+     * @param deserialization The counters for deserializing values.
+     * @param bytesWritten The total number of bytes written while serializing values, insofar that could be determined.
+     *                         See {@link Recorder#serialized(int)} for more information.
+     */
+    public record Snapshot(OperationSnapshot serialization, OperationSnapshot deserialization, long bytesWritten) {
+
+        private static final Snapshot EMPTY = new Snapshot(OperationSnapshot.EMPTY, OperationSnapshot.EMPTY, 0);
+    }
+
+    /**
+     * A snapshot of the counters for a single operation of a single type.
+     *
+     * @author Rob Spoor
+     * @param count The number of values for which the operation succeeded.
+     * @param failures The number of values for which the operation failed, per type of cause.
+     * @param latencySamples The number of values for which the latency was measured.
+     * @param totalLatencyNanos The sum of all measured latencies, in nanoseconds.
+     * @param maxLatencyNanos The maximum measured latency, in nanoseconds.
+     */
+    public record OperationSnapshot(long count, Map<Class<? extends Throwable>, Long> failures,
+            long latencySamples, long totalLatencyNanos, long maxLatencyNanos) {
+
+        private static final OperationSnapshot EMPTY = new OperationSnapshot(0, Collections.emptyMap(), 0, 0, 0);
+
+        /**
+         * Returns the total number of failures, regardless of their cause.
+         *
+         * @return The total number of failures.
+         */
+        public long failureCount() {
+            return failures.values().stream()
+                    .mapToLong(Long::longValue)
+                    .sum();
+        }
+
+        /**
+         * Returns the mean measured latency.
+         *
+         * @return The mean measured latency in nanoseconds, or {@code 0} if no latency was measured.
+         */
+        public double meanLatencyNanos() {
+            return latencySamples == 0 ? 0 : (double) totalLatencyNanos / latencySamples;
+        }
+    }
+}
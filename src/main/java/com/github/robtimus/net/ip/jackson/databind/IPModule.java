@@ -17,6 +17,7 @@
 
 package com.github.robtimus.net.ip.jackson.databind;
 
+import java.util.Objects;
 import com.github.robtimus.net.ip.IPAddress;
 import com.github.robtimus.net.ip.IPRange;
 import com.github.robtimus.net.ip.IPv4Address;
@@ -28,12 +29,27 @@ import com.github.robtimus.net.ip.IPv6Subnet;
 import com.github.robtimus.net.ip.Subnet;
 import tools.jackson.core.Version;
 import tools.jackson.databind.JacksonModule;
+import tools.jackson.databind.ValueDeserializer;
+import tools.jackson.databind.ValueSerializer;
 import tools.jackson.databind.cfg.MapperBuilder;
 import tools.jackson.databind.module.SimpleDeserializers;
 import tools.jackson.databind.module.SimpleSerializers;
 
 /**
  * A module that adds support for serializing and deserializing IP addresses and ranges values.
+ * <p>
+ * IP addresses and ranges can also be used as polymorphic values. If the declared type is {@link IPAddress}, {@link Subnet} or {@link IPRange},
+ * type ids are omitted for values that are written as strings, because the actual type follows from the text. This module also registers short
+ * type names like {@code IPv4Address} and {@code IPv6Range}, for use with {@code JsonTypeInfo.Id.NAME}.
+ * <p>
+ * Besides IP addresses and ranges, this module supports the compact collection types of this package, like {@link IPv4AddressArray},
+ * {@link IPRangeSet} and {@link SubnetMap}.
+ * Serializers and deserializers that use a different format for IP addresses and ranges are not registered; these can be used for specific
+ * properties instead.
+ * <p>
+ * Use {@link #withInstrumentation(IPInstrumentation)} to create a module that reports all serialized and deserialized values to an
+ * {@link IPInstrumentation}, for instance an {@link IPMetrics}. Register such a module after calling {@link MapperBuilder#findAndAddModules()},
+ * so it replaces the module without instrumentation.
  *
  * @author Rob Spoor
  */
@@ -41,6 +57,8 @@ public final class IPModule extends JacksonModule {
 
     private static final IPModule INSTANCE = new IPModule();
 
+    private final IPInstrumentation instrumentation;
+
     /**
      * Creates a new module.
      * <p>
@@ -48,7 +66,12 @@ public final class IPModule extends JacksonModule {
      * only.
      */
     public IPModule() {
+        this(null);
+    }
+
+    private IPModule(IPInstrumentation instrumentation) {
         super();
+        this.instrumentation = instrumentation;
     }
 
     @Override
@@ -65,44 +88,98 @@ public final class IPModule extends JacksonModule {
     public void setupModule(SetupContext context) {
         setupSerializers(context);
         setupDeserializers(context);
+        setupSubtypes(context);
     }
 
     private void setupSerializers(SetupContext context) {
         SimpleSerializers serializers = new SimpleSerializers();
 
-        serializers.addSerializer(IPAddressSerializer.IPv4.INSTANCE);
-        serializers.addSerializer(IPAddressSerializer.IPv6.INSTANCE);
-        serializers.addSerializer(IPAddressSerializer.AnyVersion.INSTANCE);
+        addSerializer(serializers, IPAddressSerializer.IPv4.INSTANCE);
+        addSerializer(serializers, IPAddressSerializer.IPv6.INSTANCE);
+        addSerializer(serializers, IPAddressSerializer.AnyVersion.INSTANCE);
+
+        addSerializer(serializers, SubnetSerializer.IPv4.INSTANCE);
+        addSerializer(serializers, SubnetSerializer.IPv6.INSTANCE);
+        addSerializer(serializers, SubnetSerializer.AnyVersion.INSTANCE);
+
+        addSerializer(serializers, IPRangeSerializer.IPv4.INSTANCE);
+        addSerializer(serializers, IPRangeSerializer.IPv6.INSTANCE);
+        addSerializer(serializers, IPRangeSerializer.AnyVersion.INSTANCE);
+
+        addSerializer(serializers, IPAddressArraySerializer.IPv4.INSTANCE);
+        addSerializer(serializers, IPAddressArraySerializer.IPv6.INSTANCE);
+
+        addSerializer(serializers, IPAddressSetSerializer.IPv4.INSTANCE);
+        addSerializer(serializers, IPAddressSetSerializer.IPv6.INSTANCE);
 
-        serializers.addSerializer(SubnetSerializer.IPv4.INSTANCE);
-        serializers.addSerializer(SubnetSerializer.IPv6.INSTANCE);
-        serializers.addSerializer(SubnetSerializer.AnyVersion.INSTANCE);
+        addSerializer(serializers, IPAddressTableSerializer.IPv4.INSTANCE);
+        addSerializer(serializers, IPAddressTableSerializer.IPv6.INSTANCE);
 
-        serializers.addSerializer(IPRangeSerializer.IPv4.INSTANCE);
-        serializers.addSerializer(IPRangeSerializer.IPv6.INSTANCE);
-        serializers.addSerializer(IPRangeSerializer.AnyVersion.INSTANCE);
+        addSerializer(serializers, IPAddressFilterSerializer.IPv4.INSTANCE);
+        addSerializer(serializers, IPAddressFilterSerializer.IPv6.INSTANCE);
+
+        addSerializer(serializers, IPRangeSetSerializer.INSTANCE);
+        addSerializer(serializers, IPRangeSnapshotSerializer.INSTANCE);
+        addSerializer(serializers, MutableIPRangeSetSerializer.INSTANCE);
+
+        addSerializer(serializers, SubnetMapSerializer.INSTANCE);
 
         context.addSerializers(serializers);
     }
 
+    private void addSerializer(SimpleSerializers serializers, ValueSerializer<?> serializer) {
+        serializers.addSerializer(instrumentation != null
+                ? InstrumentedSerializer.instrument(serializer, instrumentation)
+                : serializer);
+    }
+
     private void setupDeserializers(SetupContext context) {
         SimpleDeserializers deserializers = new SimpleDeserializers();
 
-        deserializers.addDeserializer(IPv4Address.class, IPAddressDeserializer.IPv4.INSTANCE);
-        deserializers.addDeserializer(IPv6Address.class, IPAddressDeserializer.IPv6.INSTANCE);
-        deserializers.addDeserializer(IPAddress.class, IPAddressDeserializer.AnyVersion.INSTANCE);
+        addDeserializer(deserializers, IPv4Address.class, IPAddressDeserializer.IPv4.INSTANCE);
+        addDeserializer(deserializers, IPv6Address.class, IPAddressDeserializer.IPv6.INSTANCE);
+        addDeserializer(deserializers, IPAddress.class, IPAddressDeserializer.AnyVersion.INSTANCE);
+
+        addDeserializer(deserializers, IPv4Subnet.class, SubnetDeserializer.IPv4.INSTANCE);
+        addDeserializer(deserializers, IPv6Subnet.class, SubnetDeserializer.IPv6.INSTANCE);
+        addDeserializer(deserializers, Subnet.class, SubnetDeserializer.AnyVersion.INSTANCE);
+
+        addDeserializer(deserializers, IPv4Range.class, IPRangeDeserializer.IPv4.INSTANCE);
+        addDeserializer(deserializers, IPv6Range.class, IPRangeDeserializer.IPv6.INSTANCE);
+        addDeserializer(deserializers, IPRange.class, IPRangeDeserializer.AnyVersion.INSTANCE);
 
-        deserializers.addDeserializer(IPv4Subnet.class, SubnetDeserializer.IPv4.INSTANCE);
-        deserializers.addDeserializer(IPv6Subnet.class, SubnetDeserializer.IPv6.INSTANCE);
-        deserializers.addDeserializer(Subnet.class, SubnetDeserializer.AnyVersion.INSTANCE);
+        addDeserializer(deserializers, IPv4AddressArray.class, IPAddressArrayDeserializer.IPv4.INSTANCE);
+        addDeserializer(deserializers, IPv6AddressArray.class, IPAddressArrayDeserializer.IPv6.INSTANCE);
 
-        deserializers.addDeserializer(IPv4Range.class, IPRangeDeserializer.IPv4.INSTANCE);
-        deserializers.addDeserializer(IPv6Range.class, IPRangeDeserializer.IPv6.INSTANCE);
-        deserializers.addDeserializer(IPRange.class, IPRangeDeserializer.AnyVersion.INSTANCE);
+        addDeserializer(deserializers, IPv4AddressSet.class, IPAddressSetDeserializer.IPv4.INSTANCE);
+        addDeserializer(deserializers, IPv6AddressSet.class, IPAddressSetDeserializer.IPv6.INSTANCE);
+
+        addDeserializer(deserializers, IPv4AddressTable.class, IPAddressTableDeserializer.IPv4.INSTANCE);
+        addDeserializer(deserializers, IPv6AddressTable.class, IPAddressTableDeserializer.IPv6.INSTANCE);
+
+        addDeserializer(deserializers, IPv4AddressFilter.class, IPAddressFilterDeserializer.IPv4.INSTANCE);
+        addDeserializer(deserializers, IPv6AddressFilter.class, IPAddressFilterDeserializer.IPv6.INSTANCE);
+
+        addDeserializer(deserializers, IPRangeSet.class, IPRangeSetDeserializer.INSTANCE);
+        addDeserializer(deserializers, IPRangeSnapshot.class, IPRangeSnapshotDeserializer.INSTANCE);
+        addDeserializer(deserializers, MutableIPRangeSet.class, MutableIPRangeSetDeserializer.INSTANCE);
+
+        addDeserializer(deserializers, SubnetMap.class, SubnetMapDeserializer.INSTANCE);
 
         context.addDeserializers(deserializers);
     }
 
+    private <T> void addDeserializer(SimpleDeserializers deserializers, Class<T> type, ValueDeserializer<? extends T> deserializer) {
+        deserializers.addDeserializer(type, instrumentation != null
+                ? InstrumentedDeserializer.instrument(deserializer, instrumentation)
+                : deserializer);
+    }
+
+    private void setupSubtypes(SetupContext context) {
+        // Register short type names, for use with JsonTypeInfo.Id.NAME
+        context.registerSubtypes(TypeIds.namedTypes());
+    }
+
     /**
      * Returns a module for IP addresses and ranges.
      *
@@ -111,4 +188,16 @@ public final class IPModule extends JacksonModule {
     public static IPModule instance() {
         return INSTANCE;
     }
+
+    /**
+     * Returns a module for IP addresses and ranges that reports to an instrumentation.
+     *
+     * @param instrumentation The instrumentation to report to.
+     * @return A module for IP addresses and ranges that reports to the given instrumentation.
+     * @throws NullPointerException If the given instrumentation is {@code null}.
+     */
+    public static IPModule withInstrumentation(IPInstrumentation instrumentation) {
+        Objects.requireNonNull(instrumentation);
+        return new IPModule(instrumentation);
+    }
 }
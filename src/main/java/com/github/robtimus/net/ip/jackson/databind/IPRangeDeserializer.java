@@ -20,8 +20,6 @@ package com.github.robtimus.net.ip.jackson.databind;
 import static com.github.robtimus.net.ip.jackson.databind.IPRangeSerializer.FROM_FIELD_NAME;
 import static com.github.robtimus.net.ip.jackson.databind.IPRangeSerializer.TO_FIELD_NAME;
 import java.util.Arrays;
-import java.util.LinkedHashSet;
-import java.util.Set;
 import com.github.robtimus.net.ip.IPAddress;
 import com.github.robtimus.net.ip.IPRange;
 import com.github.robtimus.net.ip.IPv4Address;
@@ -34,13 +32,12 @@ import com.github.robtimus.net.ip.Subnet;
 import tools.jackson.core.JacksonException;
 import tools.jackson.core.JsonParser;
 import tools.jackson.core.JsonToken;
-import tools.jackson.core.TreeNode;
 import tools.jackson.databind.BeanProperty;
 import tools.jackson.databind.DeserializationContext;
 import tools.jackson.databind.JavaType;
 import tools.jackson.databind.ValueDeserializer;
 import tools.jackson.databind.exc.UnrecognizedPropertyException;
-import tools.jackson.databind.node.StringNode;
+import tools.jackson.databind.jsontype.TypeDeserializer;
 
 /**
  * Base class for all deserializers for {@link IPRange} and sub types.
@@ -48,6 +45,8 @@ import tools.jackson.databind.node.StringNode;
  * <ul>
  * <li>A CIDR subnet notation.</li>
  * <li>An object with properties {@code from} and {@code to}.</li>
+ * <li>An array of CIDR subnet notations, where each subnet starts directly after the previous subnet, as written by {@link IPRangeSerializer}
+ *     for shape {@link com.fasterxml.jackson.annotation.JsonFormat.Shape#ARRAY ARRAY}. These are combined into a single range.</li>
  * </ul>
  *
  * @author Rob Spoor
@@ -60,44 +59,119 @@ public abstract class IPRangeDeserializer<R extends IPRange<?>> extends ValueDes
 
     @Override
     public R deserialize(JsonParser p, DeserializationContext ctxt) throws JacksonException {
-        return p.hasToken(JsonToken.START_OBJECT)
-                ? deserializeIPRange(p)
-                : deserializeSubnet(p.getString());
+        // When a type id is included as property, the parser is positioned after it, at the next property or the end of the object
+        if (p.hasToken(JsonToken.START_OBJECT) || p.hasToken(JsonToken.PROPERTY_NAME) || p.hasToken(JsonToken.END_OBJECT)) {
+            return deserializeIPRange(p, ctxt);
+        }
+        return p.isExpectedStartArrayToken()
+                ? deserializeCIDRBlocks(p, ctxt)
+                : deserializeSubnet(p.getString(), ctxt);
     }
 
-    private R deserializeIPRange(JsonParser p) throws JacksonException {
-        TreeNode node = p.readValueAsTree();
-        validateProperties(node, p);
-        String from = getTextValue(node, FROM_FIELD_NAME);
-        String to = getTextValue(node, TO_FIELD_NAME);
-        return deserializeIPRange(from, to);
+    @Override
+    public Object deserializeWithType(JsonParser p, DeserializationContext ctxt, TypeDeserializer typeDeserializer) throws JacksonException {
+        // The IP version of a subnet is implied by the text, so strings without type id are accepted as well
+        return p.hasToken(JsonToken.VALUE_STRING)
+                ? deserialize(p, ctxt)
+                : typeDeserializer.deserializeTypedFromAny(p, ctxt);
     }
 
-    private String getTextValue(TreeNode node, String fieldName) {
-        TreeNode childNode = node.get(fieldName);
-        if (childNode instanceof StringNode stringNode) {
-            return stringNode.asString();
+    private R deserializeSubnet(String value, DeserializationContext ctxt) {
+        IPDeserializationEvent event = IPDeserializationEvent.start();
+        try {
+            R result = deserializeSubnet(value);
+            event.commit(handledType(), value.length(), ctxt);
+            return result;
+        } catch (RuntimeException e) {
+            IPDeserializationFailedEvent.record(handledType(), value.length(), ctxt, e);
+            throw e;
         }
-        if (childNode == null) {
-            throw new IllegalStateException(Messages.IPRange.missingProperty(fieldName));
+    }
+
+    private R deserializeIPRange(JsonParser p, DeserializationContext ctxt) throws JacksonException {
+        IPDeserializationEvent event = IPDeserializationEvent.start();
+        // Read the properties as tokens instead of as tree; that way only the from and to strings are created for each range
+        Object from = null;
+        Object to = null;
+        try {
+            JsonToken token = p.hasToken(JsonToken.START_OBJECT) ? p.nextToken() : p.currentToken();
+            while (token == JsonToken.PROPERTY_NAME) {
+                String fieldName = p.currentName();
+                p.nextToken();
+                if (FROM_FIELD_NAME.equals(fieldName)) {
+                    from = readPropertyValue(p);
+                } else if (TO_FIELD_NAME.equals(fieldName)) {
+                    to = readPropertyValue(p);
+                } else {
+                    throw UnrecognizedPropertyException.from(p, IPRange.class, fieldName, Arrays.asList(FROM_FIELD_NAME, TO_FIELD_NAME));
+                }
+                token = p.nextToken();
+            }
+            R result = deserializeIPRange(getTextValue(from, FROM_FIELD_NAME), getTextValue(to, TO_FIELD_NAME));
+            event.commit(handledType(), inputLength(from) + inputLength(to), ctxt);
+            return result;
+        } catch (RuntimeException e) {
+            IPDeserializationFailedEvent.record(handledType(), inputLength(from) + inputLength(to), ctxt, e);
+            throw e;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private R deserializeCIDRBlocks(JsonParser p, DeserializationContext ctxt) throws JacksonException {
+        IPDeserializationEvent event = IPDeserializationEvent.start();
+        // Parse the blocks from the parser's text buffer; that way no strings are created
+        CIDRBlocks.Reader reader = new CIDRBlocks.Reader(addressType());
+        int length = 0;
+        try {
+            while (p.nextToken() != JsonToken.END_ARRAY) {
+                if (!p.hasToken(JsonToken.VALUE_STRING)) {
+                    throw ctxt.wrongTokenException(p, handledType(), JsonToken.VALUE_STRING, null);
+                }
+                int start = p.getStringOffset();
+                int end = start + p.getStringLength();
+                reader.add(p.getStringCharacters(), start, end);
+                length += end - start;
+            }
+            // The reader only accepts addresses of the address type, so the range is always of the handled type
+            R result = (R) reader.result();
+            event.commit(handledType(), length, ctxt);
+            return result;
+        } catch (RuntimeException e) {
+            IPDeserializationFailedEvent.record(handledType(), length, ctxt, e);
+            throw e;
         }
-        throw new IllegalStateException(Messages.IPRange.invalidPropertyValue(fieldName, childNode));
     }
 
-    private void validateProperties(TreeNode node, JsonParser p) throws UnrecognizedPropertyException {
-        Set<String> fieldNames = new LinkedHashSet<>(node.propertyNames());
-        fieldNames.remove(FROM_FIELD_NAME);
-        fieldNames.remove(TO_FIELD_NAME);
-        if (!fieldNames.isEmpty()) {
-            String fieldName = fieldNames.iterator().next();
-            throw UnrecognizedPropertyException.from(p, IPRange.class, fieldName, Arrays.asList(FROM_FIELD_NAME, TO_FIELD_NAME));
+    private Object readPropertyValue(JsonParser p) throws JacksonException {
+        // Any non-string value is only needed for the error message
+        return p.hasToken(JsonToken.VALUE_STRING)
+                ? p.getString()
+                : p.readValueAsTree();
+    }
+
+    private String getTextValue(Object value, String fieldName) {
+        if (value instanceof String text) {
+            return text;
+        }
+        if (value == null) {
+            throw new IllegalStateException(Messages.IPRange.missingProperty(fieldName));
         }
+        throw new IllegalStateException(Messages.IPRange.invalidPropertyValue(fieldName, value));
+    }
+
+    private static int inputLength(Object value) {
+        return value instanceof String text ? text.length() : 0;
     }
 
     abstract R deserializeSubnet(String value);
 
     abstract R deserializeIPRange(String from, String to);
 
+    /**
+     * Returns the type of address that ranges can contain: {@link IPv4Address}, {@link IPv6Address} or {@link IPAddress} for both.
+     */
+    abstract Class<?> addressType();
+
     @Override
     public abstract Class<?> handledType();
 
@@ -131,6 +205,11 @@ public abstract class IPRangeDeserializer<R extends IPRange<?>> extends ValueDes
                     : fromAddress.to(toAddress);
         }
 
+        @Override
+        Class<?> addressType() {
+            return IPv4Address.class;
+        }
+
         @Override
         public Class<?> handledType() {
             return IPv4Range.class;
@@ -167,6 +246,11 @@ public abstract class IPRangeDeserializer<R extends IPRange<?>> extends ValueDes
                     : fromAddress.to(toAddress);
         }
 
+        @Override
+        Class<?> addressType() {
+            return IPv6Address.class;
+        }
+
         @Override
         public Class<?> handledType() {
             return IPv6Range.class;
@@ -228,6 +312,11 @@ public abstract class IPRangeDeserializer<R extends IPRange<?>> extends ValueDes
             return this;
         }
 
+        @Override
+        Class<?> addressType() {
+            return IPAddress.class;
+        }
+
         private Class<?> getGenericType(JavaType type) {
             return type != null
                     ? type.getBindings().getBoundType(0).getRawClass()
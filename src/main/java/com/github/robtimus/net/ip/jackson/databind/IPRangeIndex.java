@@ -0,0 +1,283 @@
+/*
+ * IPRangeIndex.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.net.ip.jackson.databind;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import com.github.robtimus.net.ip.IPAddress;
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.exc.JacksonIOException;
+import tools.jackson.core.exc.StreamReadException;
+import tools.jackson.databind.ObjectReader;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * A set of IP ranges that can be reloaded from a JSON source while it is being used.
+ * <p>
+ * The source is deserialized as an {@link IPRangeSet} using the deserializers of the {@link IPModule}. The resulting set is immutable, and is
+ * published atomically once it has been fully built. Lookups only read the currently published set, so they never block and never see a partially
+ * loaded state, even while a reload is in progress. If reloading fails, the previously published set remains in use.
+ * <p>
+ * Each reload is assigned an increasing version when it starts. If reloads overlap, a reload that finishes after a newer reload has been published
+ * is discarded, so the published set never goes back to an older version of the source.
+ * <p>
+ * The duration and outcome of each reload are passed to a {@link ReloadListener}, and recorded as JFR events.
+ * <p>
+ * Instances of this class are thread-safe. Until the first reload has finished, an index is empty.
+ *
+ * @author Rob Spoor
+ */
+public final class IPRangeIndex {
+
+    private static final Version INITIAL = new Version(0, new IPRangeSet.Accumulator().build());
+
+    private final ObjectReader reader;
+    private final Source source;
+    private final Executor executor;
+    private final ReloadListener listener;
+
+    private final AtomicReference<Version> current = new AtomicReference<>(INITIAL);
+    private final AtomicLong versions = new AtomicLong();
+
+    /**
+     * Creates a new range index. It will use a {@link JsonMapper} with only an {@link IPModule} registered, and reload asynchronously on the
+     * {@link ForkJoinPool#commonPool() common pool}. Reloads are only recorded as JFR events.
+     *
+     * @param source The source to load ranges from.
+     * @throws NullPointerException If the given source is {@code null}.
+     */
+    public IPRangeIndex(Source source) {
+        this(JsonMapper.builder().addModule(IPModule.instance()).build(), source, ForkJoinPool.commonPool(), ReloadListener.NONE);
+    }
+
+    /**
+     * Creates a new range index.
+     *
+     * @param mapper The mapper to use. It must have an {@link IPModule} registered.
+     * @param source The source to load ranges from.
+     * @param executor The executor to reload asynchronously on.
+     * @param listener The listener to notify when reloads have finished.
+     * @throws NullPointerException If any of the given arguments is {@code null}.
+     */
+    public IPRangeIndex(JsonMapper mapper, Source source, Executor executor, ReloadListener listener) {
+        this.reader = mapper.readerFor(IPRangeSet.class);
+        this.source = Objects.requireNonNull(source);
+        this.executor = Objects.requireNonNull(executor);
+        this.listener = Objects.requireNonNull(listener);
+    }
+
+    /**
+     * Returns the currently published set of IP ranges.
+     *
+     * @return The currently published set of IP ranges.
+     */
+    public IPRangeSet ranges() {
+        return current.get().ranges;
+    }
+
+    /**
+     * Returns the version of the currently published set of IP ranges.
+     *
+     * @return The version of the currently published set of IP ranges, or {@code 0} if no reload has finished successfully yet.
+     */
+    public long version() {
+        return current.get().version;
+    }
+
+    /**
+     * Returns whether or not the currently published set of IP ranges contains an IPv4 address.
+     *
+     * @param address The IPv4 address to check, as returned by {@link com.github.robtimus.net.ip.IPv4Address#toInt()}.
+     * @return {@code true} if the currently published set contains the given IPv4 address, or {@code false} otherwise.
+     */
+    public boolean contains(int address) {
+        return ranges().contains(address);
+    }
+
+    /**
+     * Returns whether or not the currently published set of IP ranges contains an IPv6 address.
+     *
+     * @param highAddress The high 64 bits of the IPv6 address to check.
+     * @param lowAddress The low 64 bits of the IPv6 address to check.
+     * @return {@code true} if the currently published set contains the given IPv6 address, or {@code false} otherwise.
+     */
+    public boolean contains(long highAddress, long lowAddress) {
+        return ranges().contains(highAddress, lowAddress);
+    }
+
+    /**
+     * Returns whether or not the currently published set of IP ranges contains an IP address.
+     *
+     * @param address The IP address to check.
+     * @return {@code true} if the currently published set contains the given IP address, or {@code false} otherwise.
+     * @throws NullPointerException If the given IP address is {@code null}.
+     */
+    public boolean contains(IPAddress<?> address) {
+        return ranges().contains(address);
+    }
+
+    /**
+     * Reloads the IP ranges from the source, in the current thread. Lookups from other threads continue to use the previously published set until
+     * this method has finished.
+     *
+     * @return The loaded set of IP ranges. This is not published if a newer reload has already been published.
+     * @throws JacksonException If the source could not be opened or read, or if it does not contain a valid JSON array, including {@code null}.
+     * @throws IllegalArgumentException If an array element is not a valid IP address or range.
+     */
+    public IPRangeSet reload() {
+        long version = versions.incrementAndGet();
+        IPRangeIndexReloadEvent event = IPRangeIndexReloadEvent.start();
+        long start = System.nanoTime();
+
+        IPRangeSet ranges;
+        try (InputStream input = source.open()) {
+            ranges = reader.readValue(input);
+            if (ranges == null) {
+                throw new StreamReadException(null, Messages.IPRangeIndex.nullValue());
+            }
+        } catch (IOException e) {
+            JacksonException exception = JacksonIOException.construct(e);
+            reloadFailed(event, version, exception, start);
+            throw exception;
+        } catch (RuntimeException e) {
+            reloadFailed(event, version, e, start);
+            throw e;
+        }
+
+        publish(new Version(version, ranges));
+
+        event.commit(this, version, ranges.rangeCount());
+        listener.reloaded(version, ranges.rangeCount(), Duration.ofNanos(System.nanoTime() - start));
+
+        return ranges;
+    }
+
+    private void reloadFailed(IPRangeIndexReloadEvent event, long version, RuntimeException exception, long start) {
+        event.commitFailure(this, version, exception);
+        listener.reloadFailed(version, exception, Duration.ofNanos(System.nanoTime() - start));
+    }
+
+    private void publish(Version version) {
+        Version published = current.get();
+        while (published.version < version.version && !current.compareAndSet(published, version)) {
+            published = current.get();
+        }
+    }
+
+    /**
+     * Reloads the IP ranges from the source, on this index's executor.
+     *
+     * @return A {@link CompletableFuture} that will be completed with the result of {@link #reload()}.
+     */
+    public CompletableFuture<IPRangeSet> reloadAsync() {
+        return CompletableFuture.supplyAsync(this::reload, executor);
+    }
+
+    @Override
+    public String toString() {
+        Version published = current.get();
+        return getClass().getSimpleName()
+                + "[version=" + published.version //$NON-NLS-1$
+                + ",rangeCount=" + published.ranges.rangeCount() //$NON-NLS-1$
+                + "]"; //$NON-NLS-1$
+    }
+
+    private static final class Version {
+
+        private final long version;
+        private final IPRangeSet ranges;
+
+        private Version(long version, IPRangeSet ranges) {
+            this.version = version;
+            this.ranges = ranges;
+        }
+    }
+
+    /**
+     * A source of JSON arrays of IP addresses and ranges.
+     *
+     * @author Rob Spoor
+     */
+    @FunctionalInterface
+    public interface Source {
+
+        /**
+         * Opens a new input stream to the JSON content. The input stream will be closed after it has been read.
+         *
+         * @return The opened input stream.
+         * @throws IOException If the input stream could not be opened.
+         */
+        InputStream open() throws IOException;
+
+        /**
+         * Returns a source that reads from a file. The file is opened again for each reload, so changes to it are picked up.
+         *
+         * @param path The path to the file.
+         * @return A source that reads from the given file.
+         * @throws NullPointerException If the given path is {@code null}.
+         */
+        static Source of(Path path) {
+            Objects.requireNonNull(path);
+            return () -> Files.newInputStream(path);
+        }
+    }
+
+    /**
+     * A listener for reloads of {@link IPRangeIndex IPRangeIndexes}. Listeners are called from the thread that performed the reload.
+     *
+     * @author Rob Spoor
+     */
+    public interface ReloadListener {
+
+        /** A listener that does nothing. */
+        ReloadListener NONE = new ReloadListener() {
+            // use the default implementations
+        };
+
+        /**
+         * Called when a reload has finished successfully.
+         *
+         * @param version The version of the reload.
+         * @param rangeCount The number of merged ranges that were loaded.
+         * @param duration The duration of the reload.
+         */
+        default void reloaded(long version, int rangeCount, Duration duration) {
+            // does nothing by default
+        }
+
+        /**
+         * Called when a reload has failed.
+         *
+         * @param version The version of the reload.
+         * @param exception The exception that caused the reload to fail. It will also be thrown from {@link IPRangeIndex#reload()}.
+         * @param duration The duration of the reload.
+         */
+        default void reloadFailed(long version, RuntimeException exception, Duration duration) {
+            // does nothing by default
+        }
+    }
+}
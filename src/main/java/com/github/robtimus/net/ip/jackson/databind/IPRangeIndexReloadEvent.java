@@ -0,0 +1,86 @@
+/*
+ * IPRangeIndexReloadEvent.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.net.ip.jackson.databind;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A JFR event for reloading an {@link IPRangeIndex}, successfully or not. These events are not filtered by default.
+ *
+ * @author Rob Spoor
+ */
+@Name(IPRangeIndexReloadEvent.NAME)
+@Label("IP Range Index Reload")
+@Description("Reloading an IP range index")
+@Category({ "Jackson", "IP" })
+@StackTrace(false)
+final class IPRangeIndexReloadEvent extends Event {
+
+    static final String NAME = "com.github.robtimus.ip.jackson.databind.RangeIndexReload"; //$NON-NLS-1$
+
+    @Label("Index")
+    @Description("The identity hash code of the index")
+    int index;
+
+    @Label("Version")
+    @Description("The version of the index that was loaded")
+    long version;
+
+    @Label("Range Count")
+    @Description("The number of ranges after merging, or -1 if reloading failed")
+    int rangeCount;
+
+    @Label("Exception")
+    @Description("The type of exception that was thrown, if reloading failed")
+    Class<?> exception;
+
+    @Label("Message")
+    @Description("The message of the exception that was thrown, if reloading failed")
+    String message;
+
+    static IPRangeIndexReloadEvent start() {
+        IPRangeIndexReloadEvent event = new IPRangeIndexReloadEvent();
+        event.begin();
+        return event;
+    }
+
+    void commit(IPRangeIndex rangeIndex, long loadedVersion, int count) {
+        if (isEnabled()) {
+            index = System.identityHashCode(rangeIndex);
+            version = loadedVersion;
+            rangeCount = count;
+            commit();
+        }
+    }
+
+    void commitFailure(IPRangeIndex rangeIndex, long loadedVersion, Throwable cause) {
+        if (isEnabled()) {
+            index = System.identityHashCode(rangeIndex);
+            version = loadedVersion;
+            rangeCount = -1;
+            exception = cause.getClass();
+            message = cause.getMessage();
+            commit();
+        }
+    }
+}
@@ -17,6 +17,7 @@
 
 package com.github.robtimus.net.ip.jackson.databind;
 
+import com.fasterxml.jackson.annotation.JsonFormat;
 import com.github.robtimus.net.ip.IPAddress;
 import com.github.robtimus.net.ip.IPAddressFormatter;
 import com.github.robtimus.net.ip.IPRange;
@@ -27,11 +28,22 @@ import com.github.robtimus.net.ip.IPv6Range;
 import com.github.robtimus.net.ip.Subnet;
 import tools.jackson.core.JacksonException;
 import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.JsonToken;
+import tools.jackson.core.type.WritableTypeId;
+import tools.jackson.databind.BeanProperty;
 import tools.jackson.databind.SerializationContext;
 import tools.jackson.databind.ValueSerializer;
+import tools.jackson.databind.jsontype.TypeSerializer;
 
 /**
  * Base class for all serializers for {@link IPRange} and sub types.
+ * Subnets are written in CIDR notation; other ranges are written as objects with properties {@code from} and {@code to}.
+ * <p>
+ * If the shape is {@link JsonFormat.Shape#ARRAY ARRAY}, for instance by annotating a property with
+ * {@code @JsonFormat(shape = JsonFormat.Shape.ARRAY)}, these serializers instead write each range as an array of strings in CIDR notation.
+ * This is the minimal list of CIDR blocks that together cover exactly the range, which is computed with bit arithmetic. For instance, the range from
+ * {@code 192.168.0.1} to {@code 192.168.0.6} is written as {@code ["192.168.0.1/32","192.168.0.2/31","192.168.0.4/31","192.168.0.6/32"]}.
+ * {@link IPRangeDeserializer} reads such arrays back as a single range.
  *
  * @author Rob Spoor
  * @param <R> The type of IP range to serialize.
@@ -41,22 +53,99 @@ public abstract class IPRangeSerializer<R extends IPRange<?>> extends ValueSeria
     static final String FROM_FIELD_NAME = "from"; //$NON-NLS-1$
     static final String TO_FIELD_NAME = "to"; //$NON-NLS-1$
 
-    private IPRangeSerializer() {
+    private final boolean cidrBlocks;
+
+    private IPRangeSerializer(boolean cidrBlocks) {
+        this.cidrBlocks = cidrBlocks;
+    }
+
+    @Override
+    public ValueSerializer<?> createContextual(SerializationContext ctxt, BeanProperty property) {
+        JsonFormat.Value format = property != null
+                ? property.findPropertyFormat(ctxt.getConfig(), handledType())
+                : ctxt.getDefaultPropertyFormat(handledType());
+        boolean enabled = format.getShape() == JsonFormat.Shape.ARRAY;
+        return enabled == cidrBlocks
+                ? this
+                : withCIDRBlocks(enabled);
     }
 
     @Override
     @SuppressWarnings("resource")
     public void serialize(R value, JsonGenerator gen, SerializationContext ctxt) throws JacksonException {
-        if (value instanceof Subnet<?> subnet) {
-            gen.writeString(formatFrom(value) + "/" + subnet.prefixLength()); //$NON-NLS-1$
+        IPSerializationEvent event = IPSerializationEvent.start();
+        int outputLength;
+        if (cidrBlocks) {
+            gen.writeStartArray(value);
+            outputLength = writeCIDRBlocks(value, gen);
+            gen.writeEndArray();
+        } else if (value instanceof Subnet<?> subnet) {
+            String text = formatSubnet(value, subnet);
+            gen.writeString(text);
+            outputLength = text.length();
         } else {
             gen.writeStartObject();
-            gen.writeStringProperty(FROM_FIELD_NAME, formatFrom(value));
-            gen.writeStringProperty(TO_FIELD_NAME, formatTo(value));
+            outputLength = writeProperties(value, gen);
             gen.writeEndObject();
         }
+        event.commit(handledType(), outputLength, ctxt);
     }
 
+    @Override
+    @SuppressWarnings("resource")
+    public void serializeWithType(R value, JsonGenerator gen, SerializationContext ctxt, TypeSerializer typeSer) throws JacksonException {
+        IPSerializationEvent event = IPSerializationEvent.start();
+        int outputLength;
+        if (cidrBlocks) {
+            // Like for objects, use the public range interface for the type id
+            WritableTypeId typeId = typeSer.writeTypePrefix(gen, ctxt, typeSer.typeId(null, rangeType(value), JsonToken.START_ARRAY));
+            outputLength = writeCIDRBlocks(value, gen);
+            typeSer.writeTypeSuffix(gen, ctxt, typeId);
+        } else if (value instanceof Subnet<?> subnet) {
+            String text = formatSubnet(value, subnet);
+            TypeIds.writeString(text, value, gen, ctxt, typeSer, TypeIds.RANGE_BASE_TYPES);
+            outputLength = text.length();
+        } else {
+            // Use the public range interface for the type id; the actual class is an implementation detail that cannot be deserialized.
+            // The value is not passed, because name based type id resolvers would then use its actual class instead.
+            WritableTypeId typeId = typeSer.writeTypePrefix(gen, ctxt, typeSer.typeId(null, rangeType(value), JsonToken.START_OBJECT));
+            outputLength = writeProperties(value, gen);
+            typeSer.writeTypeSuffix(gen, ctxt, typeId);
+        }
+        event.commit(handledType(), outputLength, ctxt);
+    }
+
+    private String formatSubnet(R value, Subnet<?> subnet) {
+        return formatFrom(value) + "/" + subnet.prefixLength(); //$NON-NLS-1$
+    }
+
+    @SuppressWarnings("resource")
+    private int writeProperties(R value, JsonGenerator gen) throws JacksonException {
+        String from = formatFrom(value);
+        String to = formatTo(value);
+        gen.writeStringProperty(FROM_FIELD_NAME, from);
+        gen.writeStringProperty(TO_FIELD_NAME, to);
+        return from.length() + to.length();
+    }
+
+    /**
+     * Writes the minimal list of CIDR blocks that cover a range.
+     *
+     * @return The total number of characters written.
+     */
+    abstract int writeCIDRBlocks(R value, JsonGenerator gen);
+
+    /**
+     * Returns a copy of this serializer that does or does not write CIDR blocks.
+     * Sub classes should override this method to return an instance of the sub class, using the copy constructor of their super class.
+     *
+     * @param cidrBlocks {@code true} to write CIDR blocks, or {@code false} otherwise.
+     * @return The copy of this serializer.
+     */
+    protected abstract IPRangeSerializer<R> withCIDRBlocks(boolean cidrBlocks);
+
+    abstract Class<?> rangeType(R value);
+
     abstract String formatFrom(R value);
 
     abstract String formatTo(R value);
@@ -77,7 +166,18 @@ public abstract class IPRangeSerializer<R extends IPRange<?>> extends ValueSeria
          * Creates a new {@link IPv4Range} serializer.
          */
         public IPv4() {
-            super();
+            super(false);
+        }
+
+        /**
+         * Creates a copy of a {@link IPv4Range} serializer that does or does not write CIDR blocks.
+         * Sub classes can use this constructor to implement {@link #withCIDRBlocks(boolean)}.
+         *
+         * @param source The serializer to copy.
+         * @param cidrBlocks {@code true} to write CIDR blocks, or {@code false} otherwise.
+         */
+        protected IPv4(IPv4 source, boolean cidrBlocks) {
+            super(cidrBlocks);
         }
 
         @Override
@@ -94,6 +194,21 @@ public abstract class IPRangeSerializer<R extends IPRange<?>> extends ValueSeria
             return address.toString();
         }
 
+        @Override
+        int writeCIDRBlocks(IPv4Range value, JsonGenerator gen) {
+            return CIDRBlocks.writeIPv4(value.from().toInt(), value.to().toInt(), null, gen);
+        }
+
+        @Override
+        Class<?> rangeType(IPv4Range value) {
+            return IPv4Range.class;
+        }
+
+        @Override
+        protected IPv4 withCIDRBlocks(boolean cidrBlocks) {
+            return new IPv4(this, cidrBlocks);
+        }
+
         @Override
         public Class<IPv4Range> handledType() {
             return IPv4Range.class;
@@ -117,9 +232,22 @@ public abstract class IPRangeSerializer<R extends IPRange<?>> extends ValueSeria
          * @param formatter The formatter to use for the from and to addresses. If {@code null}, {@link IPv6Address#toString()} will be used instead.
          */
         public IPv6(IPAddressFormatter<? super IPv6Address> formatter) {
+            super(false);
             this.formatter = formatter;
         }
 
+        /**
+         * Creates a copy of a {@link IPv6Range} serializer that does or does not write CIDR blocks.
+         * Sub classes can use this constructor to implement {@link #withCIDRBlocks(boolean)}.
+         *
+         * @param source The serializer to copy.
+         * @param cidrBlocks {@code true} to write CIDR blocks, or {@code false} otherwise.
+         */
+        protected IPv6(IPv6 source, boolean cidrBlocks) {
+            super(cidrBlocks);
+            this.formatter = source.formatter;
+        }
+
         @Override
         String formatFrom(IPv6Range value) {
             return format(value.from());
@@ -134,6 +262,23 @@ public abstract class IPRangeSerializer<R extends IPRange<?>> extends ValueSeria
             return formatter != null ? formatter.format(address) : address.toString();
         }
 
+        @Override
+        int writeCIDRBlocks(IPv6Range value, JsonGenerator gen) {
+            IPv6Address from = value.from();
+            IPv6Address to = value.to();
+            return CIDRBlocks.writeIPv6(from.highAddress(), from.lowAddress(), to.highAddress(), to.lowAddress(), formatter, gen);
+        }
+
+        @Override
+        Class<?> rangeType(IPv6Range value) {
+            return IPv6Range.class;
+        }
+
+        @Override
+        protected IPv6 withCIDRBlocks(boolean cidrBlocks) {
+            return new IPv6(this, cidrBlocks);
+        }
+
         @Override
         public Class<IPv6Range> handledType() {
             return IPv6Range.class;
@@ -157,9 +302,22 @@ public abstract class IPRangeSerializer<R extends IPRange<?>> extends ValueSeria
          * @param formatter The formatter to use for the from and to addresses. If {@code null}, {@link IPAddress#toString()} will be used instead.
          */
         public AnyVersion(IPAddressFormatter<? super IPAddress<?>> formatter) {
+            super(false);
             this.formatter = formatter;
         }
 
+        /**
+         * Creates a copy of a {@link IPRange} serializer that does or does not write CIDR blocks.
+         * Sub classes can use this constructor to implement {@link #withCIDRBlocks(boolean)}.
+         *
+         * @param source The serializer to copy.
+         * @param cidrBlocks {@code true} to write CIDR blocks, or {@code false} otherwise.
+         */
+        protected AnyVersion(AnyVersion source, boolean cidrBlocks) {
+            super(cidrBlocks);
+            this.formatter = source.formatter;
+        }
+
         @Override
         String formatFrom(IPRange<?> value) {
             return format(value.from());
@@ -174,6 +332,26 @@ public abstract class IPRangeSerializer<R extends IPRange<?>> extends ValueSeria
             return formatter != null ? formatter.format(address) : address.toString();
         }
 
+        @Override
+        int writeCIDRBlocks(IPRange<?> value, JsonGenerator gen) {
+            if (value.from() instanceof IPv4Address from) {
+                return CIDRBlocks.writeIPv4(from.toInt(), ((IPv4Address) value.to()).toInt(), formatter, gen);
+            }
+            IPv6Address from = (IPv6Address) value.from();
+            IPv6Address to = (IPv6Address) value.to();
+            return CIDRBlocks.writeIPv6(from.highAddress(), from.lowAddress(), to.highAddress(), to.lowAddress(), formatter, gen);
+        }
+
+        @Override
+        Class<?> rangeType(IPRange<?> value) {
+            return value.from() instanceof IPv4Address ? IPv4Range.class : IPv6Range.class;
+        }
+
+        @Override
+        protected AnyVersion withCIDRBlocks(boolean cidrBlocks) {
+            return new AnyVersion(this, cidrBlocks);
+        }
+
         @Override
         @SuppressWarnings("unchecked")
         public Class<IPRange<?>> handledType() {
@@ -0,0 +1,462 @@
+/*
+ * IPRangeSet.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.net.ip.jackson.databind;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import com.github.robtimus.net.ip.IPAddress;
+import com.github.robtimus.net.ip.IPRange;
+import com.github.robtimus.net.ip.IPv4Address;
+import com.github.robtimus.net.ip.IPv4Range;
+import com.github.robtimus.net.ip.IPv4Subnet;
+import com.github.robtimus.net.ip.IPv6Address;
+import com.github.robtimus.net.ip.IPv6Range;
+import com.github.robtimus.net.ip.IPv6Subnet;
+
+/**
+ * An immutable set of IP addresses, defined by IP ranges. Both IPv4 and IPv6 ranges are supported.
+ * <p>
+ * Overlapping and adjacent ranges are merged, and the resulting ranges are stored sorted as arrays of primitive boundaries.
+ * {@link #contains(IPAddress)} uses a binary search on these boundaries, so it takes <code>O(log n)</code> time instead of checking each range.
+ * When an {@link IPModule} is registered, instances are deserialized from arrays of anything that can be deserialized as {@link IPRange},
+ * and serialized as arrays of the merged ranges. Merged ranges that are subnets are written in CIDR notation; other ranges are written as objects
+ * with properties {@code from} and {@code to}.
+ *
+ * @author Rob Spoor
+ */
+public final class IPRangeSet {
+
+    private static final IPRangeSet EMPTY = new IPRangeSet(new int[0], new int[0], new long[0], new long[0]);
+
+    // The boundaries of the IPv4 ranges, XOR-ed with Integer.MIN_VALUE so they can be compared as signed values
+    private final int[] ipv4From;
+    private final int[] ipv4To;
+
+    // The boundaries of the IPv6 ranges, as high and low addresses, interleaved
+    private final long[] ipv6From;
+    private final long[] ipv6To;
+
+    private IPRangeSet(int[] ipv4From, int[] ipv4To, long[] ipv6From, long[] ipv6To) {
+        this.ipv4From = ipv4From;
+        this.ipv4To = ipv4To;
+        this.ipv6From = ipv6From;
+        this.ipv6To = ipv6To;
+    }
+
+    /**
+     * Returns a set of IP addresses, defined by IP ranges.
+     *
+     * @param ranges The IP ranges. These may overlap.
+     * @return A set of the IP addresses in the given IP ranges.
+     * @throws NullPointerException If the given collection is {@code null} or contains {@code null} elements.
+     */
+    public static IPRangeSet copyOf(Collection<? extends IPRange<?>> ranges) {
+        Accumulator accumulator = new Accumulator();
+        for (IPRange<?> range : ranges) {
+            accumulator.add(range);
+        }
+        return accumulator.build();
+    }
+
+    /**
+     * Returns whether or not this set is empty.
+     *
+     * @return {@code true} if this set is empty, or {@code false} otherwise.
+     */
+    public boolean isEmpty() {
+        return ipv4From.length == 0 && ipv6From.length == 0;
+    }
+
+    /**
+     * Returns the number of ranges in this set, after overlapping and adjacent ranges have been merged.
+     *
+     * @return The number of ranges in this set.
+     */
+    public int rangeCount() {
+        return ipv4From.length + ipv6RangeCount();
+    }
+
+    /**
+     * Returns whether or not this set contains an IPv4 address.
+     *
+     * @param address The IPv4 address to check, as returned by {@link IPv4Address#toInt()}.
+     * @return {@code true} if one of the ranges of this set contains the given IPv4 address, or {@code false} otherwise.
+     */
+    public boolean contains(int address) {
+        int key = address ^ Integer.MIN_VALUE;
+        int low = 0;
+        int high = ipv4From.length - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (ipv4From[mid] <= key) {
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        // high is the index of the last range that starts at or before the address
+        return high >= 0 && key <= ipv4To[high];
+    }
+
+    /**
+     * Returns whether or not this set contains an IPv6 address.
+     *
+     * @param highAddress The high 64 bits of the IPv6 address to check, as returned by {@link IPv6Address#highAddress()}.
+     * @param lowAddress The low 64 bits of the IPv6 address to check, as returned by {@link IPv6Address#lowAddress()}.
+     * @return {@code true} if one of the ranges of this set contains the given IPv6 address, or {@code false} otherwise.
+     */
+    public boolean contains(long highAddress, long lowAddress) {
+        int low = 0;
+        int high = ipv6From.length / 2 - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (IPAddressText.compareIPv6(ipv6From[2 * mid], ipv6From[2 * mid + 1], highAddress, lowAddress) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        // high is the index of the last range that starts at or before the address
+        return high >= 0 && IPAddressText.compareIPv6(highAddress, lowAddress, ipv6To[2 * high], ipv6To[2 * high + 1]) <= 0;
+    }
+
+    /**
+     * Returns whether or not this set contains an IP address.
+     *
+     * @param address The IP address to check.
+     * @return {@code true} if one of the ranges of this set contains the given IP address, or {@code false} otherwise.
+     * @throws NullPointerException If the given IP address is {@code null}.
+     */
+    public boolean contains(IPAddress<?> address) {
+        if (address instanceof IPv4Address ipv4Address) {
+            return contains(ipv4Address.toInt());
+        }
+        IPv6Address ipv6Address = (IPv6Address) address;
+        return contains(ipv6Address.highAddress(), ipv6Address.lowAddress());
+    }
+
+    /**
+     * Returns the ranges of this set, after overlapping and adjacent ranges have been merged. IPv4 ranges are returned before IPv6 ranges.
+     * Ranges that are subnets are returned as {@link com.github.robtimus.net.ip.Subnet Subnet}.
+     *
+     * @return A list with the ranges of this set.
+     */
+    public List<IPRange<?>> ranges() {
+        List<IPRange<?>> ranges = new ArrayList<>(rangeCount());
+        for (int i = 0; i < ipv4From.length; i++) {
+            ranges.add(ipv4Range(ipv4From(i), ipv4To(i)));
+        }
+        for (int i = 0; i < ipv6From.length / 2; i++) {
+            ranges.add(ipv6Range(ipv6From[2 * i], ipv6From[2 * i + 1], ipv6To[2 * i], ipv6To[2 * i + 1]));
+        }
+        return ranges;
+    }
+
+    /**
+     * Returns the IPv4 range with the given boundaries. If the range is a subnet, an {@link IPv4Subnet} is returned.
+     *
+     * @throws IllegalArgumentException If the from address is larger than the to address.
+     */
+    static IPv4Range ipv4Range(int from, int to) {
+        IPv4Address fromAddress = IPv4Address.valueOf(from);
+        int prefixLength = ipv4PrefixLength(from, to);
+        return prefixLength != -1
+                ? fromAddress.inSubnet(prefixLength)
+                : fromAddress.to(IPv4Address.valueOf(to));
+    }
+
+    /**
+     * Returns the IPv6 range with the given boundaries. If the range is a subnet, an {@link IPv6Subnet} is returned.
+     *
+     * @throws IllegalArgumentException If the from address is larger than the to address.
+     */
+    static IPv6Range ipv6Range(long fromHigh, long fromLow, long toHigh, long toLow) {
+        IPv6Address fromAddress = IPv6Address.valueOf(fromHigh, fromLow);
+        int prefixLength = ipv6PrefixLength(fromHigh, fromLow, toHigh, toLow);
+        return prefixLength != -1
+                ? fromAddress.inSubnet(prefixLength)
+                : fromAddress.to(IPv6Address.valueOf(toHigh, toLow));
+    }
+
+    int ipv4RangeCount() {
+        return ipv4From.length;
+    }
+
+    int ipv4From(int index) {
+        return ipv4From[index] ^ Integer.MIN_VALUE;
+    }
+
+    int ipv4To(int index) {
+        return ipv4To[index] ^ Integer.MIN_VALUE;
+    }
+
+    /**
+     * Returns the prefix length of an IPv4 range, or {@code -1} if the range is not a subnet.
+     */
+    int ipv4PrefixLength(int index) {
+        return ipv4PrefixLength(ipv4From(index), ipv4To(index));
+    }
+
+    /**
+     * Returns the prefix length of the IPv4 range with the given boundaries, or {@code -1} if the range is not a subnet.
+     */
+    static int ipv4PrefixLength(int from, int to) {
+        int hostMask = from ^ to;
+        // A subnet has a host mask of only trailing ones, and the from address has only zeroes for the host mask
+        return (hostMask & (hostMask + 1)) == 0 && (from & hostMask) == 0
+                ? Integer.SIZE - Integer.bitCount(hostMask)
+                : -1;
+    }
+
+    int ipv6RangeCount() {
+        return ipv6From.length / 2;
+    }
+
+    /**
+     * Returns the boundaries of the IPv6 ranges, as high and low addresses, interleaved.
+     */
+    long[] ipv6From() {
+        return ipv6From;
+    }
+
+    /**
+     * Returns the boundaries of the IPv6 ranges, as high and low addresses, interleaved.
+     */
+    long[] ipv6To() {
+        return ipv6To;
+    }
+
+    /**
+     * Returns the prefix length of an IPv6 range, or {@code -1} if the range is not a subnet.
+     */
+    int ipv6PrefixLength(int index) {
+        return ipv6PrefixLength(ipv6From[2 * index], ipv6From[2 * index + 1], ipv6To[2 * index], ipv6To[2 * index + 1]);
+    }
+
+    /**
+     * Returns the prefix length of the IPv6 range with the given boundaries, or {@code -1} if the range is not a subnet.
+     */
+    static int ipv6PrefixLength(long fromHigh, long fromLow, long toHigh, long toLow) {
+        long hostMaskHigh = fromHigh ^ toHigh;
+        long hostMaskLow = fromLow ^ toLow;
+        // A subnet has a host mask of only trailing ones, and the from address has only zeroes for the host mask
+        if ((fromHigh & hostMaskHigh) != 0 || (fromLow & hostMaskLow) != 0) {
+            return -1;
+        }
+        if (hostMaskHigh == 0) {
+            return (hostMaskLow & (hostMaskLow + 1)) == 0 ? 2 * Long.SIZE - Long.bitCount(hostMaskLow) : -1;
+        }
+        return hostMaskLow == -1L && (hostMaskHigh & (hostMaskHigh + 1)) == 0 ? Long.SIZE - Long.bitCount(hostMaskHigh) : -1;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || o.getClass() != getClass()) {
+            return false;
+        }
+        IPRangeSet other = (IPRangeSet) o;
+        return Arrays.equals(ipv4From, other.ipv4From)
+                && Arrays.equals(ipv4To, other.ipv4To)
+                && Arrays.equals(ipv6From, other.ipv6From)
+                && Arrays.equals(ipv6To, other.ipv6To);
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = Arrays.hashCode(ipv4From);
+        hash = 31 * hash + Arrays.hashCode(ipv4To);
+        hash = 31 * hash + Arrays.hashCode(ipv6From);
+        hash = 31 * hash + Arrays.hashCode(ipv6To);
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return ranges().toString();
+    }
+
+    /**
+     * Accumulates IP ranges for an {@link IPRangeSet}.
+     *
+     * @author Rob Spoor
+     */
+    static final class Accumulator {
+
+        private static final long UNSIGNED_INT_MASK = 0xFFFF_FFFFL;
+
+        // The number of values per IPv6 range: the high and low addresses of from and to
+        private static final int IPV6_RANGE_SIZE = 4;
+
+        // IPv4 ranges as unsigned from and to values in the high and low 32 bits, XOR-ed with Long.MIN_VALUE so they can be sorted as signed values
+        private long[] ipv4Ranges = new long[16];
+        private int ipv4Count = 0;
+
+        // IPv6 ranges as from and to high and low addresses, interleaved, so they can be sorted without creating an object per range
+        private long[] ipv6Ranges = new long[16 * IPV6_RANGE_SIZE];
+        private int ipv6Count = 0;
+
+        void add(IPRange<?> range) {
+            if (range.from() instanceof IPv4Address from) {
+                IPv4Address to = (IPv4Address) range.to();
+                add(from.toInt(), to.toInt());
+            } else {
+                IPv6Address from = (IPv6Address) range.from();
+                IPv6Address to = (IPv6Address) range.to();
+                add(from.highAddress(), from.lowAddress(), to.highAddress(), to.lowAddress());
+            }
+        }
+
+        void add(int from, int to) {
+            if (ipv4Count == ipv4Ranges.length) {
+                ipv4Ranges = Arrays.copyOf(ipv4Ranges, ipv4Count * 2);
+            }
+            ipv4Ranges[ipv4Count++] = ((from & UNSIGNED_INT_MASK) << Integer.SIZE | (to & UNSIGNED_INT_MASK)) ^ Long.MIN_VALUE;
+        }
+
+        void add(long fromHighAddress, long fromLowAddress, long toHighAddress, long toLowAddress) {
+            int index = ipv6Count * IPV6_RANGE_SIZE;
+            if (index == ipv6Ranges.length) {
+                ipv6Ranges = Arrays.copyOf(ipv6Ranges, index * 2);
+            }
+            ipv6Ranges[index] = fromHighAddress;
+            ipv6Ranges[index + 1] = fromLowAddress;
+            ipv6Ranges[index + 2] = toHighAddress;
+            ipv6Ranges[index + 3] = toLowAddress;
+            ipv6Count++;
+        }
+
+        IPRangeSet build() {
+            if (ipv4Count == 0 && ipv6Count == 0) {
+                return EMPTY;
+            }
+
+            Arrays.sort(ipv4Ranges, 0, ipv4Count);
+            int[] ipv4From = new int[ipv4Count];
+            int[] ipv4To = new int[ipv4Count];
+            int ipv4Merged = 0;
+            // Use unsigned values as long, so adjacency can be checked without overflow
+            long currentFrom = -1;
+            long currentTo = -1;
+            for (int i = 0; i < ipv4Count; i++) {
+                long range = ipv4Ranges[i] ^ Long.MIN_VALUE;
+                long from = range >>> Integer.SIZE;
+                long to = range & UNSIGNED_INT_MASK;
+                if (currentFrom != -1 && from <= currentTo + 1) {
+                    currentTo = Math.max(currentTo, to);
+                } else {
+                    if (currentFrom != -1) {
+                        ipv4From[ipv4Merged] = (int) currentFrom ^ Integer.MIN_VALUE;
+                        ipv4To[ipv4Merged++] = (int) currentTo ^ Integer.MIN_VALUE;
+                    }
+                    currentFrom = from;
+                    currentTo = to;
+                }
+            }
+            if (currentFrom != -1) {
+                ipv4From[ipv4Merged] = (int) currentFrom ^ Integer.MIN_VALUE;
+                ipv4To[ipv4Merged++] = (int) currentTo ^ Integer.MIN_VALUE;
+            }
+
+            sortIPv6Ranges();
+            long[] ipv6From = new long[2 * ipv6Count];
+            long[] ipv6To = new long[2 * ipv6Count];
+            int ipv6Merged = 0;
+            for (int i = 0; i < ipv6Count * IPV6_RANGE_SIZE; i += IPV6_RANGE_SIZE) {
+                long fromHigh = ipv6Ranges[i];
+                long fromLow = ipv6Ranges[i + 1];
+                long toHigh = ipv6Ranges[i + 2];
+                long toLow = ipv6Ranges[i + 3];
+                if (ipv6Merged > 0 && isOverlappingOrAdjacent(ipv6To[ipv6Merged - 2], ipv6To[ipv6Merged - 1], fromHigh, fromLow)) {
+                    if (IPAddressText.compareIPv6(toHigh, toLow, ipv6To[ipv6Merged - 2], ipv6To[ipv6Merged - 1]) > 0) {
+                        ipv6To[ipv6Merged - 2] = toHigh;
+                        ipv6To[ipv6Merged - 1] = toLow;
+                    }
+                } else {
+                    ipv6From[ipv6Merged] = fromHigh;
+                    ipv6From[ipv6Merged + 1] = fromLow;
+                    ipv6To[ipv6Merged] = toHigh;
+                    ipv6To[ipv6Merged + 1] = toLow;
+                    ipv6Merged += 2;
+                }
+            }
+
+            return new IPRangeSet(Arrays.copyOf(ipv4From, ipv4Merged), Arrays.copyOf(ipv4To, ipv4Merged),
+                    Arrays.copyOf(ipv6From, ipv6Merged), Arrays.copyOf(ipv6To, ipv6Merged));
+        }
+
+        /**
+         * Sorts the IPv6 ranges on their from addresses in place, using a heap sort. Unlike sorting arrays with a comparator, this needs neither an
+         * object per range nor any extra memory, and it takes <code>O(n log n)</code> time in all cases.
+         */
+        private void sortIPv6Ranges() {
+            for (int i = ipv6Count / 2 - 1; i >= 0; i--) {
+                siftDown(i, ipv6Count);
+            }
+            for (int end = ipv6Count - 1; end > 0; end--) {
+                swap(0, end);
+                siftDown(0, end);
+            }
+        }
+
+        private void siftDown(int index, int size) {
+            int parent = index;
+            int child;
+            while ((child = 2 * parent + 1) < size) {
+                if (child + 1 < size && compareIPv6From(child + 1, child) > 0) {
+                    child++;
+                }
+                if (compareIPv6From(child, parent) <= 0) {
+                    return;
+                }
+                swap(parent, child);
+                parent = child;
+            }
+        }
+
+        private int compareIPv6From(int index1, int index2) {
+            int offset1 = index1 * IPV6_RANGE_SIZE;
+            int offset2 = index2 * IPV6_RANGE_SIZE;
+            return IPAddressText.compareIPv6(ipv6Ranges[offset1], ipv6Ranges[offset1 + 1], ipv6Ranges[offset2], ipv6Ranges[offset2 + 1]);
+        }
+
+        private void swap(int index1, int index2) {
+            int offset1 = index1 * IPV6_RANGE_SIZE;
+            int offset2 = index2 * IPV6_RANGE_SIZE;
+            for (int i = 0; i < IPV6_RANGE_SIZE; i++) {
+                long value = ipv6Ranges[offset1 + i];
+                ipv6Ranges[offset1 + i] = ipv6Ranges[offset2 + i];
+                ipv6Ranges[offset2 + i] = value;
+            }
+        }
+
+        private static boolean isOverlappingOrAdjacent(long toHigh, long toLow, long fromHigh, long fromLow) {
+            if (IPAddressText.compareIPv6(fromHigh, fromLow, toHigh, toLow) <= 0) {
+                return true;
+            }
+            // from is after to; check if it directly follows it
+            long nextHigh = toLow == -1L ? toHigh + 1 : toHigh;
+            long nextLow = toLow + 1;
+            return fromHigh == nextHigh && fromLow == nextLow;
+        }
+    }
+}
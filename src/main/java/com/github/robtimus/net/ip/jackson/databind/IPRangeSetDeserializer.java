@@ -0,0 +1,180 @@
+/*
+ * IPRangeSetDeserializer.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.net.ip.jackson.databind;
+
+import com.github.robtimus.net.ip.IPRange;
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.databind.BeanProperty;
+import tools.jackson.databind.DeserializationContext;
+import tools.jackson.databind.ValueDeserializer;
+
+/**
+ * A deserializer for {@link IPRangeSet}. It reads an array of CIDR subnet notations and objects with properties {@code from} and {@code to},
+ * which can be mixed, and can contain both IPv4 and IPv6 ranges. Each element is deserialized using the deserializer for {@link IPRange} of the
+ * current mapper.
+ * <p>
+ * This deserializer also reads binary values with differences, as written by {@link IPRangeSetSerializer} for the
+ * {@link com.fasterxml.jackson.annotation.JsonFormat.Shape#BINARY BINARY} shape. For JSON these are base64 strings. The differences are decoded
+ * while the binary value is read.
+ *
+ * @author Rob Spoor
+ */
+public class IPRangeSetDeserializer extends ValueDeserializer<IPRangeSet> {
+
+    static final IPRangeSetDeserializer INSTANCE = new IPRangeSetDeserializer();
+
+    private final ValueDeserializer<Object> rangeDeserializer;
+
+    /**
+     * Creates a new {@link IPRangeSet} deserializer.
+     */
+    public IPRangeSetDeserializer() {
+        this(null);
+    }
+
+    private IPRangeSetDeserializer(ValueDeserializer<Object> rangeDeserializer) {
+        this.rangeDeserializer = rangeDeserializer;
+    }
+
+    @Override
+    public ValueDeserializer<?> createContextual(DeserializationContext ctxt, BeanProperty property) {
+        // Use the registered deserializer, which may be instrumented
+        return rangeDeserializer == null
+                ? new IPRangeSetDeserializer(ctxt.findRootValueDeserializer(ctxt.constructType(IPRange.class)))
+                : this;
+    }
+
+    @Override
+    public IPRangeSet deserialize(JsonParser p, DeserializationContext ctxt) throws JacksonException {
+        if (IPDeltaEncoding.isDeltaEncoded(p)) {
+            return deserializeDeltas(p, ctxt);
+        }
+        if (!p.isExpectedStartArrayToken()) {
+            return (IPRangeSet) ctxt.handleUnexpectedToken(handledType(), p);
+        }
+
+        // Each range is reported to JFR and instrumentation by the range deserializer
+        // Ranges can be strings, objects, or arrays of CIDR blocks if they are written with shape ARRAY
+        IPRangeSet.Accumulator accumulator = new IPRangeSet.Accumulator();
+        JsonToken token;
+        while ((token = p.nextToken()) != JsonToken.END_ARRAY) {
+            if (token != JsonToken.VALUE_STRING && token != JsonToken.START_OBJECT && token != JsonToken.START_ARRAY) {
+                throw ctxt.wrongTokenException(p, IPRange.class, JsonToken.VALUE_STRING, null);
+            }
+            accumulator.add((IPRange<?>) rangeDeserializer.deserialize(p, ctxt));
+        }
+        return accumulator.build();
+    }
+
+    private IPRangeSet deserializeDeltas(JsonParser p, DeserializationContext ctxt) {
+        IPDeserializationEvent event = IPDeserializationEvent.start();
+        try {
+            DeltaDecoder decoder = new DeltaDecoder();
+            int length = IPDeltaEncoding.read(p, ctxt, decoder);
+            IPRangeSet result = decoder.result();
+            event.commit(handledType(), length, ctxt);
+            return result;
+        } catch (RuntimeException e) {
+            IPDeserializationFailedEvent.record(handledType(), 0, ctxt, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public Class<?> handledType() {
+        return IPRangeSet.class;
+    }
+
+    /**
+     * Decodes the number of IPv4 ranges, followed by the differences for the IPv4 ranges and the IPv6 ranges.
+     *
+     * @author Rob Spoor
+     */
+    private static final class DeltaDecoder extends IPDeltaEncoding.Decoder<IPRangeSet> {
+
+        private final IPRangeSet.Accumulator accumulator = new IPRangeSet.Accumulator();
+
+        // -1 until the number of IPv4 ranges has been read
+        private long ipv4Remaining = -1;
+
+        // Whether or not the next value is the difference between the to and from addresses of a range
+        private boolean fromRead = false;
+
+        private long ipv4From;
+        private long ipv4Previous = 0;
+
+        private long ipv6FromHigh;
+        private long ipv6FromLow;
+        private long ipv6PreviousHigh = 0;
+        private long ipv6PreviousLow = 0;
+
+        private DeltaDecoder() {
+            super(IPRangeSet.class);
+        }
+
+        @Override
+        void value(long highValue, long lowValue) {
+            if (ipv4Remaining == -1) {
+                if (highValue != 0 || lowValue < 0) {
+                    throw valueOutOfRange();
+                }
+                ipv4Remaining = lowValue;
+            } else if (ipv4Remaining > 0) {
+                ipv4Value(highValue, lowValue);
+            } else {
+                ipv6Value(highValue, lowValue);
+            }
+        }
+
+        private void ipv4Value(long highValue, long lowValue) {
+            if (fromRead) {
+                long to = addIPv4(ipv4From, highValue, lowValue);
+                accumulator.add((int) ipv4From, (int) to);
+                ipv4Previous = to;
+                ipv4Remaining--;
+            } else {
+                ipv4From = addIPv4(ipv4Previous, highValue, lowValue);
+            }
+            fromRead = !fromRead;
+        }
+
+        private void ipv6Value(long highValue, long lowValue) {
+            if (fromRead) {
+                addIPv6(ipv6FromHigh, ipv6FromLow, highValue, lowValue);
+                accumulator.add(ipv6FromHigh, ipv6FromLow, sumHigh, sumLow);
+                ipv6PreviousHigh = sumHigh;
+                ipv6PreviousLow = sumLow;
+            } else {
+                addIPv6(ipv6PreviousHigh, ipv6PreviousLow, highValue, lowValue);
+                ipv6FromHigh = sumHigh;
+                ipv6FromLow = sumLow;
+            }
+            fromRead = !fromRead;
+        }
+
+        @Override
+        IPRangeSet result() {
+            if (ipv4Remaining != 0 || fromRead) {
+                throw incompleteValue();
+            }
+            return accumulator.build();
+        }
+    }
+}
@@ -0,0 +1,206 @@
+/*
+ * IPRangeSetSerializer.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.net.ip.jackson.databind;
+
+import static com.github.robtimus.net.ip.jackson.databind.IPRangeSerializer.FROM_FIELD_NAME;
+import static com.github.robtimus.net.ip.jackson.databind.IPRangeSerializer.TO_FIELD_NAME;
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.JsonToken;
+import tools.jackson.core.type.WritableTypeId;
+import tools.jackson.databind.BeanProperty;
+import tools.jackson.databind.SerializationContext;
+import tools.jackson.databind.ValueSerializer;
+import tools.jackson.databind.jsontype.TypeSerializer;
+
+/**
+ * A serializer for {@link IPRangeSet}. It writes an array with the merged ranges of the set, formatting the addresses directly from their primitive
+ * values. Ranges that are subnets are written in CIDR notation; other ranges are written as objects with properties {@code from} and {@code to}.
+ * <p>
+ * If the shape is {@link com.fasterxml.jackson.annotation.JsonFormat.Shape#BINARY BINARY}, this serializer instead writes a single binary value
+ * with unsigned variable length integers: the number of IPv4 ranges, followed by two values per range. These are the difference between the from
+ * address and the to address of the previous range, and the difference between the to address and the from address. The IPv6 ranges follow
+ * in the same way. For JSON the binary value is a base64 string. {@link IPRangeSetDeserializer} reads both forms.
+ *
+ * @author Rob Spoor
+ */
+public class IPRangeSetSerializer extends ValueSerializer<IPRangeSet> {
+
+    static final IPRangeSetSerializer INSTANCE = new IPRangeSetSerializer();
+
+    private final boolean deltaEncoded;
+
+    /**
+     * Creates a new {@link IPRangeSet} serializer.
+     */
+    public IPRangeSetSerializer() {
+        this(false);
+    }
+
+    private IPRangeSetSerializer(boolean deltaEncoded) {
+        this.deltaEncoded = deltaEncoded;
+    }
+
+    @Override
+    public ValueSerializer<?> createContextual(SerializationContext ctxt, BeanProperty property) {
+        boolean enabled = IPDeltaEncoding.isEnabled(ctxt, property, handledType());
+        return enabled == deltaEncoded
+                ? this
+                : new IPRangeSetSerializer(enabled);
+    }
+
+    @Override
+    @SuppressWarnings("resource")
+    public void serialize(IPRangeSet value, JsonGenerator gen, SerializationContext ctxt) throws JacksonException {
+        IPSerializationEvent event = IPSerializationEvent.start();
+        int length;
+        if (deltaEncoded) {
+            length = writeDeltas(value, gen, ctxt);
+        } else {
+            gen.writeStartArray(value, value.rangeCount());
+            length = writeRanges(value, gen);
+            gen.writeEndArray();
+        }
+        event.commit(handledType(), length, ctxt);
+    }
+
+    @Override
+    public void serializeWithType(IPRangeSet value, JsonGenerator gen, SerializationContext ctxt, TypeSerializer typeSer) throws JacksonException {
+        IPSerializationEvent event = IPSerializationEvent.start();
+        int length;
+        if (deltaEncoded) {
+            WritableTypeId typeIdDef = typeSer.writeTypePrefix(gen, ctxt, typeSer.typeId(value, JsonToken.VALUE_STRING));
+            length = writeDeltas(value, gen, ctxt);
+            typeSer.writeTypeSuffix(gen, ctxt, typeIdDef);
+        } else {
+            WritableTypeId typeIdDef = typeSer.writeTypePrefix(gen, ctxt, typeSer.typeId(value, JsonToken.START_ARRAY));
+            length = writeRanges(value, gen);
+            typeSer.writeTypeSuffix(gen, ctxt, typeIdDef);
+        }
+        event.commit(handledType(), length, ctxt);
+    }
+
+    @Override
+    public boolean isEmpty(SerializationContext ctxt, IPRangeSet value) {
+        return value.isEmpty();
+    }
+
+    /**
+     * Writes the ranges of a set.
+     *
+     * @return The total number of characters written for all addresses and prefix lengths.
+     */
+    int writeRanges(IPRangeSet value, JsonGenerator gen) {
+        char[] buffer = new char[IPAddressText.MAX_CIDR_LENGTH];
+        int length = 0;
+        for (int i = 0; i < value.ipv4RangeCount(); i++) {
+            int count = IPAddressText.formatIPv4(value.ipv4From(i), buffer);
+            int prefixLength = value.ipv4PrefixLength(i);
+            if (prefixLength != -1) {
+                length += writeSubnet(buffer, count, prefixLength, gen);
+            } else {
+                gen.writeStartObject();
+                gen.writeName(FROM_FIELD_NAME);
+                gen.writeString(buffer, 0, count);
+                length += count;
+
+                count = IPAddressText.formatIPv4(value.ipv4To(i), buffer);
+                gen.writeName(TO_FIELD_NAME);
+                gen.writeString(buffer, 0, count);
+                gen.writeEndObject();
+                length += count;
+            }
+        }
+        long[] from = value.ipv6From();
+        long[] to = value.ipv6To();
+        for (int i = 0; i < value.ipv6RangeCount(); i++) {
+            int count = IPAddressText.formatIPv6(from[2 * i], from[2 * i + 1], buffer);
+            int prefixLength = value.ipv6PrefixLength(i);
+            if (prefixLength != -1) {
+                length += writeSubnet(buffer, count, prefixLength, gen);
+            } else {
+                gen.writeStartObject();
+                gen.writeName(FROM_FIELD_NAME);
+                gen.writeString(buffer, 0, count);
+                length += count;
+
+                count = IPAddressText.formatIPv6(to[2 * i], to[2 * i + 1], buffer);
+                gen.writeName(TO_FIELD_NAME);
+                gen.writeString(buffer, 0, count);
+                gen.writeEndObject();
+                length += count;
+            }
+        }
+        return length;
+    }
+
+    /**
+     * Writes the ranges of a set as a single binary value with differences.
+     *
+     * @return The number of bytes written, before any base64 encoding.
+     */
+    private int writeDeltas(IPRangeSet value, JsonGenerator gen, SerializationContext ctxt) {
+        int ipv4Count = value.ipv4RangeCount();
+        int ipv6Count = value.ipv6RangeCount();
+        long[] from = value.ipv6From();
+        long[] to = value.ipv6To();
+        // The count of IPv4 ranges is written first, then the IPv4 ranges, then the IPv6 ranges
+        IPDeltaEncoding.Encoder encoder = new IPDeltaEncoding.Encoder() {
+
+            private int index = -1;
+            private long previous = 0;
+            private long previousHigh = 0;
+            private long previousLow = 0;
+
+            @Override
+            boolean encodeNext() {
+                if (index == -1) {
+                    write(ipv4Count);
+                } else if (index < ipv4Count) {
+                    long ipv4From = Integer.toUnsignedLong(value.ipv4From(index));
+                    long ipv4To = Integer.toUnsignedLong(value.ipv4To(index));
+                    write(ipv4From - previous);
+                    write(ipv4To - ipv4From);
+                    previous = ipv4To;
+                } else if (index < ipv4Count + ipv6Count) {
+                    int i = index - ipv4Count;
+                    writeDifference(from[2 * i], from[2 * i + 1], previousHigh, previousLow);
+                    writeDifference(to[2 * i], to[2 * i + 1], from[2 * i], from[2 * i + 1]);
+                    previousHigh = to[2 * i];
+                    previousLow = to[2 * i + 1];
+                } else {
+                    return false;
+                }
+                index++;
+                return true;
+            }
+        };
+        return encoder.writeTo(gen, ctxt);
+    }
+
+    private int writeSubnet(char[] buffer, int addressLength, int prefixLength, JsonGenerator gen) {
+        int count = IPAddressText.formatCIDR(buffer, addressLength, prefixLength);
+        gen.writeString(buffer, 0, count);
+        return count;
+    }
+
+    @Override
+    public Class<IPRangeSet> handledType() {
+        return IPRangeSet.class;
+    }
+}
@@ -0,0 +1,317 @@
+/*
+ * IPRangeSnapshot.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.net.ip.jackson.databind;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+import com.github.robtimus.net.ip.IPAddress;
+import com.github.robtimus.net.ip.IPv4Address;
+import com.github.robtimus.net.ip.IPv6Address;
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.exc.JacksonIOException;
+
+/**
+ * A memory-mapped, read-only snapshot of an {@link IPRangeSet}.
+ * <p>
+ * Parsing a large JSON file of IP ranges can take a long time. Such a file can instead be converted once into a binary snapshot file:
+ * <pre><code>
+ * IPRangeSet ranges = mapper.readValue(jsonFile, IPRangeSet.class);
+ * IPRangeSnapshot.write(ranges, snapshotFile);
+ * </code></pre>
+ * Afterwards, {@link #open(Path)} maps the snapshot file into memory without parsing it, so opening takes constant time regardless of the file
+ * size. Lookups use a binary search directly on the mapped file, like {@link IPRangeSet} does on its arrays; the operating system loads the
+ * pages of the file that are accessed on demand. Instances are safe to share between threads.
+ * <p>
+ * When an {@link IPModule} is registered, instances are serialized as the string representation of the path of their snapshot file, and
+ * deserialized by opening the snapshot file at the path given as string. This allows a snapshot to be referenced from configuration files.
+ * Relative paths are resolved against the current working directory.
+ * <p>
+ * A snapshot file contains a header followed by the sorted, merged boundaries of the IPv4 and IPv6 ranges, all in little-endian byte order.
+ * The file is unmapped when its snapshot is garbage collected. Snapshot files should not be modified while they are mapped;
+ * {@link #write(IPRangeSet, Path)} therefore writes to a temporary file which then replaces the existing file, if possible atomically.
+ *
+ * @author Rob Spoor
+ */
+public final class IPRangeSnapshot {
+
+    // "IPRS" in ASCII
+    private static final int MAGIC = 0x4950_5253;
+    private static final int FORMAT_VERSION = 1;
+
+    // magic, format version, IPv4 range count, IPv6 range count
+    private static final int HEADER_SIZE = 4 * Integer.BYTES;
+
+    private static final ByteOrder BYTE_ORDER = ByteOrder.LITTLE_ENDIAN;
+
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+
+    private final Path path;
+
+    private final IntBuffer ipv4From;
+    private final IntBuffer ipv4To;
+
+    // high and low addresses, interleaved
+    private final LongBuffer ipv6From;
+    private final LongBuffer ipv6To;
+
+    private IPRangeSnapshot(Path path, IntBuffer ipv4From, IntBuffer ipv4To, LongBuffer ipv6From, LongBuffer ipv6To) {
+        this.path = path;
+        this.ipv4From = ipv4From;
+        this.ipv4To = ipv4To;
+        this.ipv6From = ipv6From;
+        this.ipv6To = ipv6To;
+    }
+
+    /**
+     * Writes a snapshot file for a set of IP ranges.
+     *
+     * @param ranges The set of IP ranges to write.
+     * @param path The path to the snapshot file to write. If the file already exists it will be replaced.
+     * @throws NullPointerException If the given set or path is {@code null}.
+     * @throws JacksonException If the snapshot file could not be written.
+     */
+    public static void write(IPRangeSet ranges, Path path) {
+        Objects.requireNonNull(ranges);
+        Path absolutePath = path.toAbsolutePath();
+        try {
+            Path tempFile = Files.createTempFile(absolutePath.getParent(), absolutePath.getFileName().toString(), ".tmp"); //$NON-NLS-1$
+            try {
+                writeTo(ranges, tempFile);
+                move(tempFile, absolutePath);
+            } finally {
+                Files.deleteIfExists(tempFile);
+            }
+        } catch (IOException e) {
+            throw JacksonIOException.construct(e);
+        }
+    }
+
+    private static void writeTo(IPRangeSet ranges, Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = ByteBuffer.allocate(WRITE_BUFFER_SIZE).order(BYTE_ORDER);
+            int ipv4Count = ranges.ipv4RangeCount();
+            int ipv6Count = ranges.ipv6RangeCount();
+
+            buffer.putInt(MAGIC)
+                    .putInt(FORMAT_VERSION)
+                    .putInt(ipv4Count)
+                    .putInt(ipv6Count);
+
+            for (int i = 0; i < ipv4Count; i++) {
+                ensureRemaining(buffer, Integer.BYTES, channel);
+                buffer.putInt(ranges.ipv4From(i));
+            }
+            for (int i = 0; i < ipv4Count; i++) {
+                ensureRemaining(buffer, Integer.BYTES, channel);
+                buffer.putInt(ranges.ipv4To(i));
+            }
+            for (long address : ranges.ipv6From()) {
+                ensureRemaining(buffer, Long.BYTES, channel);
+                buffer.putLong(address);
+            }
+            for (long address : ranges.ipv6To()) {
+                ensureRemaining(buffer, Long.BYTES, channel);
+                buffer.putLong(address);
+            }
+            flush(buffer, channel);
+            channel.force(false);
+        }
+    }
+
+    private static void ensureRemaining(ByteBuffer buffer, int count, FileChannel channel) throws IOException {
+        if (buffer.remaining() < count) {
+            flush(buffer, channel);
+        }
+    }
+
+    private static void flush(ByteBuffer buffer, FileChannel channel) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    private static void move(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Opens a snapshot file by mapping it into memory.
+     *
+     * @param path The path to the snapshot file to open.
+     * @return A snapshot for the given file.
+     * @throws NullPointerException If the given path is {@code null}.
+     * @throws JacksonException If the snapshot file could not be opened.
+     * @throws IllegalArgumentException If the file is not a valid snapshot file.
+     */
+    public static IPRangeSnapshot open(Path path) {
+        // The mapped buffers remain valid after the channel is closed
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_SIZE) {
+                throw new IllegalArgumentException(Messages.IPRangeSnapshot.invalidFile(path));
+            }
+            ByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_SIZE).order(BYTE_ORDER);
+            int ipv4Count = header.getInt(2 * Integer.BYTES);
+            int ipv6Count = header.getInt(3 * Integer.BYTES);
+            if (header.getInt(0) != MAGIC || header.getInt(Integer.BYTES) != FORMAT_VERSION || ipv4Count < 0 || ipv6Count < 0
+                    || size != HEADER_SIZE + 2L * ipv4Count * Integer.BYTES + 4L * ipv6Count * Long.BYTES) {
+                throw new IllegalArgumentException(Messages.IPRangeSnapshot.invalidFile(path));
+            }
+
+            long offset = HEADER_SIZE;
+            long ipv4Size = (long) ipv4Count * Integer.BYTES;
+            long ipv6Size = 2L * ipv6Count * Long.BYTES;
+            IntBuffer ipv4From = map(channel, offset, ipv4Size).asIntBuffer();
+            offset += ipv4Size;
+            IntBuffer ipv4To = map(channel, offset, ipv4Size).asIntBuffer();
+            offset += ipv4Size;
+            LongBuffer ipv6From = map(channel, offset, ipv6Size).asLongBuffer();
+            offset += ipv6Size;
+            LongBuffer ipv6To = map(channel, offset, ipv6Size).asLongBuffer();
+            return new IPRangeSnapshot(path, ipv4From, ipv4To, ipv6From, ipv6To);
+        } catch (IOException e) {
+            throw JacksonIOException.construct(e);
+        }
+    }
+
+    private static ByteBuffer map(FileChannel channel, long offset, long size) throws IOException {
+        return channel.map(FileChannel.MapMode.READ_ONLY, offset, size).order(BYTE_ORDER);
+    }
+
+    /**
+     * Returns the path to the snapshot file of this snapshot.
+     *
+     * @return The path to the snapshot file of this snapshot, as given to {@link #open(Path)}.
+     */
+    public Path path() {
+        return path;
+    }
+
+    /**
+     * Returns whether or not this snapshot is empty.
+     *
+     * @return {@code true} if this snapshot contains no IP ranges, or {@code false} otherwise.
+     */
+    public boolean isEmpty() {
+        return rangeCount() == 0;
+    }
+
+    /**
+     * Returns the number of IP ranges in this snapshot. Overlapping and adjacent ranges were merged before the snapshot was written.
+     *
+     * @return The number of IP ranges in this snapshot.
+     */
+    public int rangeCount() {
+        return ipv4From.capacity() + ipv6From.capacity() / 2;
+    }
+
+    /**
+     * Returns whether or not this snapshot contains an IPv4 address.
+     *
+     * @param address The IPv4 address to check, as returned by {@link IPv4Address#toInt()}.
+     * @return {@code true} if one of the ranges of this snapshot contains the given IPv4 address, or {@code false} otherwise.
+     */
+    public boolean contains(int address) {
+        int low = 0;
+        int high = ipv4From.capacity() - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (Integer.compareUnsigned(ipv4From.get(mid), address) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        // high is the index of the last range that starts at or before the address
+        return high >= 0 && Integer.compareUnsigned(address, ipv4To.get(high)) <= 0;
+    }
+
+    /**
+     * Returns whether or not this snapshot contains an IPv6 address.
+     *
+     * @param highAddress The high 64 bits of the IPv6 address to check, as returned by {@link IPv6Address#highAddress()}.
+     * @param lowAddress The low 64 bits of the IPv6 address to check, as returned by {@link IPv6Address#lowAddress()}.
+     * @return {@code true} if one of the ranges of this snapshot contains the given IPv6 address, or {@code false} otherwise.
+     */
+    public boolean contains(long highAddress, long lowAddress) {
+        int low = 0;
+        int high = ipv6From.capacity() / 2 - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (IPAddressText.compareIPv6(ipv6From.get(2 * mid), ipv6From.get(2 * mid + 1), highAddress, lowAddress) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        // high is the index of the last range that starts at or before the address
+        return high >= 0 && IPAddressText.compareIPv6(highAddress, lowAddress, ipv6To.get(2 * high), ipv6To.get(2 * high + 1)) <= 0;
+    }
+
+    /**
+     * Returns whether or not this snapshot contains an IP address.
+     *
+     * @param address The IP address to check.
+     * @return {@code true} if one of the ranges of this snapshot contains the given IP address, or {@code false} otherwise.
+     * @throws NullPointerException If the given IP address is {@code null}.
+     */
+    public boolean contains(IPAddress<?> address) {
+        if (address instanceof IPv4Address ipv4Address) {
+            return contains(ipv4Address.toInt());
+        }
+        IPv6Address ipv6Address = (IPv6Address) address;
+        return contains(ipv6Address.highAddress(), ipv6Address.lowAddress());
+    }
+
+    /**
+     * Reads the ranges of this snapshot into an {@link IPRangeSet}.
+     *
+     * @return An {@link IPRangeSet} with the ranges of this snapshot.
+     */
+    public IPRangeSet toRangeSet() {
+        IPRangeSet.Accumulator accumulator = new IPRangeSet.Accumulator();
+        for (int i = 0; i < ipv4From.capacity(); i++) {
+            accumulator.add(ipv4From.get(i), ipv4To.get(i));
+        }
+        for (int i = 0; i < ipv6From.capacity(); i += 2) {
+            accumulator.add(ipv6From.get(i), ipv6From.get(i + 1), ipv6To.get(i), ipv6To.get(i + 1));
+        }
+        return accumulator.build();
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "[path=" + path + ", rangeCount=" + rangeCount() + "]"; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * IPRangeSnapshotDeserializer.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.net.ip.jackson.databind;
+
+import java.nio.file.Path;
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.databind.DeserializationContext;
+import tools.jackson.databind.ValueDeserializer;
+
+/**
+ * A deserializer for {@link IPRangeSnapshot}. It reads the path of a snapshot file as string, and opens that file using
+ * {@link IPRangeSnapshot#open(Path)}.
+ *
+ * @author Rob Spoor
+ */
+public class IPRangeSnapshotDeserializer extends ValueDeserializer<IPRangeSnapshot> {
+
+    static final IPRangeSnapshotDeserializer INSTANCE = new IPRangeSnapshotDeserializer();
+
+    /**
+     * Creates a new {@link IPRangeSnapshot} deserializer.
+     */
+    public IPRangeSnapshotDeserializer() {
+        super();
+    }
+
+    @Override
+    public IPRangeSnapshot deserialize(JsonParser p, DeserializationContext ctxt) throws JacksonException {
+        if (!p.hasToken(JsonToken.VALUE_STRING)) {
+            return (IPRangeSnapshot) ctxt.handleUnexpectedToken(handledType(), p);
+        }
+        return IPRangeSnapshot.open(Path.of(p.getString()));
+    }
+
+    @Override
+    public Class<?> handledType() {
+        return IPRangeSnapshot.class;
+    }
+}
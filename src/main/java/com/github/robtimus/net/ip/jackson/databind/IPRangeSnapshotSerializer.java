@@ -0,0 +1,50 @@
+/*
+ * IPRangeSnapshotSerializer.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.net.ip.jackson.databind;
+
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.databind.SerializationContext;
+import tools.jackson.databind.ValueSerializer;
+
+/**
+ * A serializer for {@link IPRangeSnapshot}. It writes the path of the snapshot file as string; the ranges themselves are not written.
+ *
+ * @author Rob Spoor
+ */
+public class IPRangeSnapshotSerializer extends ValueSerializer<IPRangeSnapshot> {
+
+    static final IPRangeSnapshotSerializer INSTANCE = new IPRangeSnapshotSerializer();
+
+    /**
+     * Creates a new {@link IPRangeSnapshot} serializer.
+     */
+    public IPRangeSnapshotSerializer() {
+        super();
+    }
+
+    @Override
+    public void serialize(IPRangeSnapshot value, JsonGenerator gen, SerializationContext ctxt) throws JacksonException {
+        gen.writeString(value.path().toString());
+    }
+
+    @Override
+    public Class<IPRangeSnapshot> handledType() {
+        return IPRangeSnapshot.class;
+    }
+}
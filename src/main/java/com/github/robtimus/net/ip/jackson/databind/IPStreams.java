@@ -0,0 +1,327 @@
+/*
+ * IPStreams.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.net.ip.jackson.databind;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import com.github.robtimus.net.ip.IPAddress;
+import com.github.robtimus.net.ip.IPRange;
+import com.github.robtimus.net.ip.Subnet;
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.type.TypeReference;
+import tools.jackson.databind.MappingIterator;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.ObjectReader;
+import tools.jackson.databind.ObjectWriter;
+import tools.jackson.databind.SequenceWriter;
+import tools.jackson.databind.SerializationFeature;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Utility class for reading and writing large numbers of IP addresses and ranges as streams.
+ * <p>
+ * When reading, the input can either be an array of values, or a sequence of root-level values, like newline-delimited JSON. Values are read
+ * lazily, one at a time, so memory usage is bounded by a single value regardless of the size of the input. The returned streams are sequential,
+ * and hold on to the input until they are closed. They should therefore be used in try-with-resources blocks:
+ * <pre><code>
+ * try (Stream&lt;IPv4Address&gt; addresses = IPStreams.read(path, IPv4Address.class)) {
+ *     ...
+ * }
+ * </code></pre>
+ * Generic types like {@code IPAddress<?>} can be read using a {@link TypeReference}:
+ * <pre><code>
+ * try (Stream&lt;IPAddress&lt;?&gt;&gt; addresses = IPStreams.read(path, new TypeReference&lt;IPAddress&lt;?&gt;&gt;() {})) {
+ *     ...
+ * }
+ * </code></pre>
+ * Errors while reading values are thrown from the stream's terminal operation. These are {@link JacksonException JacksonExceptions} for input
+ * that cannot be parsed, and {@link IllegalArgumentException IllegalArgumentExceptions} for values that are not valid IP addresses or ranges.
+ * <p>
+ * When writing, values are serialized one at a time as they are taken from a stream or iterator, without collecting them first.
+ * The output is flushed once every {@value #FLUSH_INTERVAL} values instead of after every value.
+ *
+ * @author Rob Spoor
+ */
+public final class IPStreams {
+
+    private static final int FLUSH_INTERVAL = 1000;
+
+    private static final String NEWLINE = "\n"; //$NON-NLS-1$
+
+    private static final ObjectMapper DEFAULT_MAPPER = JsonMapper.builder()
+            .addModule(IPModule.instance())
+            .build();
+
+    private IPStreams() {
+    }
+
+    /**
+     * Returns a stream over the JSON values of an input stream.
+     * The input stream will be closed when the returned stream is closed.
+     *
+     * @param <T> The type of values to read.
+     * @param input The input stream to read from.
+     * @param type The type of values to read. This should be {@link IPAddress}, {@link Subnet}, {@link IPRange} or one of their sub types.
+     * @return A stream over the values of the given input stream.
+     * @throws NullPointerException If the given input stream or type is {@code null}.
+     * @throws JacksonException If the input could not be read.
+     */
+    public static <T> Stream<T> read(InputStream input, Class<T> type) {
+        return read(DEFAULT_MAPPER, input, type);
+    }
+
+    /**
+     * Returns a stream over the JSON values of an input stream.
+     * The input stream will be closed when the returned stream is closed.
+     *
+     * @param <T> The type of values to read.
+     * @param input The input stream to read from.
+     * @param type A reference to the type of values to read, for instance {@code IPAddress<?>} or {@code IPRange<?>}.
+     * @return A stream over the values of the given input stream.
+     * @throws NullPointerException If the given input stream or type is {@code null}.
+     * @throws JacksonException If the input could not be read.
+     */
+    public static <T> Stream<T> read(InputStream input, TypeReference<T> type) {
+        return read(DEFAULT_MAPPER, input, type);
+    }
+
+    /**
+     * Returns a stream over the JSON values of a file.
+     *
+     * @param <T> The type of values to read.
+     * @param path The path to the file to read from.
+     * @param type The type of values to read. This should be {@link IPAddress}, {@link Subnet}, {@link IPRange} or one of their sub types.
+     * @return A stream over the values of the given file.
+     * @throws NullPointerException If the given path or type is {@code null}.
+     * @throws JacksonException If the file could not be opened or read.
+     */
+    public static <T> Stream<T> read(Path path, Class<T> type) {
+        return read(DEFAULT_MAPPER, path, type);
+    }
+
+    /**
+     * Returns a stream over the JSON values of a file.
+     *
+     * @param <T> The type of values to read.
+     * @param path The path to the file to read from.
+     * @param type A reference to the type of values to read, for instance {@code IPAddress<?>} or {@code IPRange<?>}.
+     * @return A stream over the values of the given file.
+     * @throws NullPointerException If the given path or type is {@code null}.
+     * @throws JacksonException If the file could not be opened or read.
+     */
+    public static <T> Stream<T> read(Path path, TypeReference<T> type) {
+        return read(DEFAULT_MAPPER, path, type);
+    }
+
+    /**
+     * Returns a stream over the values of an input stream.
+     * The input stream will be closed when the returned stream is closed, unless the mapper is configured to not close sources.
+     *
+     * @param <T> The type of values to read.
+     * @param mapper The mapper to use. It determines the data format, and must have an {@link IPModule} registered.
+     * @param input The input stream to read from.
+     * @param type The type of values to read. This should be {@link IPAddress}, {@link Subnet}, {@link IPRange} or one of their sub types.
+     * @return A stream over the values of the given input stream.
+     * @throws NullPointerException If the given mapper, input stream or type is {@code null}.
+     * @throws JacksonException If the input could not be read.
+     */
+    public static <T> Stream<T> read(ObjectMapper mapper, InputStream input, Class<T> type) {
+        Objects.requireNonNull(input);
+        return stream(reader(mapper, type).readValues(input));
+    }
+
+    /**
+     * Returns a stream over the values of an input stream.
+     * The input stream will be closed when the returned stream is closed, unless the mapper is configured to not close sources.
+     *
+     * @param <T> The type of values to read.
+     * @param mapper The mapper to use. It determines the data format, and must have an {@link IPModule} registered.
+     * @param input The input stream to read from.
+     * @param type A reference to the type of values to read, for instance {@code IPAddress<?>} or {@code IPRange<?>}.
+     * @return A stream over the values of the given input stream.
+     * @throws NullPointerException If the given mapper, input stream or type is {@code null}.
+     * @throws JacksonException If the input could not be read.
+     */
+    public static <T> Stream<T> read(ObjectMapper mapper, InputStream input, TypeReference<T> type) {
+        Objects.requireNonNull(input);
+        return stream(reader(mapper, type).readValues(input));
+    }
+
+    /**
+     * Returns a stream over the values of a file.
+     *
+     * @param <T> The type of values to read.
+     * @param mapper The mapper to use. It determines the data format, and must have an {@link IPModule} registered.
+     * @param path The path to the file to read from.
+     * @param type The type of values to read. This should be {@link IPAddress}, {@link Subnet}, {@link IPRange} or one of their sub types.
+     * @return A stream over the values of the given file.
+     * @throws NullPointerException If the given mapper, path or type is {@code null}.
+     * @throws JacksonException If the file could not be opened or read.
+     */
+    public static <T> Stream<T> read(ObjectMapper mapper, Path path, Class<T> type) {
+        Objects.requireNonNull(path);
+        return stream(reader(mapper, type).readValues(path));
+    }
+
+    /**
+     * Returns a stream over the values of a file.
+     *
+     * @param <T> The type of values to read.
+     * @param mapper The mapper to use. It determines the data format, and must have an {@link IPModule} registered.
+     * @param path The path to the file to read from.
+     * @param type A reference to the type of values to read, for instance {@code IPAddress<?>} or {@code IPRange<?>}.
+     * @return A stream over the values of the given file.
+     * @throws NullPointerException If the given mapper, path or type is {@code null}.
+     * @throws JacksonException If the file could not be opened or read.
+     */
+    public static <T> Stream<T> read(ObjectMapper mapper, Path path, TypeReference<T> type) {
+        Objects.requireNonNull(path);
+        return stream(reader(mapper, type).readValues(path));
+    }
+
+    /**
+     * Writes the values of a stream as JSON to an output stream.
+     * The output stream will be closed afterwards. The values stream is not closed.
+     *
+     * @param <T> The type of values to write.
+     * @param values The stream with the values to write.
+     * @param output The output stream to write to.
+     * @param type The type of values to write. This should be {@link IPAddress}, {@link Subnet}, {@link IPRange} or one of their sub types.
+     * @param layout The layout for the values.
+     * @throws NullPointerException If any of the given arguments is {@code null}.
+     * @throws JacksonException If the values could not be written.
+     */
+    public static <T> void write(Stream<? extends T> values, OutputStream output, Class<T> type, Layout layout) {
+        write(DEFAULT_MAPPER, values, output, type, layout);
+    }
+
+    /**
+     * Writes the values of an iterator as JSON to an output stream.
+     * The output stream will be closed afterwards.
+     *
+     * @param <T> The type of values to write.
+     * @param values The iterator with the values to write.
+     * @param output The output stream to write to.
+     * @param type The type of values to write. This should be {@link IPAddress}, {@link Subnet}, {@link IPRange} or one of their sub types.
+     * @param layout The layout for the values.
+     * @throws NullPointerException If any of the given arguments is {@code null}.
+     * @throws JacksonException If the values could not be written.
+     */
+    public static <T> void write(Iterator<? extends T> values, OutputStream output, Class<T> type, Layout layout) {
+        write(DEFAULT_MAPPER, values, output, type, layout);
+    }
+
+    /**
+     * Writes the values of a stream to an output stream.
+     * The output stream will be closed afterwards, unless the mapper is configured to not close targets. The values stream is not closed.
+     *
+     * @param <T> The type of values to write.
+     * @param mapper The mapper to use. It determines the data format, and must have an {@link IPModule} registered.
+     * @param values The stream with the values to write.
+     * @param output The output stream to write to.
+     * @param type The type of values to write. This should be {@link IPAddress}, {@link Subnet}, {@link IPRange} or one of their sub types.
+     * @param layout The layout for the values.
+     * @throws NullPointerException If any of the given arguments is {@code null}.
+     * @throws JacksonException If the values could not be written.
+     */
+    public static <T> void write(ObjectMapper mapper, Stream<? extends T> values, OutputStream output, Class<T> type, Layout layout) {
+        write(mapper, values.iterator(), output, type, layout);
+    }
+
+    /**
+     * Writes the values of an iterator to an output stream.
+     * The output stream will be closed afterwards, unless the mapper is configured to not close targets.
+     *
+     * @param <T> The type of values to write.
+     * @param mapper The mapper to use. It determines the data format, and must have an {@link IPModule} registered.
+     * @param values The iterator with the values to write.
+     * @param output The output stream to write to.
+     * @param type The type of values to write. This should be {@link IPAddress}, {@link Subnet}, {@link IPRange} or one of their sub types.
+     * @param layout The layout for the values.
+     * @throws NullPointerException If any of the given arguments is {@code null}.
+     * @throws JacksonException If the values could not be written.
+     */
+    @SuppressWarnings("resource")
+    public static <T> void write(ObjectMapper mapper, Iterator<? extends T> values, OutputStream output, Class<T> type, Layout layout) {
+        Objects.requireNonNull(values);
+        Objects.requireNonNull(output);
+        Objects.requireNonNull(type);
+        Objects.requireNonNull(layout);
+
+        ObjectWriter writer = mapper.writerFor(type).without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        if (layout == Layout.NEWLINE_DELIMITED) {
+            writer = writer.withRootValueSeparator(NEWLINE);
+        }
+
+        try (JsonGenerator generator = writer.createGenerator(output)) {
+            int count = 0;
+            try (SequenceWriter sequenceWriter = layout == Layout.ARRAY ? writer.writeValuesAsArray(generator) : writer.writeValues(generator)) {
+                while (values.hasNext()) {
+                    sequenceWriter.write(values.next());
+                    if (++count % FLUSH_INTERVAL == 0) {
+                        sequenceWriter.flush();
+                    }
+                }
+            }
+            if (layout == Layout.NEWLINE_DELIMITED && count > 0) {
+                // The root value separator is only written between values, but each value should be followed by a newline
+                generator.writeRaw(NEWLINE);
+            }
+        }
+    }
+
+    private static ObjectReader reader(ObjectMapper mapper, Class<?> type) {
+        Objects.requireNonNull(type);
+        return mapper.readerFor(type);
+    }
+
+    private static ObjectReader reader(ObjectMapper mapper, TypeReference<?> type) {
+        Objects.requireNonNull(type);
+        return mapper.readerFor(type);
+    }
+
+    private static <T> Stream<T> stream(MappingIterator<T> iterator) {
+        Spliterator<T> spliterator = Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED);
+        return StreamSupport.stream(spliterator, false)
+                .onClose(iterator::close);
+    }
+
+    /**
+     * The possible layouts for writing values.
+     *
+     * @author Rob Spoor
+     */
+    public enum Layout {
+        /** Write values as a single array. */
+        ARRAY,
+
+        /**
+         * Write values as root-level values, each followed by a newline. For JSON this results in newline-delimited JSON.
+         * This layout can only be used with data formats that support raw output, like JSON.
+         */
+        NEWLINE_DELIMITED,
+    }
+}
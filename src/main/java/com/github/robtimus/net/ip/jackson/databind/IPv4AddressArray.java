@@ -0,0 +1,175 @@
+/*
+ * IPv4AddressArray.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.net.ip.jackson.databind;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+import com.github.robtimus.net.ip.IPv4Address;
+
+/**
+ * An immutable array of IPv4 addresses, backed by an {@code int[]}.
+ * <p>
+ * Compared to a {@code List<IPv4Address>}, this class uses 4 bytes per address instead of an object and a reference per address.
+ * When an {@link IPModule} is registered, instances are serialized as arrays of strings, and can be deserialized from arrays of strings or
+ * numbers, without creating an {@link IPv4Address} per element. Use {@link #get(int)} or {@link #asList()} to create {@link IPv4Address} instances
+ * on demand.
+ *
+ * @author Rob Spoor
+ */
+public final class IPv4AddressArray {
+
+    private static final IPv4AddressArray EMPTY = new IPv4AddressArray(new int[0]);
+
+    private final int[] addresses;
+
+    private IPv4AddressArray(int[] addresses) {
+        this.addresses = addresses;
+    }
+
+    static IPv4AddressArray wrap(int[] addresses) {
+        return addresses.length == 0 ? EMPTY : new IPv4AddressArray(addresses);
+    }
+
+    static IPv4AddressArray wrap(int[] addresses, int size) {
+        return wrap(addresses.length == size ? addresses : Arrays.copyOf(addresses, size));
+    }
+
+    /**
+     * Returns an array of IPv4 addresses.
+     *
+     * @param addresses The IPv4 addresses as returned by {@link IPv4Address#toInt()}.
+     * @return An array of the given IPv4 addresses.
+     * @throws NullPointerException If the given array is {@code null}.
+     */
+    public static IPv4AddressArray of(int... addresses) {
+        return wrap(addresses.clone());
+    }
+
+    /**
+     * Returns an array of IPv4 addresses.
+     *
+     * @param addresses The IPv4 addresses.
+     * @return An array of the given IPv4 addresses.
+     * @throws NullPointerException If the given collection is {@code null} or contains {@code null} elements.
+     */
+    public static IPv4AddressArray copyOf(Collection<? extends IPv4Address> addresses) {
+        return wrap(addresses.stream()
+                .mapToInt(IPv4Address::toInt)
+                .toArray());
+    }
+
+    /**
+     * Returns the number of IPv4 addresses in this array.
+     *
+     * @return The number of IPv4 addresses in this array.
+     */
+    public int size() {
+        return addresses.length;
+    }
+
+    /**
+     * Returns an IPv4 address from this array as {@code int}.
+     *
+     * @param index The index of the IPv4 address.
+     * @return The IPv4 address at the given index, as returned by {@link IPv4Address#toInt()}.
+     * @throws IndexOutOfBoundsException If the given index is negative or not smaller than {@link #size()}.
+     */
+    public int getInt(int index) {
+        return addresses[Objects.checkIndex(index, addresses.length)];
+    }
+
+    /**
+     * Returns an IPv4 address from this array. A new {@link IPv4Address} is created for each call.
+     *
+     * @param index The index of the IPv4 address.
+     * @return The IPv4 address at the given index.
+     * @throws IndexOutOfBoundsException If the given index is negative or not smaller than {@link #size()}.
+     */
+    public IPv4Address get(int index) {
+        return IPv4Address.valueOf(getInt(index));
+    }
+
+    /**
+     * Returns the IPv4 addresses in this array as {@code int[]}.
+     *
+     * @return A copy of the IPv4 addresses in this array, as returned by {@link IPv4Address#toInt()}.
+     */
+    public int[] toIntArray() {
+        return addresses.clone();
+    }
+
+    /**
+     * Returns an unmodifiable list view of this array. A new {@link IPv4Address} is created for each element that is retrieved.
+     *
+     * @return An unmodifiable list view of this array.
+     */
+    public List<IPv4Address> asList() {
+        return new ListView();
+    }
+
+    int[] addresses() {
+        return addresses;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || o.getClass() != getClass()) {
+            return false;
+        }
+        IPv4AddressArray other = (IPv4AddressArray) o;
+        return Arrays.equals(addresses, other.addresses);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(addresses);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder(IPAddressText.listCapacity(addresses.length, IPAddressText.MAX_IPV4_LENGTH)).append('[');
+        char[] buffer = new char[IPAddressText.MAX_IPV4_LENGTH];
+        for (int i = 0; i < addresses.length; i++) {
+            if (i > 0) {
+                sb.append(", "); //$NON-NLS-1$
+            }
+            sb.append(buffer, 0, IPAddressText.formatIPv4(addresses[i], buffer));
+        }
+        return sb.append(']').toString();
+    }
+
+    private final class ListView extends AbstractList<IPv4Address> implements RandomAccess {
+
+        @Override
+        public IPv4Address get(int index) {
+            return IPv4AddressArray.this.get(index);
+        }
+
+        @Override
+        public int size() {
+            return addresses.length;
+        }
+    }
+}
@@ -0,0 +1,195 @@
+/*
+ * IPv4AddressFilter.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.net.ip.jackson.databind;
+
+import java.util.Collection;
+import com.github.robtimus.net.ip.IPAddress;
+import com.github.robtimus.net.ip.IPv4Address;
+
+/**
+ * An immutable probabilistic set of IPv4 addresses, implemented as a Bloom filter.
+ * <p>
+ * A filter never reports that it does not contain an address that was added to it, but it may report that it contains an address that was not
+ * added to it. The probability of such a false positive is configurable, and defaults to 1%. With that probability, a filter uses about 10 bits per
+ * address if the number of addresses is known in advance. Otherwise it grows in layers that use about 15 bits per address, the last of which may
+ * not be full. This makes a filter suitable as a first check for very large block lists, before checking a smaller or slower exact source.
+ * <p>
+ * When an {@link IPModule} is registered, instances can be deserialized from arrays of strings or numbers, like {@link IPv4AddressTable}. The
+ * addresses are added to the filter as they are read, without storing them. Because the number of addresses is not known in advance, the filter
+ * grows in layers of increasing size while the array is read. Instances are serialized as objects that contain the filter's bit arrays as binary
+ * values, which are written as base64 strings in JSON. Such objects can be deserialized as well, without having to add the addresses again.
+ *
+ * @author Rob Spoor
+ */
+public final class IPv4AddressFilter {
+
+    private final BloomFilter filter;
+
+    IPv4AddressFilter(BloomFilter filter) {
+        this.filter = filter;
+    }
+
+    /**
+     * Returns a filter of IPv4 addresses, with a false positive probability of 1%.
+     *
+     * @param addresses The IPv4 addresses as returned by {@link IPv4Address#toInt()}.
+     * @return A filter of the given IPv4 addresses.
+     * @throws NullPointerException If the given array is {@code null}.
+     */
+    public static IPv4AddressFilter of(int... addresses) {
+        Accumulator accumulator = new Accumulator(addresses.length, BloomFilter.DEFAULT_FALSE_POSITIVE_PROBABILITY);
+        for (int address : addresses) {
+            accumulator.add(address);
+        }
+        return accumulator.finish();
+    }
+
+    /**
+     * Returns a filter of IPv4 addresses, with a false positive probability of 1%.
+     *
+     * @param addresses The IPv4 addresses.
+     * @return A filter of the given IPv4 addresses.
+     * @throws NullPointerException If the given collection is {@code null} or contains {@code null} elements.
+     */
+    public static IPv4AddressFilter copyOf(Collection<? extends IPv4Address> addresses) {
+        return copyOf(addresses, BloomFilter.DEFAULT_FALSE_POSITIVE_PROBABILITY);
+    }
+
+    /**
+     * Returns a filter of IPv4 addresses.
+     *
+     * @param addresses The IPv4 addresses.
+     * @param falsePositiveProbability The probability that the filter reports that it contains an address that was not added to it.
+     * @return A filter of the given IPv4 addresses.
+     * @throws NullPointerException If the given collection is {@code null} or contains {@code null} elements.
+     * @throws IllegalArgumentException If the given probability is not larger than 0 and smaller than 1.
+     */
+    public static IPv4AddressFilter copyOf(Collection<? extends IPv4Address> addresses, double falsePositiveProbability) {
+        Accumulator accumulator = new Accumulator(addresses.size(), falsePositiveProbability);
+        for (IPv4Address address : addresses) {
+            accumulator.add(address.toInt());
+        }
+        return accumulator.finish();
+    }
+
+    /**
+     * Returns the number of IPv4 addresses that were added to this filter. Duplicate addresses are counted each time they were added.
+     *
+     * @return The number of IPv4 addresses that were added to this filter.
+     */
+    public long addressCount() {
+        return filter.count();
+    }
+
+    /**
+     * Returns the maximum probability that this filter reports that it contains an IPv4 address that was not added to it.
+     *
+     * @return The maximum false positive probability of this filter.
+     */
+    public double falsePositiveProbability() {
+        return filter.falsePositiveProbability();
+    }
+
+    /**
+     * Returns the total number of bits that this filter uses.
+     *
+     * @return The total number of bits that this filter uses.
+     */
+    public long bitCount() {
+        return filter.bitCount();
+    }
+
+    /**
+     * Returns whether or not this filter might contain an IPv4 address.
+     *
+     * @param address The IPv4 address to check, as returned by {@link IPv4Address#toInt()}.
+     * @return {@code true} if the given IPv4 address was added to this filter or is a false positive, or {@code false} if the given IPv4 address
+     *         was definitely not added to this filter.
+     */
+    public boolean mightContain(int address) {
+        return filter.mightContain(BloomFilter.hash(address));
+    }
+
+    /**
+     * Returns whether or not this filter might contain an IP address.
+     *
+     * @param address The IP address to check.
+     * @return {@code true} if the given IP address is an IPv4 address that was added to this filter or is a false positive, or {@code false}
+     *         otherwise.
+     */
+    public boolean mightContain(IPAddress<?> address) {
+        return address instanceof IPv4Address ipv4Address && mightContain(ipv4Address.toInt());
+    }
+
+    BloomFilter filter() {
+        return filter;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || o.getClass() != getClass()) {
+            return false;
+        }
+        IPv4AddressFilter other = (IPv4AddressFilter) o;
+        return filter.equals(other.filter);
+    }
+
+    @Override
+    public int hashCode() {
+        return filter.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName()
+                + "[addressCount=" + addressCount() //$NON-NLS-1$
+                + ",bitCount=" + bitCount() //$NON-NLS-1$
+                + "]"; //$NON-NLS-1$
+    }
+
+    /**
+     * Accumulates IPv4 addresses for an {@link IPv4AddressFilter}. Addresses are added to the filter directly, so they are not stored.
+     *
+     * @author Rob Spoor
+     */
+    static final class Accumulator implements IPAddressCollector.IPv4.Sink<IPv4AddressFilter> {
+
+        private final BloomFilter.Accumulator accumulator;
+
+        Accumulator() {
+            accumulator = new BloomFilter.Accumulator(BloomFilter.DEFAULT_FALSE_POSITIVE_PROBABILITY);
+        }
+
+        Accumulator(long expectedCount, double falsePositiveProbability) {
+            accumulator = new BloomFilter.Accumulator(expectedCount, falsePositiveProbability);
+        }
+
+        @Override
+        public void add(int address) {
+            accumulator.add(BloomFilter.hash(address));
+        }
+
+        @Override
+        public IPv4AddressFilter finish() {
+            return new IPv4AddressFilter(accumulator.finish());
+        }
+    }
+}
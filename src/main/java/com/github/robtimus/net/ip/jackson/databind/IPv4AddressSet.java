@@ -0,0 +1,305 @@
+/*
+ * IPv4AddressSet.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.net.ip.jackson.databind;
+
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import com.github.robtimus.net.ip.IPAddress;
+import com.github.robtimus.net.ip.IPv4Address;
+
+/**
+ * An immutable set of IPv4 addresses, backed by an {@code int[]} hash table with open addressing.
+ * <p>
+ * Compared to a {@code HashSet<IPv4Address>}, this class uses between 8 and 16 bytes per address instead of an object, a hash table entry and a
+ * reference per address. Lookups only need to compare {@code int} values, which are stored next to each other in memory.
+ * When an {@link IPModule} is registered, instances are serialized as arrays of strings, and can be deserialized from arrays of strings or
+ * numbers, without creating an {@link IPv4Address} per element. Duplicate elements are ignored.
+ * <p>
+ * The iteration order of this set is unspecified.
+ *
+ * @author Rob Spoor
+ */
+public final class IPv4AddressSet {
+
+    private static final int MAX_TABLE_SIZE = 1 << 30;
+
+    private static final int HASH_MULTIPLIER = 0x9E37_79B9;
+
+    private static final IPv4AddressSet EMPTY = new IPv4AddressSet(new int[2], false, 0);
+
+    // 0 marks an empty slot; 0.0.0.0 is tracked using containsZero
+    private final int[] table;
+    private final int shift;
+    private final boolean containsZero;
+    private final int size;
+
+    private IPv4AddressSet(int[] table, boolean containsZero, int size) {
+        this.table = table;
+        this.shift = Integer.SIZE - Integer.numberOfTrailingZeros(table.length);
+        this.containsZero = containsZero;
+        this.size = size;
+    }
+
+    static IPv4AddressSet build(int[] addresses, int count) {
+        return build(addresses, count, MAX_TABLE_SIZE);
+    }
+
+    static IPv4AddressSet build(int[] addresses, int count, int maxTableSize) {
+        if (count == 0) {
+            return EMPTY;
+        }
+
+        // Keep the load factor at or below 0.5, so that probe sequences remain short
+        int[] table = new int[(int) Math.min(Long.highestOneBit(2L * count - 1) << 1, maxTableSize)];
+        int maxTableCount = table.length / 2;
+        int shift = Integer.SIZE - Integer.numberOfTrailingZeros(table.length);
+        int mask = table.length - 1;
+
+        boolean containsZero = false;
+        int size = 0;
+        for (int i = 0; i < count; i++) {
+            int address = addresses[i];
+            if (address == 0) {
+                if (!containsZero) {
+                    containsZero = true;
+                    size++;
+                }
+                continue;
+            }
+            int index = index(address, shift);
+            while (table[index] != 0 && table[index] != address) {
+                index = (index + 1) & mask;
+            }
+            if (table[index] == 0) {
+                if (size - (containsZero ? 1 : 0) == maxTableCount) {
+                    throw new IllegalArgumentException(Messages.IPAddressSet.tooLarge(maxTableCount + 1));
+                }
+                table[index] = address;
+                size++;
+            }
+        }
+        return new IPv4AddressSet(table, containsZero, size);
+    }
+
+    private static int index(int address, int shift) {
+        return (address * HASH_MULTIPLIER) >>> shift;
+    }
+
+    /**
+     * Returns a set of IPv4 addresses.
+     *
+     * @param addresses The IPv4 addresses as returned by {@link IPv4Address#toInt()}. Duplicates are ignored.
+     * @return A set of the given IPv4 addresses.
+     * @throws NullPointerException If the given array is {@code null}.
+     * @throws IllegalArgumentException If there are more distinct addresses than a set can contain.
+     */
+    public static IPv4AddressSet of(int... addresses) {
+        return build(addresses, addresses.length);
+    }
+
+    /**
+     * Returns a set of IPv4 addresses.
+     *
+     * @param addresses The IPv4 addresses. Duplicates are ignored.
+     * @return A set of the given IPv4 addresses.
+     * @throws NullPointerException If the given collection is {@code null} or contains {@code null} elements.
+     * @throws IllegalArgumentException If there are more distinct addresses than a set can contain.
+     */
+    public static IPv4AddressSet copyOf(Collection<? extends IPv4Address> addresses) {
+        return of(addresses.stream()
+                .mapToInt(IPv4Address::toInt)
+                .toArray());
+    }
+
+    /**
+     * Returns a set of IPv4 addresses.
+     *
+     * @param addresses The IPv4 addresses. Duplicates are ignored.
+     * @return A set of the given IPv4 addresses.
+     * @throws NullPointerException If the given array is {@code null}.
+     * @throws IllegalArgumentException If there are more distinct addresses than a set can contain.
+     */
+    public static IPv4AddressSet copyOf(IPv4AddressArray addresses) {
+        return of(addresses.addresses());
+    }
+
+    /**
+     * Returns the number of IPv4 addresses in this set.
+     *
+     * @return The number of IPv4 addresses in this set.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns whether or not this set is empty.
+     *
+     * @return {@code true} if this set is empty, or {@code false} otherwise.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns whether or not this set contains an IPv4 address.
+     *
+     * @param address The IPv4 address to check, as returned by {@link IPv4Address#toInt()}.
+     * @return {@code true} if this set contains the given IPv4 address, or {@code false} otherwise.
+     */
+    public boolean contains(int address) {
+        if (address == 0) {
+            return containsZero;
+        }
+        int mask = table.length - 1;
+        int index = index(address, shift);
+        int current;
+        while ((current = table[index]) != 0) {
+            if (current == address) {
+                return true;
+            }
+            index = (index + 1) & mask;
+        }
+        return false;
+    }
+
+    /**
+     * Returns whether or not this set contains an IP address.
+     *
+     * @param address The IP address to check.
+     * @return {@code true} if the given IP address is an IPv4 address that is contained in this set, or {@code false} otherwise.
+     */
+    public boolean contains(IPAddress<?> address) {
+        return address instanceof IPv4Address ipv4Address && contains(ipv4Address.toInt());
+    }
+
+    /**
+     * Returns the IPv4 addresses in this set as {@code int[]}.
+     *
+     * @return An array with the IPv4 addresses in this set, as returned by {@link IPv4Address#toInt()}.
+     */
+    public int[] toIntArray() {
+        int[] result = new int[size];
+        int index = 0;
+        if (containsZero) {
+            index++;
+        }
+        for (int address : table) {
+            if (address != 0) {
+                result[index++] = address;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns an unmodifiable set view of this set. A new {@link IPv4Address} is created for each element that is retrieved.
+     *
+     * @return An unmodifiable set view of this set.
+     */
+    public Set<IPv4Address> asSet() {
+        return new SetView();
+    }
+
+    int[] table() {
+        return table;
+    }
+
+    boolean containsZero() {
+        return containsZero;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || o.getClass() != getClass()) {
+            return false;
+        }
+        IPv4AddressSet other = (IPv4AddressSet) o;
+        if (size != other.size || containsZero != other.containsZero) {
+            return false;
+        }
+        for (int address : table) {
+            if (address != 0 && !other.contains(address)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int hashCode = 0;
+        for (int address : table) {
+            hashCode += address;
+        }
+        return hashCode;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder(IPAddressText.listCapacity(size, IPAddressText.MAX_IPV4_LENGTH)).append('[');
+        char[] buffer = new char[IPAddressText.MAX_IPV4_LENGTH];
+        for (int address : toIntArray()) {
+            if (sb.length() > 1) {
+                sb.append(", "); //$NON-NLS-1$
+            }
+            sb.append(buffer, 0, IPAddressText.formatIPv4(address, buffer));
+        }
+        return sb.append(']').toString();
+    }
+
+    private final class SetView extends AbstractSet<IPv4Address> {
+
+        @Override
+        public boolean contains(Object o) {
+            return o instanceof IPv4Address address && IPv4AddressSet.this.contains(address.toInt());
+        }
+
+        @Override
+        public Iterator<IPv4Address> iterator() {
+            return new Iterator<>() {
+                private final int[] addresses = toIntArray();
+                private int index = 0;
+
+                @Override
+                public boolean hasNext() {
+                    return index < addresses.length;
+                }
+
+                @Override
+                public IPv4Address next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    return IPv4Address.valueOf(addresses[index++]);
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
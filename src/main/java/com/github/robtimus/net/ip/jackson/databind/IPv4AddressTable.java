@@ -0,0 +1,359 @@
+/*
+ * IPv4AddressTable.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.net.ip.jackson.databind;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import com.github.robtimus.net.ip.IPAddress;
+import com.github.robtimus.net.ip.IPv4Address;
+
+/**
+ * An immutable sorted table of distinct IPv4 addresses, stored outside of the Java heap.
+ * <p>
+ * The addresses are stored as packed 4 byte values in direct buffers of at most 64 MB each, sorted by their unsigned value. Lookups use binary
+ * search, and only read from these buffers, so instances are safe to share between threads. Compared to {@link IPv4AddressArray} and
+ * {@link IPv4AddressSet}, the only heap memory that is used is a small object per buffer. The direct buffers are released when the table is
+ * garbage collected; note that their total size is limited by the {@code -XX:MaxDirectMemorySize} JVM option, which defaults to the maximum heap
+ * size.
+ * <p>
+ * When an {@link IPModule} is registered, instances are serialized as arrays of strings, and can be deserialized from arrays of strings or
+ * numbers, without creating an {@link IPv4Address} per element. While deserializing, the addresses are written to direct buffers as they are read.
+ * These are then sorted one buffer at a time and merged, so the heap usage is limited to a single buffer's worth of addresses.
+ *
+ * @author Rob Spoor
+ */
+public final class IPv4AddressTable {
+
+    // 2^24 addresses of 4 bytes per chunk, i.e. 64 MB
+    static final int DEFAULT_CHUNK_SHIFT = 24;
+
+    private static final IPv4AddressTable EMPTY = new IPv4AddressTable(new IntBuffer[0], DEFAULT_CHUNK_SHIFT, 0);
+
+    private final IntBuffer[] chunks;
+    private final int chunkShift;
+    private final int chunkMask;
+    private final int size;
+
+    private IPv4AddressTable(IntBuffer[] chunks, int chunkShift, int size) {
+        this.chunks = chunks;
+        this.chunkShift = chunkShift;
+        this.chunkMask = (1 << chunkShift) - 1;
+        this.size = size;
+    }
+
+    /**
+     * Returns a table of IPv4 addresses. Duplicate addresses are ignored.
+     *
+     * @param addresses The IPv4 addresses as returned by {@link IPv4Address#toInt()}.
+     * @return A table of the given IPv4 addresses.
+     * @throws NullPointerException If the given array is {@code null}.
+     */
+    public static IPv4AddressTable of(int... addresses) {
+        Accumulator accumulator = new Accumulator();
+        for (int address : addresses) {
+            accumulator.add(address);
+        }
+        return accumulator.finish();
+    }
+
+    /**
+     * Returns a table of IPv4 addresses. Duplicate addresses are ignored.
+     *
+     * @param addresses The IPv4 addresses.
+     * @return A table of the given IPv4 addresses.
+     * @throws NullPointerException If the given collection is {@code null} or contains {@code null} elements.
+     */
+    public static IPv4AddressTable copyOf(Collection<? extends IPv4Address> addresses) {
+        Accumulator accumulator = new Accumulator();
+        for (IPv4Address address : addresses) {
+            accumulator.add(address.toInt());
+        }
+        return accumulator.finish();
+    }
+
+    /**
+     * Returns the number of IPv4 addresses in this table.
+     *
+     * @return The number of IPv4 addresses in this table.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns whether or not this table is empty.
+     *
+     * @return {@code true} if this table contains no IPv4 addresses, or {@code false} otherwise.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns an IPv4 address from this table as {@code int}. The addresses are sorted by their unsigned value.
+     *
+     * @param index The index of the IPv4 address.
+     * @return The IPv4 address at the given index, as returned by {@link IPv4Address#toInt()}.
+     * @throws IndexOutOfBoundsException If the given index is negative or not smaller than {@link #size()}.
+     */
+    public int getInt(int index) {
+        return address(Objects.checkIndex(index, size));
+    }
+
+    /**
+     * Returns an IPv4 address from this table. A new {@link IPv4Address} is created for each call.
+     *
+     * @param index The index of the IPv4 address.
+     * @return The IPv4 address at the given index.
+     * @throws IndexOutOfBoundsException If the given index is negative or not smaller than {@link #size()}.
+     */
+    public IPv4Address get(int index) {
+        return IPv4Address.valueOf(getInt(index));
+    }
+
+    int address(int index) {
+        return chunks[index >>> chunkShift].get(index & chunkMask);
+    }
+
+    /**
+     * Returns the index of an IPv4 address in this table.
+     *
+     * @param address The IPv4 address to search for, as returned by {@link IPv4Address#toInt()}.
+     * @return The index of the given IPv4 address if it is contained in this table; otherwise, {@code (-(insertion point) - 1)}, where the
+     *         insertion point is the index of the first address that is greater than the given IPv4 address, or {@link #size()} if there is none.
+     *         This is the same as {@link Arrays#binarySearch(int[], int)}.
+     */
+    public int indexOf(int address) {
+        int low = 0;
+        int high = size - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int comparison = Integer.compareUnsigned(address(mid), address);
+            if (comparison < 0) {
+                low = mid + 1;
+            } else if (comparison > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(low + 1);
+    }
+
+    /**
+     * Returns whether or not this table contains an IPv4 address.
+     *
+     * @param address The IPv4 address to check, as returned by {@link IPv4Address#toInt()}.
+     * @return {@code true} if this table contains the given IPv4 address, or {@code false} otherwise.
+     */
+    public boolean contains(int address) {
+        return indexOf(address) >= 0;
+    }
+
+    /**
+     * Returns whether or not this table contains an IP address.
+     *
+     * @param address The IP address to check.
+     * @return {@code true} if the given IP address is an IPv4 address that this table contains, or {@code false} otherwise.
+     */
+    public boolean contains(IPAddress<?> address) {
+        return address instanceof IPv4Address ipv4Address && contains(ipv4Address.toInt());
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || o.getClass() != getClass()) {
+            return false;
+        }
+        IPv4AddressTable other = (IPv4AddressTable) o;
+        if (size != other.size) {
+            return false;
+        }
+        for (int i = 0; i < size; i++) {
+            if (address(i) != other.address(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 1;
+        for (int i = 0; i < size; i++) {
+            hash = 31 * hash + address(i);
+        }
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        // Tables can be very large, so don't include the addresses themselves
+        return getClass().getSimpleName() + "[size=" + size + "]"; //$NON-NLS-1$ //$NON-NLS-2$
+    }
+
+    /**
+     * Accumulates IPv4 addresses for an {@link IPv4AddressTable}. Addresses are appended to direct buffers as they are added. When the table is
+     * created, each buffer is sorted separately, using an on-heap copy. If there is more than one buffer, the sorted buffers are then merged into
+     * new buffers.
+     *
+     * @author Rob Spoor
+     */
+    static final class Accumulator implements IPAddressCollector.IPv4.Sink<IPv4AddressTable> {
+
+        private final int chunkShift;
+        private final List<IntBuffer> chunks = new ArrayList<>();
+        private IntBuffer chunk;
+        private int size;
+
+        Accumulator() {
+            this(DEFAULT_CHUNK_SHIFT);
+        }
+
+        Accumulator(int chunkShift) {
+            this.chunkShift = chunkShift;
+        }
+
+        @Override
+        public void add(int address) {
+            if (size == Integer.MAX_VALUE) {
+                throw new IllegalArgumentException(Messages.IPAddressTable.tooLarge(Integer.MAX_VALUE));
+            }
+            if (chunk == null || !chunk.hasRemaining()) {
+                chunk = allocate(1 << chunkShift);
+                chunks.add(chunk);
+            }
+            chunk.put(address);
+            size++;
+        }
+
+        private static IntBuffer allocate(int capacity) {
+            return ByteBuffer.allocateDirect(capacity * Integer.BYTES)
+                    .order(ByteOrder.nativeOrder())
+                    .asIntBuffer();
+        }
+
+        @Override
+        public IPv4AddressTable finish() {
+            if (size == 0) {
+                return EMPTY;
+            }
+
+            int[] buffer = new int[Math.min(size, 1 << chunkShift)];
+            int[] lengths = new int[chunks.size()];
+            for (int i = 0; i < lengths.length; i++) {
+                lengths[i] = sortDistinct(chunks.get(i), buffer);
+            }
+            if (lengths.length == 1) {
+                return new IPv4AddressTable(new IntBuffer[] { chunks.get(0) }, chunkShift, lengths[0]);
+            }
+            return merge(lengths);
+        }
+
+        /**
+         * Sorts a chunk and removes duplicates.
+         *
+         * @return The number of distinct addresses in the chunk, which are stored at its start.
+         */
+        private static int sortDistinct(IntBuffer chunk, int[] buffer) {
+            int length = chunk.position();
+            chunk.get(0, buffer, 0, length);
+            // Flipping the sign bit makes the signed sort order match the unsigned order of the addresses
+            for (int i = 0; i < length; i++) {
+                buffer[i] ^= Integer.MIN_VALUE;
+            }
+            Arrays.sort(buffer, 0, length);
+            int distinct = 0;
+            for (int i = 0; i < length; i++) {
+                if (distinct == 0 || buffer[i] != buffer[distinct - 1]) {
+                    buffer[distinct++] = buffer[i];
+                }
+            }
+            for (int i = 0; i < distinct; i++) {
+                buffer[i] ^= Integer.MIN_VALUE;
+            }
+            chunk.put(0, buffer, 0, distinct);
+            return distinct;
+        }
+
+        /**
+         * Merges the sorted chunks into new chunks, using a binary heap of chunk indexes ordered by their current address.
+         */
+        private IPv4AddressTable merge(int[] lengths) {
+            int[] positions = new int[lengths.length];
+            int[] heap = new int[lengths.length];
+            for (int i = 0; i < heap.length; i++) {
+                heap[i] = i;
+            }
+            for (int i = heap.length / 2 - 1; i >= 0; i--) {
+                siftDown(heap, heap.length, i, positions);
+            }
+
+            Accumulator merged = new Accumulator(chunkShift);
+            int heapSize = heap.length;
+            int previous = 0;
+            while (heapSize > 0) {
+                int chunkIndex = heap[0];
+                int address = current(chunkIndex, positions);
+                if (merged.size == 0 || address != previous) {
+                    merged.add(address);
+                    previous = address;
+                }
+                if (++positions[chunkIndex] == lengths[chunkIndex]) {
+                    heap[0] = heap[--heapSize];
+                }
+                siftDown(heap, heapSize, 0, positions);
+            }
+            return new IPv4AddressTable(merged.chunks.toArray(IntBuffer[]::new), chunkShift, merged.size);
+        }
+
+        private void siftDown(int[] heap, int heapSize, int index, int[] positions) {
+            int i = index;
+            int child;
+            while ((child = 2 * i + 1) < heapSize) {
+                if (child + 1 < heapSize && compare(heap[child + 1], heap[child], positions) < 0) {
+                    child++;
+                }
+                if (compare(heap[i], heap[child], positions) <= 0) {
+                    return;
+                }
+                int tmp = heap[i];
+                heap[i] = heap[child];
+                heap[child] = tmp;
+                i = child;
+            }
+        }
+
+        private int compare(int chunkIndex1, int chunkIndex2, int[] positions) {
+            return Integer.compareUnsigned(current(chunkIndex1, positions), current(chunkIndex2, positions));
+        }
+
+        private int current(int chunkIndex, int[] positions) {
+            return chunks.get(chunkIndex).get(positions[chunkIndex]);
+        }
+    }
+}
@@ -0,0 +1,197 @@
+/*
+ * IPv6AddressArray.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.net.ip.jackson.databind;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+import com.github.robtimus.net.ip.IPv6Address;
+
+/**
+ * An immutable array of IPv6 addresses, backed by a {@code long[]} with two elements per address.
+ * <p>
+ * Compared to a {@code List<IPv6Address>}, this class uses 16 bytes per address instead of an object and a reference per address.
+ * When an {@link IPModule} is registered, instances are serialized as arrays of strings, and can be deserialized from arrays of strings or
+ * numbers, without creating an {@link IPv6Address} per element. Use {@link #get(int)} or {@link #asList()} to create {@link IPv6Address} instances
+ * on demand.
+ *
+ * @author Rob Spoor
+ */
+public final class IPv6AddressArray {
+
+    private static final IPv6AddressArray EMPTY = new IPv6AddressArray(new long[0]);
+
+    // high and low addresses, interleaved
+    private final long[] addresses;
+
+    private IPv6AddressArray(long[] addresses) {
+        this.addresses = addresses;
+    }
+
+    static IPv6AddressArray wrap(long[] addresses) {
+        return addresses.length == 0 ? EMPTY : new IPv6AddressArray(addresses);
+    }
+
+    static IPv6AddressArray wrap(long[] addresses, int size) {
+        return wrap(addresses.length == 2 * size ? addresses : Arrays.copyOf(addresses, 2 * size));
+    }
+
+    /**
+     * Returns an array of IPv6 addresses.
+     *
+     * @param addresses The IPv6 addresses, as pairs of values returned by {@link IPv6Address#highAddress()} and {@link IPv6Address#lowAddress()}.
+     * @return An array of the given IPv6 addresses.
+     * @throws NullPointerException If the given array is {@code null}.
+     * @throws IllegalArgumentException If the length of the given array is odd.
+     */
+    public static IPv6AddressArray of(long... addresses) {
+        if (addresses.length % 2 != 0) {
+            throw new IllegalArgumentException(Messages.IPv6AddressArray.oddLength(addresses.length));
+        }
+        return wrap(addresses.clone());
+    }
+
+    /**
+     * Returns an array of IPv6 addresses.
+     *
+     * @param addresses The IPv6 addresses.
+     * @return An array of the given IPv6 addresses.
+     * @throws NullPointerException If the given collection is {@code null} or contains {@code null} elements.
+     */
+    public static IPv6AddressArray copyOf(Collection<? extends IPv6Address> addresses) {
+        long[] result = new long[addresses.size() * 2];
+        int index = 0;
+        for (IPv6Address address : addresses) {
+            result[index++] = address.highAddress();
+            result[index++] = address.lowAddress();
+        }
+        return wrap(result);
+    }
+
+    /**
+     * Returns the number of IPv6 addresses in this array.
+     *
+     * @return The number of IPv6 addresses in this array.
+     */
+    public int size() {
+        return addresses.length / 2;
+    }
+
+    /**
+     * Returns the high 64 bits of an IPv6 address from this array.
+     *
+     * @param index The index of the IPv6 address.
+     * @return The high 64 bits of the IPv6 address at the given index, as returned by {@link IPv6Address#highAddress()}.
+     * @throws IndexOutOfBoundsException If the given index is negative or not smaller than {@link #size()}.
+     */
+    public long getHighAddress(int index) {
+        return addresses[2 * Objects.checkIndex(index, size())];
+    }
+
+    /**
+     * Returns the low 64 bits of an IPv6 address from this array.
+     *
+     * @param index The index of the IPv6 address.
+     * @return The low 64 bits of the IPv6 address at the given index, as returned by {@link IPv6Address#lowAddress()}.
+     * @throws IndexOutOfBoundsException If the given index is negative or not smaller than {@link #size()}.
+     */
+    public long getLowAddress(int index) {
+        return addresses[2 * Objects.checkIndex(index, size()) + 1];
+    }
+
+    /**
+     * Returns an IPv6 address from this array. A new {@link IPv6Address} is created for each call.
+     *
+     * @param index The index of the IPv6 address.
+     * @return The IPv6 address at the given index.
+     * @throws IndexOutOfBoundsException If the given index is negative or not smaller than {@link #size()}.
+     */
+    public IPv6Address get(int index) {
+        int i = 2 * Objects.checkIndex(index, size());
+        return IPv6Address.valueOf(addresses[i], addresses[i + 1]);
+    }
+
+    /**
+     * Returns the IPv6 addresses in this array as {@code long[]}.
+     *
+     * @return A copy of the IPv6 addresses in this array, as pairs of values returned by {@link IPv6Address#highAddress()} and
+     *         {@link IPv6Address#lowAddress()}.
+     */
+    public long[] toLongArray() {
+        return addresses.clone();
+    }
+
+    /**
+     * Returns an unmodifiable list view of this array. A new {@link IPv6Address} is created for each element that is retrieved.
+     *
+     * @return An unmodifiable list view of this array.
+     */
+    public List<IPv6Address> asList() {
+        return new ListView();
+    }
+
+    long[] addresses() {
+        return addresses;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || o.getClass() != getClass()) {
+            return false;
+        }
+        IPv6AddressArray other = (IPv6AddressArray) o;
+        return Arrays.equals(addresses, other.addresses);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(addresses);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder(IPAddressText.listCapacity(size(), IPAddressText.MAX_IPV6_LENGTH)).append('[');
+        char[] buffer = new char[IPAddressText.MAX_IPV6_LENGTH];
+        for (int i = 0; i < addresses.length; i += 2) {
+            if (i > 0) {
+                sb.append(", "); //$NON-NLS-1$
+            }
+            sb.append(buffer, 0, IPAddressText.formatIPv6(addresses[i], addresses[i + 1], buffer));
+        }
+        return sb.append(']').toString();
+    }
+
+    private final class ListView extends AbstractList<IPv6Address> implements RandomAccess {
+
+        @Override
+        public IPv6Address get(int index) {
+            return IPv6AddressArray.this.get(index);
+        }
+
+        @Override
+        public int size() {
+            return IPv6AddressArray.this.size();
+        }
+    }
+}
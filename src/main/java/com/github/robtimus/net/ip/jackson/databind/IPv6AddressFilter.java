@@ -0,0 +1,200 @@
+/*
+ * IPv6AddressFilter.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.net.ip.jackson.databind;
+
+import java.util.Collection;
+import com.github.robtimus.net.ip.IPAddress;
+import com.github.robtimus.net.ip.IPv6Address;
+
+/**
+ * An immutable probabilistic set of IPv6 addresses, implemented as a Bloom filter.
+ * <p>
+ * A filter never reports that it does not contain an address that was added to it, but it may report that it contains an address that was not
+ * added to it. The probability of such a false positive is configurable, and defaults to 1%. With that probability, a filter uses about 10 bits per
+ * address if the number of addresses is known in advance. Otherwise it grows in layers that use about 15 bits per address, the last of which may
+ * not be full. This makes a filter suitable as a first check for very large block lists, before checking a smaller or slower exact source.
+ * <p>
+ * When an {@link IPModule} is registered, instances can be deserialized from arrays of strings or numbers, like {@link IPv6AddressTable}. The
+ * addresses are added to the filter as they are read, without storing them. Because the number of addresses is not known in advance, the filter
+ * grows in layers of increasing size while the array is read. Instances are serialized as objects that contain the filter's bit arrays as binary
+ * values, which are written as base64 strings in JSON. Such objects can be deserialized as well, without having to add the addresses again.
+ *
+ * @author Rob Spoor
+ */
+public final class IPv6AddressFilter {
+
+    private final BloomFilter filter;
+
+    IPv6AddressFilter(BloomFilter filter) {
+        this.filter = filter;
+    }
+
+    /**
+     * Returns a filter of IPv6 addresses, with a false positive probability of 1%.
+     *
+     * @param addresses The IPv6 addresses as pairs of values returned by {@link IPv6Address#highAddress()} and {@link IPv6Address#lowAddress()}.
+     * @return A filter of the given IPv6 addresses.
+     * @throws NullPointerException If the given array is {@code null}.
+     * @throws IllegalArgumentException If the length of the given array is odd.
+     */
+    public static IPv6AddressFilter of(long... addresses) {
+        if (addresses.length % 2 != 0) {
+            throw new IllegalArgumentException(Messages.IPv6AddressArray.oddLength(addresses.length));
+        }
+        Accumulator accumulator = new Accumulator(addresses.length / 2, BloomFilter.DEFAULT_FALSE_POSITIVE_PROBABILITY);
+        for (int i = 0; i < addresses.length; i += 2) {
+            accumulator.add(addresses[i], addresses[i + 1]);
+        }
+        return accumulator.finish();
+    }
+
+    /**
+     * Returns a filter of IPv6 addresses, with a false positive probability of 1%.
+     *
+     * @param addresses The IPv6 addresses.
+     * @return A filter of the given IPv6 addresses.
+     * @throws NullPointerException If the given collection is {@code null} or contains {@code null} elements.
+     */
+    public static IPv6AddressFilter copyOf(Collection<? extends IPv6Address> addresses) {
+        return copyOf(addresses, BloomFilter.DEFAULT_FALSE_POSITIVE_PROBABILITY);
+    }
+
+    /**
+     * Returns a filter of IPv6 addresses.
+     *
+     * @param addresses The IPv6 addresses.
+     * @param falsePositiveProbability The probability that the filter reports that it contains an address that was not added to it.
+     * @return A filter of the given IPv6 addresses.
+     * @throws NullPointerException If the given collection is {@code null} or contains {@code null} elements.
+     * @throws IllegalArgumentException If the given probability is not larger than 0 and smaller than 1.
+     */
+    public static IPv6AddressFilter copyOf(Collection<? extends IPv6Address> addresses, double falsePositiveProbability) {
+        Accumulator accumulator = new Accumulator(addresses.size(), falsePositiveProbability);
+        for (IPv6Address address : addresses) {
+            accumulator.add(address.highAddress(), address.lowAddress());
+        }
+        return accumulator.finish();
+    }
+
+    /**
+     * Returns the number of IPv6 addresses that were added to this filter. Duplicate addresses are counted each time they were added.
+     *
+     * @return The number of IPv6 addresses that were added to this filter.
+     */
+    public long addressCount() {
+        return filter.count();
+    }
+
+    /**
+     * Returns the maximum probability that this filter reports that it contains an IPv6 address that was not added to it.
+     *
+     * @return The maximum false positive probability of this filter.
+     */
+    public double falsePositiveProbability() {
+        return filter.falsePositiveProbability();
+    }
+
+    /**
+     * Returns the total number of bits that this filter uses.
+     *
+     * @return The total number of bits that this filter uses.
+     */
+    public long bitCount() {
+        return filter.bitCount();
+    }
+
+    /**
+     * Returns whether or not this filter might contain an IPv6 address.
+     *
+     * @param highAddress The high 64 bits of the IPv6 address to check, as returned by {@link IPv6Address#highAddress()}.
+     * @param lowAddress The low 64 bits of the IPv6 address to check, as returned by {@link IPv6Address#lowAddress()}.
+     * @return {@code true} if the given IPv6 address was added to this filter or is a false positive, or {@code false} if the given IPv6 address
+     *         was definitely not added to this filter.
+     */
+    public boolean mightContain(long highAddress, long lowAddress) {
+        return filter.mightContain(BloomFilter.hash(highAddress, lowAddress));
+    }
+
+    /**
+     * Returns whether or not this filter might contain an IP address.
+     *
+     * @param address The IP address to check.
+     * @return {@code true} if the given IP address is an IPv6 address that was added to this filter or is a false positive, or {@code false}
+     *         otherwise.
+     */
+    public boolean mightContain(IPAddress<?> address) {
+        return address instanceof IPv6Address ipv6Address && mightContain(ipv6Address.highAddress(), ipv6Address.lowAddress());
+    }
+
+    BloomFilter filter() {
+        return filter;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || o.getClass() != getClass()) {
+            return false;
+        }
+        IPv6AddressFilter other = (IPv6AddressFilter) o;
+        return filter.equals(other.filter);
+    }
+
+    @Override
+    public int hashCode() {
+        return filter.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName()
+                + "[addressCount=" + addressCount() //$NON-NLS-1$
+                + ",bitCount=" + bitCount() //$NON-NLS-1$
+                + "]"; //$NON-NLS-1$
+    }
+
+    /**
+     * Accumulates IPv6 addresses for an {@link IPv6AddressFilter}. Addresses are added to the filter directly, so they are not stored.
+     *
+     * @author Rob Spoor
+     */
+    static final class Accumulator implements IPAddressCollector.IPv6.Sink<IPv6AddressFilter> {
+
+        private final BloomFilter.Accumulator accumulator;
+
+        Accumulator() {
+            accumulator = new BloomFilter.Accumulator(BloomFilter.DEFAULT_FALSE_POSITIVE_PROBABILITY);
+        }
+
+        Accumulator(long expectedCount, double falsePositiveProbability) {
+            accumulator = new BloomFilter.Accumulator(expectedCount, falsePositiveProbability);
+        }
+
+        @Override
+        public void add(long highAddress, long lowAddress) {
+            accumulator.add(BloomFilter.hash(highAddress, lowAddress));
+        }
+
+        @Override
+        public IPv6AddressFilter finish() {
+            return new IPv6AddressFilter(accumulator.finish());
+        }
+    }
+}
@@ -0,0 +1,323 @@
+/*
+ * IPv6AddressSet.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.net.ip.jackson.databind;
+
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import com.github.robtimus.net.ip.IPAddress;
+import com.github.robtimus.net.ip.IPv6Address;
+
+/**
+ * An immutable set of IPv6 addresses, backed by a {@code long[]} hash table with open addressing and two elements per address.
+ * <p>
+ * Compared to a {@code HashSet<IPv6Address>}, this class uses between 32 and 64 bytes per address instead of an object, a hash table entry and a
+ * reference per address. Lookups only need to compare {@code long} values, which are stored next to each other in memory.
+ * When an {@link IPModule} is registered, instances are serialized as arrays of strings, and can be deserialized from arrays of strings or
+ * numbers, without creating an {@link IPv6Address} per element. Duplicate elements are ignored.
+ * <p>
+ * The iteration order of this set is unspecified.
+ *
+ * @author Rob Spoor
+ */
+public final class IPv6AddressSet {
+
+    private static final int MAX_TABLE_SIZE = 1 << 29;
+
+    private static final long HASH_MULTIPLIER = 0x9E37_79B9_7F4A_7C15L;
+
+    private static final IPv6AddressSet EMPTY = new IPv6AddressSet(new long[4], false, 0);
+
+    // high and low addresses, interleaved; :: marks an empty slot and is tracked using containsZero
+    private final long[] table;
+    private final int shift;
+    private final boolean containsZero;
+    private final int size;
+
+    private IPv6AddressSet(long[] table, boolean containsZero, int size) {
+        this.table = table;
+        this.shift = Long.SIZE - Integer.numberOfTrailingZeros(table.length / 2);
+        this.containsZero = containsZero;
+        this.size = size;
+    }
+
+    static IPv6AddressSet build(long[] addresses, int count) {
+        return build(addresses, count, MAX_TABLE_SIZE);
+    }
+
+    static IPv6AddressSet build(long[] addresses, int count, int maxTableSize) {
+        if (count == 0) {
+            return EMPTY;
+        }
+
+        // Keep the load factor at or below 0.5, so that probe sequences remain short
+        int tableSize = (int) Math.min(Long.highestOneBit(2L * count - 1) << 1, maxTableSize);
+        int maxTableCount = tableSize / 2;
+        long[] table = new long[2 * tableSize];
+        int shift = Long.SIZE - Integer.numberOfTrailingZeros(tableSize);
+        int mask = tableSize - 1;
+
+        boolean containsZero = false;
+        int size = 0;
+        for (int i = 0; i < 2 * count; i += 2) {
+            long highAddress = addresses[i];
+            long lowAddress = addresses[i + 1];
+            if (highAddress == 0 && lowAddress == 0) {
+                if (!containsZero) {
+                    containsZero = true;
+                    size++;
+                }
+                continue;
+            }
+            int index = index(highAddress, lowAddress, shift);
+            while (!isEmpty(table, index) && !matches(table, index, highAddress, lowAddress)) {
+                index = (index + 1) & mask;
+            }
+            if (isEmpty(table, index)) {
+                if (size - (containsZero ? 1 : 0) == maxTableCount) {
+                    throw new IllegalArgumentException(Messages.IPAddressSet.tooLarge(maxTableCount + 1));
+                }
+                table[2 * index] = highAddress;
+                table[2 * index + 1] = lowAddress;
+                size++;
+            }
+        }
+        return new IPv6AddressSet(table, containsZero, size);
+    }
+
+    private static int index(long highAddress, long lowAddress, int shift) {
+        return (int) (((highAddress * HASH_MULTIPLIER ^ lowAddress) * HASH_MULTIPLIER) >>> shift);
+    }
+
+    private static boolean isEmpty(long[] table, int index) {
+        return table[2 * index] == 0 && table[2 * index + 1] == 0;
+    }
+
+    private static boolean matches(long[] table, int index, long highAddress, long lowAddress) {
+        return table[2 * index] == highAddress && table[2 * index + 1] == lowAddress;
+    }
+
+    /**
+     * Returns a set of IPv6 addresses.
+     *
+     * @param addresses The IPv6 addresses, as pairs of values returned by {@link IPv6Address#highAddress()} and {@link IPv6Address#lowAddress()}.
+     *                      Duplicates are ignored.
+     * @return A set of the given IPv6 addresses.
+     * @throws NullPointerException If the given array is {@code null}.
+     * @throws IllegalArgumentException If the length of the given array is odd, or if there are more distinct addresses than a set can contain.
+     */
+    public static IPv6AddressSet of(long... addresses) {
+        if (addresses.length % 2 != 0) {
+            throw new IllegalArgumentException(Messages.IPv6AddressArray.oddLength(addresses.length));
+        }
+        return build(addresses, addresses.length / 2);
+    }
+
+    /**
+     * Returns a set of IPv6 addresses.
+     *
+     * @param addresses The IPv6 addresses. Duplicates are ignored.
+     * @return A set of the given IPv6 addresses.
+     * @throws NullPointerException If the given collection is {@code null} or contains {@code null} elements.
+     * @throws IllegalArgumentException If there are more distinct addresses than a set can contain.
+     */
+    public static IPv6AddressSet copyOf(Collection<? extends IPv6Address> addresses) {
+        return copyOf(IPv6AddressArray.copyOf(addresses));
+    }
+
+    /**
+     * Returns a set of IPv6 addresses.
+     *
+     * @param addresses The IPv6 addresses. Duplicates are ignored.
+     * @return A set of the given IPv6 addresses.
+     * @throws NullPointerException If the given array is {@code null}.
+     * @throws IllegalArgumentException If there are more distinct addresses than a set can contain.
+     */
+    public static IPv6AddressSet copyOf(IPv6AddressArray addresses) {
+        return build(addresses.addresses(), addresses.size());
+    }
+
+    /**
+     * Returns the number of IPv6 addresses in this set.
+     *
+     * @return The number of IPv6 addresses in this set.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns whether or not this set is empty.
+     *
+     * @return {@code true} if this set is empty, or {@code false} otherwise.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns whether or not this set contains an IPv6 address.
+     *
+     * @param highAddress The high 64 bits of the IPv6 address to check, as returned by {@link IPv6Address#highAddress()}.
+     * @param lowAddress The low 64 bits of the IPv6 address to check, as returned by {@link IPv6Address#lowAddress()}.
+     * @return {@code true} if this set contains the given IPv6 address, or {@code false} otherwise.
+     */
+    public boolean contains(long highAddress, long lowAddress) {
+        if (highAddress == 0 && lowAddress == 0) {
+            return containsZero;
+        }
+        int mask = table.length / 2 - 1;
+        int index = index(highAddress, lowAddress, shift);
+        while (!isEmpty(table, index)) {
+            if (matches(table, index, highAddress, lowAddress)) {
+                return true;
+            }
+            index = (index + 1) & mask;
+        }
+        return false;
+    }
+
+    /**
+     * Returns whether or not this set contains an IP address.
+     *
+     * @param address The IP address to check.
+     * @return {@code true} if the given IP address is an IPv6 address that is contained in this set, or {@code false} otherwise.
+     */
+    public boolean contains(IPAddress<?> address) {
+        return address instanceof IPv6Address ipv6Address && contains(ipv6Address.highAddress(), ipv6Address.lowAddress());
+    }
+
+    /**
+     * Returns the IPv6 addresses in this set as {@code long[]}.
+     *
+     * @return An array with the IPv6 addresses in this set, as pairs of values returned by {@link IPv6Address#highAddress()} and
+     *         {@link IPv6Address#lowAddress()}.
+     */
+    public long[] toLongArray() {
+        long[] result = new long[2 * size];
+        int index = 0;
+        if (containsZero) {
+            index += 2;
+        }
+        for (int i = 0; i < table.length; i += 2) {
+            if (table[i] != 0 || table[i + 1] != 0) {
+                result[index++] = table[i];
+                result[index++] = table[i + 1];
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns an unmodifiable set view of this set. A new {@link IPv6Address} is created for each element that is retrieved.
+     *
+     * @return An unmodifiable set view of this set.
+     */
+    public Set<IPv6Address> asSet() {
+        return new SetView();
+    }
+
+    long[] table() {
+        return table;
+    }
+
+    boolean containsZero() {
+        return containsZero;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || o.getClass() != getClass()) {
+            return false;
+        }
+        IPv6AddressSet other = (IPv6AddressSet) o;
+        if (size != other.size || containsZero != other.containsZero) {
+            return false;
+        }
+        for (int i = 0; i < table.length; i += 2) {
+            if ((table[i] != 0 || table[i + 1] != 0) && !other.contains(table[i], table[i + 1])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int hashCode = 0;
+        for (int i = 0; i < table.length; i += 2) {
+            hashCode += Long.hashCode(table[i]) ^ Long.hashCode(table[i + 1]);
+        }
+        return hashCode;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder(IPAddressText.listCapacity(size, IPAddressText.MAX_IPV6_LENGTH)).append('[');
+        char[] buffer = new char[IPAddressText.MAX_IPV6_LENGTH];
+        long[] addresses = toLongArray();
+        for (int i = 0; i < addresses.length; i += 2) {
+            if (i > 0) {
+                sb.append(", "); //$NON-NLS-1$
+            }
+            sb.append(buffer, 0, IPAddressText.formatIPv6(addresses[i], addresses[i + 1], buffer));
+        }
+        return sb.append(']').toString();
+    }
+
+    private final class SetView extends AbstractSet<IPv6Address> {
+
+        @Override
+        public boolean contains(Object o) {
+            return o instanceof IPv6Address address && IPv6AddressSet.this.contains(address.highAddress(), address.lowAddress());
+        }
+
+        @Override
+        public Iterator<IPv6Address> iterator() {
+            return new Iterator<>() {
+                private final long[] addresses = toLongArray();
+                private int index = 0;
+
+                @Override
+                public boolean hasNext() {
+                    return index < addresses.length;
+                }
+
+                @Override
+                public IPv6Address next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    IPv6Address address = IPv6Address.valueOf(addresses[index], addresses[index + 1]);
+                    index += 2;
+                    return address;
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
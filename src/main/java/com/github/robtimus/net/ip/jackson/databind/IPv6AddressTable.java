@@ -0,0 +1,506 @@
+/*
+ * IPv6AddressTable.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.net.ip.jackson.databind;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import com.github.robtimus.net.ip.IPAddress;
+import com.github.robtimus.net.ip.IPv6Address;
+
+/**
+ * An immutable sorted table of distinct IPv6 addresses, stored outside of the Java heap.
+ * <p>
+ * The addresses are stored as pairs of packed 8 byte values in direct buffers of at most 64 MB each, sorted by their unsigned value. Lookups use
+ * binary search, and only read from these buffers, so instances are safe to share between threads. Compared to {@link IPv6AddressArray} and
+ * {@link IPv6AddressSet}, the only heap memory that is used is a small object per buffer. The direct buffers are released when the table is
+ * garbage collected; note that their total size is limited by the {@code -XX:MaxDirectMemorySize} JVM option, which defaults to the maximum heap
+ * size.
+ * <p>
+ * When an {@link IPModule} is registered, instances are serialized as arrays of strings, and can be deserialized from arrays of strings or
+ * numbers, without creating an {@link IPv6Address} per element. While deserializing, the addresses are written to direct buffers as they are read.
+ * These are then sorted one buffer at a time and merged, so the heap usage is limited to a single buffer's worth of addresses.
+ *
+ * @author Rob Spoor
+ */
+public final class IPv6AddressTable {
+
+    // 2^22 addresses of 16 bytes per chunk, i.e. 64 MB
+    static final int DEFAULT_CHUNK_SHIFT = 22;
+
+    private static final IPv6AddressTable EMPTY = new IPv6AddressTable(new LongBuffer[0], DEFAULT_CHUNK_SHIFT, 0);
+
+    // high and low addresses, interleaved
+    private final LongBuffer[] chunks;
+    private final int chunkShift;
+    private final int chunkMask;
+    private final int size;
+
+    private IPv6AddressTable(LongBuffer[] chunks, int chunkShift, int size) {
+        this.chunks = chunks;
+        this.chunkShift = chunkShift;
+        this.chunkMask = (1 << chunkShift) - 1;
+        this.size = size;
+    }
+
+    /**
+     * Returns a table of IPv6 addresses. Duplicate addresses are ignored.
+     *
+     * @param addresses The IPv6 addresses as pairs of values returned by {@link IPv6Address#highAddress()} and {@link IPv6Address#lowAddress()}.
+     * @return A table of the given IPv6 addresses.
+     * @throws NullPointerException If the given array is {@code null}.
+     * @throws IllegalArgumentException If the length of the given array is odd.
+     */
+    public static IPv6AddressTable of(long... addresses) {
+        if (addresses.length % 2 != 0) {
+            throw new IllegalArgumentException(Messages.IPv6AddressArray.oddLength(addresses.length));
+        }
+        Accumulator accumulator = new Accumulator();
+        for (int i = 0; i < addresses.length; i += 2) {
+            accumulator.add(addresses[i], addresses[i + 1]);
+        }
+        return accumulator.finish();
+    }
+
+    /**
+     * Returns a table of IPv6 addresses. Duplicate addresses are ignored.
+     *
+     * @param addresses The IPv6 addresses.
+     * @return A table of the given IPv6 addresses.
+     * @throws NullPointerException If the given collection is {@code null} or contains {@code null} elements.
+     */
+    public static IPv6AddressTable copyOf(Collection<? extends IPv6Address> addresses) {
+        Accumulator accumulator = new Accumulator();
+        for (IPv6Address address : addresses) {
+            accumulator.add(address.highAddress(), address.lowAddress());
+        }
+        return accumulator.finish();
+    }
+
+    /**
+     * Returns the number of IPv6 addresses in this table.
+     *
+     * @return The number of IPv6 addresses in this table.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns whether or not this table is empty.
+     *
+     * @return {@code true} if this table contains no IPv6 addresses, or {@code false} otherwise.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the high 64 bits of an IPv6 address from this table. The addresses are sorted by their unsigned value.
+     *
+     * @param index The index of the IPv6 address.
+     * @return The high 64 bits of the IPv6 address at the given index, as returned by {@link IPv6Address#highAddress()}.
+     * @throws IndexOutOfBoundsException If the given index is negative or not smaller than {@link #size()}.
+     */
+    public long getHighAddress(int index) {
+        return highAddress(Objects.checkIndex(index, size));
+    }
+
+    /**
+     * Returns the low 64 bits of an IPv6 address from this table. The addresses are sorted by their unsigned value.
+     *
+     * @param index The index of the IPv6 address.
+     * @return The low 64 bits of the IPv6 address at the given index, as returned by {@link IPv6Address#lowAddress()}.
+     * @throws IndexOutOfBoundsException If the given index is negative or not smaller than {@link #size()}.
+     */
+    public long getLowAddress(int index) {
+        return lowAddress(Objects.checkIndex(index, size));
+    }
+
+    /**
+     * Returns an IPv6 address from this table. A new {@link IPv6Address} is created for each call.
+     *
+     * @param index The index of the IPv6 address.
+     * @return The IPv6 address at the given index.
+     * @throws IndexOutOfBoundsException If the given index is negative or not smaller than {@link #size()}.
+     */
+    public IPv6Address get(int index) {
+        Objects.checkIndex(index, size);
+        return IPv6Address.valueOf(highAddress(index), lowAddress(index));
+    }
+
+    long highAddress(int index) {
+        return chunks[index >>> chunkShift].get(2 * (index & chunkMask));
+    }
+
+    long lowAddress(int index) {
+        return chunks[index >>> chunkShift].get(2 * (index & chunkMask) + 1);
+    }
+
+    /**
+     * Returns the index of an IPv6 address in this table.
+     *
+     * @param highAddress The high 64 bits of the IPv6 address to search for, as returned by {@link IPv6Address#highAddress()}.
+     * @param lowAddress The low 64 bits of the IPv6 address to search for, as returned by {@link IPv6Address#lowAddress()}.
+     * @return The index of the given IPv6 address if it is contained in this table; otherwise, {@code (-(insertion point) - 1)}, where the
+     *         insertion point is the index of the first address that is greater than the given IPv6 address, or {@link #size()} if there is none.
+     */
+    public int indexOf(long highAddress, long lowAddress) {
+        int low = 0;
+        int high = size - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            LongBuffer chunk = chunks[mid >>> chunkShift];
+            int offset = 2 * (mid & chunkMask);
+            int comparison = IPAddressText.compareIPv6(chunk.get(offset), chunk.get(offset + 1), highAddress, lowAddress);
+            if (comparison < 0) {
+                low = mid + 1;
+            } else if (comparison > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(low + 1);
+    }
+
+    /**
+     * Returns whether or not this table contains an IPv6 address.
+     *
+     * @param highAddress The high 64 bits of the IPv6 address to check, as returned by {@link IPv6Address#highAddress()}.
+     * @param lowAddress The low 64 bits of the IPv6 address to check, as returned by {@link IPv6Address#lowAddress()}.
+     * @return {@code true} if this table contains the given IPv6 address, or {@code false} otherwise.
+     */
+    public boolean contains(long highAddress, long lowAddress) {
+        return indexOf(highAddress, lowAddress) >= 0;
+    }
+
+    /**
+     * Returns whether or not this table contains an IP address.
+     *
+     * @param address The IP address to check.
+     * @return {@code true} if the given IP address is an IPv6 address that this table contains, or {@code false} otherwise.
+     */
+    public boolean contains(IPAddress<?> address) {
+        return address instanceof IPv6Address ipv6Address && contains(ipv6Address.highAddress(), ipv6Address.lowAddress());
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || o.getClass() != getClass()) {
+            return false;
+        }
+        IPv6AddressTable other = (IPv6AddressTable) o;
+        if (size != other.size) {
+            return false;
+        }
+        for (int i = 0; i < size; i++) {
+            if (highAddress(i) != other.highAddress(i) || lowAddress(i) != other.lowAddress(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 1;
+        for (int i = 0; i < size; i++) {
+            hash = 31 * hash + Long.hashCode(highAddress(i));
+            hash = 31 * hash + Long.hashCode(lowAddress(i));
+        }
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        // Tables can be very large, so don't include the addresses themselves
+        return getClass().getSimpleName() + "[size=" + size + "]"; //$NON-NLS-1$ //$NON-NLS-2$
+    }
+
+    /**
+     * Accumulates IPv6 addresses for an {@link IPv6AddressTable}. Addresses are appended to direct buffers as they are added. When the table is
+     * created, each buffer is sorted separately, using an on-heap copy. If there is more than one buffer, the sorted buffers are then merged into
+     * new buffers.
+     *
+     * @author Rob Spoor
+     */
+    static final class Accumulator implements IPAddressCollector.IPv6.Sink<IPv6AddressTable> {
+
+        private static final int INSERTION_SORT_THRESHOLD = 16;
+
+        private final int chunkShift;
+        private final List<LongBuffer> chunks = new ArrayList<>();
+        private LongBuffer chunk;
+        private int size;
+
+        Accumulator() {
+            this(DEFAULT_CHUNK_SHIFT);
+        }
+
+        Accumulator(int chunkShift) {
+            this.chunkShift = chunkShift;
+        }
+
+        @Override
+        public void add(long highAddress, long lowAddress) {
+            if (size == Integer.MAX_VALUE) {
+                throw new IllegalArgumentException(Messages.IPAddressTable.tooLarge(Integer.MAX_VALUE));
+            }
+            if (chunk == null || !chunk.hasRemaining()) {
+                chunk = allocate(2 << chunkShift);
+                chunks.add(chunk);
+            }
+            chunk.put(highAddress);
+            chunk.put(lowAddress);
+            size++;
+        }
+
+        private static LongBuffer allocate(int capacity) {
+            return ByteBuffer.allocateDirect(capacity * Long.BYTES)
+                    .order(ByteOrder.nativeOrder())
+                    .asLongBuffer();
+        }
+
+        @Override
+        public IPv6AddressTable finish() {
+            if (size == 0) {
+                return EMPTY;
+            }
+
+            long[] buffer = new long[2 * Math.min(size, 1 << chunkShift)];
+            int[] lengths = new int[chunks.size()];
+            for (int i = 0; i < lengths.length; i++) {
+                lengths[i] = sortDistinct(chunks.get(i), buffer);
+            }
+            if (lengths.length == 1) {
+                return new IPv6AddressTable(new LongBuffer[] { chunks.get(0) }, chunkShift, lengths[0]);
+            }
+            return merge(lengths);
+        }
+
+        /**
+         * Sorts a chunk and removes duplicates.
+         *
+         * @return The number of distinct addresses in the chunk, which are stored at its start.
+         */
+        private static int sortDistinct(LongBuffer chunk, long[] buffer) {
+            int length = chunk.position();
+            chunk.get(0, buffer, 0, length);
+            int count = length / 2;
+            sort(buffer, 0, count, 2 * (Integer.SIZE - Integer.numberOfLeadingZeros(count)));
+            int distinct = 0;
+            for (int i = 0; i < count; i++) {
+                if (distinct == 0 || compare(buffer, i, buffer[2 * distinct - 2], buffer[2 * distinct - 1]) != 0) {
+                    buffer[2 * distinct] = buffer[2 * i];
+                    buffer[2 * distinct + 1] = buffer[2 * i + 1];
+                    distinct++;
+                }
+            }
+            chunk.put(0, buffer, 0, 2 * distinct);
+            return distinct;
+        }
+
+        // Sorting of interleaved high and low addresses, using introsort: quicksort that falls back to heapsort if the recursion gets too deep.
+        // Indexes are address indexes, not array indexes.
+
+        private static void sort(long[] addresses, int from, int to, int depth) {
+            int start = from;
+            int end = to;
+            int remainingDepth = depth;
+            while (end - start > INSERTION_SORT_THRESHOLD) {
+                if (remainingDepth-- == 0) {
+                    heapSort(addresses, start, end);
+                    return;
+                }
+                int split = partition(addresses, start, end);
+                // Recurse into the smaller part and continue with the larger part, to limit the stack depth
+                if (split - start < end - split) {
+                    sort(addresses, start, split, remainingDepth);
+                    start = split;
+                } else {
+                    sort(addresses, split, end, remainingDepth);
+                    end = split;
+                }
+            }
+            insertionSort(addresses, start, end);
+        }
+
+        /**
+         * Partitions a range around the median of its first, middle and last address, using Hoare's scheme.
+         *
+         * @return The split index; all addresses before it are not greater than all addresses starting at it. It is always larger than
+         *         {@code from} and smaller than {@code to}.
+         */
+        private static int partition(long[] addresses, int from, int to) {
+            int mid = (from + to) >>> 1;
+            int last = to - 1;
+            if (compare(addresses, mid, from) < 0) {
+                swap(addresses, mid, from);
+            }
+            if (compare(addresses, last, mid) < 0) {
+                swap(addresses, last, mid);
+                if (compare(addresses, mid, from) < 0) {
+                    swap(addresses, mid, from);
+                }
+            }
+            long pivotHigh = addresses[2 * mid];
+            long pivotLow = addresses[2 * mid + 1];
+
+            int i = from - 1;
+            int j = to;
+            while (true) {
+                do {
+                    i++;
+                } while (compare(addresses, i, pivotHigh, pivotLow) < 0);
+                do {
+                    j--;
+                } while (compare(addresses, j, pivotHigh, pivotLow) > 0);
+                if (i >= j) {
+                    return j + 1;
+                }
+                swap(addresses, i, j);
+            }
+        }
+
+        private static void heapSort(long[] addresses, int from, int to) {
+            int count = to - from;
+            for (int i = count / 2 - 1; i >= 0; i--) {
+                siftDown(addresses, from, i, count);
+            }
+            for (int end = count - 1; end > 0; end--) {
+                swap(addresses, from, from + end);
+                siftDown(addresses, from, 0, end);
+            }
+        }
+
+        private static void siftDown(long[] addresses, int offset, int index, int count) {
+            int i = index;
+            int child;
+            while ((child = 2 * i + 1) < count) {
+                if (child + 1 < count && compare(addresses, offset + child + 1, offset + child) > 0) {
+                    child++;
+                }
+                if (compare(addresses, offset + i, offset + child) >= 0) {
+                    return;
+                }
+                swap(addresses, offset + i, offset + child);
+                i = child;
+            }
+        }
+
+        private static void insertionSort(long[] addresses, int from, int to) {
+            for (int i = from + 1; i < to; i++) {
+                long high = addresses[2 * i];
+                long low = addresses[2 * i + 1];
+                int j = i - 1;
+                while (j >= from && compare(addresses, j, high, low) > 0) {
+                    addresses[2 * j + 2] = addresses[2 * j];
+                    addresses[2 * j + 3] = addresses[2 * j + 1];
+                    j--;
+                }
+                addresses[2 * j + 2] = high;
+                addresses[2 * j + 3] = low;
+            }
+        }
+
+        private static int compare(long[] addresses, int index1, int index2) {
+            return compare(addresses, index1, addresses[2 * index2], addresses[2 * index2 + 1]);
+        }
+
+        private static int compare(long[] addresses, int index, long high, long low) {
+            return IPAddressText.compareIPv6(addresses[2 * index], addresses[2 * index + 1], high, low);
+        }
+
+        private static void swap(long[] addresses, int index1, int index2) {
+            long high = addresses[2 * index1];
+            long low = addresses[2 * index1 + 1];
+            addresses[2 * index1] = addresses[2 * index2];
+            addresses[2 * index1 + 1] = addresses[2 * index2 + 1];
+            addresses[2 * index2] = high;
+            addresses[2 * index2 + 1] = low;
+        }
+
+        /**
+         * Merges the sorted chunks into new chunks, using a binary heap of chunk indexes ordered by their current address.
+         */
+        private IPv6AddressTable merge(int[] lengths) {
+            int[] positions = new int[lengths.length];
+            int[] heap = new int[lengths.length];
+            for (int i = 0; i < heap.length; i++) {
+                heap[i] = i;
+            }
+            for (int i = heap.length / 2 - 1; i >= 0; i--) {
+                siftDownChunks(heap, heap.length, i, positions);
+            }
+
+            Accumulator merged = new Accumulator(chunkShift);
+            int heapSize = heap.length;
+            long previousHigh = 0;
+            long previousLow = 0;
+            while (heapSize > 0) {
+                int chunkIndex = heap[0];
+                LongBuffer current = chunks.get(chunkIndex);
+                long high = current.get(2 * positions[chunkIndex]);
+                long low = current.get(2 * positions[chunkIndex] + 1);
+                if (merged.size == 0 || high != previousHigh || low != previousLow) {
+                    merged.add(high, low);
+                    previousHigh = high;
+                    previousLow = low;
+                }
+                if (++positions[chunkIndex] == lengths[chunkIndex]) {
+                    heap[0] = heap[--heapSize];
+                }
+                siftDownChunks(heap, heapSize, 0, positions);
+            }
+            return new IPv6AddressTable(merged.chunks.toArray(LongBuffer[]::new), chunkShift, merged.size);
+        }
+
+        private void siftDownChunks(int[] heap, int heapSize, int index, int[] positions) {
+            int i = index;
+            int child;
+            while ((child = 2 * i + 1) < heapSize) {
+                if (child + 1 < heapSize && compareChunks(heap[child + 1], heap[child], positions) < 0) {
+                    child++;
+                }
+                if (compareChunks(heap[i], heap[child], positions) <= 0) {
+                    return;
+                }
+                int tmp = heap[i];
+                heap[i] = heap[child];
+                heap[child] = tmp;
+                i = child;
+            }
+        }
+
+        private int compareChunks(int chunkIndex1, int chunkIndex2, int[] positions) {
+            LongBuffer chunk1 = chunks.get(chunkIndex1);
+            LongBuffer chunk2 = chunks.get(chunkIndex2);
+            int offset1 = 2 * positions[chunkIndex1];
+            int offset2 = 2 * positions[chunkIndex2];
+            return IPAddressText.compareIPv6(chunk1.get(offset1), chunk1.get(offset1 + 1), chunk2.get(offset2), chunk2.get(offset2 + 1));
+        }
+    }
+}
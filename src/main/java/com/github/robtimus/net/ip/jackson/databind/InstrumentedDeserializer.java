@@ -0,0 +1,145 @@
+/*
+ * InstrumentedDeserializer.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.net.ip.jackson.databind;
+
+import com.github.robtimus.net.ip.jackson.databind.IPInstrumentation.Operation;
+import com.github.robtimus.net.ip.jackson.databind.IPInstrumentation.Recorder;
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.databind.BeanProperty;
+import tools.jackson.databind.DeserializationConfig;
+import tools.jackson.databind.DeserializationContext;
+import tools.jackson.databind.ValueDeserializer;
+import tools.jackson.databind.jsontype.TypeDeserializer;
+import tools.jackson.databind.type.LogicalType;
+import tools.jackson.databind.util.AccessPattern;
+
+/**
+ * A deserializer that reports to an {@link IPInstrumentation} around another deserializer.
+ *
+ * @author Rob Spoor
+ * @param <T> The type of value to deserialize.
+ */
+final class InstrumentedDeserializer<T> extends ValueDeserializer<T> {
+
+    private final ValueDeserializer<T> delegate;
+    private final IPInstrumentation instrumentation;
+    private final Recorder recorder;
+
+    private InstrumentedDeserializer(ValueDeserializer<T> delegate, IPInstrumentation instrumentation) {
+        this.delegate = delegate;
+        this.instrumentation = instrumentation;
+        this.recorder = instrumentation.recorder(delegate.handledType());
+    }
+
+    static <T> InstrumentedDeserializer<T> instrument(ValueDeserializer<T> deserializer, IPInstrumentation instrumentation) {
+        return new InstrumentedDeserializer<>(deserializer, instrumentation);
+    }
+
+    @Override
+    public T deserialize(JsonParser p, DeserializationContext ctxt) throws JacksonException {
+        boolean sampleLatency = recorder.sampleLatency();
+        long start = sampleLatency ? System.nanoTime() : 0L;
+
+        T result;
+        try {
+            result = delegate.deserialize(p, ctxt);
+        } catch (RuntimeException e) {
+            recorder.failed(Operation.DESERIALIZATION, e);
+            throw e;
+        }
+
+        if (sampleLatency) {
+            recorder.latency(Operation.DESERIALIZATION, System.nanoTime() - start);
+        }
+        recorder.deserialized();
+        return result;
+    }
+
+    @Override
+    public T deserialize(JsonParser p, DeserializationContext ctxt, T intoValue) throws JacksonException {
+        boolean sampleLatency = recorder.sampleLatency();
+        long start = sampleLatency ? System.nanoTime() : 0L;
+
+        T result;
+        try {
+            result = delegate.deserialize(p, ctxt, intoValue);
+        } catch (RuntimeException e) {
+            recorder.failed(Operation.DESERIALIZATION, e);
+            throw e;
+        }
+
+        if (sampleLatency) {
+            recorder.latency(Operation.DESERIALIZATION, System.nanoTime() - start);
+        }
+        recorder.deserialized();
+        return result;
+    }
+
+    @Override
+    public Object deserializeWithType(JsonParser p, DeserializationContext ctxt, TypeDeserializer typeDeserializer) throws JacksonException {
+        // Values with a type id are recorded by the deserializer for the type id, values without type id need to be recorded here
+        return p.hasToken(JsonToken.VALUE_STRING)
+                ? deserialize(p, ctxt)
+                : delegate.deserializeWithType(p, ctxt, typeDeserializer);
+    }
+
+    @Override
+    public ValueDeserializer<?> createContextual(DeserializationContext ctxt, BeanProperty property) {
+        ValueDeserializer<?> contextual = delegate.createContextual(ctxt, property);
+        return contextual == delegate
+                ? this
+                : instrument(contextual, instrumentation);
+    }
+
+    @Override
+    public Boolean supportsUpdate(DeserializationConfig config) {
+        return delegate.supportsUpdate(config);
+    }
+
+    @Override
+    public Object getNullValue(DeserializationContext ctxt) {
+        return delegate.getNullValue(ctxt);
+    }
+
+    @Override
+    public AccessPattern getNullAccessPattern() {
+        return delegate.getNullAccessPattern();
+    }
+
+    @Override
+    public Object getEmptyValue(DeserializationContext ctxt) {
+        return delegate.getEmptyValue(ctxt);
+    }
+
+    @Override
+    public AccessPattern getEmptyAccessPattern() {
+        return delegate.getEmptyAccessPattern();
+    }
+
+    @Override
+    public LogicalType logicalType() {
+        return delegate.logicalType();
+    }
+
+    @Override
+    public Class<?> handledType() {
+        return delegate.handledType();
+    }
+}
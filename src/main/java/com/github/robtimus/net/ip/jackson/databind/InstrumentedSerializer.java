@@ -0,0 +1,133 @@
+/*
+ * InstrumentedSerializer.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.net.ip.jackson.databind;
+
+import com.github.robtimus.net.ip.jackson.databind.IPInstrumentation.Operation;
+import com.github.robtimus.net.ip.jackson.databind.IPInstrumentation.Recorder;
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.databind.BeanProperty;
+import tools.jackson.databind.JavaType;
+import tools.jackson.databind.SerializationContext;
+import tools.jackson.databind.ValueSerializer;
+import tools.jackson.databind.jsonFormatVisitors.JsonFormatVisitorWrapper;
+import tools.jackson.databind.jsontype.TypeSerializer;
+import tools.jackson.databind.util.NameTransformer;
+
+/**
+ * A serializer that reports to an {@link IPInstrumentation} around another serializer.
+ *
+ * @author Rob Spoor
+ * @param <T> The type of value to serialize.
+ */
+final class InstrumentedSerializer<T> extends ValueSerializer<T> {
+
+    private final ValueSerializer<T> delegate;
+    private final Recorder recorder;
+
+    private InstrumentedSerializer(ValueSerializer<T> delegate, Recorder recorder) {
+        this.delegate = delegate;
+        this.recorder = recorder;
+    }
+
+    static <T> InstrumentedSerializer<T> instrument(ValueSerializer<T> serializer, IPInstrumentation instrumentation) {
+        return new InstrumentedSerializer<>(serializer, instrumentation.recorder(serializer.handledType()));
+    }
+
+    @Override
+    public ValueSerializer<?> createContextual(SerializationContext ctxt, BeanProperty property) {
+        ValueSerializer<?> contextual = delegate.createContextual(ctxt, property);
+        return contextual == delegate
+                ? this
+                : new InstrumentedSerializer<>(contextual, recorder);
+    }
+
+    @Override
+    public void serialize(T value, JsonGenerator gen, SerializationContext ctxt) throws JacksonException {
+        boolean sampleLatency = recorder.sampleLatency();
+        long start = sampleLatency ? System.nanoTime() : 0L;
+        int bufferedBefore = gen.streamWriteOutputBuffered();
+
+        try {
+            delegate.serialize(value, gen, ctxt);
+        } catch (RuntimeException e) {
+            recorder.failed(Operation.SERIALIZATION, e);
+            throw e;
+        }
+
+        recordSerialized(gen, bufferedBefore, sampleLatency, start);
+    }
+
+    @Override
+    public void serializeWithType(T value, JsonGenerator gen, SerializationContext ctxt, TypeSerializer typeSer) throws JacksonException {
+        boolean sampleLatency = recorder.sampleLatency();
+        long start = sampleLatency ? System.nanoTime() : 0L;
+        int bufferedBefore = gen.streamWriteOutputBuffered();
+
+        try {
+            delegate.serializeWithType(value, gen, ctxt, typeSer);
+        } catch (RuntimeException e) {
+            recorder.failed(Operation.SERIALIZATION, e);
+            throw e;
+        }
+
+        recordSerialized(gen, bufferedBefore, sampleLatency, start);
+    }
+
+    private void recordSerialized(JsonGenerator gen, int bufferedBefore, boolean sampleLatency, long start) {
+        if (sampleLatency) {
+            recorder.latency(Operation.SERIALIZATION, System.nanoTime() - start);
+        }
+        // If the buffer was flushed while writing, the number of buffered bytes can no longer be used to determine the number of bytes written
+        int bufferedAfter = gen.streamWriteOutputBuffered();
+        recorder.serialized(bufferedBefore >= 0 && bufferedAfter >= bufferedBefore ? bufferedAfter - bufferedBefore : -1);
+    }
+
+    @Override
+    public ValueSerializer<T> unwrappingSerializer(NameTransformer unwrapper) {
+        ValueSerializer<T> unwrapping = delegate.unwrappingSerializer(unwrapper);
+        return unwrapping == delegate
+                ? this
+                : new InstrumentedSerializer<>(unwrapping, recorder);
+    }
+
+    @Override
+    public boolean isUnwrappingSerializer() {
+        return delegate.isUnwrappingSerializer();
+    }
+
+    @Override
+    public boolean usesObjectId() {
+        return delegate.usesObjectId();
+    }
+
+    @Override
+    public boolean isEmpty(SerializationContext ctxt, T value) {
+        return delegate.isEmpty(ctxt, value);
+    }
+
+    @Override
+    public void acceptJsonFormatVisitor(JsonFormatVisitorWrapper visitor, JavaType typeHint) {
+        delegate.acceptJsonFormatVisitor(visitor, typeHint);
+    }
+
+    @Override
+    public Class<?> handledType() {
+        return delegate.handledType();
+    }
+}
@@ -0,0 +1,337 @@
+/*
+ * MutableIPRangeSet.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.net.ip.jackson.databind;
+
+import java.util.Map;
+import java.util.TreeMap;
+import com.github.robtimus.net.ip.IPAddress;
+import com.github.robtimus.net.ip.IPRange;
+import com.github.robtimus.net.ip.IPv4Address;
+import com.github.robtimus.net.ip.IPv6Address;
+
+/**
+ * A mutable set of IP addresses, defined by IP ranges. Both IPv4 and IPv6 ranges are supported.
+ * <p>
+ * Like {@link IPRangeSet}, overlapping and adjacent ranges are merged. The merged ranges are stored in sorted trees, so adding or removing a range
+ * takes <code>O(log n)</code> time plus the time to remove the ranges it merges with or removes. This makes it possible to keep a large set up to
+ * date with small changes. Use {@link #toRangeSet()} to create an immutable copy that is faster and more compact for lookups.
+ * <p>
+ * When an {@link IPModule} is registered, instances are serialized the same way as {@link IPRangeSet}. They can be deserialized from arrays of
+ * anything that can be deserialized as {@link IPRange}, or from delta objects with properties {@code add} and {@code remove}, each containing such
+ * an array. These properties are applied in the order in which they appear. Using {@code ObjectMapper.readerForUpdating}, or {@code JsonMerge} for
+ * properties, such a delta object is applied to an existing set, so only the delta needs to be read. For example:
+ * <pre><code>
+ * {
+ *   "remove": ["10.0.0.0/24"],
+ *   "add": ["192.168.0.0/16", {"from": "10.0.1.1", "to": "10.0.1.10"}]
+ * }
+ * </code></pre>
+ * <p>
+ * Instances of this class are not thread-safe.
+ *
+ * @author Rob Spoor
+ */
+public final class MutableIPRangeSet {
+
+    private static final long UNSIGNED_INT_MASK = 0xFFFF_FFFFL;
+
+    private final IPv4Ranges ipv4Ranges = new IPv4Ranges();
+    private final IPv6Ranges ipv6Ranges = new IPv6Ranges();
+
+    /**
+     * Creates a new empty set.
+     */
+    public MutableIPRangeSet() {
+        super();
+    }
+
+    /**
+     * Creates a new set with the same ranges as an immutable set.
+     *
+     * @param ranges The set to copy the ranges of.
+     * @throws NullPointerException If the given set is {@code null}.
+     */
+    public MutableIPRangeSet(IPRangeSet ranges) {
+        for (int i = 0; i < ranges.ipv4RangeCount(); i++) {
+            ipv4Ranges.add(ranges.ipv4From(i) & UNSIGNED_INT_MASK, ranges.ipv4To(i) & UNSIGNED_INT_MASK);
+        }
+        long[] from = ranges.ipv6From();
+        long[] to = ranges.ipv6To();
+        for (int i = 0; i < ranges.ipv6RangeCount(); i++) {
+            ipv6Ranges.add(new IPv6Boundary(from[2 * i], from[2 * i + 1]), new IPv6Boundary(to[2 * i], to[2 * i + 1]));
+        }
+    }
+
+    /**
+     * Adds an IP range to this set. It is merged with any ranges it overlaps or is adjacent to.
+     *
+     * @param range The IP range to add.
+     * @throws NullPointerException If the given range is {@code null}.
+     */
+    public void add(IPRange<?> range) {
+        if (range.from() instanceof IPv4Address from) {
+            IPv4Address to = (IPv4Address) range.to();
+            ipv4Ranges.add(from.toInt() & UNSIGNED_INT_MASK, to.toInt() & UNSIGNED_INT_MASK);
+        } else {
+            IPv6Address from = (IPv6Address) range.from();
+            IPv6Address to = (IPv6Address) range.to();
+            ipv6Ranges.add(new IPv6Boundary(from.highAddress(), from.lowAddress()), new IPv6Boundary(to.highAddress(), to.lowAddress()));
+        }
+    }
+
+    /**
+     * Removes an IP range from this set. Ranges that partially overlap the given range are shrunk or split.
+     *
+     * @param range The IP range to remove.
+     * @throws NullPointerException If the given range is {@code null}.
+     */
+    public void remove(IPRange<?> range) {
+        if (range.from() instanceof IPv4Address from) {
+            IPv4Address to = (IPv4Address) range.to();
+            ipv4Ranges.remove(from.toInt() & UNSIGNED_INT_MASK, to.toInt() & UNSIGNED_INT_MASK);
+        } else {
+            IPv6Address from = (IPv6Address) range.from();
+            IPv6Address to = (IPv6Address) range.to();
+            ipv6Ranges.remove(new IPv6Boundary(from.highAddress(), from.lowAddress()), new IPv6Boundary(to.highAddress(), to.lowAddress()));
+        }
+    }
+
+    /**
+     * Removes all IP ranges from this set.
+     */
+    public void clear() {
+        ipv4Ranges.ranges.clear();
+        ipv6Ranges.ranges.clear();
+    }
+
+    /**
+     * Returns whether or not this set is empty.
+     *
+     * @return {@code true} if this set is empty, or {@code false} otherwise.
+     */
+    public boolean isEmpty() {
+        return ipv4Ranges.ranges.isEmpty() && ipv6Ranges.ranges.isEmpty();
+    }
+
+    /**
+     * Returns the number of ranges in this set, after overlapping and adjacent ranges have been merged.
+     *
+     * @return The number of ranges in this set.
+     */
+    public int rangeCount() {
+        return ipv4Ranges.ranges.size() + ipv6Ranges.ranges.size();
+    }
+
+    /**
+     * Returns whether or not this set contains an IPv4 address.
+     *
+     * @param address The IPv4 address to check, as returned by {@link IPv4Address#toInt()}.
+     * @return {@code true} if this set contains the given IPv4 address, or {@code false} otherwise.
+     */
+    public boolean contains(int address) {
+        return ipv4Ranges.contains(address & UNSIGNED_INT_MASK);
+    }
+
+    /**
+     * Returns whether or not this set contains an IPv6 address.
+     *
+     * @param highAddress The high 64 bits of the IPv6 address to check.
+     * @param lowAddress The low 64 bits of the IPv6 address to check.
+     * @return {@code true} if this set contains the given IPv6 address, or {@code false} otherwise.
+     */
+    public boolean contains(long highAddress, long lowAddress) {
+        return ipv6Ranges.contains(new IPv6Boundary(highAddress, lowAddress));
+    }
+
+    /**
+     * Returns whether or not this set contains an IP address.
+     *
+     * @param address The IP address to check.
+     * @return {@code true} if this set contains the given IP address, or {@code false} otherwise.
+     * @throws NullPointerException If the given IP address is {@code null}.
+     */
+    public boolean contains(IPAddress<?> address) {
+        if (address instanceof IPv4Address ipv4Address) {
+            return contains(ipv4Address.toInt());
+        }
+        IPv6Address ipv6Address = (IPv6Address) address;
+        return contains(ipv6Address.highAddress(), ipv6Address.lowAddress());
+    }
+
+    /**
+     * Returns an immutable copy of this set.
+     *
+     * @return An {@link IPRangeSet} with the same ranges as this set.
+     */
+    public IPRangeSet toRangeSet() {
+        IPRangeSet.Accumulator accumulator = new IPRangeSet.Accumulator();
+        for (Map.Entry<Long, Long> entry : ipv4Ranges.ranges.entrySet()) {
+            accumulator.add(entry.getKey().intValue(), entry.getValue().intValue());
+        }
+        for (Map.Entry<IPv6Boundary, IPv6Boundary> entry : ipv6Ranges.ranges.entrySet()) {
+            IPv6Boundary from = entry.getKey();
+            IPv6Boundary to = entry.getValue();
+            accumulator.add(from.highAddress, from.lowAddress, to.highAddress, to.lowAddress);
+        }
+        return accumulator.build();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || o.getClass() != getClass()) {
+            return false;
+        }
+        MutableIPRangeSet other = (MutableIPRangeSet) o;
+        return ipv4Ranges.ranges.equals(other.ipv4Ranges.ranges)
+                && ipv6Ranges.ranges.equals(other.ipv6Ranges.ranges);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * ipv4Ranges.ranges.hashCode() + ipv6Ranges.ranges.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return toRangeSet().toString();
+    }
+
+    /**
+     * Merged ranges, stored as a sorted map from the start of each range to its end.
+     *
+     * @author Rob Spoor
+     * @param <B> The type of range boundaries.
+     */
+    private abstract static class Ranges<B extends Comparable<B>> {
+
+        final TreeMap<B, B> ranges = new TreeMap<>();
+
+        /**
+         * Returns the boundary after a boundary. This will only be called for boundaries that are smaller than another boundary.
+         */
+        abstract B next(B boundary);
+
+        /**
+         * Returns the boundary before a boundary. This will only be called for boundaries that are larger than another boundary.
+         */
+        abstract B previous(B boundary);
+
+        final void add(B from, B to) {
+            B newFrom = from;
+            B newTo = to;
+
+            Map.Entry<B, B> entry = ranges.floorEntry(from);
+            if (entry != null && isOverlappingOrAdjacent(entry.getValue(), from)) {
+                newFrom = entry.getKey();
+            }
+            // This includes the floor entry if it was merged, because its key is now newFrom
+            entry = ranges.ceilingEntry(newFrom);
+            while (entry != null && isOverlappingOrAdjacent(newTo, entry.getKey())) {
+                if (entry.getValue().compareTo(newTo) > 0) {
+                    newTo = entry.getValue();
+                }
+                ranges.remove(entry.getKey());
+                entry = ranges.higherEntry(entry.getKey());
+            }
+            ranges.put(newFrom, newTo);
+        }
+
+        private boolean isOverlappingOrAdjacent(B to, B from) {
+            // If to is smaller than from it's not the maximum boundary, so it has a next boundary
+            return to.compareTo(from) >= 0 || next(to).equals(from);
+        }
+
+        final void remove(B from, B to) {
+            Map.Entry<B, B> entry = ranges.lowerEntry(from);
+            if (entry != null && entry.getValue().compareTo(from) >= 0) {
+                // The range starts before from, so keep that part
+                ranges.put(entry.getKey(), previous(from));
+                if (entry.getValue().compareTo(to) > 0) {
+                    // The range also ends after to, so split it
+                    ranges.put(next(to), entry.getValue());
+                    return;
+                }
+            }
+            entry = ranges.ceilingEntry(from);
+            while (entry != null && entry.getKey().compareTo(to) <= 0) {
+                ranges.remove(entry.getKey());
+                if (entry.getValue().compareTo(to) > 0) {
+                    // The range ends after to, so keep that part
+                    ranges.put(next(to), entry.getValue());
+                    return;
+                }
+                entry = ranges.higherEntry(entry.getKey());
+            }
+        }
+
+        final boolean contains(B address) {
+            Map.Entry<B, B> entry = ranges.floorEntry(address);
+            return entry != null && entry.getValue().compareTo(address) >= 0;
+        }
+    }
+
+    /**
+     * IPv4 ranges, with the boundaries as unsigned values.
+     *
+     * @author Rob Spoor
+     */
+    private static final class IPv4Ranges extends Ranges<Long> {
+
+        @Override
+        Long next(Long boundary) {
+            return boundary + 1;
+        }
+
+        @Override
+        Long previous(Long boundary) {
+            return boundary - 1;
+        }
+    }
+
+    /**
+     * IPv6 ranges.
+     *
+     * @author Rob Spoor
+     */
+    private static final class IPv6Ranges extends Ranges<IPv6Boundary> {
+
+        @Override
+        IPv6Boundary next(IPv6Boundary boundary) {
+            long lowAddress = boundary.lowAddress + 1;
+            return new IPv6Boundary(lowAddress == 0 ? boundary.highAddress + 1 : boundary.highAddress, lowAddress);
+        }
+
+        @Override
+        IPv6Boundary previous(IPv6Boundary boundary) {
+            long lowAddress = boundary.lowAddress - 1;
+            return new IPv6Boundary(lowAddress == -1L ? boundary.highAddress - 1 : boundary.highAddress, lowAddress);
+        }
+    }
+
+    private record IPv6Boundary(long highAddress, long lowAddress) implements Comparable<IPv6Boundary> {
+
+        @Override
+        public int compareTo(IPv6Boundary other) {
+            int result = Long.compareUnsigned(highAddress, other.highAddress);
+            return result != 0 ? result : Long.compareUnsigned(lowAddress, other.lowAddress);
+        }
+    }
+}
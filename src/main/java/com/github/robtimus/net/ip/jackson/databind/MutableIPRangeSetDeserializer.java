@@ -0,0 +1,126 @@
+/*
+ * MutableIPRangeSetDeserializer.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.net.ip.jackson.databind;
+
+import java.util.Arrays;
+import java.util.function.Consumer;
+import com.github.robtimus.net.ip.IPRange;
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.databind.BeanProperty;
+import tools.jackson.databind.DeserializationConfig;
+import tools.jackson.databind.DeserializationContext;
+import tools.jackson.databind.ValueDeserializer;
+import tools.jackson.databind.exc.UnrecognizedPropertyException;
+
+/**
+ * A deserializer for {@link MutableIPRangeSet}. It reads either an array of CIDR subnet notations and objects with properties {@code from} and
+ * {@code to}, like {@link IPRangeSetDeserializer}, or a delta object with properties {@code add} and {@code remove} that each contain such an array.
+ * <p>
+ * When updating an existing set, the ranges of an array are added to the set, and the properties of a delta object are applied to the set in the
+ * order in which they appear. Only the given JSON is read, so the cost of an update does not depend on the size of the set.
+ *
+ * @author Rob Spoor
+ */
+public class MutableIPRangeSetDeserializer extends ValueDeserializer<MutableIPRangeSet> {
+
+    static final String ADD_FIELD_NAME = "add"; //$NON-NLS-1$
+    static final String REMOVE_FIELD_NAME = "remove"; //$NON-NLS-1$
+
+    static final MutableIPRangeSetDeserializer INSTANCE = new MutableIPRangeSetDeserializer();
+
+    private final ValueDeserializer<Object> rangeDeserializer;
+
+    /**
+     * Creates a new {@link MutableIPRangeSet} deserializer.
+     */
+    public MutableIPRangeSetDeserializer() {
+        this(null);
+    }
+
+    private MutableIPRangeSetDeserializer(ValueDeserializer<Object> rangeDeserializer) {
+        this.rangeDeserializer = rangeDeserializer;
+    }
+
+    @Override
+    public ValueDeserializer<?> createContextual(DeserializationContext ctxt, BeanProperty property) {
+        // Use the registered deserializer, which may be instrumented
+        return rangeDeserializer == null
+                ? new MutableIPRangeSetDeserializer(ctxt.findRootValueDeserializer(ctxt.constructType(IPRange.class)))
+                : this;
+    }
+
+    @Override
+    public MutableIPRangeSet deserialize(JsonParser p, DeserializationContext ctxt) throws JacksonException {
+        return deserialize(p, ctxt, new MutableIPRangeSet());
+    }
+
+    @Override
+    public MutableIPRangeSet deserialize(JsonParser p, DeserializationContext ctxt, MutableIPRangeSet intoValue) throws JacksonException {
+        if (p.isExpectedStartArrayToken()) {
+            readRanges(p, ctxt, intoValue::add);
+            return intoValue;
+        }
+        // When a type id is included as property, the parser is positioned after it, at the next property or the end of the object
+        if (!p.hasToken(JsonToken.START_OBJECT) && !p.hasToken(JsonToken.PROPERTY_NAME) && !p.hasToken(JsonToken.END_OBJECT)) {
+            return (MutableIPRangeSet) ctxt.handleUnexpectedToken(handledType(), p);
+        }
+
+        JsonToken token = p.hasToken(JsonToken.START_OBJECT) ? p.nextToken() : p.currentToken();
+        while (token == JsonToken.PROPERTY_NAME) {
+            String fieldName = p.currentName();
+            p.nextToken();
+            if (ADD_FIELD_NAME.equals(fieldName)) {
+                readRanges(p, ctxt, intoValue::add);
+            } else if (REMOVE_FIELD_NAME.equals(fieldName)) {
+                readRanges(p, ctxt, intoValue::remove);
+            } else {
+                throw UnrecognizedPropertyException.from(p, MutableIPRangeSet.class, fieldName, Arrays.asList(ADD_FIELD_NAME, REMOVE_FIELD_NAME));
+            }
+            token = p.nextToken();
+        }
+        return intoValue;
+    }
+
+    private void readRanges(JsonParser p, DeserializationContext ctxt, Consumer<IPRange<?>> action) {
+        if (!p.isExpectedStartArrayToken()) {
+            throw ctxt.wrongTokenException(p, handledType(), JsonToken.START_ARRAY, null);
+        }
+
+        // Each range is reported to JFR and instrumentation by the range deserializer
+        // Ranges can be strings, objects, or arrays of CIDR blocks if they are written with shape ARRAY
+        JsonToken token;
+        while ((token = p.nextToken()) != JsonToken.END_ARRAY) {
+            if (token != JsonToken.VALUE_STRING && token != JsonToken.START_OBJECT && token != JsonToken.START_ARRAY) {
+                throw ctxt.wrongTokenException(p, IPRange.class, JsonToken.VALUE_STRING, null);
+            }
+            action.accept((IPRange<?>) rangeDeserializer.deserialize(p, ctxt));
+        }
+    }
+
+    @Override
+    public Boolean supportsUpdate(DeserializationConfig config) {
+        return Boolean.TRUE;
+    }
+
+    @Override
+    public Class<?> handledType() {
+        return MutableIPRangeSet.class;
+    }
+}
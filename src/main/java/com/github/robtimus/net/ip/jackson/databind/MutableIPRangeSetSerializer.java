@@ -0,0 +1,74 @@
+/*
+ * MutableIPRangeSetSerializer.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.net.ip.jackson.databind;
+
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.JsonToken;
+import tools.jackson.core.type.WritableTypeId;
+import tools.jackson.databind.SerializationContext;
+import tools.jackson.databind.ValueSerializer;
+import tools.jackson.databind.jsontype.TypeSerializer;
+
+/**
+ * A serializer for {@link MutableIPRangeSet}. It writes an array with the merged ranges of the set, the same way as {@link IPRangeSetSerializer}.
+ *
+ * @author Rob Spoor
+ */
+public class MutableIPRangeSetSerializer extends ValueSerializer<MutableIPRangeSet> {
+
+    static final MutableIPRangeSetSerializer INSTANCE = new MutableIPRangeSetSerializer();
+
+    /**
+     * Creates a new {@link MutableIPRangeSet} serializer.
+     */
+    public MutableIPRangeSetSerializer() {
+        super();
+    }
+
+    @Override
+    public void serialize(MutableIPRangeSet value, JsonGenerator gen, SerializationContext ctxt) throws JacksonException {
+        IPSerializationEvent event = IPSerializationEvent.start();
+        IPRangeSet ranges = value.toRangeSet();
+        gen.writeStartArray(value, ranges.rangeCount());
+        int length = IPRangeSetSerializer.INSTANCE.writeRanges(ranges, gen);
+        gen.writeEndArray();
+        event.commit(handledType(), length, ctxt);
+    }
+
+    @Override
+    public void serializeWithType(MutableIPRangeSet value, JsonGenerator gen, SerializationContext ctxt, TypeSerializer typeSer)
+            throws JacksonException {
+
+        IPSerializationEvent event = IPSerializationEvent.start();
+        WritableTypeId typeIdDef = typeSer.writeTypePrefix(gen, ctxt, typeSer.typeId(value, JsonToken.START_ARRAY));
+        int length = IPRangeSetSerializer.INSTANCE.writeRanges(value.toRangeSet(), gen);
+        typeSer.writeTypeSuffix(gen, ctxt, typeIdDef);
+        event.commit(handledType(), length, ctxt);
+    }
+
+    @Override
+    public boolean isEmpty(SerializationContext ctxt, MutableIPRangeSet value) {
+        return value.isEmpty();
+    }
+
+    @Override
+    public Class<MutableIPRangeSet> handledType() {
+        return MutableIPRangeSet.class;
+    }
+}
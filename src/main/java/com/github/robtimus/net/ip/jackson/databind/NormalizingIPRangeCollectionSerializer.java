@@ -0,0 +1,84 @@
+/*
+ * NormalizingIPRangeCollectionSerializer.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.net.ip.jackson.databind;
+
+import java.util.Collection;
+import com.github.robtimus.net.ip.IPRange;
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.JsonToken;
+import tools.jackson.core.type.WritableTypeId;
+import tools.jackson.databind.SerializationContext;
+import tools.jackson.databind.ValueSerializer;
+import tools.jackson.databind.jsontype.TypeSerializer;
+
+/**
+ * A serializer for collections of IP ranges that writes the minimal set of ranges. Overlapping and adjacent ranges are merged, and the result is
+ * written as an array of ranges sorted on their from addresses, the same way as {@link IPRangeSetSerializer}. IPv4 ranges are written before IPv6
+ * ranges. Ranges that are subnets are written in CIDR notation; other ranges are written as objects with properties {@code from} and {@code to}.
+ * <p>
+ * The ranges are sorted as primitive boundaries, so this takes <code>O(n log n)</code> time without creating objects per range.
+ * <p>
+ * This serializer is not registered by {@link IPModule}, because it changes the elements that are written. Instead, use it for specific properties:
+ * <pre><code>
+ * &#64;JsonSerialize(using = NormalizingIPRangeCollectionSerializer.class)
+ * private List&lt;IPRange&lt;?&gt;&gt; ranges;
+ * </code></pre>
+ *
+ * @author Rob Spoor
+ */
+public class NormalizingIPRangeCollectionSerializer extends ValueSerializer<Collection<? extends IPRange<?>>> {
+
+    /**
+     * Creates a new serializer for collections of IP ranges.
+     */
+    public NormalizingIPRangeCollectionSerializer() {
+        super();
+    }
+
+    @Override
+    public void serialize(Collection<? extends IPRange<?>> value, JsonGenerator gen, SerializationContext ctxt) throws JacksonException {
+        IPSerializationEvent event = IPSerializationEvent.start();
+        IPRangeSet ranges = IPRangeSet.copyOf(value);
+        gen.writeStartArray(value, ranges.rangeCount());
+        int length = IPRangeSetSerializer.INSTANCE.writeRanges(ranges, gen);
+        gen.writeEndArray();
+        event.commit(handledType(), length, ctxt);
+    }
+
+    @Override
+    public void serializeWithType(Collection<? extends IPRange<?>> value, JsonGenerator gen, SerializationContext ctxt, TypeSerializer typeSer)
+            throws JacksonException {
+
+        IPSerializationEvent event = IPSerializationEvent.start();
+        WritableTypeId typeIdDef = typeSer.writeTypePrefix(gen, ctxt, typeSer.typeId(value, JsonToken.START_ARRAY));
+        int length = IPRangeSetSerializer.INSTANCE.writeRanges(IPRangeSet.copyOf(value), gen);
+        typeSer.writeTypeSuffix(gen, ctxt, typeIdDef);
+        event.commit(handledType(), length, ctxt);
+    }
+
+    @Override
+    public boolean isEmpty(SerializationContext ctxt, Collection<? extends IPRange<?>> value) {
+        return value.isEmpty();
+    }
+
+    @Override
+    public Class<?> handledType() {
+        return Collection.class;
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * SampleIntervalControl.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.net.ip.jackson.databind;
+
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import jdk.jfr.SettingControl;
+
+/**
+ * A JFR setting for recording only one in every {@code n} events, on average.
+ * <p>
+ * The value of the setting is {@code n}. If multiple recordings use different values, the smallest is used, so each recording gets at least the
+ * events it asked for. Values that are not positive integers are ignored.
+ *
+ * @author Rob Spoor
+ */
+final class SampleIntervalControl extends SettingControl {
+
+    static final String NAME = "sampleInterval"; //$NON-NLS-1$
+
+    private static final int DEFAULT_INTERVAL = 1;
+
+    private volatile int interval = DEFAULT_INTERVAL;
+
+    @Override
+    public String combine(Set<String> settingValues) {
+        int result = Integer.MAX_VALUE;
+        for (String settingValue : settingValues) {
+            result = Math.min(result, parseInterval(settingValue, Integer.MAX_VALUE));
+        }
+        return Integer.toString(result == Integer.MAX_VALUE ? DEFAULT_INTERVAL : result);
+    }
+
+    @Override
+    public void setValue(String settingValue) {
+        interval = parseInterval(settingValue, DEFAULT_INTERVAL);
+    }
+
+    @Override
+    public String getValue() {
+        return Integer.toString(interval);
+    }
+
+    private static int parseInterval(String settingValue, int defaultValue) {
+        try {
+            int result = Integer.parseInt(settingValue.trim());
+            return result > 0 ? result : defaultValue;
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+
+    boolean sample() {
+        // Events are only committed once, without a call to shouldCommit first, so each event is sampled exactly once
+        int currentInterval = interval;
+        return currentInterval == 1 || ThreadLocalRandom.current().nextInt(currentInterval) == 0;
+    }
+}
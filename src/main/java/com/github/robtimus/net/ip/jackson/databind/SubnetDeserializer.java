@@ -24,13 +24,17 @@ import com.github.robtimus.net.ip.IPv6Subnet;
 import com.github.robtimus.net.ip.Subnet;
 import tools.jackson.core.JacksonException;
 import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
 import tools.jackson.databind.BeanProperty;
 import tools.jackson.databind.DeserializationContext;
 import tools.jackson.databind.JavaType;
 import tools.jackson.databind.ValueDeserializer;
+import tools.jackson.databind.jsontype.TypeDeserializer;
 
 /**
  * Base class for all deserializers for {@link Subnet} and sub classes.
+ * It supports JSON in CIDR subnet notation, either as a string or as an array with a single string, as written by {@link SubnetSerializer} for
+ * shape {@link com.fasterxml.jackson.annotation.JsonFormat.Shape#ARRAY ARRAY}.
  *
  * @author Rob Spoor
  * @param <S> The type of subnet to deserialize.
@@ -42,7 +46,37 @@ public abstract class SubnetDeserializer<S extends Subnet<?>> extends ValueDeser
 
     @Override
     public S deserialize(JsonParser p, DeserializationContext ctxt) throws JacksonException {
-        return deserialize(p.getString());
+        String value = p.isExpectedStartArrayToken()
+                ? readSingleElement(p, ctxt)
+                : p.getString();
+        IPDeserializationEvent event = IPDeserializationEvent.start();
+        try {
+            S result = deserialize(value);
+            event.commit(handledType(), value.length(), ctxt);
+            return result;
+        } catch (RuntimeException e) {
+            IPDeserializationFailedEvent.record(handledType(), value.length(), ctxt, e);
+            throw e;
+        }
+    }
+
+    private String readSingleElement(JsonParser p, DeserializationContext ctxt) throws JacksonException {
+        if (p.nextToken() != JsonToken.VALUE_STRING) {
+            throw ctxt.wrongTokenException(p, handledType(), JsonToken.VALUE_STRING, null);
+        }
+        String value = p.getString();
+        if (p.nextToken() != JsonToken.END_ARRAY) {
+            throw ctxt.wrongTokenException(p, handledType(), JsonToken.END_ARRAY, null);
+        }
+        return value;
+    }
+
+    @Override
+    public Object deserializeWithType(JsonParser p, DeserializationContext ctxt, TypeDeserializer typeDeserializer) throws JacksonException {
+        // The IP version is implied by the text, so strings without type id are accepted as well
+        return p.hasToken(JsonToken.VALUE_STRING)
+                ? deserialize(p, ctxt)
+                : typeDeserializer.deserializeTypedFromAny(p, ctxt);
     }
 
     abstract S deserialize(String value);
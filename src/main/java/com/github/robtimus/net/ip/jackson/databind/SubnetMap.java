@@ -0,0 +1,494 @@
+/*
+ * SubnetMap.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.net.ip.jackson.databind;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import com.github.robtimus.net.ip.IPAddress;
+import com.github.robtimus.net.ip.IPv4Address;
+import com.github.robtimus.net.ip.IPv6Address;
+import com.github.robtimus.net.ip.Subnet;
+
+/**
+ * An immutable map from subnets to values that supports longest prefix matching, for instance for routing tables or geo location tables.
+ * Both IPv4 and IPv6 subnets are supported.
+ * <p>
+ * The subnets are stored in a path-compressed binary trie (a Patricia trie), which is stored in arrays of primitives. Looking up the value for an
+ * IP address takes at most one step per prefix length in the map, and does not allocate any objects. Instances are immutable, so they can be
+ * shared between threads without synchronization.
+ * <p>
+ * When an {@link IPModule} is registered, instances are deserialized from JSON objects with subnets in CIDR notation as property names, and
+ * serialized back into such objects. The values are deserialized and serialized using the mapper.
+ *
+ * @author Rob Spoor
+ * @param <V> The type of values.
+ */
+public final class SubnetMap<V> {
+
+    private static final int IPV4_BITS = Integer.SIZE;
+    private static final int IPV6_BITS = 2 * Long.SIZE;
+
+    private static final int NO_NODE = -1;
+
+    private static final SubnetMap<?> EMPTY = new Accumulator<>().build();
+
+    // IPv4 prefixes are stored as 128 bit prefixes with the IPv4 address in the 32 highest bits.
+    // The nodes are stored in pre-order, with all IPv4 nodes before all IPv6 nodes.
+
+    // high and low prefixes, interleaved
+    private final long[] prefixes;
+    // prefix lengths as unsigned bytes
+    private final byte[] prefixLengths;
+    // left and right children, interleaved
+    private final int[] children;
+    private final boolean[] hasValue;
+    private final Object[] values;
+
+    private final int ipv4Root;
+    private final int ipv6Root;
+    private final int ipv4NodeCount;
+    private final int size;
+
+    private SubnetMap(long[] prefixes, byte[] prefixLengths, int[] children, boolean[] hasValue, Object[] values,
+            int ipv4Root, int ipv6Root, int ipv4NodeCount, int size) {
+
+        this.prefixes = prefixes;
+        this.prefixLengths = prefixLengths;
+        this.children = children;
+        this.hasValue = hasValue;
+        this.values = values;
+        this.ipv4Root = ipv4Root;
+        this.ipv6Root = ipv6Root;
+        this.ipv4NodeCount = ipv4NodeCount;
+        this.size = size;
+    }
+
+    /**
+     * Returns a map from subnets to values.
+     *
+     * @param <V> The type of values.
+     * @param map The map with the subnets and values to copy.
+     * @return A map with the subnets and values of the given map.
+     * @throws NullPointerException If the given map is {@code null} or contains {@code null} keys.
+     */
+    public static <V> SubnetMap<V> copyOf(Map<? extends Subnet<?>, ? extends V> map) {
+        Accumulator<V> accumulator = new Accumulator<>();
+        for (Map.Entry<? extends Subnet<?>, ? extends V> entry : map.entrySet()) {
+            accumulator.put(entry.getKey(), entry.getValue());
+        }
+        return accumulator.build();
+    }
+
+    /**
+     * Returns an empty map from subnets to values.
+     *
+     * @param <V> The type of values.
+     * @return An empty map from subnets to values.
+     */
+    @SuppressWarnings("unchecked")
+    public static <V> SubnetMap<V> empty() {
+        return (SubnetMap<V>) EMPTY;
+    }
+
+    /**
+     * Returns the number of subnets in this map.
+     *
+     * @return The number of subnets in this map.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns whether or not this map is empty.
+     *
+     * @return {@code true} if this map is empty, or {@code false} otherwise.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the value for a subnet.
+     *
+     * @param subnet The subnet to return the value for.
+     * @return The value for the given subnet, or {@code null} if this map does not contain the given subnet.
+     * @throws NullPointerException If the given subnet is {@code null}.
+     */
+    public V get(Subnet<?> subnet) {
+        int node = findNode(subnet);
+        return node != NO_NODE && hasValue[node] ? value(node) : null;
+    }
+
+    /**
+     * Returns whether or not this map contains a subnet.
+     *
+     * @param subnet The subnet to check.
+     * @return {@code true} if this map contains the given subnet, or {@code false} otherwise.
+     * @throws NullPointerException If the given subnet is {@code null}.
+     */
+    public boolean containsSubnet(Subnet<?> subnet) {
+        int node = findNode(subnet);
+        return node != NO_NODE && hasValue[node];
+    }
+
+    private int findNode(Subnet<?> subnet) {
+        IPAddress<?> routingPrefix = subnet.routingPrefix();
+        int prefixLength = subnet.prefixLength();
+        if (routingPrefix instanceof IPv4Address ipv4Address) {
+            return findNode(ipv4Root, ipv4High(ipv4Address.toInt()), 0, prefixLength);
+        }
+        IPv6Address ipv6Address = (IPv6Address) routingPrefix;
+        return findNode(ipv6Root, ipv6Address.highAddress(), ipv6Address.lowAddress(), prefixLength);
+    }
+
+    private int findNode(int root, long high, long low, int prefixLength) {
+        int node = root;
+        while (node != NO_NODE) {
+            int nodePrefixLength = prefixLength(node);
+            if (nodePrefixLength > prefixLength || !matches(node, high, low)) {
+                return NO_NODE;
+            }
+            if (nodePrefixLength == prefixLength) {
+                return node;
+            }
+            node = children[2 * node + bit(high, low, nodePrefixLength)];
+        }
+        return NO_NODE;
+    }
+
+    /**
+     * Returns the value for the longest subnet that contains an IPv4 address.
+     *
+     * @param address The IPv4 address to return the value for, as returned by {@link IPv4Address#toInt()}.
+     * @return The value for the longest subnet that contains the given IPv4 address,
+     *         or {@code null} if none of the subnets in this map contains the given IPv4 address.
+     */
+    public V longestPrefixMatch(int address) {
+        return longestPrefixMatch(ipv4Root, ipv4High(address), 0);
+    }
+
+    /**
+     * Returns the value for the longest subnet that contains an IPv6 address.
+     *
+     * @param highAddress The high 64 bits of the IPv6 address to return the value for, as returned by {@link IPv6Address#highAddress()}.
+     * @param lowAddress The low 64 bits of the IPv6 address to return the value for, as returned by {@link IPv6Address#lowAddress()}.
+     * @return The value for the longest subnet that contains the given IPv6 address,
+     *         or {@code null} if none of the subnets in this map contains the given IPv6 address.
+     */
+    public V longestPrefixMatch(long highAddress, long lowAddress) {
+        return longestPrefixMatch(ipv6Root, highAddress, lowAddress);
+    }
+
+    /**
+     * Returns the value for the longest subnet that contains an IP address.
+     *
+     * @param address The IP address to return the value for.
+     * @return The value for the longest subnet that contains the given IP address,
+     *         or {@code null} if none of the subnets in this map contains the given IP address.
+     * @throws NullPointerException If the given IP address is {@code null}.
+     */
+    public V longestPrefixMatch(IPAddress<?> address) {
+        if (address instanceof IPv4Address ipv4Address) {
+            return longestPrefixMatch(ipv4Address.toInt());
+        }
+        IPv6Address ipv6Address = (IPv6Address) address;
+        return longestPrefixMatch(ipv6Address.highAddress(), ipv6Address.lowAddress());
+    }
+
+    private V longestPrefixMatch(int root, long high, long low) {
+        int match = NO_NODE;
+        int node = root;
+        while (node != NO_NODE && matches(node, high, low)) {
+            if (hasValue[node]) {
+                match = node;
+            }
+            int prefixLength = prefixLength(node);
+            if (prefixLength == IPV6_BITS) {
+                break;
+            }
+            node = children[2 * node + bit(high, low, prefixLength)];
+        }
+        return match != NO_NODE ? value(match) : null;
+    }
+
+    private int prefixLength(int node) {
+        return prefixLengths[node] & 0xFF;
+    }
+
+    private boolean matches(int node, long high, long low) {
+        int prefixLength = prefixLength(node);
+        long highDiff = high ^ prefixes[2 * node];
+        if (prefixLength <= Long.SIZE) {
+            return (highDiff & highMask(prefixLength)) == 0;
+        }
+        return highDiff == 0 && ((low ^ prefixes[2 * node + 1]) & highMask(prefixLength - Long.SIZE)) == 0;
+    }
+
+    /**
+     * Returns a mask for the given number of highest bits of a {@code long}.
+     */
+    private static long highMask(int bits) {
+        return bits == 0 ? 0 : -1L << (Long.SIZE - bits);
+    }
+
+    /**
+     * Returns the bit at the given index of a 128 bit value, where index 0 is the highest bit.
+     */
+    private static int bit(long high, long low, int index) {
+        return index < Long.SIZE
+                ? (int) (high >>> (Long.SIZE - 1 - index)) & 1
+                : (int) (low >>> (IPV6_BITS - 1 - index)) & 1;
+    }
+
+    private static long ipv4High(int address) {
+        return (long) address << IPV4_BITS;
+    }
+
+    /**
+     * Returns a map with the subnets and values of this map. The subnets are ordered by IP version, routing prefix and prefix length.
+     *
+     * @return A map with the subnets and values of this map.
+     */
+    public Map<Subnet<?>, V> toMap() {
+        Map<Subnet<?>, V> map = new LinkedHashMap<>();
+        for (int node = 0; node < nodeCount(); node++) {
+            if (hasValue[node]) {
+                map.put(subnet(node), value(node));
+            }
+        }
+        return map;
+    }
+
+    private Subnet<?> subnet(int node) {
+        return isIPv4Node(node)
+                ? IPv4Address.valueOf((int) (prefixes[2 * node] >>> IPV4_BITS)).inSubnet(prefixLength(node))
+                : IPv6Address.valueOf(prefixes[2 * node], prefixes[2 * node + 1]).inSubnet(prefixLength(node));
+    }
+
+    int nodeCount() {
+        return prefixLengths.length;
+    }
+
+    boolean isIPv4Node(int node) {
+        return node < ipv4NodeCount;
+    }
+
+    boolean hasValue(int node) {
+        return hasValue[node];
+    }
+
+    /**
+     * Returns the routing prefix of a node in CIDR notation.
+     *
+     * @param buffer The buffer to format into, of at least {@link IPAddressText#MAX_CIDR_LENGTH} characters.
+     * @return The number of characters written to the buffer.
+     */
+    int formatSubnet(int node, char[] buffer) {
+        int addressLength = isIPv4Node(node)
+                ? IPAddressText.formatIPv4((int) (prefixes[2 * node] >>> IPV4_BITS), buffer)
+                : IPAddressText.formatIPv6(prefixes[2 * node], prefixes[2 * node + 1], buffer);
+        return IPAddressText.formatCIDR(buffer, addressLength, prefixLength(node));
+    }
+
+    @SuppressWarnings("unchecked")
+    V value(int node) {
+        return (V) values[node];
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || o.getClass() != getClass()) {
+            return false;
+        }
+        SubnetMap<?> other = (SubnetMap<?>) o;
+        // The trie structure only depends on the subnets, not on the order in which they were added
+        return ipv4NodeCount == other.ipv4NodeCount
+                && Arrays.equals(prefixes, other.prefixes)
+                && Arrays.equals(prefixLengths, other.prefixLengths)
+                && Arrays.equals(hasValue, other.hasValue)
+                && Arrays.equals(values, other.values);
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = Arrays.hashCode(prefixes);
+        hash = 31 * hash + Arrays.hashCode(prefixLengths);
+        hash = 31 * hash + Arrays.hashCode(values);
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return toMap().toString();
+    }
+
+    /**
+     * Accumulates subnets and values for a {@link SubnetMap}. Subnets are added to a trie of node objects, which is converted into arrays
+     * when the map is built.
+     *
+     * @author Rob Spoor
+     * @param <V> The type of values.
+     */
+    static final class Accumulator<V> {
+
+        private Node ipv4Root;
+        private Node ipv6Root;
+        private int nodeCount;
+        private int size;
+
+        void put(Subnet<?> subnet, V value) {
+            IPAddress<?> routingPrefix = subnet.routingPrefix();
+            int prefixLength = subnet.prefixLength();
+            if (routingPrefix instanceof IPv4Address ipv4Address) {
+                ipv4Root = put(ipv4Root, ipv4High(ipv4Address.toInt()), 0, prefixLength, value);
+            } else {
+                IPv6Address ipv6Address = (IPv6Address) routingPrefix;
+                ipv6Root = put(ipv6Root, ipv6Address.highAddress(), ipv6Address.lowAddress(), prefixLength, value);
+            }
+        }
+
+        /**
+         * Adds a prefix to the sub trie of a node.
+         *
+         * @return The new root of the sub trie.
+         */
+        private Node put(Node node, long high, long low, int prefixLength, V value) {
+            if (node == null) {
+                return newNode(high, low, prefixLength, value);
+            }
+
+            int commonLength = Math.min(commonPrefixLength(node.high, node.low, high, low), Math.min(node.prefixLength, prefixLength));
+            if (commonLength == node.prefixLength && commonLength == prefixLength) {
+                // The same prefix
+                if (!node.hasValue) {
+                    node.hasValue = true;
+                    size++;
+                }
+                node.value = value;
+                return node;
+            }
+            if (commonLength == node.prefixLength) {
+                // The new prefix is below the node
+                int bit = bit(high, low, commonLength);
+                node.children[bit] = put(node.children[bit], high, low, prefixLength, value);
+                return node;
+            }
+            if (commonLength == prefixLength) {
+                // The new prefix is above the node
+                Node parent = newNode(high, low, prefixLength, value);
+                parent.children[bit(node.high, node.low, commonLength)] = node;
+                return parent;
+            }
+            // The new prefix and the node branch off at a shorter prefix
+            Node parent = new Node(high & highMask(Math.min(commonLength, Long.SIZE)),
+                    commonLength > Long.SIZE ? low & highMask(commonLength - Long.SIZE) : 0,
+                    commonLength);
+            nodeCount++;
+            parent.children[bit(node.high, node.low, commonLength)] = node;
+            parent.children[bit(high, low, commonLength)] = newNode(high, low, prefixLength, value);
+            return parent;
+        }
+
+        private Node newNode(long high, long low, int prefixLength, V value) {
+            Node node = new Node(high, low, prefixLength);
+            node.hasValue = true;
+            node.value = value;
+            nodeCount++;
+            size++;
+            return node;
+        }
+
+        private static int commonPrefixLength(long high1, long low1, long high2, long low2) {
+            long highDiff = high1 ^ high2;
+            return highDiff != 0
+                    ? Long.numberOfLeadingZeros(highDiff)
+                    : Long.SIZE + Long.numberOfLeadingZeros(low1 ^ low2);
+        }
+
+        SubnetMap<V> build() {
+            Flattener flattener = new Flattener(nodeCount);
+            int ipv4RootIndex = flattener.add(ipv4Root);
+            int ipv4NodeCount = flattener.count;
+            int ipv6RootIndex = flattener.add(ipv6Root);
+            return new SubnetMap<>(flattener.prefixes, flattener.prefixLengths, flattener.children, flattener.hasValue, flattener.values,
+                    ipv4RootIndex, ipv6RootIndex, ipv4NodeCount, size);
+        }
+    }
+
+    private static final class Node {
+
+        private final long high;
+        private final long low;
+        private final int prefixLength;
+        private final Node[] children = new Node[2];
+
+        private boolean hasValue;
+        private Object value;
+
+        private Node(long high, long low, int prefixLength) {
+            this.high = high;
+            this.low = low;
+            this.prefixLength = prefixLength;
+        }
+    }
+
+    private static final class Flattener {
+
+        private final long[] prefixes;
+        private final byte[] prefixLengths;
+        private final int[] children;
+        private final boolean[] hasValue;
+        private final Object[] values;
+
+        private int count;
+
+        private Flattener(int nodeCount) {
+            prefixes = new long[2 * nodeCount];
+            prefixLengths = new byte[nodeCount];
+            children = new int[2 * nodeCount];
+            hasValue = new boolean[nodeCount];
+            values = new Object[nodeCount];
+            count = 0;
+        }
+
+        /**
+         * Adds the nodes of a trie in pre-order. The depth of a trie is limited by the number of bits in an IP address, so recursion is safe.
+         *
+         * @return The index of the node, or {@link SubnetMap#NO_NODE} if the given node is {@code null}.
+         */
+        private int add(Node node) {
+            if (node == null) {
+                return NO_NODE;
+            }
+            int index = count++;
+            prefixes[2 * index] = node.high;
+            prefixes[2 * index + 1] = node.low;
+            prefixLengths[index] = (byte) node.prefixLength;
+            hasValue[index] = node.hasValue;
+            values[index] = node.value;
+            children[2 * index] = add(node.children[0]);
+            children[2 * index + 1] = add(node.children[1]);
+            return index;
+        }
+    }
+}
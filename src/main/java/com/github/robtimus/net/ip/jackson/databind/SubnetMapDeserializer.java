@@ -0,0 +1,101 @@
+/*
+ * SubnetMapDeserializer.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.net.ip.jackson.databind;
+
+import com.github.robtimus.net.ip.Subnet;
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.databind.BeanProperty;
+import tools.jackson.databind.DeserializationContext;
+import tools.jackson.databind.JavaType;
+import tools.jackson.databind.ValueDeserializer;
+import tools.jackson.databind.jsontype.TypeDeserializer;
+
+/**
+ * A deserializer for {@link SubnetMap}. It reads an object with subnets in CIDR notation as property names; these are parsed like
+ * {@link SubnetDeserializer.AnyVersion} does. The values are deserialized using the mapper, based on the map's declared value type.
+ *
+ * @author Rob Spoor
+ */
+public class SubnetMapDeserializer extends ValueDeserializer<SubnetMap<?>> {
+
+    static final SubnetMapDeserializer INSTANCE = new SubnetMapDeserializer();
+
+    private final ValueDeserializer<Object> valueDeserializer;
+    private final TypeDeserializer valueTypeDeserializer;
+
+    /**
+     * Creates a new {@link SubnetMap} deserializer.
+     */
+    public SubnetMapDeserializer() {
+        this(null, null);
+    }
+
+    private SubnetMapDeserializer(ValueDeserializer<Object> valueDeserializer, TypeDeserializer valueTypeDeserializer) {
+        this.valueDeserializer = valueDeserializer;
+        this.valueTypeDeserializer = valueTypeDeserializer;
+    }
+
+    @Override
+    public ValueDeserializer<?> createContextual(DeserializationContext ctxt, BeanProperty property) {
+        if (valueDeserializer != null) {
+            return this;
+        }
+        // The contextual type is the SubnetMap type itself; the property's type can be a container of SubnetMaps
+        JavaType type = ctxt.getContextualType();
+        if (type == null && property != null) {
+            type = property.getType();
+        }
+        JavaType valueType = type != null
+                ? type.containedTypeOrUnknown(0)
+                : ctxt.constructType(Object.class);
+        return new SubnetMapDeserializer(ctxt.findContextualValueDeserializer(valueType, property), ctxt.findTypeDeserializer(valueType));
+    }
+
+    @Override
+    public SubnetMap<?> deserialize(JsonParser p, DeserializationContext ctxt) throws JacksonException {
+        JsonToken token = p.currentToken();
+        if (token == JsonToken.START_OBJECT) {
+            token = p.nextToken();
+        } else if (token != JsonToken.PROPERTY_NAME && token != JsonToken.END_OBJECT) {
+            return (SubnetMap<?>) ctxt.handleUnexpectedToken(handledType(), p);
+        }
+
+        SubnetMap.Accumulator<Object> accumulator = new SubnetMap.Accumulator<>();
+        for (; token == JsonToken.PROPERTY_NAME; token = p.nextToken()) {
+            Subnet<?> subnet = SubnetDeserializer.AnyVersion.INSTANCE.deserialize(p.currentName());
+            accumulator.put(subnet, deserializeValue(p, ctxt));
+        }
+        return accumulator.build();
+    }
+
+    private Object deserializeValue(JsonParser p, DeserializationContext ctxt) throws JacksonException {
+        if (p.nextToken() == JsonToken.VALUE_NULL) {
+            return valueDeserializer.getNullValue(ctxt);
+        }
+        return valueTypeDeserializer == null
+                ? valueDeserializer.deserialize(p, ctxt)
+                : valueDeserializer.deserializeWithType(p, ctxt, valueTypeDeserializer);
+    }
+
+    @Override
+    public Class<?> handledType() {
+        return SubnetMap.class;
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * SubnetMapSerializer.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.net.ip.jackson.databind;
+
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.JsonToken;
+import tools.jackson.core.type.WritableTypeId;
+import tools.jackson.databind.SerializationContext;
+import tools.jackson.databind.ValueSerializer;
+import tools.jackson.databind.jsontype.TypeSerializer;
+
+/**
+ * A serializer for {@link SubnetMap}. It writes an object with the subnets in CIDR notation as property names, ordered by IP version,
+ * routing prefix and prefix length. The values are serialized using the mapper.
+ *
+ * @author Rob Spoor
+ */
+public class SubnetMapSerializer extends ValueSerializer<SubnetMap<?>> {
+
+    static final SubnetMapSerializer INSTANCE = new SubnetMapSerializer();
+
+    /**
+     * Creates a new {@link SubnetMap} serializer.
+     */
+    public SubnetMapSerializer() {
+        super();
+    }
+
+    @Override
+    @SuppressWarnings("resource")
+    public void serialize(SubnetMap<?> value, JsonGenerator gen, SerializationContext ctxt) throws JacksonException {
+        IPSerializationEvent event = IPSerializationEvent.start();
+        gen.writeStartObject(value, value.size());
+        int length = writeEntries(value, gen, ctxt);
+        gen.writeEndObject();
+        event.commit(handledType(), length, ctxt);
+    }
+
+    @Override
+    public void serializeWithType(SubnetMap<?> value, JsonGenerator gen, SerializationContext ctxt, TypeSerializer typeSer)
+            throws JacksonException {
+
+        IPSerializationEvent event = IPSerializationEvent.start();
+        WritableTypeId typeIdDef = typeSer.writeTypePrefix(gen, ctxt, typeSer.typeId(value, JsonToken.START_OBJECT));
+        int length = writeEntries(value, gen, ctxt);
+        typeSer.writeTypeSuffix(gen, ctxt, typeIdDef);
+        event.commit(handledType(), length, ctxt);
+    }
+
+    @Override
+    public boolean isEmpty(SerializationContext ctxt, SubnetMap<?> value) {
+        return value.isEmpty();
+    }
+
+    /**
+     * Writes the entries of a map.
+     *
+     * @return The total number of characters written for all subnets.
+     */
+    private int writeEntries(SubnetMap<?> value, JsonGenerator gen, SerializationContext ctxt) {
+        char[] buffer = new char[IPAddressText.MAX_CIDR_LENGTH];
+        int length = 0;
+        for (int node = 0; node < value.nodeCount(); node++) {
+            if (value.hasValue(node)) {
+                int count = value.formatSubnet(node, buffer);
+                gen.writeName(new String(buffer, 0, count));
+                ctxt.writeValue(gen, value.value(node));
+                length += count;
+            }
+        }
+        return length;
+    }
+
+    @Override
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    public Class<SubnetMap<?>> handledType() {
+        return (Class) SubnetMap.class;
+    }
+}
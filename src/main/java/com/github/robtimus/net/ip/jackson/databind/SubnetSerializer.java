@@ -17,6 +17,7 @@
 
 package com.github.robtimus.net.ip.jackson.databind;
 
+import com.fasterxml.jackson.annotation.JsonFormat;
 import com.github.robtimus.net.ip.IPAddress;
 import com.github.robtimus.net.ip.IPAddressFormatter;
 import com.github.robtimus.net.ip.IPv4Range;
@@ -27,28 +28,81 @@ import com.github.robtimus.net.ip.IPv6Subnet;
 import com.github.robtimus.net.ip.Subnet;
 import tools.jackson.core.JacksonException;
 import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.JsonToken;
+import tools.jackson.core.type.WritableTypeId;
+import tools.jackson.databind.BeanProperty;
 import tools.jackson.databind.SerializationContext;
 import tools.jackson.databind.ValueSerializer;
+import tools.jackson.databind.jsontype.TypeSerializer;
 
 /**
  * Base class for all serializers for {@link Subnet} and sub types.
+ * <p>
+ * If the shape is {@link JsonFormat.Shape#ARRAY ARRAY}, subnets are written as an array with a single element, like {@link IPRangeSerializer}
+ * writes IP ranges as arrays of CIDR blocks for the same shape.
  *
  * @author Rob Spoor
  * @param <S> The type of subnet to serialize.
  */
 public abstract class SubnetSerializer<S extends Subnet<?>> extends ValueSerializer<S> {
 
-    private SubnetSerializer() {
+    private final boolean cidrBlocks;
+
+    private SubnetSerializer(boolean cidrBlocks) {
+        this.cidrBlocks = cidrBlocks;
+    }
+
+    @Override
+    public ValueSerializer<?> createContextual(SerializationContext ctxt, BeanProperty property) {
+        JsonFormat.Value format = property != null
+                ? property.findPropertyFormat(ctxt.getConfig(), handledType())
+                : ctxt.getDefaultPropertyFormat(handledType());
+        boolean enabled = format.getShape() == JsonFormat.Shape.ARRAY;
+        return enabled == cidrBlocks
+                ? this
+                : withCIDRBlocks(enabled);
     }
 
     @Override
     @SuppressWarnings("resource")
     public void serialize(S value, JsonGenerator gen, SerializationContext ctxt) throws JacksonException {
-        gen.writeString(format(value));
+        IPSerializationEvent event = IPSerializationEvent.start();
+        String text = format(value);
+        if (cidrBlocks) {
+            gen.writeStartArray(value, 1);
+            gen.writeString(text);
+            gen.writeEndArray();
+        } else {
+            gen.writeString(text);
+        }
+        event.commit(handledType(), text.length(), ctxt);
+    }
+
+    @Override
+    public void serializeWithType(S value, JsonGenerator gen, SerializationContext ctxt, TypeSerializer typeSer) throws JacksonException {
+        IPSerializationEvent event = IPSerializationEvent.start();
+        String text = format(value);
+        if (cidrBlocks) {
+            WritableTypeId typeId = typeSer.writeTypePrefix(gen, ctxt, typeSer.typeId(value, JsonToken.START_ARRAY));
+            gen.writeString(text);
+            typeSer.writeTypeSuffix(gen, ctxt, typeId);
+        } else {
+            TypeIds.writeString(text, value, gen, ctxt, typeSer, TypeIds.SUBNET_BASE_TYPES);
+        }
+        event.commit(handledType(), text.length(), ctxt);
     }
 
     abstract String format(S value);
 
+    /**
+     * Returns a copy of this serializer that does or does not write CIDR blocks.
+     * Sub classes should override this method to return an instance of the sub class, using the copy constructor of their super class.
+     *
+     * @param cidrBlocks {@code true} to write CIDR blocks, or {@code false} otherwise.
+     * @return The copy of this serializer.
+     */
+    protected abstract SubnetSerializer<S> withCIDRBlocks(boolean cidrBlocks);
+
     @Override
     public abstract Class<S> handledType();
 
@@ -65,7 +119,18 @@ public abstract class SubnetSerializer<S extends Subnet<?>> extends ValueSeriali
          * Creates a new {@link IPv4Subnet} serializer.
          */
         public IPv4() {
-            super();
+            super(false);
+        }
+
+        /**
+         * Creates a copy of a {@link IPv4Subnet} serializer that does or does not write CIDR blocks.
+         * Sub classes can use this constructor to implement {@link #withCIDRBlocks(boolean)}.
+         *
+         * @param source The serializer to copy.
+         * @param cidrBlocks {@code true} to write CIDR blocks, or {@code false} otherwise.
+         */
+        protected IPv4(IPv4 source, boolean cidrBlocks) {
+            super(cidrBlocks);
         }
 
         @Override
@@ -73,6 +138,11 @@ public abstract class SubnetSerializer<S extends Subnet<?>> extends ValueSeriali
             return value.toString();
         }
 
+        @Override
+        protected IPv4 withCIDRBlocks(boolean cidrBlocks) {
+            return new IPv4(this, cidrBlocks);
+        }
+
         @Override
         public Class<IPv4Subnet> handledType() {
             return IPv4Subnet.class;
@@ -96,14 +166,32 @@ public abstract class SubnetSerializer<S extends Subnet<?>> extends ValueSeriali
          * @param formatter The formatter to use for the from and to addresses. If {@code null}, {@link IPv6Subnet#toString()} will be used instead.
          */
         public IPv6(IPAddressFormatter<? super IPv6Address> formatter) {
+            super(false);
             this.formatter = formatter;
         }
 
+        /**
+         * Creates a copy of a {@link IPv6Subnet} serializer that does or does not write CIDR blocks.
+         * Sub classes can use this constructor to implement {@link #withCIDRBlocks(boolean)}.
+         *
+         * @param source The serializer to copy.
+         * @param cidrBlocks {@code true} to write CIDR blocks, or {@code false} otherwise.
+         */
+        protected IPv6(IPv6 source, boolean cidrBlocks) {
+            super(cidrBlocks);
+            this.formatter = source.formatter;
+        }
+
         @Override
         String format(IPv6Subnet value) {
             return formatter != null ? formatter.format(value.routingPrefix()) + "/" + value.prefixLength() : value.toString(); //$NON-NLS-1$
         }
 
+        @Override
+        protected IPv6 withCIDRBlocks(boolean cidrBlocks) {
+            return new IPv6(this, cidrBlocks);
+        }
+
         @Override
         public Class<IPv6Subnet> handledType() {
             return IPv6Subnet.class;
@@ -127,14 +215,32 @@ public abstract class SubnetSerializer<S extends Subnet<?>> extends ValueSeriali
          * @param formatter The formatter to use for the from and to addresses. If {@code null}, {@link Subnet#toString()} will be used instead.
          */
         public AnyVersion(IPAddressFormatter<? super IPAddress<?>> formatter) {
+            super(false);
             this.formatter = formatter;
         }
 
+        /**
+         * Creates a copy of a {@link Subnet} serializer that does or does not write CIDR blocks.
+         * Sub classes can use this constructor to implement {@link #withCIDRBlocks(boolean)}.
+         *
+         * @param source The serializer to copy.
+         * @param cidrBlocks {@code true} to write CIDR blocks, or {@code false} otherwise.
+         */
+        protected AnyVersion(AnyVersion source, boolean cidrBlocks) {
+            super(cidrBlocks);
+            this.formatter = source.formatter;
+        }
+
         @Override
         String format(Subnet<?> value) {
             return formatter != null ? formatter.format(value.routingPrefix()) + "/" + value.prefixLength() : value.toString(); //$NON-NLS-1$
         }
 
+        @Override
+        protected AnyVersion withCIDRBlocks(boolean cidrBlocks) {
+            return new AnyVersion(this, cidrBlocks);
+        }
+
         @Override
         @SuppressWarnings("unchecked")
         public Class<Subnet<?>> handledType() {
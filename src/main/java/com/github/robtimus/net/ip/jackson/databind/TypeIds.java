@@ -0,0 +1,93 @@
+/*
+ * TypeIds.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.net.ip.jackson.databind;
+
+import com.github.robtimus.net.ip.IPAddress;
+import com.github.robtimus.net.ip.IPRange;
+import com.github.robtimus.net.ip.IPv4Address;
+import com.github.robtimus.net.ip.IPv4Range;
+import com.github.robtimus.net.ip.IPv4Subnet;
+import com.github.robtimus.net.ip.IPv6Address;
+import com.github.robtimus.net.ip.IPv6Range;
+import com.github.robtimus.net.ip.IPv6Subnet;
+import com.github.robtimus.net.ip.Subnet;
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.JsonToken;
+import tools.jackson.core.type.WritableTypeId;
+import tools.jackson.databind.SerializationContext;
+import tools.jackson.databind.jsontype.NamedType;
+import tools.jackson.databind.jsontype.TypeIdResolver;
+import tools.jackson.databind.jsontype.TypeSerializer;
+
+/**
+ * Utility class for writing type ids for polymorphic IP addresses and ranges.
+ *
+ * @author Rob Spoor
+ */
+final class TypeIds {
+
+    static final Class<?>[] ADDRESS_BASE_TYPES = { IPAddress.class };
+    static final Class<?>[] SUBNET_BASE_TYPES = { Subnet.class, IPRange.class, IPv4Range.class, IPv6Range.class };
+    static final Class<?>[] RANGE_BASE_TYPES = { IPRange.class, IPv4Range.class, IPv6Range.class };
+
+    private TypeIds() {
+    }
+
+    static NamedType[] namedTypes() {
+        return new NamedType[] {
+                new NamedType(IPv4Address.class, "IPv4Address"), //$NON-NLS-1$
+                new NamedType(IPv6Address.class, "IPv6Address"), //$NON-NLS-1$
+                new NamedType(IPv4Subnet.class, "IPv4Subnet"), //$NON-NLS-1$
+                new NamedType(IPv6Subnet.class, "IPv6Subnet"), //$NON-NLS-1$
+                new NamedType(IPv4Range.class, "IPv4Range"), //$NON-NLS-1$
+                new NamedType(IPv6Range.class, "IPv6Range"), //$NON-NLS-1$
+        };
+    }
+
+    @SuppressWarnings("resource")
+    static void writeString(String text, Object value, JsonGenerator gen, SerializationContext ctxt, TypeSerializer typeSer,
+            Class<?>[] impliedBaseTypes) throws JacksonException {
+
+        if (isImplied(typeSer, ctxt, impliedBaseTypes)) {
+            gen.writeString(text);
+        } else {
+            WritableTypeId typeId = typeSer.writeTypePrefix(gen, ctxt, typeSer.typeId(value, JsonToken.VALUE_STRING));
+            gen.writeString(text);
+            typeSer.writeTypeSuffix(gen, ctxt, typeId);
+        }
+    }
+
+    /*
+     * A type id is implied if the base type it is written for is one of the given types. The deserializers for these types determine the actual
+     * type from the text, so the type id would only repeat what the text already says.
+     */
+    private static boolean isImplied(TypeSerializer typeSer, SerializationContext ctxt, Class<?>[] impliedBaseTypes) {
+        TypeIdResolver resolver = typeSer.getTypeIdResolver();
+        String baseTypeId = resolver.idFromBaseType(ctxt);
+        if (baseTypeId == null) {
+            return false;
+        }
+        for (Class<?> impliedBaseType : impliedBaseTypes) {
+            if (baseTypeId.equals(resolver.idFromValueAndType(ctxt, null, impliedBaseType))) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -24,6 +24,7 @@ module com.github.robtimus.ip.jackson.databind {
     requires transitive com.github.robtimus.ip.utils;
     requires transitive tools.jackson.databind;
     requires com.fasterxml.jackson.annotation;
+    requires jdk.jfr;
 
     exports com.github.robtimus.net.ip.jackson.databind;
 
@@ -0,0 +1,382 @@
+/*
+ * AllocationBudgetTest.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.net.ip.jackson.databind;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import com.github.robtimus.net.ip.IPRange;
+import com.github.robtimus.net.ip.IPv4Address;
+import com.github.robtimus.net.ip.IPv4Range;
+import com.github.robtimus.net.ip.IPv4Subnet;
+import com.github.robtimus.net.ip.IPv6Address;
+import com.github.robtimus.net.ip.IPv6Range;
+import com.github.robtimus.net.ip.IPv6Subnet;
+import com.sun.management.ThreadMXBean;
+import tools.jackson.databind.MappingIterator;
+import tools.jackson.databind.ObjectReader;
+import tools.jackson.databind.ObjectWriter;
+import tools.jackson.databind.SequenceWriter;
+import tools.jackson.databind.SerializationFeature;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Asserts that serializing and deserializing values does not allocate more than the ip-utils operations that are unavoidable for each value.
+ * For serialization that is formatting the value; for deserialization that is creating the strings and parsing them.
+ * <p>
+ * These unavoidable allocations are measured as reference, using fresh values each time so cached values cannot influence the results.
+ * The module may allocate at most {@link #SLACK_PER_VALUE} more bytes per value. That is less than the size of any string, so an additional
+ * string or tree node per value makes the test fail.
+ */
+@SuppressWarnings("nls")
+class AllocationBudgetTest {
+
+    private static final int VALUE_COUNT = 10_000;
+    private static final int WARMUP_ROUNDS = 20;
+    private static final int MEASUREMENT_ROUNDS = 5;
+
+    // Even an empty string needs 24 bytes for the String object and 16 bytes for its byte array
+    private static final long SLACK_PER_VALUE = 32;
+
+    private static final long SEED = 20260101L;
+
+    private static final ThreadMXBean THREAD_MX_BEAN = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private JsonMapper mapper;
+
+    @BeforeAll
+    static void enableAllocationTracking() {
+        assumeTrue(THREAD_MX_BEAN.isThreadAllocatedMemorySupported(), "thread allocated memory is not supported");
+        THREAD_MX_BEAN.setThreadAllocatedMemoryEnabled(true);
+    }
+
+    @BeforeEach
+    void setupMapper() {
+        mapper = JsonMapper.builder()
+                .findAndAddModules()
+                .build();
+    }
+
+    @Nested
+    @DisplayName("IPv4 addresses")
+    class IPv4Addresses {
+
+        @Test
+        @DisplayName("serialize")
+        void testSerialize() {
+            assertSerializationBudget(IPv4Address.class, AllocationBudgetTest::randomIPv4Address, Object::toString);
+        }
+
+        @Test
+        @DisplayName("deserialize")
+        void testDeserialize() {
+            assertDeserializationBudget(IPv4Address.class, AllocationBudgetTest::randomIPv4Address, IPv4Address::valueOf);
+        }
+    }
+
+    @Nested
+    @DisplayName("IPv6 addresses")
+    class IPv6Addresses {
+
+        @Test
+        @DisplayName("serialize")
+        void testSerialize() {
+            assertSerializationBudget(IPv6Address.class, AllocationBudgetTest::randomIPv6Address, Object::toString);
+        }
+
+        @Test
+        @DisplayName("deserialize")
+        void testDeserialize() {
+            assertDeserializationBudget(IPv6Address.class, AllocationBudgetTest::randomIPv6Address, IPv6Address::valueOf);
+        }
+    }
+
+    @Nested
+    @DisplayName("IPv4 subnets")
+    class IPv4Subnets {
+
+        @Test
+        @DisplayName("serialize")
+        void testSerialize() {
+            assertSerializationBudget(IPv4Subnet.class, AllocationBudgetTest::randomIPv4Subnet, Object::toString);
+        }
+
+        @Test
+        @DisplayName("deserialize")
+        void testDeserialize() {
+            assertDeserializationBudget(IPv4Subnet.class, AllocationBudgetTest::randomIPv4Subnet, IPv4Subnet::valueOf);
+        }
+    }
+
+    @Nested
+    @DisplayName("IPv6 subnets")
+    class IPv6Subnets {
+
+        @Test
+        @DisplayName("serialize")
+        void testSerialize() {
+            assertSerializationBudget(IPv6Subnet.class, AllocationBudgetTest::randomIPv6Subnet, Object::toString);
+        }
+
+        @Test
+        @DisplayName("deserialize")
+        void testDeserialize() {
+            assertDeserializationBudget(IPv6Subnet.class, AllocationBudgetTest::randomIPv6Subnet, IPv6Subnet::valueOf);
+        }
+    }
+
+    @Nested
+    @DisplayName("IPv4 ranges")
+    class IPv4Ranges {
+
+        @Test
+        @DisplayName("serialize")
+        void testSerialize() {
+            assertRangeSerializationBudget(IPv4Range.class, AllocationBudgetTest::randomIPv4Range);
+        }
+
+        @Test
+        @DisplayName("deserialize")
+        void testDeserialize() {
+            assertRangeDeserializationBudget(IPv4Range.class, AllocationBudgetTest::randomIPv4Range,
+                    (from, to) -> IPv4Address.valueOf(from).to(IPv4Address.valueOf(to)));
+        }
+    }
+
+    @Nested
+    @DisplayName("IPv6 ranges")
+    class IPv6Ranges {
+
+        @Test
+        @DisplayName("serialize")
+        void testSerialize() {
+            assertRangeSerializationBudget(IPv6Range.class, AllocationBudgetTest::randomIPv6Range);
+        }
+
+        @Test
+        @DisplayName("deserialize")
+        void testDeserialize() {
+            assertRangeDeserializationBudget(IPv6Range.class, AllocationBudgetTest::randomIPv6Range,
+                    (from, to) -> IPv6Address.valueOf(from).to(IPv6Address.valueOf(to)));
+        }
+    }
+
+    private <T> void assertSerializationBudget(Class<T> type, Function<Random, T> generator, Function<? super T, String> formatter) {
+        ObjectWriter writer = mapper.writerFor(type).without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        Random random = new Random(SEED);
+        String[] results = new String[VALUE_COUNT];
+
+        long actual = Long.MAX_VALUE;
+        long reference = Long.MAX_VALUE;
+        for (int round = 0; round < WARMUP_ROUNDS + MEASUREMENT_ROUNDS; round++) {
+            long roundActual = measureSerialization(writer, createValues(generator, random));
+
+            Object[] values = createValues(generator, random);
+            long start = allocatedBytes();
+            for (int i = 0; i < VALUE_COUNT; i++) {
+                @SuppressWarnings("unchecked")
+                T value = (T) values[i];
+                results[i] = formatter.apply(value);
+            }
+            long roundReference = allocatedBytes() - start;
+
+            if (round >= WARMUP_ROUNDS) {
+                actual = Math.min(actual, roundActual);
+                reference = Math.min(reference, roundReference);
+            }
+        }
+        assertWithinBudget(actual, reference);
+    }
+
+    private <R extends IPRange<?>> void assertRangeSerializationBudget(Class<R> type, Function<Random, R> generator) {
+        ObjectWriter writer = mapper.writerFor(type).without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        Random random = new Random(SEED);
+        String[] results = new String[VALUE_COUNT * 2];
+
+        long actual = Long.MAX_VALUE;
+        long reference = Long.MAX_VALUE;
+        for (int round = 0; round < WARMUP_ROUNDS + MEASUREMENT_ROUNDS; round++) {
+            long roundActual = measureSerialization(writer, createValues(generator, random));
+
+            Object[] values = createValues(generator, random);
+            long start = allocatedBytes();
+            for (int i = 0; i < VALUE_COUNT; i++) {
+                IPRange<?> value = (IPRange<?>) values[i];
+                results[2 * i] = value.from().toString();
+                results[2 * i + 1] = value.to().toString();
+            }
+            long roundReference = allocatedBytes() - start;
+
+            if (round >= WARMUP_ROUNDS) {
+                actual = Math.min(actual, roundActual);
+                reference = Math.min(reference, roundReference);
+            }
+        }
+        assertWithinBudget(actual, reference);
+    }
+
+    private long measureSerialization(ObjectWriter writer, Object[] values) {
+        try (SequenceWriter sequenceWriter = writer.writeValues(OutputStream.nullOutputStream())) {
+            long start = allocatedBytes();
+            for (Object value : values) {
+                sequenceWriter.write(value);
+            }
+            return allocatedBytes() - start;
+        }
+    }
+
+    private <T> void assertDeserializationBudget(Class<T> type, Function<Random, T> generator, Function<String, ?> parser) {
+        ObjectReader reader = mapper.readerFor(type);
+        Random random = new Random(SEED);
+        Object[] results = new Object[VALUE_COUNT];
+
+        long actual = Long.MAX_VALUE;
+        long reference = Long.MAX_VALUE;
+        for (int round = 0; round < WARMUP_ROUNDS + MEASUREMENT_ROUNDS; round++) {
+            Object[] values = createValues(generator, random);
+            char[][] texts = new char[VALUE_COUNT][];
+            StringBuilder json = new StringBuilder();
+            for (int i = 0; i < VALUE_COUNT; i++) {
+                String text = values[i].toString();
+                texts[i] = text.toCharArray();
+                json.append('"').append(text).append("\"\n");
+            }
+
+            long roundActual = measureDeserialization(reader, json, results);
+
+            long start = allocatedBytes();
+            for (int i = 0; i < VALUE_COUNT; i++) {
+                results[i] = parser.apply(new String(texts[i]));
+            }
+            long roundReference = allocatedBytes() - start;
+
+            if (round >= WARMUP_ROUNDS) {
+                actual = Math.min(actual, roundActual);
+                reference = Math.min(reference, roundReference);
+            }
+        }
+        assertWithinBudget(actual, reference);
+    }
+
+    private <R extends IPRange<?>> void assertRangeDeserializationBudget(Class<R> type, Function<Random, R> generator,
+            BiFunction<String, String, ?> parser) {
+
+        ObjectReader reader = mapper.readerFor(type);
+        Random random = new Random(SEED);
+        Object[] results = new Object[VALUE_COUNT];
+
+        long actual = Long.MAX_VALUE;
+        long reference = Long.MAX_VALUE;
+        for (int round = 0; round < WARMUP_ROUNDS + MEASUREMENT_ROUNDS; round++) {
+            Object[] values = createValues(generator, random);
+            char[][] fromTexts = new char[VALUE_COUNT][];
+            char[][] toTexts = new char[VALUE_COUNT][];
+            StringBuilder json = new StringBuilder();
+            for (int i = 0; i < VALUE_COUNT; i++) {
+                IPRange<?> value = (IPRange<?>) values[i];
+                String from = value.from().toString();
+                String to = value.to().toString();
+                fromTexts[i] = from.toCharArray();
+                toTexts[i] = to.toCharArray();
+                json.append("{\"from\":\"").append(from).append("\",\"to\":\"").append(to).append("\"}\n");
+            }
+
+            long roundActual = measureDeserialization(reader, json, results);
+
+            long start = allocatedBytes();
+            for (int i = 0; i < VALUE_COUNT; i++) {
+                results[i] = parser.apply(new String(fromTexts[i]), new String(toTexts[i]));
+            }
+            long roundReference = allocatedBytes() - start;
+
+            if (round >= WARMUP_ROUNDS) {
+                actual = Math.min(actual, roundActual);
+                reference = Math.min(reference, roundReference);
+            }
+        }
+        assertWithinBudget(actual, reference);
+    }
+
+    private long measureDeserialization(ObjectReader reader, CharSequence json, Object[] results) {
+        byte[] input = json.toString().getBytes(StandardCharsets.UTF_8);
+        try (MappingIterator<Object> iterator = reader.readValues(input)) {
+            long start = allocatedBytes();
+            for (int i = 0; i < results.length; i++) {
+                results[i] = iterator.nextValue();
+            }
+            return allocatedBytes() - start;
+        }
+    }
+
+    private static void assertWithinBudget(long actual, long reference) {
+        long budget = reference + SLACK_PER_VALUE * VALUE_COUNT;
+        assertTrue(actual <= budget, () -> String.format("Allocated %d bytes per value; budget is %d bytes per value",
+                actual / VALUE_COUNT, budget / VALUE_COUNT));
+    }
+
+    private static long allocatedBytes() {
+        return THREAD_MX_BEAN.getCurrentThreadAllocatedBytes();
+    }
+
+    private static Object[] createValues(Function<Random, ?> generator, Random random) {
+        Object[] values = new Object[VALUE_COUNT];
+        for (int i = 0; i < VALUE_COUNT; i++) {
+            values[i] = generator.apply(random);
+        }
+        return values;
+    }
+
+    private static IPv4Address randomIPv4Address(Random random) {
+        return IPv4Address.valueOf(random.nextInt());
+    }
+
+    private static IPv6Address randomIPv6Address(Random random) {
+        return IPv6Address.valueOf(random.nextLong(), random.nextLong());
+    }
+
+    private static IPv4Subnet randomIPv4Subnet(Random random) {
+        return randomIPv4Address(random).inSubnet(8 + random.nextInt(25));
+    }
+
+    private static IPv6Subnet randomIPv6Subnet(Random random) {
+        return randomIPv6Address(random).inSubnet(16 + random.nextInt(113));
+    }
+
+    private static IPv4Range randomIPv4Range(Random random) {
+        // start at an odd address, so the range is never a subnet
+        int from = random.nextInt(Integer.MAX_VALUE) | 1;
+        return IPv4Address.valueOf(from).to(IPv4Address.valueOf(from + 1 + random.nextInt(1 << 16)));
+    }
+
+    private static IPv6Range randomIPv6Range(Random random) {
+        // start at an odd address, so the range is never a subnet
+        long high = random.nextLong();
+        long from = (random.nextLong() >>> 1) | 1L;
+        return IPv6Address.valueOf(high, from).to(IPv6Address.valueOf(high, from + 1 + random.nextInt(1 << 16)));
+    }
+}
@@ -0,0 +1,356 @@
+/*
+ * CIDRBlocksTest.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.net.ip.jackson.databind;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import java.util.Random;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.github.robtimus.net.ip.IPAddressFormatter;
+import com.github.robtimus.net.ip.IPRange;
+import com.github.robtimus.net.ip.IPv4Address;
+import com.github.robtimus.net.ip.IPv4Range;
+import com.github.robtimus.net.ip.IPv4Subnet;
+import com.github.robtimus.net.ip.IPv6Address;
+import com.github.robtimus.net.ip.IPv6Range;
+import com.github.robtimus.net.ip.IPv6Subnet;
+import com.github.robtimus.net.ip.Subnet;
+import tools.jackson.databind.DatabindException;
+import tools.jackson.databind.SerializationContext;
+import tools.jackson.databind.annotation.JsonSerialize;
+import tools.jackson.databind.exc.MismatchedInputException;
+import tools.jackson.databind.json.JsonMapper;
+
+@SuppressWarnings("nls")
+class CIDRBlocksTest {
+
+    private static final int RANDOM_COUNT = 1_000;
+
+    private JsonMapper mapper;
+
+    @BeforeEach
+    void setupMapper() {
+        mapper = JsonMapper.builder()
+                .findAndAddModules()
+                .build();
+    }
+
+    @Nested
+    @DisplayName("serialize")
+    class Serialize {
+
+        @Test
+        @DisplayName("IPv4 range")
+        void testIPv4Range() {
+            TestClass value = new TestClass();
+            value.ipv4Range = IPv4Address.valueOf("192.168.0.1").to(IPv4Address.valueOf("192.168.0.6"));
+
+            assertEquals("{\"ipv4Range\":[\"192.168.0.1/32\",\"192.168.0.2/31\",\"192.168.0.4/31\",\"192.168.0.6/32\"]}",
+                    mapper.writeValueAsString(value));
+        }
+
+        @Test
+        @DisplayName("IPv4 subnet")
+        void testIPv4Subnet() {
+            TestClass value = new TestClass();
+            value.ipv4Range = IPv4Subnet.valueOf("10.0.0.0/8");
+
+            assertEquals("{\"ipv4Range\":[\"10.0.0.0/8\"]}", mapper.writeValueAsString(value));
+        }
+
+        @Test
+        @DisplayName("subnet")
+        void testSubnet() {
+            TestClass value = new TestClass();
+            value.subnet = IPv6Subnet.valueOf("2001:db8::/32");
+
+            assertEquals("{\"subnet\":[\"2001:db8::/32\"]}", mapper.writeValueAsString(value));
+        }
+
+        @Test
+        @DisplayName("all IPv4 addresses")
+        void testAllIPv4Addresses() {
+            TestClass value = new TestClass();
+            value.ipv4Range = IPv4Address.MIN_VALUE.to(IPv4Address.MAX_VALUE);
+
+            assertEquals("{\"ipv4Range\":[\"0.0.0.0/0\"]}", mapper.writeValueAsString(value));
+        }
+
+        @Test
+        @DisplayName("IPv6 range")
+        void testIPv6Range() {
+            TestClass value = new TestClass();
+            value.ipv6Range = IPv6Address.valueOf("::ffff:ffff:ffff:fffe").to(IPv6Address.valueOf("::1:0:0:0:3"));
+
+            assertEquals("{\"ipv6Range\":[\"::ffff:ffff:ffff:fffe/127\",\"::1:0:0:0/126\"]}", mapper.writeValueAsString(value));
+        }
+
+        @Test
+        @DisplayName("all IPv6 addresses")
+        void testAllIPv6Addresses() {
+            TestClass value = new TestClass();
+            value.ipRange = IPv6Address.MIN_VALUE.to(IPv6Address.MAX_VALUE);
+
+            assertEquals("{\"ipRange\":[\"::/0\"]}", mapper.writeValueAsString(value));
+        }
+
+        @Test
+        @DisplayName("custom format")
+        void testCustomFormat() {
+            TestClass value = new TestClass();
+            value.ipv6RangeWithCustomFormat = IPv6Address.valueOf("::1").to(IPv6Address.valueOf("::3"));
+
+            assertEquals("{\"ipv6RangeWithCustomFormat\":[\"0:0:0:0:0:0:0:1/128\",\"0:0:0:0:0:0:0:2/127\"]}", mapper.writeValueAsString(value));
+        }
+
+        @Test
+        @DisplayName("sub classes keep their behaviour")
+        void testSubClasses() {
+            TestClass value = new TestClass();
+            value.ipv4RangeWithSubClass = IPv4Address.LOCALHOST.asRange();
+            value.subnetWithSubClass = IPv4Subnet.valueOf("127.0.0.1/32");
+
+            assertEquals("{}", mapper.writeValueAsString(value));
+
+            value.ipv4RangeWithSubClass = IPv4Address.valueOf("192.168.0.1").to(IPv4Address.valueOf("192.168.0.3"));
+            value.subnetWithSubClass = IPv6Subnet.valueOf("::/127");
+
+            assertEquals("{\"ipv4RangeWithSubClass\":[\"192.168.0.1/32\",\"192.168.0.2/31\"],\"subnetWithSubClass\":[\"::/127\"]}",
+                    mapper.writeValueAsString(value));
+        }
+
+        @Test
+        @DisplayName("without shape")
+        void testWithoutShape() {
+            TestClass value = new TestClass();
+            value.ipRangeWithoutShape = IPv4Address.valueOf("192.168.0.1").to(IPv4Address.valueOf("192.168.0.6"));
+
+            assertEquals("{\"ipRangeWithoutShape\":{\"from\":\"192.168.0.1\",\"to\":\"192.168.0.6\"}}", mapper.writeValueAsString(value));
+        }
+
+        @Test
+        @DisplayName("config override")
+        void testConfigOverride() {
+            JsonMapper arrayMapper = JsonMapper.builder()
+                    .findAndAddModules()
+                    .withConfigOverride(IPRange.class, o -> o.setFormat(JsonFormat.Value.forShape(JsonFormat.Shape.ARRAY)))
+                    .build();
+
+            IPRange<?> value = IPv4Address.valueOf("10.0.0.255").to(IPv4Address.valueOf("10.0.1.0"));
+
+            assertEquals("[\"10.0.0.255/32\",\"10.0.1.0/32\"]", arrayMapper.writerFor(IPRange.class).writeValueAsString(value));
+        }
+    }
+
+    @Nested
+    @DisplayName("deserialize")
+    class Deserialize {
+
+        @Test
+        @DisplayName("IPv4 range")
+        void testIPv4Range() {
+            String json = "{\"ipv4Range\":[\"192.168.0.1/32\",\"192.168.0.2/31\",\"192.168.0.4/31\",\"192.168.0.6/32\"]}";
+
+            TestClass value = mapper.readValue(json, TestClass.class);
+
+            assertEquals(IPv4Address.valueOf("192.168.0.1").to(IPv4Address.valueOf("192.168.0.6")), value.ipv4Range);
+        }
+
+        @Test
+        @DisplayName("IPv4 subnet")
+        void testIPv4Subnet() {
+            TestClass value = mapper.readValue("{\"ipv4Range\":[\"10.0.0.0/9\",\"10.128.0.0/9\"]}", TestClass.class);
+
+            assertEquals(IPv4Subnet.valueOf("10.0.0.0/8"), value.ipv4Range);
+            assertInstanceOf(IPv4Subnet.class, value.ipv4Range);
+        }
+
+        @Test
+        @DisplayName("IPv6 range")
+        void testIPv6Range() {
+            TestClass value = mapper.readValue("{\"ipRange\":[\"::ffff:ffff:ffff:fffe/127\",\"::1:0:0:0/126\"]}", TestClass.class);
+
+            assertEquals(IPv6Address.valueOf("::ffff:ffff:ffff:fffe").to(IPv6Address.valueOf("::1:0:0:0:3")), value.ipRange);
+        }
+
+        @Test
+        @DisplayName("IPv6 subnet")
+        void testIPv6Subnet() {
+            TestClass value = mapper.readValue("{\"ipv6Range\":[\"::/1\",\"8000::/1\"]}", TestClass.class);
+
+            assertEquals(IPv6Subnet.valueOf("::/0"), value.ipv6Range);
+            assertInstanceOf(IPv6Subnet.class, value.ipv6Range);
+        }
+
+        @Test
+        @DisplayName("subnet")
+        void testSubnet() {
+            TestClass value = mapper.readValue("{\"subnet\":[\"2001:db8::/32\"]}", TestClass.class);
+
+            assertEquals(IPv6Subnet.valueOf("2001:db8::/32"), value.subnet);
+
+            assertThrows(MismatchedInputException.class, () -> mapper.readValue("{\"subnet\":[]}", TestClass.class));
+            assertThrows(MismatchedInputException.class, () -> mapper.readValue("{\"subnet\":[\"::/1\",\"8000::/1\"]}", TestClass.class));
+        }
+
+        @Test
+        @DisplayName("without shape")
+        void testWithoutShape() {
+            TestClass value = mapper.readValue("{\"ipRangeWithoutShape\":[\"10.0.0.255/32\",\"10.0.1.0/32\"]}", TestClass.class);
+
+            assertEquals(IPv4Address.valueOf("10.0.0.255").to(IPv4Address.valueOf("10.0.1.0")), value.ipRangeWithoutShape);
+        }
+
+        @Test
+        @DisplayName("invalid blocks")
+        void testInvalidBlocks() {
+            assertInvalidBlocks("{\"ipRange\":[]}");
+            assertInvalidBlocks("{\"ipRange\":[\"10.0.0.0\"]}");
+            assertInvalidBlocks("{\"ipRange\":[\"10.0.0.0/\"]}");
+            assertInvalidBlocks("{\"ipRange\":[\"10.0.0.0/33\"]}");
+            assertInvalidBlocks("{\"ipRange\":[\"10.0.0.0/x\"]}");
+            assertInvalidBlocks("{\"ipRange\":[\"10.0.0.1/24\"]}");
+            assertInvalidBlocks("{\"ipRange\":[\"::/129\"]}");
+            assertInvalidBlocks("{\"ipRange\":[\"::1/64\"]}");
+            assertInvalidBlocks("{\"ipRange\":[\"10.0.0.0/8\",\"12.0.0.0/8\"]}");
+            assertInvalidBlocks("{\"ipRange\":[\"10.0.0.0/8\",\"9.0.0.0/8\"]}");
+            assertInvalidBlocks("{\"ipRange\":[\"255.255.255.255/32\",\"0.0.0.0/32\"]}");
+            assertInvalidBlocks("{\"ipRange\":[\"ffff:ffff:ffff:ffff:ffff:ffff:ffff:ffff/128\",\"::/128\"]}");
+            assertInvalidBlocks("{\"ipRange\":[\"255.255.255.255/32\",\"::/128\"]}");
+            assertInvalidBlocks("{\"ipv4Range\":[\"::/0\"]}");
+            assertInvalidBlocks("{\"ipv6Range\":[\"0.0.0.0/0\"]}");
+
+            assertThrows(MismatchedInputException.class, () -> mapper.readValue("{\"ipRange\":[167772160]}", TestClass.class));
+        }
+
+        private void assertInvalidBlocks(String json) {
+            // Jackson wraps exceptions thrown while deserializing properties
+            DatabindException exception = assertThrows(DatabindException.class, () -> mapper.readValue(json, TestClass.class));
+            assertInstanceOf(IllegalArgumentException.class, exception.getCause());
+        }
+    }
+
+    @Test
+    @DisplayName("round trip")
+    void testRoundTrip() {
+        Random random = new Random();
+        for (int i = 0; i < RANDOM_COUNT; i++) {
+            TestClass value = new TestClass();
+            IPv4Address ipv4From = IPv4Address.valueOf(random.nextInt());
+            IPv4Address ipv4To = IPv4Address.valueOf(random.nextInt());
+            value.ipv4Range = ipv4From.compareTo(ipv4To) <= 0 ? ipv4From.to(ipv4To) : ipv4To.to(ipv4From);
+            IPv6Address ipv6From = IPv6Address.valueOf(random.nextLong(), random.nextLong());
+            IPv6Address ipv6To = IPv6Address.valueOf(random.nextLong(), random.nextLong());
+            value.ipRange = ipv6From.compareTo(ipv6To) <= 0 ? ipv6From.to(ipv6To) : ipv6To.to(ipv6From);
+
+            TestClass deserialized = mapper.readValue(mapper.writeValueAsString(value), TestClass.class);
+
+            assertEquals(value.ipv4Range, deserialized.ipv4Range);
+            assertEquals(value.ipRange, deserialized.ipRange);
+        }
+    }
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    static final class TestClass {
+
+        @JsonFormat(shape = JsonFormat.Shape.ARRAY)
+        public IPv4Range ipv4Range;
+
+        @JsonFormat(shape = JsonFormat.Shape.ARRAY)
+        public IPv6Range ipv6Range;
+
+        @JsonFormat(shape = JsonFormat.Shape.ARRAY)
+        public IPRange<?> ipRange;
+
+        @JsonFormat(shape = JsonFormat.Shape.ARRAY)
+        public Subnet<?> subnet;
+
+        @JsonFormat(shape = JsonFormat.Shape.ARRAY)
+        @JsonSerialize(using = CustomIPv6RangeSerializer.class)
+        public IPv6Range ipv6RangeWithCustomFormat;
+
+        @JsonFormat(shape = JsonFormat.Shape.ARRAY)
+        @JsonInclude(JsonInclude.Include.NON_EMPTY)
+        @JsonSerialize(using = SingleAddressAsEmptyIPv4RangeSerializer.class)
+        public IPv4Range ipv4RangeWithSubClass;
+
+        @JsonFormat(shape = JsonFormat.Shape.ARRAY)
+        @JsonInclude(JsonInclude.Include.NON_EMPTY)
+        @JsonSerialize(using = SingleAddressAsEmptySubnetSerializer.class)
+        public Subnet<?> subnetWithSubClass;
+
+        public IPRange<?> ipRangeWithoutShape;
+    }
+
+    static final class CustomIPv6RangeSerializer extends IPRangeSerializer.IPv6 {
+
+        public CustomIPv6RangeSerializer() {
+            super(IPAddressFormatter.ipv6()
+                    .withMediumStyle()
+                    .build());
+        }
+    }
+
+    static final class SingleAddressAsEmptyIPv4RangeSerializer extends IPRangeSerializer.IPv4 {
+
+        public SingleAddressAsEmptyIPv4RangeSerializer() {
+            super();
+        }
+
+        private SingleAddressAsEmptyIPv4RangeSerializer(SingleAddressAsEmptyIPv4RangeSerializer source, boolean cidrBlocks) {
+            super(source, cidrBlocks);
+        }
+
+        @Override
+        protected SingleAddressAsEmptyIPv4RangeSerializer withCIDRBlocks(boolean cidrBlocks) {
+            return new SingleAddressAsEmptyIPv4RangeSerializer(this, cidrBlocks);
+        }
+
+        @Override
+        public boolean isEmpty(SerializationContext ctxt, IPv4Range value) {
+            return value.from().equals(value.to());
+        }
+    }
+
+    static final class SingleAddressAsEmptySubnetSerializer extends SubnetSerializer.AnyVersion {
+
+        public SingleAddressAsEmptySubnetSerializer() {
+            super(null);
+        }
+
+        private SingleAddressAsEmptySubnetSerializer(SingleAddressAsEmptySubnetSerializer source, boolean cidrBlocks) {
+            super(source, cidrBlocks);
+        }
+
+        @Override
+        protected SingleAddressAsEmptySubnetSerializer withCIDRBlocks(boolean cidrBlocks) {
+            return new SingleAddressAsEmptySubnetSerializer(this, cidrBlocks);
+        }
+
+        @Override
+        public boolean isEmpty(SerializationContext ctxt, Subnet<?> value) {
+            return value.from().equals(value.to());
+        }
+    }
+}
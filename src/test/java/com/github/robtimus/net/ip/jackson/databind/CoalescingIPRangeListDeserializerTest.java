@@ -0,0 +1,184 @@
+/*
+ * CoalescingIPRangeListDeserializerTest.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.net.ip.jackson.databind;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import com.github.robtimus.net.ip.IPv4Address;
+import com.github.robtimus.net.ip.IPv4Range;
+import com.github.robtimus.net.ip.IPv4Subnet;
+import com.github.robtimus.net.ip.IPv6Address;
+import com.github.robtimus.net.ip.IPv6Range;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.DatabindException;
+import tools.jackson.databind.annotation.JsonDeserialize;
+import tools.jackson.databind.json.JsonMapper;
+
+@SuppressWarnings("nls")
+class CoalescingIPRangeListDeserializerTest {
+
+    private static final int RANDOM_COUNT = 10_000;
+
+    private JsonMapper mapper;
+
+    @BeforeEach
+    void setupMapper() {
+        mapper = JsonMapper.builder()
+                .findAndAddModules()
+                .build();
+    }
+
+    @Nested
+    @DisplayName("IPv4")
+    class IPv4 {
+
+        @Test
+        @DisplayName("sorted addresses")
+        void testSortedAddresses() {
+            String json = "{\"ipv4Ranges\":[\"192.168.0.0\",\"192.168.0.1\",3232235522,\"192.168.0.3\",\"192.168.0.3\","
+                    + "\"192.168.0.5\",\"192.168.0.6\",\"192.168.0.7\",\"192.168.0.8\",\"192.168.0.10\"]}";
+
+            List<IPv4Range> ranges = mapper.readValue(json, TestClass.class).ipv4Ranges;
+
+            assertEquals(List.of(
+                    IPv4Address.valueOf("192.168.0.0").inSubnet(30),
+                    IPv4Address.valueOf("192.168.0.5").to(IPv4Address.valueOf("192.168.0.8")),
+                    IPv4Address.valueOf("192.168.0.10").inSubnet(32)),
+                    ranges);
+            assertInstanceOf(IPv4Subnet.class, ranges.get(0));
+        }
+
+        @Test
+        @DisplayName("boundaries")
+        void testBoundaries() {
+            String json = "{\"ipv4Ranges\":[\"255.255.255.254\",\"255.255.255.255\",\"0.0.0.0\"]}";
+
+            List<IPv4Range> ranges = mapper.readValue(json, TestClass.class).ipv4Ranges;
+
+            assertEquals(List.of(IPv4Address.MAX_VALUE.inSubnet(31), IPv4Address.MIN_VALUE.inSubnet(32)), ranges);
+        }
+
+        @Test
+        @DisplayName("unsorted addresses")
+        void testUnsortedAddresses() {
+            String json = "{\"ipv4Ranges\":[\"10.0.0.2\",\"10.0.0.3\",\"10.0.0.1\",\"10.0.0.2\"]}";
+
+            List<IPv4Range> ranges = mapper.readValue(json, TestClass.class).ipv4Ranges;
+
+            assertEquals(List.of(
+                    IPv4Address.valueOf("10.0.0.2").inSubnet(31),
+                    IPv4Address.valueOf("10.0.0.1").to(IPv4Address.valueOf("10.0.0.2"))),
+                    ranges);
+        }
+
+        @Test
+        @DisplayName("random addresses")
+        void testRandomAddresses() {
+            Random random = new Random(0);
+            TreeSet<Long> addresses = new TreeSet<>();
+            for (int i = 0; i < RANDOM_COUNT; i++) {
+                // Use a limited range, to include runs of consecutive addresses
+                addresses.add(0xFFFF_FFFFL - random.nextInt(2 * RANDOM_COUNT));
+            }
+            CoalescingIPRangeListDeserializer.IPv4Coalescer coalescer = new CoalescingIPRangeListDeserializer.IPv4Coalescer();
+            addresses.forEach(address -> coalescer.add(address.intValue()));
+            List<IPv4Range> ranges = coalescer.finish();
+
+            List<Long> expanded = new ArrayList<>();
+            for (int i = 0; i < ranges.size(); i++) {
+                if (i > 0) {
+                    // Ranges are not adjacent, otherwise they would have been merged
+                    assertNotEquals(ranges.get(i - 1).to().toInt() + 1, ranges.get(i).from().toInt());
+                }
+                ranges.get(i).forEach(address -> expanded.add(Integer.toUnsignedLong(address.toInt())));
+            }
+            assertEquals(new ArrayList<>(addresses), expanded);
+        }
+
+        @Test
+        @DisplayName("deserialize invalid values")
+        void testDeserializeInvalidValues() {
+            assertInvalidValue("{\"ipv4Ranges\":[\"::1\"]}");
+            assertInvalidValue("{\"ipv4Ranges\":[4294967296]}");
+            assertInvalidValue("{\"ipv4Ranges\":[\"127.0.0.0/8\"]}");
+            assertThrows(JacksonException.class, () -> mapper.readValue("{\"ipv4Ranges\":\"127.0.0.1\"}", TestClass.class));
+        }
+    }
+
+    @Nested
+    @DisplayName("IPv6")
+    class IPv6 {
+
+        @Test
+        @DisplayName("sorted addresses")
+        void testSortedAddresses() {
+            String json = "{\"ipv6Ranges\":[\"::ffff:ffff:ffff:fffe\",\"::ffff:ffff:ffff:ffff\",\"::1:0:0:0:0\",\"::1:0:0:0:1\",18446744073709551618,"
+                    + "\"::1:0:0:0:5\"]}";
+
+            List<IPv6Range> ranges = mapper.readValue(json, TestClass.class).ipv6Ranges;
+
+            assertEquals(List.of(
+                    IPv6Address.valueOf("::ffff:ffff:ffff:fffe").to(IPv6Address.valueOf("::1:0:0:0:2")),
+                    IPv6Address.valueOf("::1:0:0:0:5").inSubnet(128)),
+                    ranges);
+        }
+
+        @Test
+        @DisplayName("boundaries")
+        void testBoundaries() {
+            String json = "{\"ipv6Ranges\":[\"ffff:ffff:ffff:ffff:ffff:ffff:ffff:fffe\",\"ffff:ffff:ffff:ffff:ffff:ffff:ffff:ffff\",\"::\"]}";
+
+            List<IPv6Range> ranges = mapper.readValue(json, TestClass.class).ipv6Ranges;
+
+            assertEquals(List.of(IPv6Address.MAX_VALUE.inSubnet(127), IPv6Address.MIN_VALUE.inSubnet(128)), ranges);
+        }
+
+        @Test
+        @DisplayName("deserialize invalid values")
+        void testDeserializeInvalidValues() {
+            assertInvalidValue("{\"ipv6Ranges\":[\"127.0.0.1\"]}");
+            assertInvalidValue("{\"ipv6Ranges\":[-1]}");
+            assertThrows(JacksonException.class, () -> mapper.readValue("{\"ipv6Ranges\":[{}]}", TestClass.class));
+        }
+    }
+
+    private void assertInvalidValue(String json) {
+        // Jackson wraps exceptions thrown while deserializing properties
+        DatabindException exception = assertThrows(DatabindException.class, () -> mapper.readValue(json, TestClass.class));
+        assertInstanceOf(IllegalArgumentException.class, exception.getCause());
+    }
+
+    static final class TestClass {
+
+        @JsonDeserialize(using = CoalescingIPRangeListDeserializer.IPv4.class)
+        public List<IPv4Range> ipv4Ranges;
+
+        @JsonDeserialize(using = CoalescingIPRangeListDeserializer.IPv6.class)
+        public List<IPv6Range> ipv6Ranges;
+    }
+}
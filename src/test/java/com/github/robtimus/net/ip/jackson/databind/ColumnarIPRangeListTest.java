@@ -0,0 +1,187 @@
+/*
+ * ColumnarIPRangeListTest.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.net.ip.jackson.databind;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.github.robtimus.net.ip.IPRange;
+import com.github.robtimus.net.ip.IPv4Address;
+import com.github.robtimus.net.ip.IPv4Subnet;
+import com.github.robtimus.net.ip.IPv6Address;
+import com.github.robtimus.net.ip.IPv6Subnet;
+import tools.jackson.databind.DatabindException;
+import tools.jackson.databind.annotation.JsonDeserialize;
+import tools.jackson.databind.annotation.JsonSerialize;
+import tools.jackson.databind.exc.MismatchedInputException;
+import tools.jackson.databind.exc.UnrecognizedPropertyException;
+import tools.jackson.databind.json.JsonMapper;
+
+@SuppressWarnings("nls")
+class ColumnarIPRangeListTest {
+
+    private static final int RANDOM_COUNT = 1_000;
+
+    private JsonMapper mapper;
+
+    @BeforeEach
+    void setupMapper() {
+        mapper = JsonMapper.builder()
+                .findAndAddModules()
+                .build();
+    }
+
+    @Nested
+    @DisplayName("serialize")
+    class Serialize {
+
+        @Test
+        @DisplayName("mixed ranges")
+        void testMixedRanges() {
+            TestClass value = new TestClass();
+            value.ranges = List.of(
+                    IPv4Subnet.valueOf("10.0.0.0/8"),
+                    IPv4Address.valueOf("192.168.0.1").to(IPv4Address.valueOf("192.168.0.10")),
+                    IPv6Address.LOCALHOST.asRange(),
+                    IPv6Address.valueOf("2001:db8::1").to(IPv6Address.valueOf("2001:db8::ff")));
+
+            assertEquals("{\"ranges\":{"
+                    + "\"from\":[\"10.0.0.0\",\"192.168.0.1\",\"::1\",\"2001:db8::1\"],"
+                    + "\"to\":[\"10.255.255.255\",\"192.168.0.10\",\"::1\",\"2001:db8::ff\"]}}",
+                    mapper.writeValueAsString(value));
+        }
+
+        @Test
+        @DisplayName("empty")
+        void testEmpty() {
+            TestClass value = new TestClass();
+            value.ranges = List.of();
+
+            assertEquals("{}", mapper.writeValueAsString(value));
+        }
+    }
+
+    @Nested
+    @DisplayName("deserialize")
+    class Deserialize {
+
+        @Test
+        @DisplayName("mixed ranges")
+        void testMixedRanges() {
+            String json = "{\"ranges\":{"
+                    + "\"from\":[\"10.0.0.0\",\"192.168.0.1\",\"::1\",\"2001:db8::1\"],"
+                    + "\"to\":[\"10.255.255.255\",\"192.168.0.10\",\"::1\",\"2001:db8::ff\"]}}";
+
+            List<IPRange<?>> ranges = mapper.readValue(json, TestClass.class).ranges;
+
+            assertEquals(List.of(
+                    IPv4Subnet.valueOf("10.0.0.0/8"),
+                    IPv4Address.valueOf("192.168.0.1").to(IPv4Address.valueOf("192.168.0.10")),
+                    IPv6Address.LOCALHOST.asRange(),
+                    IPv6Address.valueOf("2001:db8::1").to(IPv6Address.valueOf("2001:db8::ff"))),
+                    ranges);
+            assertInstanceOf(IPv4Subnet.class, ranges.get(0));
+            assertInstanceOf(IPv6Subnet.class, ranges.get(2));
+        }
+
+        @Test
+        @DisplayName("to before from")
+        void testToBeforeFrom() {
+            String json = "{\"ranges\":{\"to\":[\"10.0.0.5\",\"::ffff\"],\"from\":[\"10.0.0.1\",\"::\"]}}";
+
+            List<IPRange<?>> ranges = mapper.readValue(json, TestClass.class).ranges;
+
+            assertEquals(List.of(
+                    IPv4Address.valueOf("10.0.0.1").to(IPv4Address.valueOf("10.0.0.5")),
+                    IPv6Subnet.valueOf("::/112")),
+                    ranges);
+        }
+
+        @Test
+        @DisplayName("empty")
+        void testEmpty() {
+            List<IPRange<?>> ranges = mapper.readValue("{\"ranges\":{\"from\":[],\"to\":[]}}", TestClass.class).ranges;
+
+            assertEquals(List.of(), ranges);
+        }
+
+        @Test
+        @DisplayName("invalid input")
+        void testInvalidInput() {
+            assertInvalidInput(IllegalArgumentException.class, "{\"ranges\":{\"from\":[\"10.0.0.1\"],\"to\":[\"10.0.0.1\",\"10.0.0.2\"]}}");
+            assertInvalidInput(IllegalArgumentException.class, "{\"ranges\":{\"to\":[],\"from\":[\"10.0.0.1\"]}}");
+            assertInvalidInput(IllegalArgumentException.class, "{\"ranges\":{\"from\":[\"10.0.0.1\"],\"to\":[\"::1\"]}}");
+            assertInvalidInput(IllegalArgumentException.class, "{\"ranges\":{\"from\":[\"10.0.0.2\"],\"to\":[\"10.0.0.1\"]}}");
+            assertInvalidInput(IllegalArgumentException.class, "{\"ranges\":{\"from\":[\"10.0.0.256\"],\"to\":[\"10.0.0.1\"]}}");
+            assertInvalidInput(IllegalStateException.class, "{\"ranges\":{\"from\":[\"10.0.0.1\"]}}");
+            assertInvalidInput(IllegalStateException.class, "{\"ranges\":{\"to\":[\"10.0.0.1\"]}}");
+            assertInvalidInput(IllegalStateException.class, "{\"ranges\":{}}");
+            assertInvalidInput(IllegalStateException.class, "{\"ranges\":{\"from\":[],\"from\":[]}}");
+            assertInvalidInput(IllegalStateException.class, "{\"ranges\":{\"from\":[],\"to\":[],\"to\":[]}}");
+
+            assertThrows(UnrecognizedPropertyException.class, () -> mapper.readValue("{\"ranges\":{\"size\":[]}}", TestClass.class));
+            assertThrows(MismatchedInputException.class, () -> mapper.readValue("{\"ranges\":{\"from\":[1],\"to\":[1]}}", TestClass.class));
+            assertThrows(MismatchedInputException.class, () -> mapper.readValue("{\"ranges\":{\"from\":\"10.0.0.1\"}}", TestClass.class));
+            assertThrows(MismatchedInputException.class, () -> mapper.readValue("{\"ranges\":[\"10.0.0.1\"]}", TestClass.class));
+        }
+
+        private void assertInvalidInput(Class<? extends RuntimeException> expectedCause, String json) {
+            DatabindException exception = assertThrows(DatabindException.class, () -> mapper.readValue(json, TestClass.class));
+            assertInstanceOf(expectedCause, exception.getCause());
+        }
+    }
+
+    @Test
+    @DisplayName("round trip")
+    void testRoundTrip() {
+        Random random = new Random();
+        List<IPRange<?>> ranges = new ArrayList<>(RANDOM_COUNT);
+        for (int i = 0; i < RANDOM_COUNT; i++) {
+            if (random.nextBoolean()) {
+                IPv4Address from = IPv4Address.valueOf(random.nextInt());
+                IPv4Address to = IPv4Address.valueOf(random.nextInt());
+                ranges.add(from.compareTo(to) <= 0 ? from.to(to) : to.to(from));
+            } else {
+                IPv6Address address = IPv6Address.valueOf(random.nextLong(), random.nextLong());
+                ranges.add(address.inSubnet(random.nextInt(129)));
+            }
+        }
+        TestClass value = new TestClass();
+        value.ranges = ranges;
+
+        TestClass deserialized = mapper.readValue(mapper.writeValueAsString(value), TestClass.class);
+
+        assertEquals(ranges, deserialized.ranges);
+    }
+
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
+    static final class TestClass {
+
+        @JsonSerialize(using = ColumnarIPRangeListSerializer.class)
+        @JsonDeserialize(using = ColumnarIPRangeListDeserializer.class)
+        public List<IPRange<?>> ranges;
+    }
+}
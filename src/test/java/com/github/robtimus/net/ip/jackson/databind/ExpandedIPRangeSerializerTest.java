@@ -0,0 +1,186 @@
+/*
+ * ExpandedIPRangeSerializerTest.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.net.ip.jackson.databind;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.github.robtimus.net.ip.IPRange;
+import com.github.robtimus.net.ip.IPv4Address;
+import com.github.robtimus.net.ip.IPv4Subnet;
+import com.github.robtimus.net.ip.IPv6Address;
+import tools.jackson.databind.DatabindException;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.annotation.JsonSerialize;
+import tools.jackson.databind.json.JsonMapper;
+
+@SuppressWarnings("nls")
+class ExpandedIPRangeSerializerTest {
+
+    private JsonMapper mapper;
+
+    @BeforeEach
+    void setupMapper() {
+        mapper = JsonMapper.builder()
+                .findAndAddModules()
+                .build();
+    }
+
+    @Nested
+    @DisplayName("IPv4")
+    class IPv4 {
+
+        @Test
+        @DisplayName("subnet")
+        void testSubnet() {
+            TestClass value = new TestClass();
+            value.subnet = IPv4Subnet.valueOf("192.168.0.0/30");
+
+            assertEquals("{\"subnet\":[\"192.168.0.0\",\"192.168.0.1\",\"192.168.0.2\",\"192.168.0.3\"]}", mapper.writeValueAsString(value));
+        }
+
+        @Test
+        @DisplayName("range")
+        void testRange() {
+            TestClass value = new TestClass();
+            value.range = IPv4Address.valueOf("10.0.0.254").to(IPv4Address.valueOf("10.0.1.1"));
+
+            assertEquals("{\"range\":[\"10.0.0.254\",\"10.0.0.255\",\"10.0.1.0\",\"10.0.1.1\"]}", mapper.writeValueAsString(value));
+        }
+
+        @Test
+        @DisplayName("last addresses")
+        void testLastAddresses() {
+            TestClass value = new TestClass();
+            value.range = IPv4Address.MAX_VALUE.inSubnet(31);
+
+            assertEquals("{\"range\":[\"255.255.255.254\",\"255.255.255.255\"]}", mapper.writeValueAsString(value));
+        }
+
+        @Test
+        @DisplayName("maximum size")
+        void testMaximumSize() {
+            TestClass value = new TestClass();
+            value.subnet = IPv4Subnet.valueOf("10.0.0.0/16");
+
+            JsonNode node = mapper.readTree(mapper.writeValueAsString(value));
+
+            assertEquals(ExpandedIPRangeSerializer.DEFAULT_MAX_SIZE, node.get("subnet").size());
+            assertEquals("10.0.255.255", node.get("subnet").get(65_535).asString());
+
+            value.subnet = IPv4Subnet.valueOf("10.0.0.0/15");
+
+            assertTooLarge(value);
+        }
+    }
+
+    @Nested
+    @DisplayName("IPv6")
+    class IPv6 {
+
+        @Test
+        @DisplayName("range")
+        void testRange() {
+            TestClass value = new TestClass();
+            value.range = IPv6Address.valueOf("::ffff:ffff:ffff:fffe").to(IPv6Address.valueOf("::1:0:0:0:1"));
+
+            assertEquals("{\"range\":[\"::ffff:ffff:ffff:fffe\",\"::ffff:ffff:ffff:ffff\",\"::1:0:0:0:0\",\"::1:0:0:0:1\"]}",
+                    mapper.writeValueAsString(value));
+        }
+
+        @Test
+        @DisplayName("maximum size")
+        void testMaximumSize() {
+            TestClass value = new TestClass();
+            value.range = IPv6Address.valueOf("::ffff:ffff:ffff:8000").to(IPv6Address.valueOf("::1:0:0:0:7fff"));
+
+            JsonNode node = mapper.readTree(mapper.writeValueAsString(value));
+
+            assertEquals(ExpandedIPRangeSerializer.DEFAULT_MAX_SIZE, node.get("range").size());
+
+            value.range = IPv6Address.valueOf("::ffff:ffff:ffff:8000").to(IPv6Address.valueOf("::1:0:0:0:8000"));
+
+            assertTooLarge(value);
+
+            value.range = IPv6Address.MIN_VALUE.to(IPv6Address.MAX_VALUE);
+
+            assertTooLarge(value);
+        }
+    }
+
+    @Nested
+    @DisplayName("custom maximum size")
+    class CustomMaxSize {
+
+        @Test
+        @DisplayName("within maximum size")
+        void testWithinMaxSize() {
+            TestClass value = new TestClass();
+            value.limited = IPv4Subnet.valueOf("10.0.0.0/31");
+
+            assertEquals("{\"limited\":[\"10.0.0.0\",\"10.0.0.1\"]}", mapper.writeValueAsString(value));
+        }
+
+        @Test
+        @DisplayName("exceeding maximum size")
+        void testExceedingMaxSize() {
+            TestClass value = new TestClass();
+            value.limited = IPv4Address.valueOf("10.0.0.0").to(IPv4Address.valueOf("10.0.0.2"));
+
+            assertTooLarge(value);
+        }
+
+        @Test
+        @DisplayName("invalid maximum size")
+        void testInvalidMaxSize() {
+            assertThrows(IllegalArgumentException.class, () -> new ExpandedIPRangeSerializer(0));
+            assertThrows(IllegalArgumentException.class, () -> new ExpandedIPRangeSerializer(-1));
+        }
+    }
+
+    private void assertTooLarge(TestClass value) {
+        // Jackson wraps exceptions thrown while serializing properties
+        DatabindException exception = assertThrows(DatabindException.class, () -> mapper.writeValueAsString(value));
+        assertInstanceOf(IllegalArgumentException.class, exception.getCause());
+    }
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    static final class TestClass {
+
+        @JsonSerialize(using = ExpandedIPRangeSerializer.class)
+        public IPv4Subnet subnet;
+
+        @JsonSerialize(using = ExpandedIPRangeSerializer.class)
+        public IPRange<?> range;
+
+        @JsonSerialize(using = TwoAddressSerializer.class)
+        public IPRange<?> limited;
+    }
+
+    static final class TwoAddressSerializer extends ExpandedIPRangeSerializer {
+
+        public TwoAddressSerializer() {
+            super(2);
+        }
+    }
+}
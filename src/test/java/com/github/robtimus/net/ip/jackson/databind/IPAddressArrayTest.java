@@ -0,0 +1,203 @@
+/*
+ * IPAddressArrayTest.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.net.ip.jackson.databind;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import com.github.robtimus.net.ip.IPv4Address;
+import com.github.robtimus.net.ip.IPv6Address;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.json.JsonMapper;
+
+@SuppressWarnings("nls")
+class IPAddressArrayTest {
+
+    private JsonMapper mapper;
+
+    @BeforeEach
+    void setupMapper() {
+        mapper = JsonMapper.builder()
+                .findAndAddModules()
+                .build();
+    }
+
+    @Nested
+    @DisplayName("IPv4AddressArray")
+    class IPv4 {
+
+        @Test
+        @DisplayName("accessors")
+        void testAccessors() {
+            IPv4Address address = IPv4Address.valueOf("192.168.0.1");
+            IPv4AddressArray array = IPv4AddressArray.copyOf(List.of(IPv4Address.LOCALHOST, address));
+
+            assertEquals(2, array.size());
+            assertEquals(IPv4Address.LOCALHOST.toInt(), array.getInt(0));
+            assertEquals(address, array.get(1));
+            assertArrayEquals(new int[] { IPv4Address.LOCALHOST.toInt(), address.toInt() }, array.toIntArray());
+            assertEquals(List.of(IPv4Address.LOCALHOST, address), array.asList());
+            assertEquals("[127.0.0.1, 192.168.0.1]", array.toString());
+
+            assertThrows(IndexOutOfBoundsException.class, () -> array.get(2));
+            assertThrows(IndexOutOfBoundsException.class, () -> array.getInt(-1));
+        }
+
+        @Test
+        @DisplayName("immutability")
+        void testImmutability() {
+            int[] addresses = { 1, 2 };
+            IPv4AddressArray array = IPv4AddressArray.of(addresses);
+
+            addresses[0] = 3;
+            array.toIntArray()[1] = 3;
+
+            assertEquals(IPv4AddressArray.of(1, 2), array);
+            assertNotEquals(IPv4AddressArray.of(2, 1), array);
+            assertEquals(IPv4AddressArray.of(1, 2).hashCode(), array.hashCode());
+            assertThrows(UnsupportedOperationException.class, () -> array.asList().set(0, IPv4Address.LOCALHOST));
+        }
+
+        @Test
+        @DisplayName("serialize")
+        void testSerialize() {
+            IPv4AddressArray array = IPv4AddressArray.copyOf(List.of(IPv4Address.LOCALHOST, IPv4Address.MIN_VALUE, IPv4Address.MAX_VALUE));
+
+            assertEquals("[\"127.0.0.1\",\"0.0.0.0\",\"255.255.255.255\"]", mapper.writeValueAsString(array));
+        }
+
+        @Test
+        @DisplayName("deserialize strings and numbers")
+        void testDeserialize() {
+            IPv4AddressArray array = mapper.readValue("[\"127.0.0.1\", 3232235521, 0, 4294967295]", IPv4AddressArray.class);
+
+            assertThat(array.asList(), contains(IPv4Address.LOCALHOST, IPv4Address.valueOf("192.168.0.1"), IPv4Address.MIN_VALUE,
+                    IPv4Address.MAX_VALUE));
+        }
+
+        @Test
+        @DisplayName("round trip")
+        void testRoundTrip() {
+            List<IPv4Address> addresses = IntStream.range(0, 1000)
+                    .mapToObj(i -> IPv4Address.valueOf(i * 4_294_967))
+                    .collect(Collectors.toList());
+            IPv4AddressArray array = IPv4AddressArray.copyOf(addresses);
+
+            String json = mapper.writeValueAsString(array);
+            assertEquals(mapper.writeValueAsString(addresses), json);
+            assertEquals(array, mapper.readValue(json, IPv4AddressArray.class));
+        }
+
+        @Test
+        @DisplayName("deserialize invalid values")
+        void testDeserializeInvalidValues() {
+            assertThrows(IllegalArgumentException.class, () -> mapper.readValue("[\"::1\"]", IPv4AddressArray.class));
+            assertThrows(IllegalArgumentException.class, () -> mapper.readValue("[4294967296]", IPv4AddressArray.class));
+            assertThrows(IllegalArgumentException.class, () -> mapper.readValue("[-1]", IPv4AddressArray.class));
+            assertThrows(JacksonException.class, () -> mapper.readValue("[true]", IPv4AddressArray.class));
+            assertThrows(JacksonException.class, () -> mapper.readValue("\"127.0.0.1\"", IPv4AddressArray.class));
+        }
+    }
+
+    @Nested
+    @DisplayName("IPv6AddressArray")
+    class IPv6 {
+
+        @Test
+        @DisplayName("accessors")
+        void testAccessors() {
+            IPv6Address address = IPv6Address.valueOf("2001:db8::1");
+            IPv6AddressArray array = IPv6AddressArray.copyOf(List.of(IPv6Address.LOCALHOST, address));
+
+            assertEquals(2, array.size());
+            assertEquals(IPv6Address.LOCALHOST.highAddress(), array.getHighAddress(0));
+            assertEquals(IPv6Address.LOCALHOST.lowAddress(), array.getLowAddress(0));
+            assertEquals(address, array.get(1));
+            assertArrayEquals(new long[] { 0, 1, address.highAddress(), address.lowAddress() }, array.toLongArray());
+            assertEquals(List.of(IPv6Address.LOCALHOST, address), array.asList());
+            assertEquals("[::1, 2001:db8::1]", array.toString());
+
+            assertThrows(IndexOutOfBoundsException.class, () -> array.get(2));
+            assertThrows(IndexOutOfBoundsException.class, () -> array.getHighAddress(-1));
+        }
+
+        @Test
+        @DisplayName("of with odd length")
+        void testOfWithOddLength() {
+            assertThrows(IllegalArgumentException.class, () -> IPv6AddressArray.of(0, 1, 2));
+        }
+
+        @Test
+        @DisplayName("serialize")
+        void testSerialize() {
+            IPv6AddressArray array = IPv6AddressArray.copyOf(List.of(IPv6Address.LOCALHOST, IPv6Address.MIN_VALUE, IPv6Address.MAX_VALUE));
+
+            assertEquals("[\"::1\",\"::\",\"ffff:ffff:ffff:ffff:ffff:ffff:ffff:ffff\"]", mapper.writeValueAsString(array));
+        }
+
+        @Test
+        @DisplayName("deserialize strings and numbers")
+        void testDeserialize() {
+            IPv6AddressArray array = mapper.readValue("[\"::1\", \"::ffff:192.168.0.1\", 1, 340282366920938463463374607431768211455]",
+                    IPv6AddressArray.class);
+
+            assertThat(array.asList(), contains(IPv6Address.LOCALHOST, IPv6Address.valueOf("::ffff:192.168.0.1"), IPv6Address.LOCALHOST,
+                    IPv6Address.MAX_VALUE));
+        }
+
+        @Test
+        @DisplayName("deserialize invalid values")
+        void testDeserializeInvalidValues() {
+            assertThrows(IllegalArgumentException.class, () -> mapper.readValue("[\"127.0.0.1\"]", IPv6AddressArray.class));
+            assertThrows(IllegalArgumentException.class, () -> mapper.readValue("[340282366920938463463374607431768211456]", IPv6AddressArray.class));
+            assertThrows(IllegalArgumentException.class, () -> mapper.readValue("[-1]", IPv6AddressArray.class));
+            assertThrows(JacksonException.class, () -> mapper.readValue("[{}]", IPv6AddressArray.class));
+        }
+    }
+
+    @Test
+    @DisplayName("as property")
+    void testAsProperty() {
+        TestClass original = new TestClass();
+        original.ipv4Addresses = IPv4AddressArray.of(IPv4Address.LOCALHOST.toInt());
+        original.ipv6Addresses = IPv6AddressArray.of(0, 1);
+
+        String json = mapper.writeValueAsString(original);
+        assertEquals("{\"ipv4Addresses\":[\"127.0.0.1\"],\"ipv6Addresses\":[\"::1\"]}", json);
+
+        TestClass deserialized = mapper.readValue(json, TestClass.class);
+        assertEquals(original.ipv4Addresses, deserialized.ipv4Addresses);
+        assertEquals(original.ipv6Addresses, deserialized.ipv6Addresses);
+    }
+
+    static final class TestClass {
+
+        public IPv4AddressArray ipv4Addresses;
+        public IPv6AddressArray ipv6Addresses;
+    }
+}
@@ -0,0 +1,284 @@
+/*
+ * IPAddressFilterTest.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.net.ip.jackson.databind;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import com.github.robtimus.net.ip.IPv4Address;
+import com.github.robtimus.net.ip.IPv6Address;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.exc.UnrecognizedPropertyException;
+import tools.jackson.databind.json.JsonMapper;
+
+@SuppressWarnings("nls")
+class IPAddressFilterTest {
+
+    // More than the initial capacity, so deserialized filters have several layers
+    private static final int RANDOM_COUNT = 50_000;
+
+    private static final int TRIAL_COUNT = 100_000;
+
+    private JsonMapper mapper;
+
+    @BeforeEach
+    void setupMapper() {
+        mapper = JsonMapper.builder()
+                .findAndAddModules()
+                .build();
+    }
+
+    @Nested
+    @DisplayName("IPv4AddressFilter")
+    class IPv4 {
+
+        @Test
+        @DisplayName("accessors")
+        void testAccessors() {
+            IPv4Address address = IPv4Address.valueOf("192.168.0.1");
+            IPv4AddressFilter filter = IPv4AddressFilter.copyOf(List.of(IPv4Address.LOCALHOST, address, address));
+
+            assertEquals(3, filter.addressCount());
+            assertEquals(0.01, filter.falsePositiveProbability());
+            assertTrue(filter.mightContain(IPv4Address.LOCALHOST));
+            assertTrue(filter.mightContain(address.toInt()));
+            assertFalse(filter.mightContain(IPv6Address.LOCALHOST));
+            assertEquals("IPv4AddressFilter[addressCount=3,bitCount=" + filter.bitCount() + "]", filter.toString());
+
+            IPv4AddressFilter empty = IPv4AddressFilter.of();
+            assertEquals(0, empty.addressCount());
+            assertEquals(0, empty.bitCount());
+            assertFalse(empty.mightContain(IPv4Address.LOCALHOST));
+        }
+
+        @Test
+        @DisplayName("invalid false positive probability")
+        void testInvalidFalsePositiveProbability() {
+            List<IPv4Address> addresses = List.of(IPv4Address.LOCALHOST);
+
+            assertThrows(IllegalArgumentException.class, () -> IPv4AddressFilter.copyOf(addresses, 0));
+            assertThrows(IllegalArgumentException.class, () -> IPv4AddressFilter.copyOf(addresses, 1));
+            assertThrows(IllegalArgumentException.class, () -> IPv4AddressFilter.copyOf(addresses, Double.NaN));
+        }
+
+        @Test
+        @DisplayName("random addresses")
+        void testRandomAddresses() {
+            Random random = new Random(0);
+            Set<Integer> addresses = new HashSet<>();
+            StringBuilder json = new StringBuilder("[");
+            for (int i = 0; i < RANDOM_COUNT; i++) {
+                int address = random.nextInt();
+                addresses.add(address);
+                json.append(i == 0 ? "" : ",").append(Integer.toUnsignedString(address));
+            }
+            json.append("]");
+
+            IPv4AddressFilter filter = mapper.readValue(json.toString(), IPv4AddressFilter.class);
+
+            assertEquals(RANDOM_COUNT, filter.addressCount());
+            assertThat(filter.filter().layers().length, greaterThan(1));
+            for (int address : addresses) {
+                assertTrue(filter.mightContain(address));
+            }
+            int falsePositives = 0;
+            for (int i = 0; i < TRIAL_COUNT; i++) {
+                int address = random.nextInt();
+                if (!addresses.contains(address) && filter.mightContain(address)) {
+                    falsePositives++;
+                }
+            }
+            assertThat((double) falsePositives / TRIAL_COUNT, lessThan(filter.falsePositiveProbability()));
+        }
+
+        @Test
+        @DisplayName("false positive probability with known size")
+        void testFalsePositiveProbabilityWithKnownSize() {
+            Random random = new Random(0);
+            int[] addresses = random.ints(RANDOM_COUNT).toArray();
+            IPv4AddressFilter filter = IPv4AddressFilter.of(addresses);
+
+            assertEquals(1, filter.filter().layers().length);
+            // About 9.6 bits per address for 1%
+            assertThat(filter.bitCount(), lessThan(10L * RANDOM_COUNT));
+            int falsePositives = 0;
+            for (int i = 0; i < TRIAL_COUNT; i++) {
+                if (filter.mightContain(random.nextInt())) {
+                    falsePositives++;
+                }
+            }
+            assertThat((double) falsePositives / TRIAL_COUNT, lessThan(filter.falsePositiveProbability() * 1.2));
+        }
+
+        @Test
+        @DisplayName("equals and hashCode")
+        void testEqualsAndHashCode() {
+            IPv4AddressFilter filter = IPv4AddressFilter.of(1, 2, 3);
+
+            assertEquals(IPv4AddressFilter.of(1, 2, 3), filter);
+            assertEquals(IPv4AddressFilter.of(1, 2, 3).hashCode(), filter.hashCode());
+            assertNotEquals(IPv4AddressFilter.of(1, 2, 4), filter);
+            assertNotEquals(IPv4AddressFilter.of(1, 2), filter);
+        }
+
+        @Test
+        @DisplayName("round trip")
+        void testRoundTrip() {
+            IPv4AddressFilter filter = mapper.readValue("[\"127.0.0.1\", 3232235521]", IPv4AddressFilter.class);
+
+            String json = mapper.writeValueAsString(filter);
+            assertTrue(json.startsWith("{\"falsePositiveProbability\":0.01,\"addressCount\":2,\"layers\":[{\"hashCount\":"), json);
+
+            IPv4AddressFilter deserialized = mapper.readValue(json, IPv4AddressFilter.class);
+            assertEquals(filter, deserialized);
+            assertTrue(deserialized.mightContain(IPv4Address.LOCALHOST));
+            assertTrue(deserialized.mightContain(IPv4Address.valueOf("192.168.0.1")));
+        }
+
+        @Test
+        @DisplayName("deserialize invalid values")
+        void testDeserializeInvalidValues() {
+            assertThrows(IllegalArgumentException.class, () -> mapper.readValue("[\"::1\"]", IPv4AddressFilter.class));
+            assertThrows(IllegalArgumentException.class, () -> mapper.readValue("[4294967296]", IPv4AddressFilter.class));
+            assertThrows(JacksonException.class, () -> mapper.readValue("[true]", IPv4AddressFilter.class));
+            assertThrows(JacksonException.class, () -> mapper.readValue("\"127.0.0.1\"", IPv4AddressFilter.class));
+
+            assertThrows(IllegalStateException.class, () -> mapper.readValue("{\"addressCount\":0,\"layers\":[]}", IPv4AddressFilter.class));
+            assertThrows(IllegalArgumentException.class,
+                    () -> mapper.readValue("{\"falsePositiveProbability\":2,\"addressCount\":0,\"layers\":[]}", IPv4AddressFilter.class));
+            assertThrows(IllegalArgumentException.class, () -> mapper.readValue(
+                    "{\"falsePositiveProbability\":0.1,\"addressCount\":0,\"layers\":[{\"hashCount\":0,\"bits\":\"AA==\"}]}",
+                    IPv4AddressFilter.class));
+            assertThrows(IllegalArgumentException.class, () -> mapper.readValue(
+                    "{\"falsePositiveProbability\":0.1,\"addressCount\":0,\"layers\":[{\"hashCount\":65,\"bits\":\"AA==\"}]}",
+                    IPv4AddressFilter.class));
+            assertThrows(JacksonException.class, () -> mapper.readValue(
+                    "{\"falsePositiveProbability\":0.1,\"addressCount\":0,\"layers\":[{\"hashCount\":1,\"bits\":1}]}",
+                    IPv4AddressFilter.class));
+            assertThrows(UnrecognizedPropertyException.class, () -> mapper.readValue("{\"bits\":\"AA==\"}", IPv4AddressFilter.class));
+        }
+    }
+
+    @Nested
+    @DisplayName("IPv6AddressFilter")
+    class IPv6 {
+
+        @Test
+        @DisplayName("accessors")
+        void testAccessors() {
+            IPv6Address address = IPv6Address.valueOf("2001:db8::1");
+            IPv6AddressFilter filter = IPv6AddressFilter.copyOf(List.of(IPv6Address.LOCALHOST, address), 0.001);
+
+            assertEquals(2, filter.addressCount());
+            assertEquals(0.001, filter.falsePositiveProbability());
+            assertTrue(filter.mightContain(IPv6Address.LOCALHOST));
+            assertTrue(filter.mightContain(address.highAddress(), address.lowAddress()));
+            assertFalse(filter.mightContain(IPv4Address.LOCALHOST));
+            assertEquals("IPv6AddressFilter[addressCount=2,bitCount=" + filter.bitCount() + "]", filter.toString());
+        }
+
+        @Test
+        @DisplayName("of with odd length")
+        void testOfWithOddLength() {
+            assertThrows(IllegalArgumentException.class, () -> IPv6AddressFilter.of(0, 1, 2));
+        }
+
+        @Test
+        @DisplayName("random addresses")
+        void testRandomAddresses() {
+            Random random = new Random(0);
+            Set<IPv6Address> addresses = new HashSet<>();
+            StringBuilder json = new StringBuilder("[");
+            for (int i = 0; i < RANDOM_COUNT; i++) {
+                // Use addresses that only differ in their low address, which is common for block lists
+                IPv6Address address = IPv6Address.valueOf(0x2001_0db8_0000_0000L, random.nextLong());
+                addresses.add(address);
+                json.append(i == 0 ? "\"" : ",\"").append(address).append("\"");
+            }
+            json.append("]");
+
+            IPv6AddressFilter filter = mapper.readValue(json.toString(), IPv6AddressFilter.class);
+
+            assertEquals(RANDOM_COUNT, filter.addressCount());
+            for (IPv6Address address : addresses) {
+                assertTrue(filter.mightContain(address));
+            }
+            int falsePositives = 0;
+            for (int i = 0; i < TRIAL_COUNT; i++) {
+                IPv6Address address = IPv6Address.valueOf(0x2001_0db8_0000_0000L, random.nextLong());
+                if (!addresses.contains(address) && filter.mightContain(address)) {
+                    falsePositives++;
+                }
+            }
+            assertThat((double) falsePositives / TRIAL_COUNT, lessThan(filter.falsePositiveProbability()));
+        }
+
+        @Test
+        @DisplayName("round trip")
+        void testRoundTrip() {
+            IPv6AddressFilter filter = IPv6AddressFilter.of(0, 1, 0x2001_0db8_0000_0000L, 1);
+
+            String json = mapper.writeValueAsString(filter);
+            IPv6AddressFilter deserialized = mapper.readValue(json, IPv6AddressFilter.class);
+
+            assertEquals(filter, deserialized);
+            assertTrue(deserialized.mightContain(IPv6Address.LOCALHOST));
+        }
+
+        @Test
+        @DisplayName("deserialize invalid values")
+        void testDeserializeInvalidValues() {
+            assertThrows(IllegalArgumentException.class, () -> mapper.readValue("[\"127.0.0.1\"]", IPv6AddressFilter.class));
+            assertThrows(IllegalArgumentException.class, () -> mapper.readValue("[-1]", IPv6AddressFilter.class));
+            assertThrows(JacksonException.class, () -> mapper.readValue("[{}]", IPv6AddressFilter.class));
+        }
+    }
+
+    @Test
+    @DisplayName("as property")
+    void testAsProperty() {
+        TestClass original = new TestClass();
+        original.ipv4Addresses = IPv4AddressFilter.of(IPv4Address.LOCALHOST.toInt());
+        original.ipv6Addresses = IPv6AddressFilter.of(0, 1);
+
+        String json = mapper.writeValueAsString(original);
+
+        TestClass deserialized = mapper.readValue(json, TestClass.class);
+        assertEquals(original.ipv4Addresses, deserialized.ipv4Addresses);
+        assertEquals(original.ipv6Addresses, deserialized.ipv6Addresses);
+    }
+
+    static final class TestClass {
+
+        public IPv4AddressFilter ipv4Addresses;
+        public IPv6AddressFilter ipv6Addresses;
+    }
+}
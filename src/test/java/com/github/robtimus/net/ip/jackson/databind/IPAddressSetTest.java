@@ -0,0 +1,258 @@
+/*
+ * IPAddressSetTest.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.net.ip.jackson.databind;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import com.github.robtimus.net.ip.IPv4Address;
+import com.github.robtimus.net.ip.IPv6Address;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.json.JsonMapper;
+
+@SuppressWarnings("nls")
+class IPAddressSetTest {
+
+    private static final int RANDOM_COUNT = 10_000;
+
+    private JsonMapper mapper;
+
+    @BeforeEach
+    void setupMapper() {
+        mapper = JsonMapper.builder()
+                .findAndAddModules()
+                .build();
+    }
+
+    @Nested
+    @DisplayName("IPv4AddressSet")
+    class IPv4 {
+
+        @Test
+        @DisplayName("accessors")
+        void testAccessors() {
+            IPv4Address address = IPv4Address.valueOf("192.168.0.1");
+            IPv4AddressSet set = IPv4AddressSet.copyOf(List.of(IPv4Address.LOCALHOST, address, IPv4Address.MIN_VALUE, address));
+
+            assertEquals(3, set.size());
+            assertFalse(set.isEmpty());
+            assertTrue(set.contains(IPv4Address.LOCALHOST.toInt()));
+            assertTrue(set.contains(address));
+            assertTrue(set.contains(IPv4Address.MIN_VALUE));
+            assertFalse(set.contains(IPv4Address.MAX_VALUE));
+            assertFalse(set.contains(IPv6Address.LOCALHOST));
+            assertThat(set.asSet(), containsInAnyOrder(IPv4Address.LOCALHOST, address, IPv4Address.MIN_VALUE));
+            assertEquals(Set.of(IPv4Address.LOCALHOST, address, IPv4Address.MIN_VALUE), set.asSet());
+
+            assertTrue(IPv4AddressSet.of().isEmpty());
+            assertEquals("[]", IPv4AddressSet.of().toString());
+            assertEquals("[0.0.0.0]", IPv4AddressSet.of(0).toString());
+        }
+
+        @Test
+        @DisplayName("random addresses")
+        void testRandomAddresses() {
+            Random random = new Random(0);
+            int[] addresses = random.ints(RANDOM_COUNT).toArray();
+            IPv4AddressSet set = IPv4AddressSet.of(addresses);
+
+            Set<Integer> expected = new HashSet<>();
+            for (int address : addresses) {
+                expected.add(address);
+                assertTrue(set.contains(address));
+            }
+            assertEquals(expected.size(), set.size());
+            for (int i = 0; i < RANDOM_COUNT; i++) {
+                int address = random.nextInt();
+                assertEquals(expected.contains(address), set.contains(address));
+            }
+        }
+
+        @Test
+        @DisplayName("maximum size")
+        void testMaximumSize() {
+            // A table of 8 slots can contain 4 addresses, and 0.0.0.0 is stored separately
+            IPv4AddressSet set = IPv4AddressSet.build(new int[] { 1, 2, 3, 4, 1, 2, 3, 4, 0 }, 9, 8);
+
+            assertEquals(5, set.size());
+            assertTrue(set.contains(4));
+
+            int[] addresses = { 1, 2, 3, 4, 5, 6, 7, 8, 9 };
+            assertThrows(IllegalArgumentException.class, () -> IPv4AddressSet.build(addresses, addresses.length, 8));
+        }
+
+        @Test
+        @DisplayName("equals and hashCode")
+        void testEqualsAndHashCode() {
+            IPv4AddressSet set = IPv4AddressSet.of(1, 2, 3);
+
+            assertEquals(IPv4AddressSet.of(3, 2, 1, 2), set);
+            assertEquals(IPv4AddressSet.of(3, 2, 1).hashCode(), set.hashCode());
+            assertNotEquals(IPv4AddressSet.of(1, 2), set);
+            assertNotEquals(IPv4AddressSet.of(0, 1, 2), set);
+            assertThrows(UnsupportedOperationException.class, () -> set.asSet().add(IPv4Address.LOCALHOST));
+        }
+
+        @Test
+        @DisplayName("round trip")
+        void testRoundTrip() {
+            IPv4AddressSet set = IPv4AddressSet.copyOf(List.of(IPv4Address.LOCALHOST, IPv4Address.MIN_VALUE, IPv4Address.MAX_VALUE));
+
+            String json = mapper.writeValueAsString(set);
+            assertThat(List.of(mapper.readValue(json, String[].class)), containsInAnyOrder("127.0.0.1", "0.0.0.0", "255.255.255.255"));
+            assertEquals(set, mapper.readValue(json, IPv4AddressSet.class));
+        }
+
+        @Test
+        @DisplayName("deserialize strings and numbers")
+        void testDeserialize() {
+            IPv4AddressSet set = mapper.readValue("[\"127.0.0.1\", 3232235521, 2130706433, 0]", IPv4AddressSet.class);
+
+            assertEquals(IPv4AddressSet.copyOf(List.of(IPv4Address.LOCALHOST, IPv4Address.valueOf("192.168.0.1"), IPv4Address.MIN_VALUE)), set);
+        }
+
+        @Test
+        @DisplayName("deserialize invalid values")
+        void testDeserializeInvalidValues() {
+            assertThrows(IllegalArgumentException.class, () -> mapper.readValue("[\"::1\"]", IPv4AddressSet.class));
+            assertThrows(IllegalArgumentException.class, () -> mapper.readValue("[4294967296]", IPv4AddressSet.class));
+            assertThrows(JacksonException.class, () -> mapper.readValue("[true]", IPv4AddressSet.class));
+            assertThrows(JacksonException.class, () -> mapper.readValue("\"127.0.0.1\"", IPv4AddressSet.class));
+        }
+    }
+
+    @Nested
+    @DisplayName("IPv6AddressSet")
+    class IPv6 {
+
+        @Test
+        @DisplayName("accessors")
+        void testAccessors() {
+            IPv6Address address = IPv6Address.valueOf("2001:db8::1");
+            IPv6AddressSet set = IPv6AddressSet.copyOf(List.of(IPv6Address.LOCALHOST, address, IPv6Address.MIN_VALUE, address));
+
+            assertEquals(3, set.size());
+            assertFalse(set.isEmpty());
+            assertTrue(set.contains(0, 1));
+            assertTrue(set.contains(address));
+            assertTrue(set.contains(IPv6Address.MIN_VALUE));
+            assertFalse(set.contains(IPv6Address.MAX_VALUE));
+            assertFalse(set.contains(IPv4Address.LOCALHOST));
+            assertEquals(Set.of(IPv6Address.LOCALHOST, address, IPv6Address.MIN_VALUE), set.asSet());
+
+            assertTrue(IPv6AddressSet.of().isEmpty());
+            assertEquals("[::]", IPv6AddressSet.of(0, 0).toString());
+        }
+
+        @Test
+        @DisplayName("of with odd length")
+        void testOfWithOddLength() {
+            assertThrows(IllegalArgumentException.class, () -> IPv6AddressSet.of(0, 1, 2));
+        }
+
+        @Test
+        @DisplayName("random addresses")
+        void testRandomAddresses() {
+            Random random = new Random(0);
+            long[] addresses = random.longs(2 * RANDOM_COUNT).toArray();
+            IPv6AddressSet set = IPv6AddressSet.of(addresses);
+
+            assertEquals(RANDOM_COUNT, set.size());
+            for (int i = 0; i < addresses.length; i += 2) {
+                assertTrue(set.contains(addresses[i], addresses[i + 1]));
+                // same high address, different low address
+                assertFalse(set.contains(addresses[i], ~addresses[i + 1]));
+            }
+        }
+
+        @Test
+        @DisplayName("maximum size")
+        void testMaximumSize() {
+            // A table of 8 slots can contain 4 addresses, and :: is stored separately
+            IPv6AddressSet set = IPv6AddressSet.build(new long[] { 0, 1, 0, 2, 0, 3, 0, 4, 0, 1, 0, 2, 0, 3, 0, 4, 0, 0 }, 9, 8);
+
+            assertEquals(5, set.size());
+            assertTrue(set.contains(0, 4));
+
+            long[] addresses = { 0, 1, 0, 2, 0, 3, 0, 4, 0, 5, 0, 6, 0, 7, 0, 8, 0, 9 };
+            assertThrows(IllegalArgumentException.class, () -> IPv6AddressSet.build(addresses, addresses.length / 2, 8));
+        }
+
+        @Test
+        @DisplayName("equals and hashCode")
+        void testEqualsAndHashCode() {
+            IPv6AddressSet set = IPv6AddressSet.of(0, 1, 0, 2);
+
+            assertEquals(IPv6AddressSet.of(0, 2, 0, 1, 0, 1), set);
+            assertEquals(IPv6AddressSet.of(0, 2, 0, 1).hashCode(), set.hashCode());
+            assertNotEquals(IPv6AddressSet.of(0, 1), set);
+            assertNotEquals(IPv6AddressSet.of(0, 1, 0, 2, 0, 0), set);
+        }
+
+        @Test
+        @DisplayName("round trip")
+        void testRoundTrip() {
+            IPv6AddressSet set = IPv6AddressSet.copyOf(List.of(IPv6Address.LOCALHOST, IPv6Address.MIN_VALUE, IPv6Address.MAX_VALUE));
+
+            String json = mapper.writeValueAsString(set);
+            assertThat(List.of(mapper.readValue(json, String[].class)), containsInAnyOrder("::1", "::", "ffff:ffff:ffff:ffff:ffff:ffff:ffff:ffff"));
+            assertEquals(set, mapper.readValue(json, IPv6AddressSet.class));
+        }
+
+        @Test
+        @DisplayName("deserialize invalid values")
+        void testDeserializeInvalidValues() {
+            assertThrows(IllegalArgumentException.class, () -> mapper.readValue("[\"127.0.0.1\"]", IPv6AddressSet.class));
+            assertThrows(IllegalArgumentException.class, () -> mapper.readValue("[-1]", IPv6AddressSet.class));
+            assertThrows(JacksonException.class, () -> mapper.readValue("[{}]", IPv6AddressSet.class));
+        }
+    }
+
+    @Test
+    @DisplayName("as property")
+    void testAsProperty() {
+        TestClass original = new TestClass();
+        original.ipv4Addresses = IPv4AddressSet.of(IPv4Address.LOCALHOST.toInt());
+        original.ipv6Addresses = IPv6AddressSet.of(0, 1);
+
+        String json = mapper.writeValueAsString(original);
+        assertEquals("{\"ipv4Addresses\":[\"127.0.0.1\"],\"ipv6Addresses\":[\"::1\"]}", json);
+
+        TestClass deserialized = mapper.readValue(json, TestClass.class);
+        assertEquals(original.ipv4Addresses, deserialized.ipv4Addresses);
+        assertEquals(original.ipv6Addresses, deserialized.ipv6Addresses);
+    }
+
+    static final class TestClass {
+
+        public IPv4AddressSet ipv4Addresses;
+        public IPv6AddressSet ipv6Addresses;
+    }
+}
@@ -0,0 +1,337 @@
+/*
+ * IPAddressTableTest.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.net.ip.jackson.databind;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.github.robtimus.net.ip.IPv4Address;
+import com.github.robtimus.net.ip.IPv6Address;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.json.JsonMapper;
+
+@SuppressWarnings("nls")
+class IPAddressTableTest {
+
+    private static final int RANDOM_COUNT = 10_000;
+
+    // Small chunks, so the random tests sort and merge many chunks
+    private static final int SMALL_CHUNK_SHIFT = 8;
+
+    private JsonMapper mapper;
+
+    @BeforeEach
+    void setupMapper() {
+        mapper = JsonMapper.builder()
+                .findAndAddModules()
+                .build();
+    }
+
+    @Nested
+    @DisplayName("IPv4AddressTable")
+    class IPv4 {
+
+        @Test
+        @DisplayName("accessors")
+        void testAccessors() {
+            IPv4Address address = IPv4Address.valueOf("192.168.0.1");
+            IPv4AddressTable table = IPv4AddressTable.copyOf(List.of(IPv4Address.MAX_VALUE, address, IPv4Address.LOCALHOST, address));
+
+            assertEquals(3, table.size());
+            assertFalse(table.isEmpty());
+            assertEquals(IPv4Address.LOCALHOST, table.get(0));
+            assertEquals(address.toInt(), table.getInt(1));
+            assertEquals(IPv4Address.MAX_VALUE, table.get(2));
+            assertThrows(IndexOutOfBoundsException.class, () -> table.get(3));
+            assertEquals(1, table.indexOf(address.toInt()));
+            assertEquals(-1, table.indexOf(0));
+            assertEquals(-3, table.indexOf(IPv4Address.valueOf("192.168.0.2").toInt()));
+            assertTrue(table.contains(IPv4Address.LOCALHOST.toInt()));
+            assertTrue(table.contains(address));
+            assertFalse(table.contains(IPv4Address.MIN_VALUE));
+            assertFalse(table.contains(IPv6Address.LOCALHOST));
+
+            assertTrue(IPv4AddressTable.of().isEmpty());
+            assertEquals(-1, IPv4AddressTable.of().indexOf(0));
+            assertEquals("IPv4AddressTable[size=3]", table.toString());
+        }
+
+        @Test
+        @DisplayName("random addresses")
+        void testRandomAddresses() {
+            Random random = new Random(0);
+            IPv4AddressTable.Accumulator accumulator = new IPv4AddressTable.Accumulator(SMALL_CHUNK_SHIFT);
+            TreeSet<Long> expected = new TreeSet<>();
+            for (int i = 0; i < RANDOM_COUNT; i++) {
+                // Use a limited range, to include duplicates in different chunks
+                int address = random.nextInt(RANDOM_COUNT) * 0x10001;
+                accumulator.add(address);
+                expected.add(Integer.toUnsignedLong(address));
+            }
+            IPv4AddressTable table = accumulator.finish();
+
+            assertEquals(expected.size(), table.size());
+            List<Long> sorted = new ArrayList<>(expected);
+            for (int i = 0; i < sorted.size(); i++) {
+                assertEquals(sorted.get(i).intValue(), table.getInt(i));
+            }
+            for (int i = 0; i < RANDOM_COUNT; i++) {
+                int address = random.nextInt(RANDOM_COUNT) * 0x10001;
+                assertEquals(Collections.binarySearch(sorted, Integer.toUnsignedLong(address)), table.indexOf(address));
+            }
+        }
+
+        @Test
+        @DisplayName("equals and hashCode")
+        void testEqualsAndHashCode() {
+            IPv4AddressTable table = IPv4AddressTable.of(1, 2, 3);
+
+            assertEquals(IPv4AddressTable.of(3, 2, 1, 2), table);
+            assertEquals(IPv4AddressTable.of(3, 2, 1).hashCode(), table.hashCode());
+            assertNotEquals(IPv4AddressTable.of(1, 2), table);
+            assertNotEquals(IPv4AddressTable.of(0, 1, 2), table);
+        }
+
+        @Test
+        @DisplayName("round trip")
+        void testRoundTrip() {
+            IPv4AddressTable table = IPv4AddressTable.copyOf(List.of(IPv4Address.MAX_VALUE, IPv4Address.LOCALHOST, IPv4Address.MIN_VALUE));
+
+            String json = mapper.writeValueAsString(table);
+            assertEquals("[\"0.0.0.0\",\"127.0.0.1\",\"255.255.255.255\"]", json);
+            assertEquals(table, mapper.readValue(json, IPv4AddressTable.class));
+        }
+
+        @Test
+        @DisplayName("deserialize strings and numbers")
+        void testDeserialize() {
+            IPv4AddressTable table = mapper.readValue("[\"127.0.0.1\", 3232235521, 2130706433, 0]", IPv4AddressTable.class);
+
+            assertEquals(IPv4AddressTable.copyOf(List.of(IPv4Address.LOCALHOST, IPv4Address.valueOf("192.168.0.1"), IPv4Address.MIN_VALUE)), table);
+        }
+
+        @Test
+        @DisplayName("deserialize invalid values")
+        void testDeserializeInvalidValues() {
+            assertThrows(IllegalArgumentException.class, () -> mapper.readValue("[\"::1\"]", IPv4AddressTable.class));
+            assertThrows(IllegalArgumentException.class, () -> mapper.readValue("[4294967296]", IPv4AddressTable.class));
+            assertThrows(JacksonException.class, () -> mapper.readValue("[true]", IPv4AddressTable.class));
+            assertThrows(JacksonException.class, () -> mapper.readValue("\"127.0.0.1\"", IPv4AddressTable.class));
+        }
+
+        @Test
+        @DisplayName("delta encoded")
+        void testDeltaEncoded() {
+            DeltaEncodedTestClass original = new DeltaEncodedTestClass();
+            original.ipv4Addresses = IPv4AddressTable.of(IPv4Address.MAX_VALUE.toInt(), 300, 2, 1, 0);
+
+            String json = mapper.writeValueAsString(original);
+            assertEquals("{\"ipv4Addresses\":\"AAEBqgLT/f//Dw==\"}", json);
+            assertEquals(original.ipv4Addresses, mapper.readValue(json, DeltaEncodedTestClass.class).ipv4Addresses);
+            // The shape only applies to serialization
+            assertEquals(original.ipv4Addresses, mapper.readValue("\"AAEBqgLT/f//Dw==\"", IPv4AddressTable.class));
+        }
+
+        @Test
+        @DisplayName("delta encoded random addresses")
+        void testDeltaEncodedRandomAddresses() {
+            Random random = new Random(0);
+            IPv4AddressTable table = IPv4AddressTable.of(random.ints(RANDOM_COUNT).toArray());
+            JsonMapper deltaMapper = mapper.rebuild()
+                    .withConfigOverride(IPv4AddressTable.class, o -> o.setFormat(JsonFormat.Value.forShape(JsonFormat.Shape.BINARY)))
+                    .build();
+
+            String json = deltaMapper.writeValueAsString(table);
+            assertThat(json.length(), lessThan(mapper.writeValueAsString(table).length() / 2));
+            assertEquals(table, deltaMapper.readValue(json, IPv4AddressTable.class));
+        }
+
+        @Test
+        @DisplayName("deserialize invalid delta encoded values")
+        void testDeserializeInvalidDeltaEncodedValues() {
+            // 4294967295 followed by 1
+            assertThrows(IllegalArgumentException.class, () -> mapper.readValue("\"/////w8B\"", IPv4AddressTable.class));
+            // a value that is not complete
+            assertThrows(IllegalArgumentException.class, () -> mapper.readValue("\"gA==\"", IPv4AddressTable.class));
+            assertThrows(JacksonException.class, () -> mapper.readValue("\"not base64\"", IPv4AddressTable.class));
+        }
+    }
+
+    @Nested
+    @DisplayName("IPv6AddressTable")
+    class IPv6 {
+
+        @Test
+        @DisplayName("accessors")
+        void testAccessors() {
+            IPv6Address address = IPv6Address.valueOf("2001:db8::1");
+            IPv6AddressTable table = IPv6AddressTable.copyOf(List.of(IPv6Address.MAX_VALUE, address, IPv6Address.LOCALHOST, address));
+
+            assertEquals(3, table.size());
+            assertFalse(table.isEmpty());
+            assertEquals(IPv6Address.LOCALHOST, table.get(0));
+            assertEquals(address.highAddress(), table.getHighAddress(1));
+            assertEquals(address.lowAddress(), table.getLowAddress(1));
+            assertEquals(IPv6Address.MAX_VALUE, table.get(2));
+            assertThrows(IndexOutOfBoundsException.class, () -> table.get(-1));
+            assertEquals(1, table.indexOf(address.highAddress(), address.lowAddress()));
+            assertEquals(-1, table.indexOf(0, 0));
+            assertTrue(table.contains(0, 1));
+            assertTrue(table.contains(address));
+            assertFalse(table.contains(IPv6Address.MIN_VALUE));
+            assertFalse(table.contains(IPv4Address.LOCALHOST));
+
+            assertTrue(IPv6AddressTable.of().isEmpty());
+            assertEquals("IPv6AddressTable[size=3]", table.toString());
+        }
+
+        @Test
+        @DisplayName("of with odd length")
+        void testOfWithOddLength() {
+            assertThrows(IllegalArgumentException.class, () -> IPv6AddressTable.of(0, 1, 2));
+        }
+
+        @Test
+        @DisplayName("random addresses")
+        void testRandomAddresses() {
+            Random random = new Random(0);
+            IPv6AddressTable.Accumulator accumulator = new IPv6AddressTable.Accumulator(SMALL_CHUNK_SHIFT);
+            TreeSet<BigInteger> expected = new TreeSet<>();
+            for (int i = 0; i < RANDOM_COUNT; i++) {
+                // Use a limited range, to include duplicates in different chunks, and addresses with the same high address
+                long highAddress = random.nextInt(100) - 50L;
+                long lowAddress = random.nextInt(100) * 0x1_0000_0001L;
+                accumulator.add(highAddress, lowAddress);
+                expected.add(toBigInteger(highAddress, lowAddress));
+            }
+            IPv6AddressTable table = accumulator.finish();
+
+            assertEquals(expected.size(), table.size());
+            List<BigInteger> sorted = new ArrayList<>(expected);
+            for (int i = 0; i < sorted.size(); i++) {
+                assertEquals(sorted.get(i), toBigInteger(table.getHighAddress(i), table.getLowAddress(i)));
+            }
+            for (int i = 0; i < RANDOM_COUNT; i++) {
+                long highAddress = random.nextInt(100) - 50L;
+                long lowAddress = random.nextInt(100) * 0x1_0000_0001L;
+                assertEquals(Collections.binarySearch(sorted, toBigInteger(highAddress, lowAddress)), table.indexOf(highAddress, lowAddress));
+            }
+        }
+
+        private BigInteger toBigInteger(long highAddress, long lowAddress) {
+            return new BigInteger(Long.toUnsignedString(highAddress)).shiftLeft(Long.SIZE).or(new BigInteger(Long.toUnsignedString(lowAddress)));
+        }
+
+        @Test
+        @DisplayName("equals and hashCode")
+        void testEqualsAndHashCode() {
+            IPv6AddressTable table = IPv6AddressTable.of(0, 1, 0, 2);
+
+            assertEquals(IPv6AddressTable.of(0, 2, 0, 1, 0, 1), table);
+            assertEquals(IPv6AddressTable.of(0, 2, 0, 1).hashCode(), table.hashCode());
+            assertNotEquals(IPv6AddressTable.of(0, 1), table);
+            assertNotEquals(IPv6AddressTable.of(0, 1, 0, 2, 0, 0), table);
+        }
+
+        @Test
+        @DisplayName("round trip")
+        void testRoundTrip() {
+            IPv6AddressTable table = IPv6AddressTable.copyOf(List.of(IPv6Address.MAX_VALUE, IPv6Address.LOCALHOST, IPv6Address.MIN_VALUE));
+
+            String json = mapper.writeValueAsString(table);
+            assertEquals("[\"::\",\"::1\",\"ffff:ffff:ffff:ffff:ffff:ffff:ffff:ffff\"]", json);
+            assertEquals(table, mapper.readValue(json, IPv6AddressTable.class));
+        }
+
+        @Test
+        @DisplayName("deserialize invalid values")
+        void testDeserializeInvalidValues() {
+            assertThrows(IllegalArgumentException.class, () -> mapper.readValue("[\"127.0.0.1\"]", IPv6AddressTable.class));
+            assertThrows(IllegalArgumentException.class, () -> mapper.readValue("[-1]", IPv6AddressTable.class));
+            assertThrows(JacksonException.class, () -> mapper.readValue("[{}]", IPv6AddressTable.class));
+        }
+
+        @Test
+        @DisplayName("delta encoded")
+        void testDeltaEncoded() {
+            DeltaEncodedTestClass original = new DeltaEncodedTestClass();
+            // 1, 2^64 and 2^128 - 1, so the differences need more than 64 bits
+            original.ipv6Addresses = IPv6AddressTable.of(-1, -1, 0, 1, 1, 0);
+
+            String json = mapper.writeValueAsString(original);
+            assertEquals("{\"ipv6Addresses\":\"Af///////////wH////////////9//////////8D\"}", json);
+            assertEquals(original.ipv6Addresses, mapper.readValue(json, DeltaEncodedTestClass.class).ipv6Addresses);
+        }
+
+        @Test
+        @DisplayName("deserialize invalid delta encoded values")
+        void testDeserializeInvalidDeltaEncodedValues() {
+            // 2^128 - 1 followed by 1
+            assertThrows(IllegalArgumentException.class, () -> mapper.readValue("\"////////////////////////AwE=\"", IPv6AddressTable.class));
+            // a value of more than 128 bits
+            assertThrows(IllegalArgumentException.class, () -> mapper.readValue("\"////////////////////////BA==\"", IPv6AddressTable.class));
+        }
+    }
+
+    @Test
+    @DisplayName("as property")
+    void testAsProperty() {
+        TestClass original = new TestClass();
+        original.ipv4Addresses = IPv4AddressTable.of(IPv4Address.LOCALHOST.toInt());
+        original.ipv6Addresses = IPv6AddressTable.of(0, 1);
+
+        String json = mapper.writeValueAsString(original);
+        assertEquals("{\"ipv4Addresses\":[\"127.0.0.1\"],\"ipv6Addresses\":[\"::1\"]}", json);
+
+        TestClass deserialized = mapper.readValue(json, TestClass.class);
+        assertEquals(original.ipv4Addresses, deserialized.ipv4Addresses);
+        assertEquals(original.ipv6Addresses, deserialized.ipv6Addresses);
+    }
+
+    static final class TestClass {
+
+        public IPv4AddressTable ipv4Addresses;
+        public IPv6AddressTable ipv6Addresses;
+    }
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    static final class DeltaEncodedTestClass {
+
+        @JsonFormat(shape = JsonFormat.Shape.BINARY)
+        public IPv4AddressTable ipv4Addresses;
+
+        @JsonFormat(shape = JsonFormat.Shape.BINARY)
+        public IPv6AddressTable ipv6Addresses;
+    }
+}
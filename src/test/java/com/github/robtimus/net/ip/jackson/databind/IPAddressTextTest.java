@@ -0,0 +1,212 @@
+/*
+ * IPAddressTextTest.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.net.ip.jackson.databind;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import com.github.robtimus.net.ip.IPv4Address;
+import com.github.robtimus.net.ip.IPv6Address;
+
+@SuppressWarnings("nls")
+class IPAddressTextTest {
+
+    private static final int RANDOM_COUNT = 10_000;
+
+    @Nested
+    @DisplayName("IPv4")
+    class IPv4 {
+
+        @Test
+        @DisplayName("random addresses")
+        void testRandomAddresses() {
+            Random random = new Random(0);
+            char[] buffer = new char[IPAddressText.MAX_IPV4_LENGTH];
+            for (int i = 0; i < RANDOM_COUNT; i++) {
+                IPv4Address address = IPv4Address.valueOf(random.nextInt());
+
+                int length = IPAddressText.formatIPv4(address.toInt(), buffer);
+                assertEquals(address.toString(), new String(buffer, 0, length));
+
+                assertEquals(address.toInt(), IPAddressText.parseIPv4(buffer, 0, length));
+            }
+        }
+
+        @Test
+        @DisplayName("parse with offset")
+        void testParseWithOffset() {
+            char[] text = "x192.168.0.1x".toCharArray();
+
+            assertEquals(IPv4Address.valueOf("192.168.0.1").toInt(), IPAddressText.parseIPv4(text, 1, text.length - 1));
+        }
+
+        @Test
+        @DisplayName("parse invalid text")
+        void testParseInvalidText() {
+            String[] invalidTexts = { "", "1.2.3", "1.2.3.4.5", "1.2.3.256", "1.2.3.a", "1..2.3", "::1" };
+            for (String invalidText : invalidTexts) {
+                String expected = assertThrows(IllegalArgumentException.class, () -> IPv4Address.valueOf(invalidText)).getMessage();
+
+                char[] text = invalidText.toCharArray();
+                IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                        () -> IPAddressText.parseIPv4(text, 0, text.length));
+                assertEquals(expected, exception.getMessage());
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("IPv6")
+    class IPv6 {
+
+        @Test
+        @DisplayName("random addresses")
+        void testRandomAddresses() {
+            Random random = new Random(0);
+            char[] buffer = new char[IPAddressText.MAX_IPV6_LENGTH];
+            long[] target = new long[2];
+            for (int i = 0; i < RANDOM_COUNT; i++) {
+                // Clear random groups, to have runs of zeroes of different lengths
+                long high = clearRandomGroups(random.nextLong(), random);
+                long low = clearRandomGroups(random.nextLong(), random);
+                IPv6Address address = IPv6Address.valueOf(high, low);
+
+                int length = IPAddressText.formatIPv6(high, low, buffer);
+                assertEquals(address, IPv6Address.valueOf(new String(buffer, 0, length)));
+
+                IPAddressText.parseIPv6(buffer, 0, length, target, 0);
+                assertEquals(high, target[0]);
+                assertEquals(low, target[1]);
+            }
+        }
+
+        private long clearRandomGroups(long value, Random random) {
+            long result = value;
+            for (int shift = 0; shift < Long.SIZE; shift += 16) {
+                if (random.nextInt(3) == 0) {
+                    result &= ~(0xFFFFL << shift);
+                }
+            }
+            return result;
+        }
+
+        @Test
+        @DisplayName("format")
+        void testFormat() {
+            assertFormat("::", 0, 0);
+            assertFormat("::1", 0, 1);
+            assertFormat("1::", 0x0001_0000_0000_0000L, 0);
+            assertFormat("2001:db8::1", 0x2001_0db8_0000_0000L, 1);
+            // a single zero group is not compressed
+            assertFormat("2001:db8:0:1:1:1:1:1", 0x2001_0db8_0000_0001L, 0x0001_0001_0001_0001L);
+            // the longest run is compressed
+            assertFormat("2001:0:0:1::1", 0x2001_0000_0000_0001L, 1);
+            // the first of two equally long runs is compressed
+            assertFormat("2001:db8::1:0:0:1", 0x2001_0db8_0000_0000L, 0x0001_0000_0000_0001L);
+        }
+
+        private void assertFormat(String expected, long high, long low) {
+            char[] buffer = new char[IPAddressText.MAX_IPV6_LENGTH];
+            int length = IPAddressText.formatIPv6(high, low, buffer);
+            assertEquals(expected, new String(buffer, 0, length));
+        }
+
+        @Test
+        @DisplayName("parse")
+        void testParse() {
+            String[] texts = {
+                    "::", "::1", "1::", "1::2", "2001:DB8::1", "1:2:3:4:5:6:7:8", "1:2:3:4:5:6::", "::2:3:4:5:6:7:8", "::ffff:192.168.0.1",
+                    "1:2:3:4:5:6:192.168.0.1", "1::192.168.0.1",
+            };
+            long[] target = new long[4];
+            for (String text : texts) {
+                IPv6Address expected = IPv6Address.valueOf(text);
+
+                IPAddressText.parseIPv6(text.toCharArray(), 0, text.length(), target, 2);
+                assertEquals(expected.highAddress(), target[2], text);
+                assertEquals(expected.lowAddress(), target[3], text);
+            }
+        }
+
+        @Test
+        @DisplayName("parse invalid text")
+        void testParseInvalidText() {
+            String[] invalidTexts = { "", ":", ":1", "1:", "1:::2", "1::2::3", "12345::", "1:2:3:4:5:6:7:8:9", "1:2:3:4:5:6:7", "::g", "::1.2.3" };
+            long[] target = new long[2];
+            for (String invalidText : invalidTexts) {
+                String expected = assertThrows(IllegalArgumentException.class, () -> IPv6Address.valueOf(invalidText)).getMessage();
+
+                char[] text = invalidText.toCharArray();
+                IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                        () -> IPAddressText.parseIPv6(text, 0, text.length, target, 0));
+                assertEquals(expected, exception.getMessage());
+            }
+        }
+
+        @Test
+        @DisplayName("compareIPv6")
+        void testCompareIPv6() {
+            assertEquals(0, IPAddressText.compareIPv6(1, -1, 1, -1));
+            // Both halves are unsigned
+            assertTrue(IPAddressText.compareIPv6(-1, 0, 1, 0) > 0);
+            assertTrue(IPAddressText.compareIPv6(1, 1, 1, -1) < 0);
+            assertTrue(IPAddressText.compareIPv6(0, -1, 1, 0) < 0);
+        }
+
+        @Test
+        @DisplayName("isIPv6")
+        void testIsIPv6() {
+            char[] text = "x::1x".toCharArray();
+            assertTrue(IPAddressText.isIPv6(text, 1, 4));
+            assertTrue(IPAddressText.isIPv6(text, 2, 3));
+            assertFalse(IPAddressText.isIPv6(text, 3, 5));
+
+            char[] ipv4Text = "127.0.0.1".toCharArray();
+            assertFalse(IPAddressText.isIPv6(ipv4Text, 0, ipv4Text.length));
+        }
+    }
+
+    @Test
+    @DisplayName("formatCIDR")
+    void testFormatCIDR() {
+        char[] buffer = new char[IPAddressText.MAX_CIDR_LENGTH];
+        int length = IPAddressText.formatIPv4(0x0A00_0000, buffer);
+        assertEquals("10.0.0.0/8", new String(buffer, 0, IPAddressText.formatCIDR(buffer, length, 8)));
+        assertEquals("10.0.0.0/0", new String(buffer, 0, IPAddressText.formatCIDR(buffer, length, 0)));
+        assertEquals("10.0.0.0/32", new String(buffer, 0, IPAddressText.formatCIDR(buffer, length, 32)));
+
+        length = IPAddressText.formatIPv6(-1L, -1L, buffer);
+        assertEquals("ffff:ffff:ffff:ffff:ffff:ffff:ffff:ffff/128", new String(buffer, 0, IPAddressText.formatCIDR(buffer, length, 128)));
+    }
+
+    @Test
+    @DisplayName("listCapacity")
+    void testListCapacity() {
+        assertEquals(2, IPAddressText.listCapacity(0, IPAddressText.MAX_IPV4_LENGTH));
+        assertEquals(36, IPAddressText.listCapacity(2, IPAddressText.MAX_IPV4_LENGTH));
+        // The capacity would overflow if it were computed as an int
+        int capacity = IPAddressText.listCapacity(Integer.MAX_VALUE, IPAddressText.MAX_IPV6_LENGTH);
+        assertTrue(capacity > 0);
+        assertTrue(capacity < Integer.MAX_VALUE);
+    }
+}
@@ -0,0 +1,228 @@
+/*
+ * IPAsyncDecoderTest.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.net.ip.jackson.databind;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import com.github.robtimus.net.ip.IPAddress;
+import com.github.robtimus.net.ip.IPRange;
+import com.github.robtimus.net.ip.IPv4Address;
+import com.github.robtimus.net.ip.IPv4Subnet;
+import com.github.robtimus.net.ip.IPv6Address;
+import com.github.robtimus.net.ip.IPv6Subnet;
+import tools.jackson.core.exc.StreamReadException;
+import tools.jackson.databind.json.JsonMapper;
+
+@SuppressWarnings("nls")
+class IPAsyncDecoderTest {
+
+    @Nested
+    @DisplayName("feed(byte[])")
+    class FeedByteArray {
+
+        @Test
+        @DisplayName("array in one chunk")
+        void testArrayInOneChunk() {
+            List<IPAddress<?>> values = new ArrayList<>();
+            IPAsyncDecoder<IPAddress<?>> decoder = IPAsyncDecoder.create(IPAddress.class, values::add);
+
+            decoder.feed(bytes("[\"127.0.0.1\", \"::1\"]"));
+            assertThat(values, contains(IPv4Address.LOCALHOST, IPv6Address.LOCALHOST));
+
+            decoder.endOfInput();
+            assertThat(values, contains(IPv4Address.LOCALHOST, IPv6Address.LOCALHOST));
+        }
+
+        @Test
+        @DisplayName("array byte by byte")
+        void testArrayByteByByte() {
+            List<IPRange<?>> values = new ArrayList<>();
+            IPAsyncDecoder<IPRange<?>> decoder = IPAsyncDecoder.create(IPRange.class, values::add);
+
+            byte[] input = bytes("[\"127.0.0.0/24\", {\"from\":\"127.0.0.1\",\"to\":\"127.0.0.3\"}, \"::1/128\"]");
+            for (int i = 0; i < input.length; i++) {
+                decoder.feed(input, i, 1);
+            }
+            decoder.endOfInput();
+
+            assertThat(values, contains(
+                    IPv4Subnet.valueOf("127.0.0.0/24"),
+                    IPv4Address.valueOf("127.0.0.1").to(IPv4Address.valueOf("127.0.0.3")),
+                    IPv6Subnet.valueOf("::1/128")));
+        }
+
+        @Test
+        @DisplayName("values are emitted as soon as they are complete")
+        void testValuesEmittedWhenComplete() {
+            List<IPAddress<?>> values = new ArrayList<>();
+            IPAsyncDecoder<IPAddress<?>> decoder = IPAsyncDecoder.create(IPAddress.class, values::add);
+
+            decoder.feed(bytes("[\"127.0.0.1\", \":"));
+            assertThat(values, contains(IPv4Address.LOCALHOST));
+
+            decoder.feed(bytes(":1\"]"));
+            assertThat(values, contains(IPv4Address.LOCALHOST, IPv6Address.LOCALHOST));
+        }
+
+        @Test
+        @DisplayName("newline-delimited values")
+        void testNewlineDelimited() {
+            List<IPRange<?>> values = new ArrayList<>();
+            IPAsyncDecoder<IPRange<?>> decoder = IPAsyncDecoder.create(IPRange.class, values::add);
+
+            decoder.feed(bytes("\"127.0.0.0/24\"\n{\"from\":\"127.0.0.1\","));
+            decoder.feed(bytes("\"to\":\"127.0.0.3\"}\n"));
+            decoder.endOfInput();
+
+            assertThat(values, contains(
+                    IPv4Subnet.valueOf("127.0.0.0/24"),
+                    IPv4Address.valueOf("127.0.0.1").to(IPv4Address.valueOf("127.0.0.3"))));
+        }
+
+        @Test
+        @DisplayName("empty array")
+        void testEmptyArray() {
+            List<IPAddress<?>> values = new ArrayList<>();
+            IPAsyncDecoder<IPAddress<?>> decoder = IPAsyncDecoder.create(IPAddress.class, values::add);
+
+            decoder.feed(bytes("[]"));
+            decoder.endOfInput();
+
+            assertThat(values, empty());
+        }
+
+        @Test
+        @DisplayName("invalid value")
+        void testInvalidValue() {
+            List<IPv4Address> values = new ArrayList<>();
+            IPAsyncDecoder<IPv4Address> decoder = IPAsyncDecoder.create(IPv4Address.class, values::add);
+
+            byte[] input = bytes("[\"127.0.0.1\", \"::1\"]");
+            assertThrows(IllegalArgumentException.class, () -> decoder.feed(input));
+            assertThat(values, contains(IPv4Address.LOCALHOST));
+
+            // The decoder is closed
+            assertThrows(IllegalStateException.class, () -> decoder.feed(input));
+        }
+
+        @Test
+        @DisplayName("custom mapper")
+        void testCustomMapper() {
+            JsonMapper mapper = JsonMapper.builder()
+                    .findAndAddModules()
+                    .build();
+            List<IPv4Address> values = new ArrayList<>();
+            IPAsyncDecoder<IPv4Address> decoder = IPAsyncDecoder.create(mapper, IPv4Address.class, values::add);
+
+            decoder.feed(bytes("[\"127.0.0.1\"]"));
+            decoder.endOfInput();
+
+            assertEquals(List.of(IPv4Address.LOCALHOST), values);
+        }
+    }
+
+    @Nested
+    @DisplayName("feed(ByteBuffer)")
+    class FeedByteBuffer {
+
+        @Test
+        @DisplayName("heap buffer")
+        void testHeapBuffer() {
+            List<IPAddress<?>> values = new ArrayList<>();
+            IPAsyncDecoder<IPAddress<?>> decoder = IPAsyncDecoder.create(IPAddress.class, values::add);
+
+            ByteBuffer buffer = ByteBuffer.wrap(bytes("x[\"127.0.0.1\", \"::1\"]x"), 1, 20);
+            decoder.feed(buffer);
+            decoder.endOfInput();
+
+            assertThat(values, contains(IPv4Address.LOCALHOST, IPv6Address.LOCALHOST));
+            assertEquals(buffer.limit(), buffer.position());
+        }
+
+        @Test
+        @DisplayName("reused direct buffer")
+        void testReusedDirectBuffer() {
+            List<IPAddress<?>> values = new ArrayList<>();
+            IPAsyncDecoder<IPAddress<?>> decoder = IPAsyncDecoder.create(IPAddress.class, values::add);
+
+            ByteBuffer buffer = ByteBuffer.allocateDirect(4);
+            byte[] input = bytes("[\"127.0.0.1\", \"::1\"]");
+            for (int i = 0; i < input.length; i += 4) {
+                buffer.clear();
+                buffer.put(input, i, Math.min(4, input.length - i));
+                buffer.flip();
+                decoder.feed(buffer);
+                assertEquals(buffer.limit(), buffer.position());
+            }
+            decoder.endOfInput();
+
+            assertThat(values, contains(IPv4Address.LOCALHOST, IPv6Address.LOCALHOST));
+        }
+    }
+
+    @Nested
+    @DisplayName("endOfInput()")
+    class EndOfInput {
+
+        @Test
+        @DisplayName("incomplete input")
+        void testIncompleteInput() {
+            IPAsyncDecoder<IPAddress<?>> decoder = IPAsyncDecoder.create(IPAddress.class, value -> { /* ignore */ });
+
+            decoder.feed(bytes("[\"127.0.0.1\""));
+            assertThrows(StreamReadException.class, decoder::endOfInput);
+        }
+
+        @Test
+        @DisplayName("feed afterwards")
+        void testFeedAfterwards() {
+            IPAsyncDecoder<IPAddress<?>> decoder = IPAsyncDecoder.create(IPAddress.class, value -> { /* ignore */ });
+
+            decoder.endOfInput();
+
+            byte[] input = bytes("[]");
+            assertThrows(IllegalStateException.class, () -> decoder.feed(input));
+            assertThrows(IllegalStateException.class, decoder::endOfInput);
+        }
+    }
+
+    @Test
+    @DisplayName("null arguments")
+    void testNullArguments() {
+        assertThrows(NullPointerException.class, () -> IPAsyncDecoder.create(null, value -> { /* ignore */ }));
+        assertThrows(NullPointerException.class, () -> IPAsyncDecoder.create(IPAddress.class, null));
+
+        IPAsyncDecoder<IPAddress<?>> decoder = IPAsyncDecoder.create(IPAddress.class, value -> { /* ignore */ });
+        assertThrows(NullPointerException.class, () -> decoder.feed((byte[]) null));
+        assertThrows(NullPointerException.class, () -> decoder.feed((ByteBuffer) null));
+    }
+
+    private static byte[] bytes(String json) {
+        return json.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,303 @@
+/*
+ * IPBulkLoaderTest.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.net.ip.jackson.databind;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.ref.WeakReference;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import com.github.robtimus.net.ip.IPAddress;
+import com.github.robtimus.net.ip.IPRange;
+import com.github.robtimus.net.ip.IPv4Address;
+import com.github.robtimus.net.ip.IPv4Subnet;
+import com.github.robtimus.net.ip.IPv6Address;
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.exc.StreamReadException;
+import tools.jackson.core.type.TypeReference;
+import tools.jackson.databind.json.JsonMapper;
+
+@SuppressWarnings("nls")
+class IPBulkLoaderTest {
+
+    private static final TypeReference<IPAddress<?>> IP_ADDRESS_TYPE = new TypeReference<>() {
+        // no body
+    };
+
+    private static final TypeReference<IPRange<?>> IP_RANGE_TYPE = new TypeReference<>() {
+        // no body
+    };
+
+    @TempDir
+    Path tempDir;
+
+    private ForkJoinPool pool;
+
+    @BeforeEach
+    void setupPool() {
+        pool = new ForkJoinPool(4);
+    }
+
+    @AfterEach
+    void shutdownPool() {
+        pool.shutdownNow();
+    }
+
+    @Nested
+    @DisplayName("load(InputStream, Class)")
+    class LoadFromInputStream {
+
+        @Test
+        @DisplayName("single chunk")
+        void testSingleChunk() {
+            List<IPAddress<?>> addresses = new IPBulkLoader().load(input("[\"127.0.0.1\", \"::1\"]"), IP_ADDRESS_TYPE);
+
+            assertThat(addresses, contains(IPv4Address.LOCALHOST, IPv6Address.LOCALHOST));
+        }
+
+        @Test
+        @DisplayName("multiple chunks")
+        void testMultipleChunks() {
+            List<IPv4Address> expected = IntStream.range(0, 10_000)
+                    .mapToObj(IPv4Address::valueOf)
+                    .collect(Collectors.toList());
+            String json = expected.stream()
+                    .map(address -> "\"" + address + "\"")
+                    .collect(Collectors.joining(", ", "[", "]"));
+
+            List<IPv4Address> addresses = loader(64).load(input(json), IPv4Address.class);
+
+            assertEquals(expected, addresses);
+        }
+
+        @Test
+        @DisplayName("ranges with nested objects")
+        void testRanges() {
+            String json = "[\"127.0.0.0/24\", {\"from\":\"127.0.0.1\",\"to\":\"127.0.0.3\"}, {\"from\":\"127.0.0.4\",\"to\":\"127.0.0.5\"}]";
+
+            List<IPRange<?>> ranges = loader(1).load(input(json), IP_RANGE_TYPE);
+
+            assertThat(ranges, contains(
+                    IPv4Subnet.valueOf("127.0.0.0/24"),
+                    IPv4Address.valueOf("127.0.0.1").to(IPv4Address.valueOf("127.0.0.3")),
+                    IPv4Address.valueOf("127.0.0.4").to(IPv4Address.valueOf("127.0.0.5"))));
+        }
+
+        @Test
+        @DisplayName("separators inside strings")
+        void testSeparatorsInStrings() {
+            // The first value is not a valid IP address, but splitting it would result in a StreamReadException instead
+            IPBulkLoader loader = loader(1);
+            InputStream input = input("[\"127.0.0.1, ]\\\" [\", \"::1\"]");
+
+            assertThrows(IllegalArgumentException.class, () -> loader.load(input, IPAddress.class));
+        }
+
+        @Test
+        @DisplayName("empty array")
+        void testEmptyArray() {
+            List<IPAddress<?>> addresses = loader(1).load(input(" [ ] "), IP_ADDRESS_TYPE);
+
+            assertThat(addresses, empty());
+        }
+
+        @Test
+        @DisplayName("not an array")
+        void testNotAnArray() {
+            IPBulkLoader loader = loader(1);
+            InputStream input = input("\"127.0.0.1\"");
+
+            assertThrows(StreamReadException.class, () -> loader.load(input, IPAddress.class));
+        }
+
+        @Test
+        @DisplayName("unclosed array")
+        void testUnclosedArray() {
+            IPBulkLoader loader = loader(1);
+            InputStream input = input("[\"127.0.0.1\", \"::1\"");
+
+            assertThrows(StreamReadException.class, () -> loader.load(input, IPAddress.class));
+        }
+
+        @Test
+        @DisplayName("invalid value")
+        void testInvalidValue() {
+            IPBulkLoader loader = loader(1);
+            InputStream input = input("[\"127.0.0.1\", \"::1\"]");
+
+            assertThrows(IllegalArgumentException.class, () -> loader.load(input, IPv4Address.class));
+        }
+    }
+
+    @Nested
+    @DisplayName("load(Path, Class)")
+    class LoadFromPath {
+
+        @Test
+        @DisplayName("existing file")
+        void testExistingFile() throws IOException {
+            Path file = Files.writeString(tempDir.resolve("addresses.json"), "[\"127.0.0.1\", \"::1\"]");
+
+            List<IPAddress<?>> addresses = loader(1).load(file, IP_ADDRESS_TYPE);
+
+            assertThat(addresses, contains(IPv4Address.LOCALHOST, IPv6Address.LOCALHOST));
+        }
+
+        @Test
+        @DisplayName("non-existing file")
+        void testNonExistingFile() {
+            IPBulkLoader loader = loader(1);
+            Path file = tempDir.resolve("non-existing.json");
+
+            assertThrows(JacksonException.class, () -> loader.load(file, IPAddress.class));
+        }
+    }
+
+    @Nested
+    @DisplayName("load(InputStream, Class, Consumer)")
+    class LoadIntoSink {
+
+        @Test
+        @DisplayName("multiple chunks")
+        void testMultipleChunks() {
+            List<IPv4Address> expected = IntStream.range(0, 10_000)
+                    .mapToObj(IPv4Address::valueOf)
+                    .collect(Collectors.toList());
+            String json = expected.stream()
+                    .map(address -> "\"" + address + "\"")
+                    .collect(Collectors.joining(",", "[", "]"));
+
+            Queue<IPv4Address> sink = new ConcurrentLinkedQueue<>();
+            loader(64).load(input(json), IPv4Address.class, sink::add);
+
+            List<IPv4Address> addresses = new ArrayList<>(sink);
+            Collections.sort(addresses);
+            assertEquals(expected, addresses);
+        }
+
+        @Test
+        @DisplayName("invalid value")
+        void testInvalidValue() {
+            IPBulkLoader loader = loader(1);
+            InputStream input = input("[\"127.0.0.1\", \"::1\"]");
+            Queue<IPv4Address> sink = new ConcurrentLinkedQueue<>();
+
+            assertThrows(IllegalArgumentException.class, () -> loader.load(input, IPv4Address.class, sink::add));
+        }
+
+        @Test
+        @DisplayName("null arguments")
+        void testNullArguments() {
+            IPBulkLoader loader = loader(1);
+            InputStream input = input("[]");
+
+            assertThrows(NullPointerException.class, () -> loader.load((InputStream) null, IPAddress.class, address -> { /* ignore */ }));
+            assertThrows(NullPointerException.class, () -> loader.load(input, IPAddress.class, null));
+            assertThrows(NullPointerException.class, () -> loader.load(input, (Class<IPv4Address>) null, address -> { /* ignore */ }));
+            assertThrows(NullPointerException.class, () -> loader.load(input, (TypeReference<IPAddress<?>>) null, address -> { /* ignore */ }));
+        }
+    }
+
+    @Test
+    @DisplayName("load from a task of the same pool")
+    void testLoadFromPoolTask() {
+        List<IPv4Address> expected = IntStream.range(0, 10_000)
+                .mapToObj(IPv4Address::valueOf)
+                .collect(Collectors.toList());
+        String json = expected.stream()
+                .map(address -> "\"" + address + "\"")
+                .collect(Collectors.joining(",", "[", "]"));
+
+        // With a single worker that is blocked waiting for chunks to be deserialized, the pool needs to compensate to prevent a deadlock
+        ForkJoinPool singleThreadPool = new ForkJoinPool(1);
+        try {
+            JsonMapper mapper = JsonMapper.builder()
+                    .addModule(IPModule.instance())
+                    .build();
+            IPBulkLoader loader = new IPBulkLoader(mapper, singleThreadPool, 64);
+
+            List<IPv4Address> addresses = assertTimeoutPreemptively(Duration.ofSeconds(30),
+                    () -> singleThreadPool.submit(() -> loader.<IPv4Address>load(input(json), IPv4Address.class)).join());
+
+            assertEquals(expected, addresses);
+        } finally {
+            singleThreadPool.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("chunks are released after reading")
+    void testChunksReleased() {
+        byte[] chunk = "[\"127.0.0.1\"]".getBytes(StandardCharsets.UTF_8);
+        WeakReference<byte[]> reference = new WeakReference<>(chunk);
+        IPBulkLoader.ChunkTask<Integer> task = new IPBulkLoader.ChunkTask<>(bytes -> bytes.length, chunk);
+        chunk = null;
+
+        assertEquals(13, pool.invoke(task));
+
+        // The task itself is still reachable, but its chunk should not be
+        for (int i = 0; i < 10 && reference.get() != null; i++) {
+            System.gc();
+        }
+        assertNull(reference.get());
+        assertEquals(13, task.join());
+    }
+
+    @Test
+    @DisplayName("invalid chunk size")
+    void testInvalidChunkSize() {
+        JsonMapper mapper = JsonMapper.builder().build();
+
+        assertThrows(IllegalArgumentException.class, () -> new IPBulkLoader(mapper, pool, 0));
+    }
+
+    private IPBulkLoader loader(int chunkSize) {
+        JsonMapper mapper = JsonMapper.builder()
+                .addModule(IPModule.instance())
+                .build();
+        return new IPBulkLoader(mapper, pool, chunkSize);
+    }
+
+    private static InputStream input(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
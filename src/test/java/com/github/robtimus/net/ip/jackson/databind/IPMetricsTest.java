@@ -0,0 +1,222 @@
+/*
+ * IPMetricsTest.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.net.ip.jackson.databind;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.github.robtimus.net.ip.IPAddress;
+import com.github.robtimus.net.ip.IPv4Address;
+import com.github.robtimus.net.ip.IPv4Range;
+import com.github.robtimus.net.ip.IPv6Address;
+import tools.jackson.databind.json.JsonMapper;
+
+@SuppressWarnings("nls")
+class IPMetricsTest {
+
+    @Test
+    @DisplayName("negative latency sample interval")
+    void testNegativeLatencySampleInterval() {
+        assertThrows(IllegalArgumentException.class, () -> new IPMetrics(-1));
+    }
+
+    @Test
+    @DisplayName("null instrumentation")
+    void testNullInstrumentation() {
+        assertThrows(NullPointerException.class, () -> IPModule.withInstrumentation(null));
+    }
+
+    @Nested
+    @DisplayName("serialize")
+    class Serialize {
+
+        @Test
+        @DisplayName("counts and bytes written")
+        void testCountsAndBytesWritten() {
+            IPMetrics metrics = new IPMetrics();
+            JsonMapper mapper = createMapper(metrics);
+
+            assertEquals("\"127.0.0.1\"", mapper.writeValueAsString(IPv4Address.LOCALHOST));
+            assertEquals("\"::1\"", mapper.writeValueAsString(IPv6Address.LOCALHOST));
+            assertEquals("\"127.0.0.1\"", mapper.writeValueAsString(IPv4Address.LOCALHOST));
+
+            IPMetrics.Snapshot snapshot = metrics.snapshot(IPv4Address.class);
+            assertEquals(2, snapshot.serialization().count());
+            assertEquals(0, snapshot.serialization().failureCount());
+            assertEquals(22, snapshot.bytesWritten());
+            assertEquals(0, snapshot.deserialization().count());
+
+            snapshot = metrics.snapshot(IPv6Address.class);
+            assertEquals(1, snapshot.serialization().count());
+            assertEquals(5, snapshot.bytesWritten());
+        }
+
+        @Test
+        @DisplayName("ranges")
+        void testRanges() {
+            IPMetrics metrics = new IPMetrics();
+            JsonMapper mapper = createMapper(metrics);
+
+            IPv4Range range = IPv4Address.LOCALHOST.to(IPv4Address.LOCALHOST.next());
+            String json = mapper.writeValueAsString(range);
+
+            IPMetrics.Snapshot snapshot = metrics.snapshot(IPv4Range.class);
+            assertEquals(1, snapshot.serialization().count());
+            assertEquals(json.length(), snapshot.bytesWritten());
+        }
+
+        @Test
+        @DisplayName("empty values")
+        void testEmptyValues() {
+            JsonMapper mapper = createMapper(new IPMetrics());
+
+            EmptyValues value = new EmptyValues();
+            value.addresses = IPv4AddressSet.of();
+            value.ranges = new IPRangeSet.Accumulator().build();
+
+            assertEquals("{}", mapper.writeValueAsString(value));
+
+            value.addresses = IPv4AddressSet.of(IPv4Address.LOCALHOST.toInt());
+
+            assertEquals("{\"addresses\":[\"127.0.0.1\"]}", mapper.writeValueAsString(value));
+        }
+
+        @Test
+        @DisplayName("latency")
+        void testLatency() {
+            IPMetrics metrics = new IPMetrics(1);
+            JsonMapper mapper = createMapper(metrics);
+
+            mapper.writeValueAsString(IPv4Address.LOCALHOST);
+            mapper.writeValueAsString(IPv4Address.LOCALHOST);
+
+            IPMetrics.OperationSnapshot snapshot = metrics.snapshot(IPv4Address.class).serialization();
+            assertEquals(2, snapshot.latencySamples());
+            assertThat(snapshot.totalLatencyNanos(), greaterThanOrEqualTo(snapshot.maxLatencyNanos()));
+            assertThat(snapshot.meanLatencyNanos(), greaterThanOrEqualTo(0.0));
+        }
+    }
+
+    @Nested
+    @DisplayName("deserialize")
+    class Deserialize {
+
+        @Test
+        @DisplayName("counts")
+        void testCounts() {
+            IPMetrics metrics = new IPMetrics();
+            JsonMapper mapper = createMapper(metrics);
+
+            assertEquals(IPv4Address.LOCALHOST, mapper.readValue("\"127.0.0.1\"", IPv4Address.class));
+            assertEquals(IPv6Address.LOCALHOST, mapper.readValue("\"::1\"", IPAddress.class));
+
+            assertEquals(1, metrics.snapshot(IPv4Address.class).deserialization().count());
+            assertEquals(1, metrics.snapshot(IPAddress.class).deserialization().count());
+            assertEquals(0, metrics.snapshot(IPv6Address.class).deserialization().count());
+        }
+
+        @Test
+        @DisplayName("failures")
+        void testFailures() {
+            IPMetrics metrics = new IPMetrics();
+            JsonMapper mapper = createMapper(metrics);
+
+            assertThrows(IllegalArgumentException.class, () -> mapper.readValue("\"127.0.0\"", IPv4Address.class));
+            assertThrows(IllegalArgumentException.class, () -> mapper.readValue("\"::x\"", IPv4Address.class));
+
+            IPMetrics.OperationSnapshot snapshot = metrics.snapshot(IPv4Address.class).deserialization();
+            assertEquals(0, snapshot.count());
+            assertEquals(Map.of(IllegalArgumentException.class, 2L), snapshot.failures());
+            assertEquals(2, snapshot.failureCount());
+            assertEquals(0, snapshot.latencySamples());
+        }
+
+        @Test
+        @DisplayName("latency")
+        void testLatency() {
+            IPMetrics metrics = new IPMetrics(1);
+            JsonMapper mapper = createMapper(metrics);
+
+            mapper.readValue("\"127.0.0.1\"", IPv4Address.class);
+
+            assertEquals(1, metrics.snapshot(IPv4Address.class).deserialization().latencySamples());
+        }
+    }
+
+    @Test
+    @DisplayName("no latency by default")
+    void testNoLatencyByDefault() {
+        IPMetrics metrics = new IPMetrics();
+        JsonMapper mapper = createMapper(metrics);
+
+        mapper.readValue(mapper.writeValueAsString(IPv4Address.LOCALHOST), IPv4Address.class);
+
+        IPMetrics.Snapshot snapshot = metrics.snapshot(IPv4Address.class);
+        assertEquals(0, snapshot.serialization().latencySamples());
+        assertEquals(0, snapshot.deserialization().latencySamples());
+        assertEquals(0, snapshot.deserialization().meanLatencyNanos());
+    }
+
+    @Test
+    @DisplayName("snapshot of unhandled type")
+    void testSnapshotOfUnhandledType() {
+        IPMetrics metrics = new IPMetrics();
+
+        IPMetrics.Snapshot snapshot = metrics.snapshot(IPv4Address.class);
+        assertEquals(0, snapshot.serialization().count());
+        assertEquals(0, snapshot.deserialization().count());
+        assertEquals(0, snapshot.bytesWritten());
+        assertTrue(snapshot.serialization().failures().isEmpty());
+    }
+
+    @Test
+    @DisplayName("snapshot of all types")
+    void testSnapshotOfAllTypes() {
+        IPMetrics metrics = new IPMetrics();
+        JsonMapper mapper = createMapper(metrics);
+
+        mapper.writeValueAsString(IPv4Address.LOCALHOST);
+
+        Map<Class<?>, IPMetrics.Snapshot> snapshot = metrics.snapshot();
+        assertEquals(1, snapshot.get(IPv4Address.class).serialization().count());
+        assertEquals(0, snapshot.get(IPv6Address.class).serialization().count());
+        assertThrows(UnsupportedOperationException.class, snapshot::clear);
+    }
+
+    private static JsonMapper createMapper(IPMetrics metrics) {
+        return JsonMapper.builder()
+                .findAndAddModules()
+                .addModule(IPModule.withInstrumentation(metrics))
+                .build();
+    }
+
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
+    static final class EmptyValues {
+
+        public IPv4AddressSet addresses;
+
+        public IPRangeSet ranges;
+    }
+}
@@ -32,6 +32,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
 import com.github.robtimus.net.ip.IPAddress;
 import com.github.robtimus.net.ip.IPAddressFormatter;
 import com.github.robtimus.net.ip.IPRange;
@@ -43,8 +44,10 @@ import com.github.robtimus.net.ip.IPv6Range;
 import com.github.robtimus.net.ip.IPv6Subnet;
 import com.github.robtimus.net.ip.Subnet;
 import tools.jackson.core.JacksonException;
+import tools.jackson.databind.DefaultTyping;
 import tools.jackson.databind.annotation.JsonSerialize;
 import tools.jackson.databind.exc.UnrecognizedPropertyException;
+import tools.jackson.databind.jsontype.BasicPolymorphicTypeValidator;
 import tools.jackson.databind.json.JsonMapper;
 
 @SuppressWarnings("nls")
@@ -1184,6 +1187,81 @@ class IPModuleTest {
         }
     }
 
+    @Nested
+    @DisplayName("Polymorphic values")
+    class PolymorphicValues {
+
+        private JsonMapper polymorphicMapper;
+
+        @BeforeEach
+        void setupPolymorphicMapper() {
+            polymorphicMapper = JsonMapper.builder()
+                    .findAndAddModules()
+                    .activateDefaultTyping(BasicPolymorphicTypeValidator.builder()
+                            .allowIfSubType("com.github.robtimus.net.ip.")
+                            .build(), DefaultTyping.NON_FINAL)
+                    .build();
+        }
+
+        @Test
+        @DisplayName("serialize")
+        void testSerialize() {
+            PolymorphicTestClass original = createPopulatedTestObject();
+
+            String json = polymorphicMapper.writeValueAsString(original);
+
+            assertThat(json, containsString("\"ipAddress\":\"::1\""));
+            assertThat(json, containsString("\"subnet\":\"127.0.0.0/24\""));
+            assertThat(json, containsString("\"subnetAsRange\":\"::/120\""));
+            assertThat(json, containsString("\"ipRange\":[\"com.github.robtimus.net.ip.IPv4Range\",{\"from\":\"127.0.0.1\",\"to\":\"127.0.0.6\"}]"));
+            assertThat(json, containsString("\"object\":[\"com.github.robtimus.net.ip.IPv4Address\",\"127.0.0.1\"]"));
+            assertThat(json, containsString("\"namedAddress\":[\"IPv6Address\",\"::1\"]"));
+            assertThat(json, containsString("\"namedRange\":{\"@type\":\"IPv4Range\",\"from\":\"127.0.0.1\",\"to\":\"127.0.0.6\"}"));
+        }
+
+        @Test
+        @DisplayName("deserialize")
+        void testDeserialize() {
+            PolymorphicTestClass original = createPopulatedTestObject();
+
+            String json = polymorphicMapper.writeValueAsString(original);
+
+            PolymorphicTestClass deserialized = polymorphicMapper.readValue(json, PolymorphicTestClass.class);
+
+            assertEquals(original.ipAddress, deserialized.ipAddress);
+            assertEquals(original.subnet, deserialized.subnet);
+            assertEquals(original.subnetAsRange, deserialized.subnetAsRange);
+            assertEquals(original.ipRange, deserialized.ipRange);
+            assertEquals(original.object, deserialized.object);
+            assertEquals(original.namedAddress, deserialized.namedAddress);
+            assertEquals(original.namedRange, deserialized.namedRange);
+        }
+
+        @Test
+        @DisplayName("deserialize with redundant type ids")
+        void testDeserializeWithRedundantTypeIds() {
+            String json = "{\"ipAddress\":[\"com.github.robtimus.net.ip.IPv4Address\",\"127.0.0.1\"],"
+                    + "\"subnet\":[\"com.github.robtimus.net.ip.IPv4Subnet\",\"127.0.0.0/24\"]}";
+
+            PolymorphicTestClass deserialized = polymorphicMapper.readValue(json, PolymorphicTestClass.class);
+
+            assertEquals(IPv4Address.LOCALHOST, deserialized.ipAddress);
+            assertEquals(IPv4Subnet.valueOf("127.0.0.0/24"), deserialized.subnet);
+        }
+
+        private PolymorphicTestClass createPopulatedTestObject() {
+            PolymorphicTestClass testObject = new PolymorphicTestClass();
+            testObject.ipAddress = IPv6Address.LOCALHOST;
+            testObject.subnet = IPv4Subnet.valueOf("127.0.0.0/24");
+            testObject.subnetAsRange = IPv6Subnet.valueOf("::/120");
+            testObject.ipRange = IPv4Address.LOCALHOST.to(IPv4Address.valueOf("127.0.0.6"));
+            testObject.object = IPv4Address.LOCALHOST;
+            testObject.namedAddress = IPv6Address.LOCALHOST;
+            testObject.namedRange = testObject.ipRange;
+            return testObject;
+        }
+    }
+
     @Test
     @DisplayName("IPModule.instance()")
     void testInstance() {
@@ -1229,6 +1307,21 @@ class IPModuleTest {
         private Subnet<?> subnetWithCustomFormat;
     }
 
+    @JsonAutoDetect(fieldVisibility = JsonAutoDetect.Visibility.ANY)
+    private static final class PolymorphicTestClass {
+
+        private IPAddress<?> ipAddress;
+        private Subnet<?> subnet;
+        private IPRange<?> subnetAsRange;
+        private IPRange<?> ipRange;
+        private Object object;
+
+        @JsonTypeInfo(use = JsonTypeInfo.Id.NAME)
+        private Object namedAddress;
+        @JsonTypeInfo(use = JsonTypeInfo.Id.NAME)
+        private Object namedRange;
+    }
+
     private static final class CustomIPv6AddressSerializer extends IPAddressSerializer.IPv6 {
 
         CustomIPv6AddressSerializer() {
@@ -0,0 +1,241 @@
+/*
+ * IPRangeIndexTest.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.net.ip.jackson.databind;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import com.github.robtimus.net.ip.IPv4Address;
+import com.github.robtimus.net.ip.IPv6Address;
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.exc.JacksonIOException;
+import tools.jackson.core.exc.StreamReadException;
+import tools.jackson.databind.json.JsonMapper;
+
+@SuppressWarnings("nls")
+class IPRangeIndexTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("reload from file")
+    void testReloadFromFile() throws IOException {
+        Path file = tempDir.resolve("ranges.json");
+        Files.writeString(file, "[\"127.0.0.0/8\", \"::1\"]");
+        IPRangeIndex index = new IPRangeIndex(IPRangeIndex.Source.of(file));
+
+        assertTrue(index.ranges().isEmpty());
+        assertEquals(0, index.version());
+        assertFalse(index.contains(IPv4Address.LOCALHOST));
+
+        IPRangeSet ranges = index.reload();
+
+        assertSame(ranges, index.ranges());
+        assertEquals(1, index.version());
+        assertTrue(index.contains(IPv4Address.LOCALHOST));
+        assertTrue(index.contains(IPv4Address.LOCALHOST.toInt()));
+        assertTrue(index.contains(0, 1));
+        assertFalse(index.contains(IPv6Address.MIN_VALUE));
+        assertEquals("IPRangeIndex[version=1,rangeCount=2]", index.toString());
+
+        Files.writeString(file, "[\"192.168.0.0/16\"]");
+        index.reload();
+
+        assertEquals(2, index.version());
+        assertFalse(index.contains(IPv4Address.LOCALHOST));
+        assertTrue(index.contains(IPv4Address.valueOf("192.168.1.1")));
+    }
+
+    @Test
+    @DisplayName("failed reload keeps previous version")
+    void testFailedReload() throws IOException {
+        Path file = tempDir.resolve("ranges.json");
+        Files.writeString(file, "[\"127.0.0.0/8\"]");
+        List<String> notifications = new ArrayList<>();
+        IPRangeIndex index = new IPRangeIndex(JsonMapper.builder().addModule(IPModule.instance()).build(), IPRangeIndex.Source.of(file),
+                Runnable::run, new RecordingListener(notifications));
+
+        index.reload();
+        IPRangeSet ranges = index.ranges();
+
+        Files.writeString(file, "[\"127.0.0\"]");
+        assertThrows(IllegalArgumentException.class, index::reload);
+        assertSame(ranges, index.ranges());
+        assertEquals(1, index.version());
+
+        Files.delete(file);
+        assertThrows(JacksonIOException.class, index::reload);
+        assertSame(ranges, index.ranges());
+
+        Files.writeString(file, "{}");
+        assertThrows(JacksonException.class, index::reload);
+        assertSame(ranges, index.ranges());
+
+        Files.writeString(file, "null");
+        assertThrows(StreamReadException.class, index::reload);
+        assertSame(ranges, index.ranges());
+        assertEquals(1, index.version());
+        assertTrue(index.contains(IPv4Address.LOCALHOST));
+
+        assertEquals(List.of("reloaded 1: 1", "failed 2: IllegalArgumentException", "failed 3: JacksonIOException",
+                "failed 4: MismatchedInputException", "failed 5: StreamReadException"), notifications);
+    }
+
+    @Test
+    @DisplayName("reload async")
+    void testReloadAsync() {
+        IPRangeIndex index = new IPRangeIndex(source("[\"10.0.0.0/8\"]"));
+
+        IPRangeSet ranges = index.reloadAsync().join();
+
+        assertSame(ranges, index.ranges());
+        assertTrue(index.contains(IPv4Address.valueOf("10.1.2.3")));
+
+        IPRangeIndex failingIndex = new IPRangeIndex(source("[true]"));
+        CompletionException exception = assertThrows(CompletionException.class, () -> failingIndex.reloadAsync().join());
+        assertInstanceOf(JacksonException.class, exception.getCause());
+        assertTrue(failingIndex.ranges().isEmpty());
+    }
+
+    @Test
+    @DisplayName("older reload is not published")
+    void testOlderReloadNotPublished() throws InterruptedException {
+        CountDownLatch opened = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicBoolean first = new AtomicBoolean(true);
+        IPRangeIndex index = new IPRangeIndex(() -> {
+            if (first.getAndSet(false)) {
+                opened.countDown();
+                await(release);
+                return input("[\"127.0.0.1\"]");
+            }
+            return input("[\"::1\"]");
+        });
+
+        AtomicReference<IPRangeSet> olderRanges = new AtomicReference<>();
+        Thread thread = new Thread(() -> olderRanges.set(index.reload()));
+        thread.start();
+        await(opened);
+
+        index.reload();
+        release.countDown();
+        thread.join();
+
+        assertEquals(2, index.version());
+        assertTrue(index.contains(IPv6Address.LOCALHOST));
+        assertTrue(olderRanges.get().contains(IPv4Address.LOCALHOST));
+        assertFalse(index.contains(IPv4Address.LOCALHOST));
+    }
+
+    @Test
+    @DisplayName("concurrent lookups")
+    void testConcurrentLookups() throws Exception {
+        // Each version contains both 10.0.0.N and 192.168.0.N, so readers can check that they never see a partial version
+        AtomicReference<String> json = new AtomicReference<>("[\"10.0.0.0\", \"192.168.0.0\"]");
+        IPRangeIndex index = new IPRangeIndex(() -> input(json.get()));
+        index.reload();
+
+        AtomicBoolean stopped = new AtomicBoolean(false);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> readers = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                readers.add(executor.submit(() -> {
+                    while (!stopped.get()) {
+                        IPRangeSet ranges = index.ranges();
+                        assertEquals(2, ranges.rangeCount());
+                    }
+                    return null;
+                }));
+            }
+            for (int i = 1; i < 100; i++) {
+                json.set("[\"10.0.0." + i + "\", \"192.168.0." + i + "\"]");
+                index.reload();
+                assertTrue(index.contains(IPv4Address.valueOf("10.0.0." + i)));
+            }
+            stopped.set(true);
+            for (Future<?> reader : readers) {
+                reader.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertEquals(100, index.version());
+    }
+
+    private static IPRangeIndex.Source source(String json) {
+        return () -> input(json);
+    }
+
+    private static InputStream input(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static final class RecordingListener implements IPRangeIndex.ReloadListener {
+
+        private final List<String> notifications;
+
+        private RecordingListener(List<String> notifications) {
+            this.notifications = notifications;
+        }
+
+        @Override
+        public void reloaded(long version, int rangeCount, Duration duration) {
+            assertFalse(duration.isNegative());
+            notifications.add("reloaded " + version + ": " + rangeCount);
+        }
+
+        @Override
+        public void reloadFailed(long version, RuntimeException exception, Duration duration) {
+            assertFalse(duration.isNegative());
+            notifications.add("failed " + version + ": " + exception.getClass().getSimpleName());
+        }
+    }
+}
@@ -0,0 +1,358 @@
+/*
+ * IPRangeSetTest.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.net.ip.jackson.databind;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.math.BigInteger;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.github.robtimus.net.ip.IPAddress;
+import com.github.robtimus.net.ip.IPRange;
+import com.github.robtimus.net.ip.IPv4Address;
+import com.github.robtimus.net.ip.IPv4Subnet;
+import com.github.robtimus.net.ip.IPv6Address;
+import com.github.robtimus.net.ip.IPv6Subnet;
+import com.github.robtimus.net.ip.Subnet;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.json.JsonMapper;
+
+@SuppressWarnings("nls")
+class IPRangeSetTest {
+
+    private JsonMapper mapper;
+
+    @BeforeEach
+    void setupMapper() {
+        mapper = JsonMapper.builder()
+                .findAndAddModules()
+                .build();
+    }
+
+    @Nested
+    @DisplayName("merging")
+    class Merging {
+
+        @Test
+        @DisplayName("overlapping and adjacent ranges")
+        void testOverlappingAndAdjacentRanges() {
+            IPRangeSet set = IPRangeSet.copyOf(List.of(
+                    IPv4Subnet.valueOf("10.0.0.128/25"),
+                    IPv4Address.valueOf("10.0.1.0").to(IPv4Address.valueOf("10.0.1.5")),
+                    IPv4Subnet.valueOf("10.0.0.0/25"),
+                    IPv4Address.valueOf("10.0.0.10").to(IPv4Address.valueOf("10.0.0.20")),
+                    IPv4Subnet.valueOf("192.168.0.0/16"),
+                    IPv6Subnet.valueOf("2001:db8::/33"),
+                    IPv6Subnet.valueOf("2001:db8:8000::/33"),
+                    IPv6Subnet.valueOf("::1/128")));
+
+            assertEquals(4, set.rangeCount());
+
+            List<IPRange<?>> ranges = set.ranges();
+            assertEquals(IPv4Address.valueOf("10.0.0.0"), ranges.get(0).from());
+            assertEquals(IPv4Address.valueOf("10.0.1.5"), ranges.get(0).to());
+            assertEquals(IPv4Subnet.valueOf("192.168.0.0/16"), ranges.get(1));
+            assertEquals(IPv6Subnet.valueOf("::1/128"), ranges.get(2));
+            assertEquals(IPv6Subnet.valueOf("2001:db8::/32"), ranges.get(3));
+            assertThat(ranges.get(3), instanceOf(Subnet.class));
+        }
+
+        @Test
+        @DisplayName("ranges at the boundaries of the address space")
+        void testBoundaries() {
+            IPRangeSet set = IPRangeSet.copyOf(List.of(
+                    IPv4Subnet.valueOf("0.0.0.0/1"),
+                    IPv4Subnet.valueOf("128.0.0.0/1"),
+                    IPv6Address.MAX_VALUE.asRange()));
+
+            assertEquals(2, set.rangeCount());
+            assertEquals(List.of(IPv4Subnet.valueOf("0.0.0.0/0"), IPv6Subnet.valueOf("ffff:ffff:ffff:ffff:ffff:ffff:ffff:ffff/128")), set.ranges());
+            assertTrue(set.contains(IPv4Address.MIN_VALUE));
+            assertTrue(set.contains(IPv4Address.MAX_VALUE));
+            assertTrue(set.contains(IPv6Address.MAX_VALUE));
+            assertFalse(set.contains(IPv6Address.MIN_VALUE));
+        }
+
+        @Test
+        @DisplayName("random IPv6 ranges")
+        void testRandomIPv6Ranges() {
+            Random random = new Random(0);
+            for (int i = 0; i < 1000; i++) {
+                IPRangeSet.Accumulator accumulator = new IPRangeSet.Accumulator();
+                TreeSet<BigInteger> expected = new TreeSet<>();
+                int rangeCount = random.nextInt(50);
+                for (int j = 0; j < rangeCount; j++) {
+                    // Use a limited range around a carry of the low address, to include overlapping and adjacent ranges
+                    long highAddress = random.nextInt(2);
+                    long lowAddress = random.nextInt(40) - 20L;
+                    BigInteger from = toBigInteger(highAddress, lowAddress);
+                    BigInteger to = from.add(BigInteger.valueOf(random.nextInt(5)));
+                    accumulator.add(highAddress, lowAddress, to.shiftRight(Long.SIZE).longValue(), to.longValue());
+                    addAll(expected, from, to);
+                }
+                IPRangeSet set = accumulator.build();
+
+                TreeSet<BigInteger> actual = new TreeSet<>();
+                long[] from = set.ipv6From();
+                long[] to = set.ipv6To();
+                for (int j = 0; j < set.ipv6RangeCount(); j++) {
+                    if (j > 0) {
+                        // Ranges are not overlapping or adjacent, otherwise they would have been merged
+                        BigInteger previousTo = toBigInteger(to[2 * j - 2], to[2 * j - 1]);
+                        assertTrue(toBigInteger(from[2 * j], from[2 * j + 1]).compareTo(previousTo.add(BigInteger.ONE)) > 0);
+                    }
+                    addAll(actual, toBigInteger(from[2 * j], from[2 * j + 1]), toBigInteger(to[2 * j], to[2 * j + 1]));
+                }
+                assertEquals(expected, actual);
+            }
+        }
+
+        private BigInteger toBigInteger(long highAddress, long lowAddress) {
+            return new BigInteger(Long.toUnsignedString(highAddress)).shiftLeft(Long.SIZE).or(new BigInteger(Long.toUnsignedString(lowAddress)));
+        }
+
+        private void addAll(TreeSet<BigInteger> addresses, BigInteger from, BigInteger to) {
+            for (BigInteger address = from; address.compareTo(to) <= 0; address = address.add(BigInteger.ONE)) {
+                addresses.add(address);
+            }
+        }
+
+        @Test
+        @DisplayName("empty")
+        void testEmpty() {
+            IPRangeSet set = IPRangeSet.copyOf(List.of());
+
+            assertTrue(set.isEmpty());
+            assertEquals(0, set.rangeCount());
+            assertFalse(set.contains(IPv4Address.LOCALHOST));
+            assertFalse(set.contains(IPv6Address.LOCALHOST));
+            assertEquals("[]", set.toString());
+        }
+    }
+
+    @Test
+    @DisplayName("contains")
+    void testContains() {
+        IPRangeSet set = IPRangeSet.copyOf(List.of(
+                IPv4Address.valueOf("10.0.0.10").to(IPv4Address.valueOf("10.0.0.20")),
+                IPv4Subnet.valueOf("192.168.0.0/16"),
+                IPv6Subnet.valueOf("2001:db8::/32")));
+
+        assertFalse(set.contains(IPv4Address.valueOf("10.0.0.9")));
+        assertTrue(set.contains(IPv4Address.valueOf("10.0.0.10")));
+        assertTrue(set.contains(IPv4Address.valueOf("10.0.0.20").toInt()));
+        assertFalse(set.contains(IPv4Address.valueOf("10.0.0.21")));
+        assertTrue(set.contains(IPv4Address.valueOf("192.168.255.255")));
+        assertFalse(set.contains(IPv4Address.valueOf("192.169.0.0")));
+        assertFalse(set.contains(IPv4Address.MIN_VALUE));
+        assertFalse(set.contains(IPv4Address.MAX_VALUE));
+
+        assertTrue(set.contains(IPv6Address.valueOf("2001:db8::")));
+        assertTrue(set.contains(IPv6Address.valueOf("2001:db8:ffff:ffff:ffff:ffff:ffff:ffff")));
+        assertFalse(set.contains(IPv6Address.valueOf("2001:db9::")));
+        assertFalse(set.contains(0, 1));
+    }
+
+    @Test
+    @DisplayName("contains random addresses")
+    void testContainsRandomAddresses() {
+        Random random = new Random(0);
+        List<IPRange<?>> ranges = random.ints(100)
+                .mapToObj(i -> IPv4Address.valueOf(i).inSubnet(8 + random.nextInt(25)))
+                .<IPRange<?>>map(subnet -> subnet)
+                .toList();
+        IPRangeSet set = IPRangeSet.copyOf(ranges);
+
+        for (int i = 0; i < 10_000; i++) {
+            IPv4Address address = IPv4Address.valueOf(random.nextInt());
+            assertEquals(ranges.stream().anyMatch(range -> range.contains(address)), set.contains(address), address.toString());
+        }
+        for (IPRange<?> range : ranges) {
+            assertTrue(set.contains(range.from()));
+            assertTrue(set.contains(range.to()));
+        }
+    }
+
+    @Test
+    @DisplayName("equals and hashCode")
+    void testEqualsAndHashCode() {
+        IPRangeSet set = IPRangeSet.copyOf(List.of(IPv4Subnet.valueOf("10.0.0.0/24"), IPv6Subnet.valueOf("::1/128")));
+
+        assertEquals(IPRangeSet.copyOf(List.of(IPv6Subnet.valueOf("::1/128"), IPv4Subnet.valueOf("10.0.0.0/25"),
+                IPv4Subnet.valueOf("10.0.0.128/25"))), set);
+        assertEquals(IPRangeSet.copyOf(List.of(IPv6Subnet.valueOf("::1/128"), IPv4Subnet.valueOf("10.0.0.0/24"))).hashCode(), set.hashCode());
+        assertNotEquals(IPRangeSet.copyOf(List.of(IPv4Subnet.valueOf("10.0.0.0/24"))), set);
+    }
+
+    @Nested
+    @DisplayName("serialization")
+    class Serialization {
+
+        @Test
+        @DisplayName("serialize")
+        void testSerialize() {
+            IPRangeSet set = IPRangeSet.copyOf(List.of(
+                    IPv4Subnet.valueOf("10.0.0.0/24"),
+                    IPv4Address.valueOf("10.0.1.0").to(IPv4Address.valueOf("10.0.1.5")),
+                    IPv4Address.valueOf("192.168.0.0").to(IPv4Address.valueOf("192.168.0.255")),
+                    IPv6Subnet.valueOf("2001:db8::/32"),
+                    IPv6Address.LOCALHOST.asRange()));
+
+            assertEquals("[{\"from\":\"10.0.0.0\",\"to\":\"10.0.1.5\"},\"192.168.0.0/24\",\"::1/128\",\"2001:db8::/32\"]",
+                    mapper.writeValueAsString(set));
+        }
+
+        @Test
+        @DisplayName("delta encoded")
+        void testDeltaEncoded() {
+            DeltaEncodedTestClass original = new DeltaEncodedTestClass();
+            original.ranges = IPRangeSet.copyOf(List.of(
+                    IPv4Subnet.valueOf("10.0.0.0/24"),
+                    IPv4Address.valueOf("10.0.1.0").to(IPv4Address.valueOf("10.0.1.5")),
+                    IPv4Subnet.valueOf("192.168.0.0/24"),
+                    IPv6Subnet.valueOf("2001:db8::/32"),
+                    IPv6Address.LOCALHOST.asRange()));
+
+            String json = mapper.writeValueAsString(original);
+            assertEquals("{\"ranges\":\"AoCAgFCFAvv9n7UL/wEBAP//////////////////7YaBQP////////////////8f\"}", json);
+            assertEquals(original.ranges, mapper.readValue(json, DeltaEncodedTestClass.class).ranges);
+        }
+
+        @Test
+        @DisplayName("deserialize invalid delta encoded values")
+        void testDeserializeInvalidDeltaEncodedValues() {
+            // one IPv4 range without to address
+            assertThrows(IllegalArgumentException.class, () -> mapper.readValue("\"AQU=\"", IPRangeSet.class));
+            // no number of IPv4 ranges
+            assertThrows(IllegalArgumentException.class, () -> mapper.readValue("\"\"", IPRangeSet.class));
+        }
+
+        @Test
+        @DisplayName("deserialize mixed array")
+        void testDeserializeMixedArray() {
+            String json = "[\"192.168.0.0/24\", {\"from\": \"10.0.0.10\", \"to\": \"10.0.0.20\"}, \"2001:db8::/32\", \"10.0.0.0/28\", "
+                    + "{\"from\": \"::1\", \"to\": \"::1\"}]";
+
+            IPRangeSet set = mapper.readValue(json, IPRangeSet.class);
+
+            assertEquals(4, set.rangeCount());
+            assertTrue(set.contains(IPv4Address.valueOf("10.0.0.0")));
+            assertTrue(set.contains(IPv4Address.valueOf("10.0.0.20")));
+            assertFalse(set.contains(IPv4Address.valueOf("10.0.0.21")));
+            assertTrue(set.contains(IPv6Address.LOCALHOST));
+            assertEquals("[{\"from\":\"10.0.0.0\",\"to\":\"10.0.0.20\"},\"192.168.0.0/24\",\"::1/128\",\"2001:db8::/32\"]",
+                    mapper.writeValueAsString(set));
+        }
+
+        @Test
+        @DisplayName("round trip")
+        void testRoundTrip() {
+            IPRangeSet set = IPRangeSet.copyOf(List.of(
+                    IPv4Address.valueOf("10.0.0.1").to(IPv4Address.valueOf("10.0.0.254")),
+                    IPv4Subnet.valueOf("0.0.0.0/8"),
+                    IPv6Address.valueOf("2001:db8::1").to(IPv6Address.valueOf("2001:db8::ffff"))));
+
+            String json = mapper.writeValueAsString(set);
+            assertEquals(set, mapper.readValue(json, IPRangeSet.class));
+        }
+
+        @Test
+        @DisplayName("round trip of ranges written as CIDR blocks")
+        void testRoundTripOfCIDRBlocks() {
+            CIDRBlocksTestClass original = new CIDRBlocksTestClass();
+            original.ranges = List.of(
+                    IPv4Address.valueOf("10.0.0.1").to(IPv4Address.valueOf("10.0.0.6")),
+                    IPv4Subnet.valueOf("192.168.0.0/24"),
+                    IPv6Address.valueOf("2001:db8::1").to(IPv6Address.valueOf("2001:db8::2")));
+
+            String json = mapper.writeValueAsString(original);
+            assertEquals("{\"ranges\":[[\"10.0.0.1/32\",\"10.0.0.2/31\",\"10.0.0.4/31\",\"10.0.0.6/32\"],[\"192.168.0.0/24\"],"
+                    + "[\"2001:db8::1/128\",\"2001:db8::2/128\"]]}", json);
+
+            String rangesJson = json.substring("{\"ranges\":".length(), json.length() - 1);
+            IPRangeSet expected = IPRangeSet.copyOf(original.ranges);
+            assertEquals(expected, mapper.readValue(rangesJson, IPRangeSet.class));
+            assertEquals(new MutableIPRangeSet(expected), mapper.readValue(rangesJson, MutableIPRangeSet.class));
+        }
+
+        @Test
+        @DisplayName("deserialize invalid values")
+        void testDeserializeInvalidValues() {
+            assertThrows(IllegalArgumentException.class, () -> mapper.readValue("[\"10.0.0.0/33\"]", IPRangeSet.class));
+            assertThrows(IllegalStateException.class, () -> mapper.readValue("[{\"from\": \"10.0.0.0\"}]", IPRangeSet.class));
+            assertThrows(IllegalArgumentException.class, () -> mapper.readValue("[{\"from\": \"10.0.0.0\", \"to\": \"::1\"}]", IPRangeSet.class));
+            assertThrows(JacksonException.class, () -> mapper.readValue("[1]", IPRangeSet.class));
+            assertThrows(JacksonException.class, () -> mapper.readValue("\"10.0.0.0/8\"", IPRangeSet.class));
+        }
+
+        @Test
+        @DisplayName("with instrumentation")
+        void testWithInstrumentation() {
+            IPMetrics metrics = new IPMetrics();
+            JsonMapper instrumentedMapper = JsonMapper.builder()
+                    .addModule(IPModule.withInstrumentation(metrics))
+                    .build();
+
+            IPRangeSet set = instrumentedMapper.readValue("[\"10.0.0.0/8\", \"::1/128\"]", IPRangeSet.class);
+
+            assertTrue(set.contains(IPAddress.valueOf("10.1.2.3")));
+            assertEquals(2, metrics.snapshot(IPRange.class).deserialization().count());
+        }
+    }
+
+    @Test
+    @DisplayName("as property")
+    void testAsProperty() {
+        TestClass original = new TestClass();
+        original.allowList = IPRangeSet.copyOf(List.of(IPv4Subnet.valueOf("10.0.0.0/8")));
+
+        String json = mapper.writeValueAsString(original);
+        assertEquals("{\"allowList\":[\"10.0.0.0/8\"]}", json);
+
+        TestClass deserialized = mapper.readValue(json, TestClass.class);
+        assertEquals(original.allowList, deserialized.allowList);
+    }
+
+    static final class DeltaEncodedTestClass {
+
+        @JsonFormat(shape = JsonFormat.Shape.BINARY)
+        public IPRangeSet ranges;
+    }
+
+    static final class CIDRBlocksTestClass {
+
+        @JsonFormat(shape = JsonFormat.Shape.ARRAY)
+        public List<IPRange<?>> ranges;
+    }
+
+    static final class TestClass {
+
+        public IPRangeSet allowList;
+    }
+}
@@ -0,0 +1,199 @@
+/*
+ * IPRangeSnapshotTest.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.net.ip.jackson.databind;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import com.github.robtimus.net.ip.IPRange;
+import com.github.robtimus.net.ip.IPv4Address;
+import com.github.robtimus.net.ip.IPv4Subnet;
+import com.github.robtimus.net.ip.IPv6Address;
+import com.github.robtimus.net.ip.IPv6Subnet;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.json.JsonMapper;
+
+@SuppressWarnings("nls")
+class IPRangeSnapshotTest {
+
+    @TempDir
+    Path tempDir;
+
+    private JsonMapper mapper;
+
+    @BeforeEach
+    void setupMapper() {
+        mapper = JsonMapper.builder()
+                .findAndAddModules()
+                .build();
+    }
+
+    private static IPRangeSet createRangeSet() {
+        return IPRangeSet.copyOf(List.of(
+                IPv4Subnet.valueOf("10.0.0.0/8"),
+                IPv4Address.valueOf("192.168.0.10").to(IPv4Address.valueOf("192.168.0.20")),
+                IPv4Subnet.valueOf("255.255.255.0/24"),
+                IPv6Subnet.valueOf("2001:db8::/32"),
+                IPv6Address.LOCALHOST.asRange()));
+    }
+
+    @Test
+    @DisplayName("write and open")
+    void testWriteAndOpen() {
+        Path file = tempDir.resolve("ranges.snapshot");
+        IPRangeSet set = createRangeSet();
+
+        IPRangeSnapshot.write(set, file);
+        IPRangeSnapshot snapshot = IPRangeSnapshot.open(file);
+
+        assertEquals(file, snapshot.path());
+        assertEquals(5, snapshot.rangeCount());
+        assertFalse(snapshot.isEmpty());
+        assertTrue(snapshot.contains(IPv4Address.valueOf("10.255.255.255")));
+        assertTrue(snapshot.contains(IPv4Address.valueOf("192.168.0.10")));
+        assertFalse(snapshot.contains(IPv4Address.valueOf("192.168.0.21")));
+        assertTrue(snapshot.contains(IPv4Address.MAX_VALUE));
+        assertFalse(snapshot.contains(IPv4Address.MIN_VALUE));
+        assertTrue(snapshot.contains(IPv6Address.LOCALHOST));
+        assertTrue(snapshot.contains(IPv6Address.valueOf("2001:db8:ffff::1")));
+        assertFalse(snapshot.contains(IPv6Address.valueOf("2001:db9::")));
+        assertEquals(set, snapshot.toRangeSet());
+    }
+
+    @Test
+    @DisplayName("replace existing file")
+    void testReplaceExistingFile() throws IOException {
+        Path file = tempDir.resolve("ranges.snapshot");
+        IPRangeSnapshot.write(createRangeSet(), file);
+        IPRangeSnapshot original = IPRangeSnapshot.open(file);
+
+        IPRangeSnapshot.write(IPRangeSet.copyOf(List.of(IPv4Subnet.valueOf("172.16.0.0/12"))), file);
+        IPRangeSnapshot replaced = IPRangeSnapshot.open(file);
+
+        // The original snapshot still uses the replaced file
+        assertTrue(original.contains(IPv4Address.valueOf("10.0.0.1")));
+        assertFalse(replaced.contains(IPv4Address.valueOf("10.0.0.1")));
+        assertTrue(replaced.contains(IPv4Address.valueOf("172.16.0.1")));
+        try (var files = Files.list(tempDir)) {
+            assertEquals(1, files.count());
+        }
+    }
+
+    @Test
+    @DisplayName("empty")
+    void testEmpty() {
+        Path file = tempDir.resolve("empty.snapshot");
+
+        IPRangeSnapshot.write(IPRangeSet.copyOf(List.of()), file);
+        IPRangeSnapshot snapshot = IPRangeSnapshot.open(file);
+
+        assertTrue(snapshot.isEmpty());
+        assertFalse(snapshot.contains(IPv4Address.LOCALHOST));
+        assertFalse(snapshot.contains(IPv6Address.LOCALHOST));
+    }
+
+    @Test
+    @DisplayName("random addresses")
+    void testRandomAddresses() {
+        Random random = new Random(0);
+        List<IPRange<?>> ranges = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            ranges.add(IPv4Address.valueOf(random.nextInt()).inSubnet(8 + random.nextInt(25)));
+            ranges.add(IPv6Address.valueOf(random.nextLong(), random.nextLong()).inSubnet(16 + random.nextInt(113)));
+        }
+        IPRangeSet set = IPRangeSet.copyOf(ranges);
+        Path file = tempDir.resolve("random.snapshot");
+        IPRangeSnapshot.write(set, file);
+        IPRangeSnapshot snapshot = IPRangeSnapshot.open(file);
+
+        for (int i = 0; i < 10_000; i++) {
+            int ipv4Address = random.nextInt();
+            assertEquals(set.contains(ipv4Address), snapshot.contains(ipv4Address));
+            long highAddress = random.nextLong();
+            long lowAddress = random.nextLong();
+            assertEquals(set.contains(highAddress, lowAddress), snapshot.contains(highAddress, lowAddress));
+        }
+    }
+
+    @Test
+    @DisplayName("open invalid files")
+    void testOpenInvalidFiles() throws IOException {
+        Path tooShort = Files.write(tempDir.resolve("short"), new byte[8]);
+        assertThrows(IllegalArgumentException.class, () -> IPRangeSnapshot.open(tooShort));
+
+        Path noSnapshot = Files.writeString(tempDir.resolve("ranges.json"), "[\"10.0.0.0/8\"]");
+        assertThrows(IllegalArgumentException.class, () -> IPRangeSnapshot.open(noSnapshot));
+
+        Path truncated = tempDir.resolve("truncated.snapshot");
+        IPRangeSnapshot.write(createRangeSet(), truncated);
+        byte[] content = Files.readAllBytes(truncated);
+        Files.write(truncated, Arrays.copyOf(content, content.length - 1));
+        assertThrows(IllegalArgumentException.class, () -> IPRangeSnapshot.open(truncated));
+
+        Path missing = tempDir.resolve("missing.snapshot");
+        assertThrows(JacksonException.class, () -> IPRangeSnapshot.open(missing));
+    }
+
+    @Nested
+    @DisplayName("serialization")
+    class Serialization {
+
+        @Test
+        @DisplayName("as property")
+        void testAsProperty() {
+            Path file = tempDir.resolve("ranges.snapshot");
+            IPRangeSnapshot.write(createRangeSet(), file);
+
+            TestClass original = new TestClass();
+            original.allowList = IPRangeSnapshot.open(file);
+
+            String json = mapper.writeValueAsString(original);
+            assertEquals("{\"allowList\":" + mapper.writeValueAsString(file.toString()) + "}", json);
+
+            TestClass deserialized = mapper.readValue(json, TestClass.class);
+            assertEquals(file, deserialized.allowList.path());
+            assertTrue(deserialized.allowList.contains(IPv4Address.valueOf("10.0.0.1")));
+        }
+
+        @Test
+        @DisplayName("deserialize invalid values")
+        void testDeserializeInvalidValues() {
+            String missing = mapper.writeValueAsString(tempDir.resolve("missing.snapshot").toString());
+            assertThrows(JacksonException.class, () -> mapper.readValue(missing, IPRangeSnapshot.class));
+            assertThrows(JacksonException.class, () -> mapper.readValue("[]", IPRangeSnapshot.class));
+        }
+    }
+
+    static final class TestClass {
+
+        public IPRangeSnapshot allowList;
+    }
+}
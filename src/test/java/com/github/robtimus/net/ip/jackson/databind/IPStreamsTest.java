@@ -0,0 +1,301 @@
+/*
+ * IPStreamsTest.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.net.ip.jackson.databind;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import com.github.robtimus.net.ip.IPAddress;
+import com.github.robtimus.net.ip.IPRange;
+import com.github.robtimus.net.ip.IPv4Address;
+import com.github.robtimus.net.ip.IPv4Subnet;
+import com.github.robtimus.net.ip.IPv6Address;
+import com.github.robtimus.net.ip.jackson.databind.IPStreams.Layout;
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.type.TypeReference;
+import tools.jackson.databind.json.JsonMapper;
+
+@SuppressWarnings("nls")
+class IPStreamsTest {
+
+    private static final TypeReference<IPAddress<?>> IP_ADDRESS_TYPE = new TypeReference<>() {
+        // no body
+    };
+
+    private static final TypeReference<IPRange<?>> IP_RANGE_TYPE = new TypeReference<>() {
+        // no body
+    };
+
+    @TempDir
+    Path tempDir;
+
+    @Nested
+    @DisplayName("read(InputStream, Class)")
+    class ReadFromInputStream {
+
+        @Test
+        @DisplayName("array")
+        void testArray() {
+            try (Stream<IPAddress<?>> stream = IPStreams.read(input("[\"127.0.0.1\", \"::1\"]"), IP_ADDRESS_TYPE)) {
+                assertThat(stream.collect(Collectors.toList()), contains(IPv4Address.LOCALHOST, IPv6Address.LOCALHOST));
+            }
+        }
+
+        @Test
+        @DisplayName("newline-delimited values")
+        void testNewlineDelimited() {
+            try (Stream<IPAddress<?>> stream = IPStreams.read(input("\"127.0.0.1\"\n\"::1\"\n"), IP_ADDRESS_TYPE)) {
+                assertThat(stream.collect(Collectors.toList()), contains(IPv4Address.LOCALHOST, IPv6Address.LOCALHOST));
+            }
+        }
+
+        @Test
+        @DisplayName("empty array")
+        void testEmptyArray() {
+            try (Stream<IPAddress<?>> stream = IPStreams.read(input("[]"), IP_ADDRESS_TYPE)) {
+                assertThat(stream.collect(Collectors.toList()), empty());
+            }
+        }
+
+        @Test
+        @DisplayName("empty input")
+        void testEmptyInput() {
+            try (Stream<IPAddress<?>> stream = IPStreams.read(input(""), IP_ADDRESS_TYPE)) {
+                assertThat(stream.collect(Collectors.toList()), empty());
+            }
+        }
+
+        @Test
+        @DisplayName("ranges")
+        void testRanges() {
+            String json = "[\"127.0.0.0/24\", {\"from\":\"127.0.0.1\",\"to\":\"127.0.0.3\"}]";
+            try (Stream<IPRange<?>> stream = IPStreams.read(input(json), IP_RANGE_TYPE)) {
+                assertThat(stream.collect(Collectors.toList()), contains(
+                        IPv4Subnet.valueOf("127.0.0.0/24"),
+                        IPv4Address.valueOf("127.0.0.1").to(IPv4Address.valueOf("127.0.0.3"))));
+            }
+        }
+
+        @Test
+        @DisplayName("lazy")
+        void testLazy() {
+            // The second value is invalid, but the first can still be read
+            try (Stream<IPv4Address> stream = IPStreams.read(input("[\"127.0.0.1\", \"::1\"]"), IPv4Address.class)) {
+                Iterator<IPv4Address> iterator = stream.iterator();
+                assertEquals(IPv4Address.LOCALHOST, iterator.next());
+                assertThrows(IllegalArgumentException.class, iterator::next);
+            }
+        }
+
+        @Test
+        @DisplayName("close")
+        void testClose() {
+            CloseTrackingInputStream input = new CloseTrackingInputStream("[\"127.0.0.1\"]");
+            try (Stream<IPAddress<?>> stream = IPStreams.read(input, IP_ADDRESS_TYPE)) {
+                assertFalse(input.closed);
+            }
+            assertTrue(input.closed);
+        }
+
+        @Test
+        @DisplayName("null arguments")
+        void testNullArguments() {
+            InputStream input = input("[]");
+            assertThrows(NullPointerException.class, () -> IPStreams.read((InputStream) null, IPAddress.class));
+            assertThrows(NullPointerException.class, () -> IPStreams.read(input, (Class<IPv4Address>) null));
+            assertThrows(NullPointerException.class, () -> IPStreams.read(input, (TypeReference<IPAddress<?>>) null));
+            assertThrows(NullPointerException.class, () -> IPStreams.read(null, input, IPAddress.class));
+        }
+    }
+
+    @Nested
+    @DisplayName("read(Path, Class)")
+    class ReadFromPath {
+
+        @Test
+        @DisplayName("newline-delimited values")
+        void testNewlineDelimited() throws IOException {
+            Path file = Files.writeString(tempDir.resolve("addresses.ndjson"), "\"127.0.0.1\"\n\"::1\"\n");
+            try (Stream<IPAddress<?>> stream = IPStreams.read(file, IP_ADDRESS_TYPE)) {
+                assertThat(stream.collect(Collectors.toList()), contains(IPv4Address.LOCALHOST, IPv6Address.LOCALHOST));
+            }
+        }
+
+        @Test
+        @DisplayName("custom mapper")
+        void testCustomMapper() throws IOException {
+            JsonMapper mapper = JsonMapper.builder()
+                    .findAndAddModules()
+                    .build();
+            Path file = Files.writeString(tempDir.resolve("addresses.json"), "[\"127.0.0.1\"]");
+            try (Stream<IPv4Address> stream = IPStreams.read(mapper, file, IPv4Address.class)) {
+                assertEquals(List.of(IPv4Address.LOCALHOST), stream.collect(Collectors.toList()));
+            }
+        }
+
+        @Test
+        @DisplayName("non-existing file")
+        void testNonExistingFile() {
+            Path file = tempDir.resolve("non-existing.json");
+            assertThrows(JacksonException.class, () -> IPStreams.read(file, IPAddress.class));
+        }
+    }
+
+    @Nested
+    @DisplayName("write(Stream, OutputStream, Class, Layout)")
+    class WriteStream {
+
+        @Test
+        @DisplayName("array")
+        void testArray() {
+            ByteArrayOutputStream output = new ByteArrayOutputStream();
+            IPStreams.write(Stream.of(IPv4Address.LOCALHOST, IPv6Address.LOCALHOST), output, IPAddress.class, Layout.ARRAY);
+
+            assertEquals("[\"127.0.0.1\",\"::1\"]", output.toString(StandardCharsets.UTF_8));
+        }
+
+        @Test
+        @DisplayName("newline-delimited values")
+        void testNewlineDelimited() {
+            ByteArrayOutputStream output = new ByteArrayOutputStream();
+            IPStreams.write(Stream.of(IPv4Address.LOCALHOST, IPv6Address.LOCALHOST), output, IPAddress.class, Layout.NEWLINE_DELIMITED);
+
+            assertEquals("\"127.0.0.1\"\n\"::1\"\n", output.toString(StandardCharsets.UTF_8));
+        }
+
+        @Test
+        @DisplayName("empty array")
+        void testEmptyArray() {
+            ByteArrayOutputStream output = new ByteArrayOutputStream();
+            IPStreams.write(Stream.empty(), output, IPAddress.class, Layout.ARRAY);
+
+            assertEquals("[]", output.toString(StandardCharsets.UTF_8));
+        }
+
+        @Test
+        @DisplayName("empty newline-delimited values")
+        void testEmptyNewlineDelimited() {
+            ByteArrayOutputStream output = new ByteArrayOutputStream();
+            IPStreams.write(Stream.empty(), output, IPAddress.class, Layout.NEWLINE_DELIMITED);
+
+            assertEquals("", output.toString(StandardCharsets.UTF_8));
+        }
+
+        @Test
+        @DisplayName("ranges")
+        void testRanges() {
+            ByteArrayOutputStream output = new ByteArrayOutputStream();
+            IPRange<?> range = IPv4Address.valueOf("127.0.0.1").to(IPv4Address.valueOf("127.0.0.3"));
+            IPStreams.write(Stream.of(IPv4Subnet.valueOf("127.0.0.0/24"), range), output, IPRange.class, Layout.ARRAY);
+
+            assertEquals("[\"127.0.0.0/24\",{\"from\":\"127.0.0.1\",\"to\":\"127.0.0.3\"}]", output.toString(StandardCharsets.UTF_8));
+        }
+    }
+
+    @Nested
+    @DisplayName("write(Iterator, OutputStream, Class, Layout)")
+    class WriteIterator {
+
+        @Test
+        @DisplayName("round trip")
+        void testRoundTrip() throws IOException {
+            List<IPv4Address> addresses = IntStream.range(0, 2500)
+                    .mapToObj(IPv4Address::valueOf)
+                    .collect(Collectors.toList());
+
+            for (Layout layout : Layout.values()) {
+                Path file = tempDir.resolve("addresses-" + layout);
+                IPStreams.write(addresses.iterator(), Files.newOutputStream(file), IPv4Address.class, layout);
+
+                try (Stream<IPv4Address> stream = IPStreams.read(file, IPv4Address.class)) {
+                    assertEquals(addresses, stream.collect(Collectors.toList()));
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("close")
+        void testClose() {
+            CloseTrackingOutputStream output = new CloseTrackingOutputStream();
+            IPStreams.write(List.of(IPv4Address.LOCALHOST).iterator(), output, IPv4Address.class, Layout.ARRAY);
+
+            assertTrue(output.closed);
+        }
+
+        @Test
+        @DisplayName("null arguments")
+        void testNullArguments() {
+            Iterator<IPv4Address> values = List.of(IPv4Address.LOCALHOST).iterator();
+            ByteArrayOutputStream output = new ByteArrayOutputStream();
+            assertThrows(NullPointerException.class, () -> IPStreams.write((Iterator<IPv4Address>) null, output, IPv4Address.class, Layout.ARRAY));
+            assertThrows(NullPointerException.class, () -> IPStreams.write(values, null, IPv4Address.class, Layout.ARRAY));
+            assertThrows(NullPointerException.class, () -> IPStreams.write(values, output, null, Layout.ARRAY));
+            assertThrows(NullPointerException.class, () -> IPStreams.write(values, output, IPv4Address.class, null));
+        }
+    }
+
+    private static InputStream input(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static final class CloseTrackingInputStream extends ByteArrayInputStream {
+
+        private boolean closed = false;
+
+        private CloseTrackingInputStream(String json) {
+            super(json.getBytes(StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public void close() throws IOException {
+            closed = true;
+            super.close();
+        }
+    }
+
+    private static final class CloseTrackingOutputStream extends ByteArrayOutputStream {
+
+        private boolean closed = false;
+
+        @Override
+        public void close() throws IOException {
+            closed = true;
+            super.close();
+        }
+    }
+}
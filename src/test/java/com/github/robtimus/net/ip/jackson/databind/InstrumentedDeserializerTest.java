@@ -0,0 +1,90 @@
+/*
+ * InstrumentedDeserializerTest.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.net.ip.jackson.databind;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import com.github.robtimus.net.ip.IPv4Address;
+import tools.jackson.core.JsonParser;
+import tools.jackson.databind.DeserializationContext;
+import tools.jackson.databind.ValueDeserializer;
+import tools.jackson.databind.type.LogicalType;
+import tools.jackson.databind.util.AccessPattern;
+
+@SuppressWarnings("nls")
+class InstrumentedDeserializerTest {
+
+    @Test
+    @DisplayName("null and empty values")
+    void testNullAndEmptyValues() {
+        ValueDeserializer<IPv4Address> deserializer = InstrumentedDeserializer.instrument(new DefaultingDeserializer(), new IPMetrics());
+
+        assertSame(IPv4Address.MIN_VALUE, deserializer.getNullValue(null));
+        assertEquals(AccessPattern.DYNAMIC, deserializer.getNullAccessPattern());
+        assertSame(IPv4Address.MAX_VALUE, deserializer.getEmptyValue(null));
+        assertEquals(AccessPattern.CONSTANT, deserializer.getEmptyAccessPattern());
+    }
+
+    @Test
+    @DisplayName("logical type")
+    void testLogicalType() {
+        ValueDeserializer<IPv4Address> deserializer = InstrumentedDeserializer.instrument(new DefaultingDeserializer(), new IPMetrics());
+
+        assertEquals(LogicalType.OtherScalar, deserializer.logicalType());
+    }
+
+    private static final class DefaultingDeserializer extends ValueDeserializer<IPv4Address> {
+
+        @Override
+        public IPv4Address deserialize(JsonParser p, DeserializationContext ctxt) {
+            return IPv4Address.valueOf(p.getString());
+        }
+
+        @Override
+        public Object getNullValue(DeserializationContext ctxt) {
+            return IPv4Address.MIN_VALUE;
+        }
+
+        @Override
+        public AccessPattern getNullAccessPattern() {
+            return AccessPattern.DYNAMIC;
+        }
+
+        @Override
+        public Object getEmptyValue(DeserializationContext ctxt) {
+            return IPv4Address.MAX_VALUE;
+        }
+
+        @Override
+        public AccessPattern getEmptyAccessPattern() {
+            return AccessPattern.CONSTANT;
+        }
+
+        @Override
+        public LogicalType logicalType() {
+            return LogicalType.OtherScalar;
+        }
+
+        @Override
+        public Class<?> handledType() {
+            return IPv4Address.class;
+        }
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ * JfrEventsTest.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.net.ip.jackson.databind;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import com.github.robtimus.net.ip.IPv4Address;
+import com.github.robtimus.net.ip.IPv4Range;
+import com.github.robtimus.net.ip.IPv6Address;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.exc.JacksonIOException;
+import tools.jackson.databind.json.JsonMapper;
+
+@SuppressWarnings("nls")
+class JfrEventsTest {
+
+    @TempDir
+    Path tempDir;
+
+    private JsonMapper mapper;
+
+    @BeforeEach
+    void setupMapper() {
+        mapper = JsonMapper.builder()
+                .findAndAddModules()
+                .build();
+    }
+
+    @Test
+    @DisplayName("deserialization")
+    void testDeserialization() throws IOException {
+        List<RecordedEvent> events = record("1", () -> {
+            mapper.readValue("\"127.0.0.1\"", IPv4Address.class);
+            mapper.readValue("{\"from\":\"127.0.0.1\",\"to\":\"127.0.0.3\"}", IPv4Range.class);
+        });
+
+        List<RecordedEvent> deserializationEvents = filter(events, IPDeserializationEvent.NAME);
+        assertEquals(2, deserializationEvents.size());
+
+        RecordedEvent event = deserializationEvents.get(0);
+        assertEquals(IPv4Address.class.getName(), event.getClass("type").getName());
+        assertEquals(9, event.getInt("inputLength"));
+        assertEquals("JSON", event.getString("format"));
+        assertEquals(System.identityHashCode(mapper.tokenStreamFactory()), event.getInt("mapper"));
+
+        event = deserializationEvents.get(1);
+        assertEquals(IPv4Range.class.getName(), event.getClass("type").getName());
+        assertEquals(18, event.getInt("inputLength"));
+    }
+
+    @Test
+    @DisplayName("deserialization failure")
+    void testDeserializationFailure() throws IOException {
+        // Failures should be recorded even if successful deserializations are not
+        List<RecordedEvent> events = record(Integer.toString(Integer.MAX_VALUE), () -> {
+            assertThrows(IllegalArgumentException.class, () -> mapper.readValue("\"127.0.0\"", IPv4Address.class));
+        });
+
+        assertEquals(0, filter(events, IPDeserializationEvent.NAME).size());
+
+        List<RecordedEvent> failedEvents = filter(events, IPDeserializationFailedEvent.NAME);
+        assertEquals(1, failedEvents.size());
+
+        RecordedEvent event = failedEvents.get(0);
+        assertEquals(IPv4Address.class.getName(), event.getClass("type").getName());
+        assertEquals(7, event.getInt("inputLength"));
+        assertEquals(IllegalArgumentException.class.getName(), event.getClass("exception").getName());
+    }
+
+    @Test
+    @DisplayName("serialization")
+    void testSerialization() throws IOException {
+        List<RecordedEvent> events = record("1", () -> mapper.writeValueAsString(IPv6Address.LOCALHOST));
+
+        List<RecordedEvent> serializationEvents = filter(events, IPSerializationEvent.NAME);
+        assertEquals(1, serializationEvents.size());
+
+        RecordedEvent event = serializationEvents.get(0);
+        assertEquals(IPv6Address.class.getName(), event.getClass("type").getName());
+        assertEquals(3, event.getInt("outputLength"));
+        assertEquals("JSON", event.getString("format"));
+    }
+
+    @Test
+    @DisplayName("sampling")
+    void testSampling() throws IOException {
+        List<RecordedEvent> events = record(Integer.toString(Integer.MAX_VALUE), () -> {
+            for (int i = 0; i < 100; i++) {
+                mapper.readValue(mapper.writeValueAsString(IPv4Address.LOCALHOST), IPv4Address.class);
+            }
+        });
+
+        assertEquals(List.of(), events);
+    }
+
+    @Test
+    @DisplayName("range index reload")
+    void testRangeIndexReload() throws IOException {
+        Path file = Files.writeString(tempDir.resolve("ranges.json"), "[\"127.0.0.0/8\", \"::1\"]");
+        IPRangeIndex index = new IPRangeIndex(IPRangeIndex.Source.of(file));
+
+        List<RecordedEvent> events = record("1", () -> {
+            index.reload();
+            assertThrows(JacksonException.class, () -> new IPRangeIndex(IPRangeIndex.Source.of(tempDir.resolve("missing.json"))).reload());
+        });
+
+        List<RecordedEvent> reloadEvents = filter(events, IPRangeIndexReloadEvent.NAME);
+        assertEquals(2, reloadEvents.size());
+
+        RecordedEvent event = reloadEvents.get(0);
+        assertEquals(System.identityHashCode(index), event.getInt("index"));
+        assertEquals(1, event.getLong("version"));
+        assertEquals(2, event.getInt("rangeCount"));
+        assertNull(event.getClass("exception"));
+
+        event = reloadEvents.get(1);
+        assertEquals(1, event.getLong("version"));
+        assertEquals(-1, event.getInt("rangeCount"));
+        assertEquals(JacksonIOException.class.getName(), event.getClass("exception").getName());
+    }
+
+    private List<RecordedEvent> record(String sampleInterval, Runnable action) throws IOException {
+        try (Recording recording = new Recording()) {
+            recording.enable(IPSerializationEvent.NAME)
+                    .withThreshold(Duration.ZERO)
+                    .with(SampleIntervalControl.NAME, sampleInterval);
+            recording.enable(IPDeserializationEvent.NAME)
+                    .withThreshold(Duration.ZERO)
+                    .with(SampleIntervalControl.NAME, sampleInterval);
+            recording.enable(IPDeserializationFailedEvent.NAME);
+            recording.enable(IPRangeIndexReloadEvent.NAME);
+
+            recording.start();
+            action.run();
+            recording.stop();
+
+            Path file = Files.createTempFile(tempDir, "recording", ".jfr");
+            recording.dump(file);
+            return RecordingFile.readAllEvents(file);
+        }
+    }
+
+    private static List<RecordedEvent> filter(List<RecordedEvent> events, String name) {
+        return events.stream()
+                .filter(event -> name.equals(event.getEventType().getName()))
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,300 @@
+/*
+ * MutableIPRangeSetTest.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.net.ip.jackson.databind;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import com.fasterxml.jackson.annotation.JsonMerge;
+import com.github.robtimus.net.ip.IPAddress;
+import com.github.robtimus.net.ip.IPRange;
+import com.github.robtimus.net.ip.IPv4Address;
+import com.github.robtimus.net.ip.IPv4Subnet;
+import com.github.robtimus.net.ip.IPv6Address;
+import com.github.robtimus.net.ip.IPv6Subnet;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.exc.UnrecognizedPropertyException;
+import tools.jackson.databind.json.JsonMapper;
+
+@SuppressWarnings("nls")
+class MutableIPRangeSetTest {
+
+    private JsonMapper mapper;
+
+    @BeforeEach
+    void setupMapper() {
+        mapper = JsonMapper.builder()
+                .findAndAddModules()
+                .build();
+    }
+
+    @Nested
+    @DisplayName("updating")
+    class Updating {
+
+        @Test
+        @DisplayName("add overlapping and adjacent ranges")
+        void testAddOverlappingAndAdjacentRanges() {
+            MutableIPRangeSet set = new MutableIPRangeSet();
+            set.add(IPv4Subnet.valueOf("10.0.0.128/25"));
+            set.add(IPv4Address.valueOf("10.0.1.0").to(IPv4Address.valueOf("10.0.1.5")));
+            set.add(IPv4Subnet.valueOf("192.168.0.0/16"));
+            set.add(IPv6Subnet.valueOf("2001:db8::/33"));
+
+            assertEquals(3, set.rangeCount());
+
+            set.add(IPv4Subnet.valueOf("10.0.0.0/25"));
+            set.add(IPv6Subnet.valueOf("2001:db8:8000::/33"));
+
+            assertEquals(3, set.rangeCount());
+            assertEquals(IPRangeSet.copyOf(List.of(
+                    IPv4Address.valueOf("10.0.0.0").to(IPv4Address.valueOf("10.0.1.5")),
+                    IPv4Subnet.valueOf("192.168.0.0/16"),
+                    IPv6Subnet.valueOf("2001:db8::/32"))), set.toRangeSet());
+        }
+
+        @Test
+        @DisplayName("remove ranges")
+        void testRemoveRanges() {
+            MutableIPRangeSet set = new MutableIPRangeSet();
+            set.add(IPv4Subnet.valueOf("10.0.0.0/16"));
+            set.add(IPv4Subnet.valueOf("10.2.0.0/16"));
+            set.add(IPv6Subnet.valueOf("2001:db8::/32"));
+
+            // splits a range
+            set.remove(IPv4Subnet.valueOf("10.0.1.0/24"));
+            // shrinks the end of a range and removes the start of the next range
+            set.remove(IPv4Address.valueOf("10.0.128.0").to(IPv4Address.valueOf("10.2.127.255")));
+            // removes an entire range
+            set.remove(IPv6Subnet.valueOf("2001:db8::/31"));
+            // removes nothing
+            set.remove(IPv4Subnet.valueOf("172.16.0.0/12"));
+
+            assertEquals(IPRangeSet.copyOf(List.of(
+                    IPv4Subnet.valueOf("10.0.0.0/24"),
+                    IPv4Address.valueOf("10.0.2.0").to(IPv4Address.valueOf("10.0.127.255")),
+                    IPv4Subnet.valueOf("10.2.128.0/17"))), set.toRangeSet());
+            assertFalse(set.contains(IPv4Address.valueOf("10.0.1.1")));
+            assertTrue(set.contains(IPv4Address.valueOf("10.0.2.0")));
+            assertFalse(set.contains(IPv6Address.valueOf("2001:db8::1")));
+        }
+
+        @Test
+        @DisplayName("ranges at the boundaries of the address space")
+        void testBoundaries() {
+            MutableIPRangeSet set = new MutableIPRangeSet();
+            set.add(IPv4Subnet.valueOf("0.0.0.0/0"));
+            set.add(IPv6Subnet.valueOf("::/0"));
+
+            set.remove(IPv4Address.MIN_VALUE.asRange());
+            set.remove(IPv4Address.MAX_VALUE.asRange());
+            set.remove(IPv6Address.MAX_VALUE.asRange());
+
+            assertEquals(2, set.rangeCount());
+            assertFalse(set.contains(IPv4Address.MIN_VALUE));
+            assertTrue(set.contains(IPv4Address.valueOf("0.0.0.1")));
+            assertTrue(set.contains(IPv4Address.valueOf("255.255.255.254")));
+            assertFalse(set.contains(IPv4Address.MAX_VALUE));
+            assertTrue(set.contains(IPv6Address.MIN_VALUE));
+            assertFalse(set.contains(IPv6Address.MAX_VALUE));
+
+            set.add(IPv4Address.MAX_VALUE.asRange());
+            set.add(IPv6Address.MAX_VALUE.asRange());
+
+            assertEquals(2, set.rangeCount());
+            assertTrue(set.contains(IPv4Address.MAX_VALUE));
+            assertTrue(set.contains(IPv6Address.MAX_VALUE));
+
+            set.clear();
+
+            assertTrue(set.isEmpty());
+        }
+
+        @Test
+        @DisplayName("random updates")
+        void testRandomUpdates() {
+            Random random = new Random(0);
+            MutableIPRangeSet set = new MutableIPRangeSet();
+            List<IPRange<?>> ranges = new ArrayList<>();
+            List<Boolean> additions = new ArrayList<>();
+            for (int i = 0; i < 1000; i++) {
+                IPRange<?> range = IPv4Address.valueOf(random.nextInt(1 << 16) << 8).inSubnet(16 + random.nextInt(9));
+                boolean addition = random.nextInt(3) != 0;
+                if (addition) {
+                    set.add(range);
+                } else {
+                    set.remove(range);
+                }
+                ranges.add(range);
+                additions.add(addition);
+            }
+
+            IPRangeSet rangeSet = set.toRangeSet();
+            for (int i = 0; i < 10_000; i++) {
+                IPv4Address address = IPv4Address.valueOf(random.nextInt(1 << 24));
+                // An address is contained if the last update that contains it was an addition
+                boolean expected = false;
+                for (int j = 0; j < ranges.size(); j++) {
+                    if (ranges.get(j).contains(address)) {
+                        expected = additions.get(j);
+                    }
+                }
+                assertEquals(expected, set.contains(address), address.toString());
+                assertEquals(expected, rangeSet.contains(address), address.toString());
+            }
+        }
+
+        @Test
+        @DisplayName("copy of immutable set")
+        void testCopyOf() {
+            IPRangeSet rangeSet = IPRangeSet.copyOf(List.of(IPv4Subnet.valueOf("10.0.0.0/8"), IPv6Subnet.valueOf("::1/128")));
+            MutableIPRangeSet set = new MutableIPRangeSet(rangeSet);
+
+            assertEquals(rangeSet, set.toRangeSet());
+            assertTrue(set.contains(IPAddress.valueOf("10.1.2.3")));
+            assertTrue(set.contains(0, 1));
+            assertEquals(rangeSet.toString(), set.toString());
+        }
+    }
+
+    @Test
+    @DisplayName("equals and hashCode")
+    void testEqualsAndHashCode() {
+        MutableIPRangeSet set = new MutableIPRangeSet();
+        set.add(IPv4Subnet.valueOf("10.0.0.0/25"));
+        set.add(IPv4Subnet.valueOf("10.0.0.128/25"));
+        set.add(IPv6Subnet.valueOf("::1/128"));
+
+        MutableIPRangeSet other = new MutableIPRangeSet(IPRangeSet.copyOf(List.of(IPv6Subnet.valueOf("::1/128"), IPv4Subnet.valueOf("10.0.0.0/24"))));
+
+        assertEquals(other, set);
+        assertEquals(other.hashCode(), set.hashCode());
+
+        other.remove(IPv6Subnet.valueOf("::1/128"));
+
+        assertNotEquals(other, set);
+    }
+
+    @Nested
+    @DisplayName("serialization")
+    class Serialization {
+
+        @Test
+        @DisplayName("serialize")
+        void testSerialize() {
+            MutableIPRangeSet set = new MutableIPRangeSet();
+            set.add(IPv4Address.valueOf("10.0.0.1").to(IPv4Address.valueOf("10.0.0.10")));
+            set.add(IPv6Subnet.valueOf("2001:db8::/32"));
+
+            String json = mapper.writeValueAsString(set);
+            assertEquals("[{\"from\":\"10.0.0.1\",\"to\":\"10.0.0.10\"},\"2001:db8::/32\"]", json);
+            assertEquals(set, mapper.readValue(json, MutableIPRangeSet.class));
+        }
+
+        @Test
+        @DisplayName("deserialize delta")
+        void testDeserializeDelta() {
+            MutableIPRangeSet set = mapper.readValue("{\"add\":[\"10.0.0.0/8\"],\"remove\":[\"10.1.0.0/16\"]}", MutableIPRangeSet.class);
+
+            assertEquals(2, set.rangeCount());
+            assertTrue(set.contains(IPAddress.valueOf("10.0.0.1")));
+            assertFalse(set.contains(IPAddress.valueOf("10.1.0.1")));
+        }
+
+        @Test
+        @DisplayName("update with delta")
+        void testUpdateWithDelta() {
+            MutableIPRangeSet set = new MutableIPRangeSet();
+            set.add(IPv4Subnet.valueOf("10.0.0.0/8"));
+            set.add(IPv6Subnet.valueOf("2001:db8::/32"));
+
+            MutableIPRangeSet result = mapper.readerForUpdating(set)
+                    .readValue("{\"remove\":[\"10.0.0.0/8\"],\"add\":[\"10.1.0.0/16\",{\"from\":\"::1\",\"to\":\"::2\"}]}");
+
+            assertSame(set, result);
+            assertEquals(IPRangeSet.copyOf(List.of(
+                    IPv4Subnet.valueOf("10.1.0.0/16"),
+                    IPv6Address.valueOf("::1").to(IPv6Address.valueOf("::2")),
+                    IPv6Subnet.valueOf("2001:db8::/32"))), set.toRangeSet());
+
+            // properties are applied in order
+            mapper.readerForUpdating(set).readValue("{\"add\":[\"192.168.0.0/16\"],\"remove\":[\"192.168.0.0/16\"]}");
+            assertFalse(set.contains(IPAddress.valueOf("192.168.0.1")));
+
+            // arrays are added
+            mapper.readerForUpdating(set).readValue("[\"192.168.0.0/16\"]");
+            assertTrue(set.contains(IPAddress.valueOf("192.168.0.1")));
+            assertTrue(set.contains(IPAddress.valueOf("10.1.0.1")));
+        }
+
+        @Test
+        @DisplayName("deserialize invalid values")
+        void testDeserializeInvalidValues() {
+            assertThrows(UnrecognizedPropertyException.class, () -> mapper.readValue("{\"replace\":[]}", MutableIPRangeSet.class));
+            assertThrows(JacksonException.class, () -> mapper.readValue("{\"add\":\"10.0.0.0/8\"}", MutableIPRangeSet.class));
+            assertThrows(JacksonException.class, () -> mapper.readValue("{\"add\":[true]}", MutableIPRangeSet.class));
+            assertThrows(JacksonException.class, () -> mapper.readValue("\"10.0.0.0/8\"", MutableIPRangeSet.class));
+            assertThrows(IllegalArgumentException.class, () -> mapper.readValue("{\"remove\":[\"10.0.0.0/33\"]}", MutableIPRangeSet.class));
+        }
+
+        @Test
+        @DisplayName("with instrumentation")
+        void testWithInstrumentation() {
+            IPMetrics metrics = new IPMetrics();
+            JsonMapper instrumentedMapper = JsonMapper.builder()
+                    .addModule(IPModule.withInstrumentation(metrics))
+                    .build();
+
+            MutableIPRangeSet set = new MutableIPRangeSet();
+            instrumentedMapper.readerForUpdating(set).readValue("{\"add\":[\"10.0.0.0/8\",\"::1/128\"]}");
+
+            assertTrue(set.contains(IPAddress.valueOf("10.1.2.3")));
+            assertEquals(1, metrics.snapshot(MutableIPRangeSet.class).deserialization().count());
+            assertEquals(2, metrics.snapshot(IPRange.class).deserialization().count());
+        }
+    }
+
+    @Test
+    @DisplayName("merge property")
+    void testMergeProperty() {
+        TestClass original = new TestClass();
+        MutableIPRangeSet blockList = original.blockList;
+        blockList.add(IPv4Subnet.valueOf("10.0.0.0/8"));
+
+        mapper.readerForUpdating(original).readValue("{\"blockList\":{\"add\":[\"192.168.0.0/16\"]}}");
+
+        assertSame(blockList, original.blockList);
+        assertEquals(2, blockList.rangeCount());
+    }
+
+    static final class TestClass {
+
+        @JsonMerge
+        public MutableIPRangeSet blockList = new MutableIPRangeSet();
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * NormalizingIPRangeCollectionSerializerTest.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.net.ip.jackson.databind;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.github.robtimus.net.ip.IPRange;
+import com.github.robtimus.net.ip.IPv4Address;
+import com.github.robtimus.net.ip.IPv4Range;
+import com.github.robtimus.net.ip.IPv4Subnet;
+import com.github.robtimus.net.ip.IPv6Address;
+import com.github.robtimus.net.ip.IPv6Subnet;
+import tools.jackson.databind.annotation.JsonSerialize;
+import tools.jackson.databind.json.JsonMapper;
+
+@SuppressWarnings("nls")
+class NormalizingIPRangeCollectionSerializerTest {
+
+    private JsonMapper mapper;
+
+    @BeforeEach
+    void setupMapper() {
+        mapper = JsonMapper.builder()
+                .findAndAddModules()
+                .build();
+    }
+
+    @Test
+    @DisplayName("overlapping and adjacent ranges")
+    void testOverlappingAndAdjacentRanges() {
+        TestClass value = new TestClass();
+        value.ranges = List.of(
+                IPv6Subnet.valueOf("2001:db8:8000::/33"),
+                IPv4Subnet.valueOf("10.0.0.128/25"),
+                IPv4Address.valueOf("10.0.1.0").to(IPv4Address.valueOf("10.0.1.5")),
+                IPv4Subnet.valueOf("10.0.0.0/25"),
+                IPv4Address.valueOf("10.0.0.10").to(IPv4Address.valueOf("10.0.0.20")),
+                IPv4Address.valueOf("192.168.0.0").to(IPv4Address.valueOf("192.168.0.255")),
+                IPv6Subnet.valueOf("2001:db8::/33"),
+                IPv6Address.LOCALHOST.asRange(),
+                IPv4Subnet.valueOf("192.168.0.0/24"));
+
+        assertEquals("{\"ranges\":[{\"from\":\"10.0.0.0\",\"to\":\"10.0.1.5\"},\"192.168.0.0/24\",\"::1/128\",\"2001:db8::/32\"]}",
+                mapper.writeValueAsString(value));
+    }
+
+    @Test
+    @DisplayName("typed collections")
+    void testTypedCollections() {
+        TestClass value = new TestClass();
+        value.ipv4Ranges = new ArrayList<>(List.of(IPv4Subnet.valueOf("10.0.0.0/9"), IPv4Subnet.valueOf("10.128.0.0/9")));
+        value.subnets = Set.of(IPv6Subnet.valueOf("::/1"), IPv6Subnet.valueOf("8000::/1"));
+
+        assertEquals("{\"ipv4Ranges\":[\"10.0.0.0/8\"],\"subnets\":[\"::/0\"]}", mapper.writeValueAsString(value));
+    }
+
+    @Test
+    @DisplayName("round trip")
+    void testRoundTrip() {
+        TestClass value = new TestClass();
+        value.ranges = List.of(IPv4Address.valueOf("10.0.0.1").to(IPv4Address.valueOf("10.0.0.3")), IPv4Subnet.valueOf("10.0.0.4/30"));
+
+        TestClass deserialized = mapper.readValue(mapper.writeValueAsString(value), TestClass.class);
+
+        assertEquals(List.of(IPv4Address.valueOf("10.0.0.1").to(IPv4Address.valueOf("10.0.0.7"))), deserialized.ranges);
+    }
+
+    @Test
+    @DisplayName("empty")
+    void testEmpty() {
+        TestClass value = new TestClass();
+        value.ranges = List.of();
+        value.ipv4Ranges = List.of();
+
+        assertEquals("{}", mapper.writeValueAsString(value));
+    }
+
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
+    static final class TestClass {
+
+        @JsonSerialize(using = NormalizingIPRangeCollectionSerializer.class)
+        public List<IPRange<?>> ranges;
+
+        @JsonSerialize(using = NormalizingIPRangeCollectionSerializer.class)
+        public List<IPv4Range> ipv4Ranges;
+
+        @JsonSerialize(using = NormalizingIPRangeCollectionSerializer.class)
+        public Set<IPv6Subnet> subnets;
+    }
+}
@@ -0,0 +1,270 @@
+/*
+ * SubnetMapTest.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.net.ip.jackson.databind;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.github.robtimus.net.ip.IPAddress;
+import com.github.robtimus.net.ip.IPv4Address;
+import com.github.robtimus.net.ip.IPv4Subnet;
+import com.github.robtimus.net.ip.IPv6Address;
+import com.github.robtimus.net.ip.IPv6Subnet;
+import com.github.robtimus.net.ip.Subnet;
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.type.TypeReference;
+import tools.jackson.databind.json.JsonMapper;
+
+@SuppressWarnings("nls")
+class SubnetMapTest {
+
+    private static final TypeReference<SubnetMap<Integer>> INTEGER_MAP_TYPE = new TypeReference<>() {
+        // no body
+    };
+
+    private JsonMapper mapper;
+
+    @BeforeEach
+    void setupMapper() {
+        mapper = JsonMapper.builder()
+                .findAndAddModules()
+                .build();
+    }
+
+    private static SubnetMap<String> createMap() {
+        Map<Subnet<?>, String> map = new HashMap<>();
+        map.put(IPv4Subnet.valueOf("10.0.0.0/8"), "private");
+        map.put(IPv4Subnet.valueOf("10.1.0.0/16"), "office");
+        map.put(IPv4Subnet.valueOf("10.1.2.0/24"), "lab");
+        map.put(IPv4Subnet.valueOf("192.168.0.0/16"), "home");
+        map.put(IPv6Subnet.valueOf("::/0"), "default");
+        map.put(IPv6Subnet.valueOf("2001:db8::/32"), "documentation");
+        map.put(IPv6Subnet.valueOf("::1/128"), "localhost");
+        return SubnetMap.copyOf(map);
+    }
+
+    @Nested
+    @DisplayName("longestPrefixMatch")
+    class LongestPrefixMatch {
+
+        @Test
+        @DisplayName("IPv4")
+        void testIPv4() {
+            SubnetMap<String> map = createMap();
+
+            assertEquals("private", map.longestPrefixMatch(IPv4Address.valueOf("10.0.0.1")));
+            assertEquals("office", map.longestPrefixMatch(IPv4Address.valueOf("10.1.0.1")));
+            assertEquals("lab", map.longestPrefixMatch(IPv4Address.valueOf("10.1.2.255")));
+            assertEquals("office", map.longestPrefixMatch(IPv4Address.valueOf("10.1.3.0")));
+            assertEquals("home", map.longestPrefixMatch(IPv4Address.valueOf("192.168.255.255")));
+            assertNull(map.longestPrefixMatch(IPv4Address.valueOf("11.0.0.0")));
+            assertNull(map.longestPrefixMatch(IPv4Address.valueOf("0.0.0.0")));
+            assertEquals("lab", map.longestPrefixMatch(IPv4Address.valueOf("10.1.2.3").toInt()));
+        }
+
+        @Test
+        @DisplayName("IPv6")
+        void testIPv6() {
+            SubnetMap<String> map = createMap();
+
+            assertEquals("localhost", map.longestPrefixMatch(IPv6Address.LOCALHOST));
+            assertEquals("default", map.longestPrefixMatch(IPv6Address.valueOf("::2")));
+            assertEquals("documentation", map.longestPrefixMatch(IPv6Address.valueOf("2001:db8:ffff::1")));
+            assertEquals("default", map.longestPrefixMatch(IPv6Address.valueOf("2001:db9::")));
+            assertEquals("localhost", map.longestPrefixMatch(0L, 1L));
+        }
+
+        @Test
+        @DisplayName("random addresses")
+        void testRandomAddresses() {
+            Random random = new Random(0);
+            List<IPv4Subnet> subnets = new ArrayList<>();
+            Map<Subnet<?>, Integer> values = new HashMap<>();
+            for (int i = 0; i < 200; i++) {
+                // Use a small number of leading bits so the subnets are nested
+                int address = random.nextInt(4) << 30 | random.nextInt(4) << 22 | random.nextInt(1 << 22);
+                IPv4Subnet subnet = IPv4Address.valueOf(address).inSubnet(random.nextInt(33));
+                subnets.add(subnet);
+                values.put(subnet, i);
+            }
+            SubnetMap<Integer> map = SubnetMap.copyOf(values);
+
+            for (int i = 0; i < 10_000; i++) {
+                IPv4Address address = IPv4Address.valueOf(random.nextInt(4) << 30 | random.nextInt(4) << 22 | random.nextInt(1 << 22));
+                IPv4Subnet longest = null;
+                for (IPv4Subnet subnet : subnets) {
+                    if (subnet.contains(address) && (longest == null || subnet.prefixLength() > longest.prefixLength())) {
+                        longest = subnet;
+                    }
+                }
+                assertEquals(longest == null ? null : values.get(longest), map.longestPrefixMatch(address));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("get and containsSubnet")
+    void testGetAndContainsSubnet() {
+        SubnetMap<String> map = createMap();
+
+        assertEquals(7, map.size());
+        assertEquals("office", map.get(IPv4Subnet.valueOf("10.1.0.0/16")));
+        assertTrue(map.containsSubnet(IPv4Subnet.valueOf("10.1.0.0/16")));
+        assertEquals("default", map.get(IPv6Subnet.valueOf("::/0")));
+        assertNull(map.get(IPv4Subnet.valueOf("10.0.0.0/12")));
+        assertFalse(map.containsSubnet(IPv4Subnet.valueOf("10.0.0.0/12")));
+        assertFalse(map.containsSubnet(IPv4Subnet.valueOf("10.1.2.0/25")));
+        assertFalse(map.containsSubnet(IPv4Subnet.valueOf("0.0.0.0/0")));
+    }
+
+    @Test
+    @DisplayName("toMap")
+    void testToMap() {
+        Map<Subnet<?>, String> expected = new LinkedHashMap<>();
+        expected.put(IPv4Subnet.valueOf("10.0.0.0/8"), "private");
+        expected.put(IPv4Subnet.valueOf("10.1.0.0/16"), "office");
+        expected.put(IPv4Subnet.valueOf("10.1.2.0/24"), "lab");
+        expected.put(IPv4Subnet.valueOf("192.168.0.0/16"), "home");
+        expected.put(IPv6Subnet.valueOf("::/0"), "default");
+        expected.put(IPv6Subnet.valueOf("::1/128"), "localhost");
+        expected.put(IPv6Subnet.valueOf("2001:db8::/32"), "documentation");
+
+        assertEquals(new ArrayList<>(expected.entrySet()), new ArrayList<>(createMap().toMap().entrySet()));
+    }
+
+    @Test
+    @DisplayName("empty")
+    void testEmpty() {
+        SubnetMap<String> map = SubnetMap.copyOf(Map.of());
+
+        assertTrue(map.isEmpty());
+        assertEquals(SubnetMap.empty(), map);
+        assertNull(map.longestPrefixMatch(IPAddress.valueOf("10.0.0.1")));
+        assertNull(map.longestPrefixMatch(IPv6Address.LOCALHOST));
+        assertEquals(Map.of(), map.toMap());
+    }
+
+    @Test
+    @DisplayName("equals and hashCode")
+    void testEqualsAndHashCode() {
+        SubnetMap<String> map = createMap();
+        SubnetMap<String> copy = SubnetMap.copyOf(map.toMap());
+
+        assertEquals(map, copy);
+        assertEquals(map.hashCode(), copy.hashCode());
+        assertNotEquals(map, SubnetMap.copyOf(Map.of(IPv4Subnet.valueOf("10.0.0.0/8"), "private")));
+        assertNotEquals(map, SubnetMap.copyOf(Map.of(IPv4Subnet.valueOf("10.0.0.0/8"), "public")));
+    }
+
+    @Nested
+    @DisplayName("serialization")
+    class Serialization {
+
+        @Test
+        @DisplayName("serialize")
+        void testSerialize() {
+            assertEquals("{\"10.0.0.0/8\":\"private\",\"10.1.0.0/16\":\"office\",\"10.1.2.0/24\":\"lab\",\"192.168.0.0/16\":\"home\","
+                    + "\"::/0\":\"default\",\"::1/128\":\"localhost\",\"2001:db8::/32\":\"documentation\"}",
+                    mapper.writeValueAsString(createMap()));
+        }
+
+        @Test
+        @DisplayName("deserialize")
+        void testDeserialize() {
+            String json = "{\"10.0.0.0/8\": 1, \"10.1.0.0/16\": 2, \"2001:db8::/32\": 3, \"::/0\": null}";
+
+            SubnetMap<Integer> map = mapper.readValue(json, INTEGER_MAP_TYPE);
+
+            assertEquals(4, map.size());
+            assertEquals(1, map.longestPrefixMatch(IPv4Address.valueOf("10.2.0.0")));
+            assertEquals(2, map.longestPrefixMatch(IPv4Address.valueOf("10.1.0.0")));
+            assertEquals(3, map.longestPrefixMatch(IPv6Address.valueOf("2001:db8::1")));
+            assertTrue(map.containsSubnet(IPv6Subnet.valueOf("::/0")));
+            assertNull(map.longestPrefixMatch(IPv6Address.LOCALHOST));
+        }
+
+        @Test
+        @DisplayName("round trip")
+        void testRoundTrip() {
+            SubnetMap<String> map = createMap();
+
+            String json = mapper.writeValueAsString(map);
+            assertEquals(map, mapper.readValue(json, new TypeReference<SubnetMap<String>>() {
+                // no body
+            }));
+        }
+
+        @Test
+        @DisplayName("deserialize invalid values")
+        void testDeserializeInvalidValues() {
+            assertThrows(IllegalArgumentException.class, () -> mapper.readValue("{\"10.0.0.0/33\": 1}", INTEGER_MAP_TYPE));
+            assertThrows(IllegalArgumentException.class, () -> mapper.readValue("{\"10.0.0.1\": 1}", INTEGER_MAP_TYPE));
+            assertThrows(JacksonException.class, () -> mapper.readValue("{\"10.0.0.0/8\": \"x\"}", INTEGER_MAP_TYPE));
+            assertThrows(JacksonException.class, () -> mapper.readValue("[\"10.0.0.0/8\"]", INTEGER_MAP_TYPE));
+        }
+    }
+
+    @Test
+    @DisplayName("as property")
+    void testAsProperty() {
+        TestClass original = new TestClass();
+        original.routes = SubnetMap.copyOf(Map.of(IPv4Subnet.valueOf("10.0.0.0/8"), List.of(1, 2)));
+
+        String json = mapper.writeValueAsString(original);
+        assertEquals("{\"routes\":{\"10.0.0.0/8\":[1,2]}}", json);
+
+        TestClass deserialized = mapper.readValue(json, TestClass.class);
+        assertEquals(original.routes, deserialized.routes);
+    }
+
+    @Test
+    @DisplayName("in a container property")
+    void testInContainerProperty() {
+        String json = "{\"routeList\":[{\"10.0.0.0/8\":[1,2]},{\"::/0\":[3]}]}";
+
+        TestClass deserialized = mapper.readValue(json, TestClass.class);
+
+        assertEquals(List.of(
+                SubnetMap.copyOf(Map.of(IPv4Subnet.valueOf("10.0.0.0/8"), List.of(1, 2))),
+                SubnetMap.copyOf(Map.of(IPv6Subnet.valueOf("::/0"), List.of(3)))),
+                deserialized.routeList);
+        assertEquals(json, mapper.writeValueAsString(deserialized));
+    }
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    static final class TestClass {
+
+        public SubnetMap<List<Integer>> routes;
+
+        public List<SubnetMap<List<Integer>>> routeList;
+    }
+}